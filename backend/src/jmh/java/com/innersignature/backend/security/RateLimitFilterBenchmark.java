@@ -0,0 +1,80 @@
+package com.innersignature.backend.security;
+
+import com.innersignature.backend.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Rate Limit 카운터 경합 벤치마크 (RateLimitFilter)
+ * 8개 스레드가 같은 IP 키(shared) 또는 스레드별 IP 키(distinct)로 요청할 때의 처리량을 비교합니다.
+ * 제한에 걸리지 않도록 한도를 충분히 크게 두어 카운터 갱신 비용만 측정합니다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"shared", "distinct"})
+        public String keys;
+
+        RateLimitFilter filter;
+        final AtomicInteger threadSeq = new AtomicInteger();
+
+        @Setup
+        public void setUp() {
+            JwtUtil jwtUtil = new JwtUtil();
+            filter = new RateLimitFilter(jwtUtil, new JwtBlacklistService(jwtUtil), new SimpleMeterRegistry());
+            ReflectionTestUtils.setField(filter, "maxRequestsPerMinuteIp", Integer.MAX_VALUE);
+            ReflectionTestUtils.setField(filter, "maxRequestsPerMinuteUser", Integer.MAX_VALUE);
+            ReflectionTestUtils.setField(filter, "resetIntervalMs", 60000L);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+
+        @Setup
+        public void setUp(FilterState filterState) {
+            request = new MockHttpServletRequest("GET", "/api/expenses");
+            request.setRemoteAddr("shared".equals(filterState.keys)
+                    ? "10.0.0.1"
+                    : "10.0.1." + filterState.threadSeq.incrementAndGet());
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public int filter(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilterInternal(requestState.request, requestState.response, NO_OP_CHAIN);
+        return requestState.response.getStatus();
+    }
+}
@@ -0,0 +1,104 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ExpenseDetailDto;
+import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.dto.ReceiptDto;
+import com.innersignature.backend.mapper.CompanyMapper;
+import com.innersignature.backend.util.EncryptionUtil;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 세무 검토 엑셀 시트 생성 벤치마크 (상세 항목 10k/100k 행)
+ * 파일 쓰기는 제외하고 시트 하나를 만드는 시간만 측정합니다 (excel.sheet.build 지표와 같은 구간).
+ * 행 수가 많아 반복마다 새 워크북으로 한 번씩 실행합니다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ExcelSheetBenchmark {
+
+    private static final Long COMPANY_ID = 1L;
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private ExpenseService expenseService;
+    private List<ExpenseReportDto> reports;
+    private Map<Long, List<ExpenseDetailDto>> detailsMap;
+    private Workbook workbook;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        EncryptionUtil encryptionUtil = ExpenseFixtures.encryptionUtil();
+        expenseService = ExpenseFixtures.expenseService(Map.of(
+                EncryptionUtil.class, encryptionUtil,
+                CompanyMapper.class, ExpenseFixtures.companyMapper(),
+                AccountCodeService.class, ExpenseFixtures.accountCodeService()));
+
+        // 결의서당 평균 2건이므로 상세 항목이 rows 건 정도가 되도록 결의서 수를 맞춤
+        reports = ExpenseFixtures.reports(rows / 2, random);
+        List<ExpenseDetailDto> details = ExpenseFixtures.details(reports, encryptionUtil, random);
+        detailsMap = details.stream().collect(Collectors.groupingBy(ExpenseDetailDto::getExpenseReportId));
+    }
+
+    @Setup(Level.Iteration)
+    public void newWorkbook() {
+        workbook = new XSSFWorkbook();
+    }
+
+    @TearDown(Level.Iteration)
+    public void closeWorkbook() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public Workbook fullDetailSheet() throws IOException {
+        Map<Long, List<ReceiptDto>> receiptsByDetailMap = Collections.emptyMap();
+        expenseService.createFullDetailSheet(workbook, reports, detailsMap, receiptsByDetailMap, null, COMPANY_ID);
+        return workbook;
+    }
+
+    @Benchmark
+    public Workbook vatReviewSheet() {
+        expenseService.createVatReviewSheet(workbook, reports, detailsMap);
+        return workbook;
+    }
+
+    @Benchmark
+    public Workbook categorySummarySheet() {
+        expenseService.createCategorySummarySheet(workbook, reports, detailsMap, COMPANY_ID);
+        return workbook;
+    }
+
+    @Benchmark
+    public Workbook daejonImportSheet() {
+        expenseService.createDaejonImportSheet(workbook, reports, detailsMap);
+        return workbook;
+    }
+}
@@ -0,0 +1,135 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.AccountCodeMappingDto;
+import com.innersignature.backend.dto.CompanyDto;
+import com.innersignature.backend.dto.ExpenseDetailDto;
+import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.mapper.CompanyMapper;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import com.innersignature.backend.util.EncryptionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Constructor;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ExpenseService 벤치마크용 합성 데이터와 서비스 인스턴스
+ * 벤치마크 대상 경로가 쓰는 의존성(Mapper/UserService/AccountCodeService/EncryptionUtil/MeterRegistry)만 채우고 나머지는 null로 둡니다.
+ */
+final class ExpenseFixtures {
+
+    static final String[] CATEGORIES = {"식대", "교통비", "소모품비", "접대비", "통신비", "급여"};
+    static final String[] PAYMENT_METHODS = {"CARD", "CASH", "BANK_TRANSFER", "COMPANY_CARD"};
+
+    private ExpenseFixtures() {
+    }
+
+    static EncryptionUtil encryptionUtil() {
+        EncryptionUtil encryptionUtil = new EncryptionUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(encryptionUtil, "secretKey", "InnerSignatureSecretKey2024!@#$%^&*()");
+        return encryptionUtil;
+    }
+
+    static CompanyMapper companyMapper() {
+        CompanyMapper companyMapper = mock(CompanyMapper.class);
+        CompanyDto company = new CompanyDto();
+        company.setCompanyName("벤치마크 주식회사");
+        when(companyMapper.findById(anyLong())).thenReturn(company);
+        return companyMapper;
+    }
+
+    /**
+     * 계정 과목 추천 (실제로는 행마다 DB 조회, 벤치마크에서는 고정값으로 시트 생성 비용만 측정)
+     */
+    static AccountCodeService accountCodeService() {
+        AccountCodeService accountCodeService = mock(AccountCodeService.class);
+        AccountCodeMappingDto mapping = new AccountCodeMappingDto();
+        mapping.setAccountName("복리후생비");
+        when(accountCodeService.recommendAccountCode(any(), any())).thenReturn(mapping);
+        return accountCodeService;
+    }
+
+    /**
+     * 생성자 파라미터 타입에 맞는 의존성만 넣어 ExpenseService 생성
+     */
+    static ExpenseService expenseService(Map<Class<?>, Object> dependencies) {
+        Constructor<?> constructor = ExpenseService.class.getDeclaredConstructors()[0];
+        Class<?>[] types = constructor.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            args[i] = types[i] == MeterRegistry.class ? new SimpleMeterRegistry() : dependencies.get(types[i]);
+        }
+        return (ExpenseService) BeanUtils.instantiateClass(constructor, args);
+    }
+
+    static ExpenseService expenseService(ExpenseMapper expenseMapper, UserService userService) {
+        return expenseService(Map.of(ExpenseMapper.class, expenseMapper, UserService.class, userService));
+    }
+
+    /**
+     * 결의서 목록 (작성자 20명, 상태 혼합)
+     */
+    static List<ExpenseReportDto> reports(int count, Random random) {
+        List<ExpenseReportDto> reports = new ArrayList<>(count);
+        String[] statuses = {"DRAFT", "WAIT", "APPROVED", "REJECTED", "PAID"};
+        LocalDate baseDate = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < count; i++) {
+            ExpenseReportDto report = new ExpenseReportDto();
+            report.setExpenseReportId((long) i + 1);
+            report.setCompanyId(1L);
+            report.setDrafterId((long) random.nextInt(20) + 1);
+            report.setDrafterName("작성자" + report.getDrafterId());
+            report.setReportDate(baseDate.plusDays(random.nextInt(365)));
+            report.setTitle("지출결의서 " + (i + 1));
+            report.setStatus(statuses[random.nextInt(statuses.length)]);
+            report.setTotalAmount((long) (random.nextInt(500) + 1) * 1000);
+            report.setFirstDescription("적요 " + (i + 1));
+            report.setDescriptionCount(random.nextInt(4));
+            reports.add(report);
+        }
+        return reports;
+    }
+
+    /**
+     * 결의서별 상세 항목 (결의서당 1~3건, 카드번호는 암호화 저장값)
+     */
+    static List<ExpenseDetailDto> details(List<ExpenseReportDto> reports, EncryptionUtil encryptionUtil, Random random) {
+        List<ExpenseDetailDto> details = new ArrayList<>(reports.size() * 2);
+        String encryptedCard = encryptionUtil != null ? encryptionUtil.encrypt("1234-5678-9012-3456") : null;
+        long detailId = 1;
+        for (ExpenseReportDto report : reports) {
+            int lines = random.nextInt(3) + 1;
+            for (int i = 0; i < lines; i++) {
+                ExpenseDetailDto detail = new ExpenseDetailDto();
+                detail.setExpenseDetailId(detailId++);
+                detail.setExpenseReportId(report.getExpenseReportId());
+                detail.setCompanyId(1L);
+                detail.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                detail.setMerchantName("가맹점" + random.nextInt(200));
+                detail.setDescription("적요 " + detail.getExpenseDetailId());
+                detail.setAmount((long) (random.nextInt(300) + 1) * 100);
+                detail.setActualPaidAmount(detail.getAmount());
+                String paymentMethod = PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)];
+                detail.setPaymentMethod(paymentMethod);
+                detail.setPaymentReqDate(report.getReportDate());
+                detail.setCardNumber(paymentMethod.contains("CARD") ? encryptedCard : null);
+                detail.setIsTaxDeductible(random.nextInt(5) != 0);
+                detail.setNonDeductibleReason(Boolean.FALSE.equals(detail.getIsTaxDeductible()) ? "ENTERTAINMENT" : null);
+                details.add(detail);
+            }
+        }
+        return details;
+    }
+}
@@ -0,0 +1,88 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ExpenseDetailDto;
+import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.dto.UserDto;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결의서 목록 후처리 벤치마크
+ * - generateSummaryDescription: 목록의 결의서마다 적요 요약 생성
+ * - filterSalaryExpenses: DRAFT/급여 문서 권한 필터링 (상세 항목 배치 조회는 미리 만든 목록 반환)
+ * filterSalaryExpenses는 목록을 직접 수정하므로 호출마다 복사본을 넘깁니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExpenseListBenchmark {
+
+    private static final Long USER_ID = 1L;
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"USER", "CEO"})
+    private String role;
+
+    private ExpenseService expenseService;
+    private List<ExpenseReportDto> reports;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        reports = ExpenseFixtures.reports(size, random);
+        List<ExpenseDetailDto> details = ExpenseFixtures.details(reports, null, random);
+
+        UserDto user = new UserDto();
+        user.setUserId(USER_ID);
+        user.setRole(role);
+        user.setCompanyId(1L);
+        UserService userService = mock(UserService.class);
+        when(userService.selectUserById(anyLong())).thenReturn(user);
+        ExpenseMapper expenseMapper = mock(ExpenseMapper.class);
+        when(expenseMapper.selectExpenseDetailsBatch(anyList(), any())).thenReturn(details);
+
+        expenseService = ExpenseFixtures.expenseService(expenseMapper, userService);
+    }
+
+    @Benchmark
+    public void generateSummaryDescription(Blackhole blackhole) {
+        for (ExpenseReportDto report : reports) {
+            expenseService.generateSummaryDescription(report);
+            blackhole.consume(report.getSummaryDescription());
+        }
+    }
+
+    @Benchmark
+    public List<ExpenseReportDto> filterSalaryExpenses() {
+        List<ExpenseReportDto> copy = new ArrayList<>(reports);
+        expenseService.filterSalaryExpenses(copy, USER_ID);
+        return copy;
+    }
+}
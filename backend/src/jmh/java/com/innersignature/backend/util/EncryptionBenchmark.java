@@ -0,0 +1,53 @@
+package com.innersignature.backend.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드번호 암호화/복호화 벤치마크 (EncryptionUtil)
+ * 엑셀 출력과 카드번호 검색에서 건별로 호출되는 경로입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncryptionBenchmark {
+
+    @Param({"1234-5678-9012-3456"})
+    private String plainText;
+
+    private EncryptionUtil encryptionUtil;
+    private String cipherText;
+
+    @Setup
+    public void setUp() {
+        encryptionUtil = new EncryptionUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(encryptionUtil, "secretKey", "InnerSignatureSecretKey2024!@#$%^&*()");
+        cipherText = encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionUtil.encrypt(plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionUtil.decrypt(cipherText);
+    }
+}
@@ -0,0 +1,47 @@
+package com.innersignature.backend.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 파싱 벤치마크 (JwtUtil.parseToken)
+ * 인증 필터와 Rate Limit 필터에서 요청마다 호출되는 경로입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret",
+                "inner-signature-jwt-secret-key-2024-minimum-256-bits-required-for-security");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 43200000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 1209600000L);
+        token = jwtUtil.generateToken(1L, "benchmark", "USER", 1L);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+}
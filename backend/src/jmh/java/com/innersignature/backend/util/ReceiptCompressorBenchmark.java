@@ -0,0 +1,135 @@
+package com.innersignature.backend.util;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.graphics.image.LosslessFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 영수증 PDF 변환/압축 벤치마크 (ReceiptCompressor.compressToPdf)
+ * 5MB 이하는 변환만, 5MB 초과는 압축 경로를 타므로 입력을 크기별로 나눕니다.
+ * - small_jpeg: 영수증 사진 크기의 JPEG (변환만)
+ * - large_jpeg: 5MB를 넘는 노이즈 JPEG (이미지 → PDF 압축)
+ * - small_pdf: 텍스트 한 페이지 PDF (변환만)
+ * - large_pdf: 5MB를 넘는 무손실 이미지가 든 PDF (PDF 이미지 재압축)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ReceiptCompressorBenchmark {
+
+    private static final long LARGE_INPUT_MIN_SIZE = 5 * 1024 * 1024;
+
+    @Param({"small_jpeg", "large_jpeg", "small_pdf", "large_pdf"})
+    private String input;
+
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        file = switch (input) {
+            case "small_jpeg" -> new MockMultipartFile("file", "receipt.jpg", "image/jpeg",
+                    jpeg(receiptImage(1200, 1600)));
+            case "large_jpeg" -> new MockMultipartFile("file", "receipt.jpg", "image/jpeg",
+                    jpeg(noiseImage(4000, 3000, random)));
+            case "small_pdf" -> new MockMultipartFile("file", "receipt.pdf", "application/pdf", textPdf());
+            case "large_pdf" -> new MockMultipartFile("file", "receipt.pdf", "application/pdf",
+                    imagePdf(noiseImage(1600, 1600, random)));
+            default -> throw new IllegalArgumentException("알 수 없는 입력: " + input);
+        };
+        if (input.startsWith("large_") && file.getSize() <= LARGE_INPUT_MIN_SIZE) {
+            throw new IllegalStateException("압축 경로 입력이 5MB 이하입니다: " + file.getSize());
+        }
+    }
+
+    @Benchmark
+    public byte[] compressToPdf() throws IOException {
+        return ReceiptCompressor.compressToPdf(file);
+    }
+
+    private static BufferedImage receiptImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.BLACK);
+        for (int y = 80; y < height - 80; y += 40) {
+            g.drawString("ITEM " + y + "    12,000", 80, y);
+        }
+        g.dispose();
+        return image;
+    }
+
+    private static BufferedImage noiseImage(int width, int height, Random random) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                row[x] = random.nextInt(0x1000000);
+            }
+            image.setRGB(0, y, width, 1, row, 0, width);
+        }
+        return image;
+    }
+
+    private static byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static byte[] textPdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.addRect(50, 50, 200, 100);
+                content.stroke();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static byte[] imagePdf(BufferedImage image) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.A4);
+            document.addPage(page);
+            PDImageXObject pdImage = LosslessFactory.createFromImage(document, image);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.drawImage(pdImage, 0, 0, PDRectangle.A4.getWidth(), PDRectangle.A4.getHeight());
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,479 @@
+package com.innersignature.backend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트용 합성 다중 회사 데이터 생성기
+ *
+ * company_tb, user_tb, user_company_tb, expense_report_tb, expense_detail_tb, approval_line_tb, receipt_tb에
+ * 대형 회사(기본 1개, 상세 항목 100만 건)와 소형 회사(기본 1,000개, 상세 항목 100건씩)를 채웁니다.
+ * 한쪽으로 치우친 분포를 흉내 냅니다.
+ * - 작성자: 소수 사용자가 대부분을 작성 (Zipf)
+ * - 작성일: 최근일수록 많음
+ * - 금액: 로그 정규 분포
+ * 모든 결재 라인의 마지막 단계는 CEO이므로, 부하 시나리오에서 CEO 계정으로 WAIT 결의서를 승인할 수 있습니다.
+ *
+ * 실행: ./mvnw -Ploadtest test-compile exec:exec@loadgen -Dloadtest.args="--jdbc-url=... --small-tenants=100"
+ * 같은 prefix로 이미 생성된 데이터가 있으면 중단합니다 (다시 만들려면 다른 --prefix 사용).
+ * 생성 후 대시보드 집계는 SUPERADMIN의 POST /api/superadmin/rollups/rebuild로 재생성합니다.
+ */
+public class LoadDataGenerator {
+
+    private static final String[] CATEGORIES = {"식대", "교통비", "소모품비", "접대비", "통신비", "도서인쇄비", "회의비", "급여"};
+    private static final double[] CATEGORY_WEIGHTS = {35, 20, 12, 8, 6, 5, 10, 4};
+    private static final String[] PAYMENT_METHODS = {"CARD", "BANK_TRANSFER", "CASH", "CHECK"};
+    private static final double[] PAYMENT_METHOD_WEIGHTS = {60, 25, 10, 5};
+    private static final String[] STATUSES = {"APPROVED", "WAIT", "PAID", "DRAFT", "REJECTED"};
+    private static final double[] STATUS_WEIGHTS = {60, 20, 10, 5, 5};
+    private static final String RECEIPT_PATH = "uploads/loadtest/receipt.pdf";
+
+    private final TenantLayout layout;
+    private final Connection connection;
+    private final Random random;
+    private final String passwordHash;
+    private final int batchSize;
+    private final int days;
+    private final LocalDate today = LocalDate.now();
+
+    private long reportCount;
+    private long detailCount;
+    private long lineCount;
+    private long receiptCount;
+
+    LoadDataGenerator(TenantLayout layout, Connection connection, Random random, String passwordHash,
+                      int batchSize, int months) {
+        this.layout = layout;
+        this.connection = connection;
+        this.random = random;
+        this.passwordHash = passwordHash;
+        this.batchSize = Math.max(100, batchSize);
+        this.days = Math.max(30, months * 30);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        LoadTestOptions options = new LoadTestOptions(args);
+        TenantLayout layout = new TenantLayout(options);
+        String jdbcUrl = options.get("jdbc-url",
+                "jdbc:mysql://127.0.0.1:3307/signature?serverTimezone=Asia/Seoul&characterEncoding=UTF-8"
+                        + "&useSSL=false&allowPublicKeyRetrieval=true");
+        // 여러 건 INSERT를 한 문장으로 묶어 전송 (생성 키도 함께 반환됨)
+        if (!jdbcUrl.contains("rewriteBatchedStatements")) {
+            jdbcUrl += (jdbcUrl.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        String passwordHash = new BCryptPasswordEncoder().encode(options.get("password", "loadtest1234!"));
+
+        long startNanos = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl,
+                options.get("db-user", "root"), options.get("db-password", "1q2w3e4r!"))) {
+            connection.setAutoCommit(false);
+            LoadDataGenerator generator = new LoadDataGenerator(layout, connection,
+                    new Random(options.getInt("seed", 42)), passwordHash,
+                    options.getInt("batch-size", 1000), options.getInt("months", 24));
+            generator.generate();
+            System.out.printf("생성 완료 - 회사: %d, 결의서: %d, 상세: %d, 결재 라인: %d, 영수증: %d, %ds%n",
+                    layout.tenantCount(), generator.reportCount, generator.detailCount, generator.lineCount,
+                    generator.receiptCount, (System.nanoTime() - startNanos) / 1_000_000_000L);
+        }
+    }
+
+    void generate() throws SQLException {
+        if (companyExists(layout.companyCode(1))) {
+            throw new IllegalStateException("이미 생성된 데이터가 있습니다 (회사 코드 " + layout.companyCode(1)
+                    + "). 다른 --prefix를 사용하세요.");
+        }
+        insertSuperAdmin();
+        connection.commit();
+        for (int tenant = 1; tenant <= layout.tenantCount(); tenant++) {
+            generateTenant(tenant);
+            if (layout.isLarge(tenant) || tenant % 100 == 0 || tenant == layout.tenantCount()) {
+                System.out.printf("회사 %d/%d 완료 - 누적 상세: %d%n", tenant, layout.tenantCount(), detailCount);
+            }
+        }
+    }
+
+    private boolean companyExists(String companyCode) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COUNT(*) FROM company_tb WHERE company_code = ?")) {
+            statement.setString(1, companyCode);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getInt(1) > 0;
+            }
+        }
+    }
+
+    private void insertSuperAdmin() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO user_tb (username, password, korean_name, email, role, is_active, approval_status) "
+                        + "VALUES (?, ?, ?, ?, 'SUPERADMIN', 1, 'APPROVED')")) {
+            statement.setString(1, layout.superAdmin());
+            statement.setString(2, passwordHash);
+            statement.setString(3, "부하테스트 관리자");
+            statement.setString(4, layout.superAdmin() + "@" + layout.prefix + ".loadtest.invalid");
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * 회사 한 곳 생성 (회사/사용자는 한 트랜잭션, 결의서는 batchSize 단위로 커밋)
+     */
+    private void generateTenant(int tenant) throws SQLException {
+        long companyId = insertCompany(tenant);
+        TenantUsers users = insertUsers(tenant, companyId);
+        connection.commit();
+
+        int remaining = layout.details(tenant);
+        while (remaining > 0) {
+            List<ReportSeed> reports = new ArrayList<>(batchSize);
+            while (remaining > 0 && reports.size() < batchSize) {
+                ReportSeed report = newReport(users);
+                remaining -= report.details.size();
+                reports.add(report);
+            }
+            insertReports(companyId, reports);
+            insertDetails(companyId, reports);
+            insertApprovalLines(companyId, users, reports);
+            insertReceipts(companyId, reports);
+            connection.commit();
+            if (layout.isLarge(tenant) && (detailCount / 100_000) != ((detailCount - countDetails(reports)) / 100_000)) {
+                System.out.printf("  회사 %d - 상세 %d건 남음%n", tenant, Math.max(0, remaining));
+            }
+        }
+    }
+
+    private long insertCompany(int tenant) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO company_tb (company_code, company_name, business_reg_no, representative_name, is_active) "
+                        + "VALUES (?, ?, ?, ?, 1)", Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, layout.companyCode(tenant));
+            statement.setString(2, (layout.isLarge(tenant) ? "대형" : "소형") + " 부하테스트 " + tenant);
+            statement.setString(3, layout.companyCode(tenant) + "-BRN");
+            statement.setString(4, "대표" + tenant);
+            statement.executeUpdate();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    /**
+     * 사용자와 회사 소속 생성 (모두 승인 완료, 같은 비밀번호)
+     */
+    private TenantUsers insertUsers(int tenant, long companyId) throws SQLException {
+        List<String[]> seeds = new ArrayList<>();
+        seeds.add(new String[]{layout.ceo(tenant), "CEO", "대표", "1"});
+        seeds.add(new String[]{layout.accountant(tenant), "ACCOUNTANT", "과장", "0"});
+        for (int n = 1; n <= layout.admins(tenant); n++) {
+            seeds.add(new String[]{layout.admin(tenant, n), "ADMIN", "팀장", "1"});
+        }
+        for (int n = 1; n <= layout.regularUsers(tenant); n++) {
+            seeds.add(new String[]{layout.user(tenant, n), "USER", n % 3 == 0 ? "대리" : "사원", "0"});
+        }
+
+        long[] userIds = new long[seeds.size()];
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO user_tb (username, password, korean_name, email, position, role, is_active, approval_status, company_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, 1, 'APPROVED', ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (String[] seed : seeds) {
+                statement.setString(1, seed[0]);
+                statement.setString(2, passwordHash);
+                statement.setString(3, "사용자" + seed[0].substring(layout.prefix.length()));
+                statement.setString(4, seed[0] + "@" + layout.prefix + ".loadtest.invalid");
+                statement.setString(5, seed[2]);
+                statement.setString(6, seed[1]);
+                statement.setLong(7, companyId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            readKeys(statement, userIds);
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO user_company_tb (user_id, company_id, role, position, is_active, is_primary, is_approver, approval_status) "
+                        + "VALUES (?, ?, ?, ?, 1, 1, ?, 'APPROVED')")) {
+            for (int i = 0; i < seeds.size(); i++) {
+                statement.setLong(1, userIds[i]);
+                statement.setLong(2, companyId);
+                statement.setString(3, seeds.get(i)[1]);
+                statement.setString(4, seeds.get(i)[2]);
+                statement.setBoolean(5, "1".equals(seeds.get(i)[3]));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        int admins = layout.admins(tenant);
+        long[] adminIds = Arrays.copyOfRange(userIds, 2, 2 + admins);
+        // CEO를 제외한 모든 사용자가 작성자 후보 (USER 먼저: Zipf 상위 순위가 일반 사용자에게 가도록)
+        long[] drafterIds = new long[userIds.length - 1];
+        System.arraycopy(userIds, 2 + admins, drafterIds, 0, userIds.length - 2 - admins);
+        drafterIds[drafterIds.length - 1 - admins] = userIds[1];
+        System.arraycopy(adminIds, 0, drafterIds, drafterIds.length - admins, admins);
+        return new TenantUsers(userIds[0], adminIds, drafterIds, zipfCumulative(drafterIds.length, 1.1));
+    }
+
+    private ReportSeed newReport(TenantUsers users) {
+        ReportSeed report = new ReportSeed();
+        report.drafterId = users.drafterIds[pickCumulative(users.drafterCumulative)];
+        // 최근 날짜에 몰리도록 (u^2)
+        double u = random.nextDouble();
+        report.reportDate = today.minusDays((long) (days * u * u));
+        report.createdAt = report.reportDate.atTime(8 + random.nextInt(11), random.nextInt(60));
+        report.status = STATUSES[pickWeighted(STATUS_WEIGHTS)];
+
+        // 결의서당 상세 항목 1~20건 (기하 분포, 평균 약 2.5건)
+        int detailCount = 1;
+        while (detailCount < 20 && random.nextDouble() < 0.6) {
+            detailCount++;
+        }
+        for (int i = 0; i < detailCount; i++) {
+            DetailSeed detail = new DetailSeed();
+            detail.category = CATEGORIES[pickWeighted(CATEGORY_WEIGHTS)];
+            detail.merchantName = "가맹점" + (int) Math.floor(Math.pow(random.nextDouble(), 3) * 5000);
+            detail.description = detail.category + " " + report.reportDate.getMonthValue() + "월 " + (i + 1);
+            long amount = Math.round(Math.exp(10 + random.nextGaussian()) / 100.0) * 100;
+            detail.amount = Math.min(5_000_000L, Math.max(1000L, amount));
+            detail.paymentMethod = PAYMENT_METHODS[pickWeighted(PAYMENT_METHOD_WEIGHTS)];
+            detail.taxDeductible = !"접대비".equals(detail.category) && random.nextInt(10) != 0;
+            report.totalAmount += detail.amount;
+            report.details.add(detail);
+        }
+        report.title = report.reportDate.getMonthValue() + "월 " + report.details.get(0).category
+                + (detailCount > 1 ? " 외 " + (detailCount - 1) + "건" : "");
+        return report;
+    }
+
+    private void insertReports(long companyId, List<ReportSeed> reports) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO expense_report_tb (drafter_id, report_date, title, total_amount, actual_paid_amount, status, "
+                        + "payment_req_date, created_at, company_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (ReportSeed report : reports) {
+                statement.setLong(1, report.drafterId);
+                statement.setDate(2, Date.valueOf(report.reportDate));
+                statement.setString(3, report.title);
+                statement.setLong(4, report.totalAmount);
+                if ("PAID".equals(report.status)) {
+                    statement.setLong(5, report.totalAmount);
+                } else {
+                    statement.setNull(5, Types.DECIMAL);
+                }
+                statement.setString(6, report.status);
+                statement.setDate(7, Date.valueOf(report.reportDate.plusDays(7)));
+                statement.setTimestamp(8, Timestamp.valueOf(report.createdAt));
+                statement.setLong(9, companyId);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            long[] ids = new long[reports.size()];
+            readKeys(statement, ids);
+            for (int i = 0; i < ids.length; i++) {
+                reports.get(i).id = ids[i];
+            }
+        }
+        reportCount += reports.size();
+    }
+
+    private void insertDetails(long companyId, List<ReportSeed> reports) throws SQLException {
+        List<DetailSeed> details = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO expense_detail_tb (expense_report_id, category, merchant_name, payment_req_date, description, "
+                        + "amount, actual_paid_amount, payment_method, is_tax_deductible, non_deductible_reason, company_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            for (ReportSeed report : reports) {
+                for (DetailSeed detail : report.details) {
+                    statement.setLong(1, report.id);
+                    statement.setString(2, detail.category);
+                    statement.setString(3, detail.merchantName);
+                    statement.setDate(4, Date.valueOf(report.reportDate.plusDays(7)));
+                    statement.setString(5, detail.description);
+                    statement.setLong(6, detail.amount);
+                    statement.setLong(7, detail.amount);
+                    statement.setString(8, detail.paymentMethod);
+                    statement.setBoolean(9, detail.taxDeductible);
+                    statement.setString(10, detail.taxDeductible ? null
+                            : "접대비".equals(detail.category) ? "접대비" : "업무 무관 지출");
+                    statement.setLong(11, companyId);
+                    statement.addBatch();
+                    details.add(detail);
+                }
+            }
+            statement.executeBatch();
+            long[] ids = new long[details.size()];
+            readKeys(statement, ids);
+            for (int i = 0; i < ids.length; i++) {
+                details.get(i).id = ids[i];
+            }
+        }
+        detailCount += details.size();
+    }
+
+    /**
+     * 결재 라인 (60%는 ADMIN → CEO 2단계, 나머지는 CEO 1단계)
+     */
+    private void insertApprovalLines(long companyId, TenantUsers users, List<ReportSeed> reports) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO approval_line_tb (expense_report_id, approver_id, step_order, status, approval_date, "
+                        + "rejection_reason, company_id) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            for (ReportSeed report : reports) {
+                if ("DRAFT".equals(report.status)) {
+                    continue;
+                }
+                List<Long> approvers = new ArrayList<>(2);
+                if (random.nextInt(10) < 6) {
+                    approvers.add(users.adminIds[random.nextInt(users.adminIds.length)]);
+                }
+                approvers.add(users.ceoId);
+                for (int step = 1; step <= approvers.size(); step++) {
+                    String lineStatus = switch (report.status) {
+                        case "APPROVED", "PAID" -> "APPROVED";
+                        case "REJECTED" -> step == 1 ? "REJECTED" : "WAIT";
+                        default -> "WAIT";
+                    };
+                    statement.setLong(1, report.id);
+                    statement.setLong(2, approvers.get(step - 1));
+                    statement.setInt(3, step);
+                    statement.setString(4, lineStatus);
+                    if ("WAIT".equals(lineStatus)) {
+                        statement.setNull(5, Types.TIMESTAMP);
+                    } else {
+                        statement.setTimestamp(5, Timestamp.valueOf(report.createdAt.plusHours(step * 4L)));
+                    }
+                    statement.setString(6, "REJECTED".equals(lineStatus) ? "증빙 보완 필요" : null);
+                    statement.setLong(7, companyId);
+                    statement.addBatch();
+                    lineCount++;
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * 승인/지급 완료 결의서의 상세 항목 60%에 영수증 (파일은 만들지 않고 경로만 기록)
+     */
+    private void insertReceipts(long companyId, List<ReportSeed> reports) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO receipt_tb (expense_report_id, expense_detail_id, file_path, original_filename, file_size, "
+                        + "uploaded_by, uploaded_at, company_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (ReportSeed report : reports) {
+                if (!"APPROVED".equals(report.status) && !"PAID".equals(report.status)) {
+                    continue;
+                }
+                for (DetailSeed detail : report.details) {
+                    if (random.nextInt(10) >= 6) {
+                        continue;
+                    }
+                    statement.setLong(1, report.id);
+                    statement.setLong(2, detail.id);
+                    statement.setString(3, RECEIPT_PATH);
+                    statement.setString(4, "receipt_" + detail.id + ".jpg");
+                    statement.setLong(5, 150_000L + random.nextInt(1_500_000));
+                    statement.setLong(6, report.drafterId);
+                    statement.setTimestamp(7, Timestamp.valueOf(report.createdAt.plusMinutes(10)));
+                    statement.setLong(8, companyId);
+                    statement.addBatch();
+                    receiptCount++;
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void readKeys(Statement statement, long[] target) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            int i = 0;
+            while (keys.next() && i < target.length) {
+                target[i++] = keys.getLong(1);
+            }
+            if (i != target.length) {
+                throw new IllegalStateException("생성 키 수가 맞지 않습니다: " + i + "/" + target.length);
+            }
+        }
+    }
+
+    private static int countDetails(List<ReportSeed> reports) {
+        int count = 0;
+        for (ReportSeed report : reports) {
+            count += report.details.size();
+        }
+        return count;
+    }
+
+    /**
+     * Zipf 분포 누적 확률 (순위 r의 가중치 1/r^s)
+     */
+    private static double[] zipfCumulative(int n, double s) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, s);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private int pickCumulative(double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private int pickWeighted(double[] weights) {
+        double total = 0;
+        for (double weight : weights) {
+            total += weight;
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private record TenantUsers(long ceoId, long[] adminIds, long[] drafterIds, double[] drafterCumulative) {
+    }
+
+    private static class ReportSeed {
+        long id;
+        long drafterId;
+        LocalDate reportDate;
+        LocalDateTime createdAt;
+        String status;
+        String title;
+        long totalAmount;
+        final List<DetailSeed> details = new ArrayList<>();
+    }
+
+    private static class DetailSeed {
+        long id;
+        String category;
+        String merchantName;
+        String description;
+        long amount;
+        String paymentMethod;
+        boolean taxDeductible;
+    }
+}
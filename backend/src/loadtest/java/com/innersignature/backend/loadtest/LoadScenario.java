@@ -0,0 +1,465 @@
+package com.innersignature.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import javax.imageio.ImageIO;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 시나리오 (로그인, 목록, 상세, 승인, 영수증 업로드, 엑셀 내보내기)
+ *
+ * LoadDataGenerator로 만든 계정을 사용해 가상 사용자 여러 명이 실행 중인 서버에 요청을 보내고,
+ * 동작별 지연 시간 p50/p95/p99를 표로 출력하고 JSON으로 저장합니다.
+ * - 가상 사용자는 large-share 비율로 대형 회사에, 나머지는 무작위 소형 회사에 배정됩니다.
+ * - ceo-share 비율은 CEO(목록, 상세, 승인, 업로드, 내보내기), 나머지는 USER(목록, 상세)로 동작합니다.
+ * - 승인은 WAIT 목록에서 아직 시도하지 않은 결의서를 골라 CEO 결재 라인을 승인합니다.
+ *
+ * 실행: ./mvnw -Ploadtest test-compile exec:exec@loadtest -Dloadtest.args="--users=20 --duration-seconds=60"
+ * 생성기와 같은 --prefix, --large-tenants, --small-tenants 등을 지정해야 같은 계정을 찾습니다.
+ * 서버의 요청 제한(ratelimit.*)에 걸리면 429로 따로 집계되므로 부하 테스트 때는 제한을 높여 기동합니다.
+ */
+public class LoadScenario {
+
+    private static final String[] CEO_ACTIONS = {"list", "detail", "approve", "upload", "export"};
+    private static final double[] CEO_WEIGHTS = {30, 30, 15, 15, 10};
+    private static final String[] USER_ACTIONS = {"list", "detail"};
+    private static final double[] USER_WEIGHTS = {60, 40};
+    private static final List<String> ACTIONS = List.of("login", "list", "detail", "approve", "upload", "export");
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final Map<String, ActionStats> stats = new ConcurrentHashMap<>();
+    private final Set<Long> attemptedApprovals = ConcurrentHashMap.newKeySet();
+
+    private final TenantLayout layout;
+    private final String baseUrl;
+    private final String password;
+    private final int relogInEvery;
+    private final int exportDays;
+    private final String signatureData;
+    private final byte[] receiptPdf;
+
+    LoadScenario(TenantLayout layout, LoadTestOptions options) throws IOException {
+        this.layout = layout;
+        this.baseUrl = options.get("base-url", "http://localhost:8080");
+        this.password = options.get("password", "loadtest1234!");
+        this.relogInEvery = Math.max(1, options.getInt("relogin-every", 50));
+        this.exportDays = options.getInt("export-days", 31);
+        this.signatureData = "data:image/png;base64," + Base64.getEncoder().encodeToString(signaturePng());
+        this.receiptPdf = receiptPdf();
+        for (String action : ACTIONS) {
+            stats.put(action, new ActionStats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = new LoadTestOptions(args);
+        TenantLayout layout = new TenantLayout(options);
+        LoadScenario scenario = new LoadScenario(layout, options);
+
+        int virtualUsers = options.getInt("users", 20);
+        int durationSeconds = options.getInt("duration-seconds", 60);
+        if (options.getBoolean("rebuild-rollups", false)) {
+            scenario.rebuildRollups();
+        }
+
+        System.out.printf("부하 시나리오 시작 - %s, 가상 사용자 %d명, %d초%n", scenario.baseUrl, virtualUsers, durationSeconds);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        Random seeds = new Random(options.getInt("seed", 7));
+        double largeShare = options.getDouble("large-share", 0.5);
+        double ceoShare = options.getDouble("ceo-share", 0.25);
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < virtualUsers; i++) {
+            Random random = new Random(seeds.nextLong());
+            int tenant = layout.smallTenants == 0 || (layout.largeTenants > 0 && random.nextDouble() < largeShare)
+                    ? 1 + random.nextInt(Math.max(1, layout.largeTenants))
+                    : layout.largeTenants + 1 + random.nextInt(layout.smallTenants);
+            boolean ceo = random.nextDouble() < ceoShare;
+            String username = ceo ? layout.ceo(tenant)
+                    : layout.user(tenant, 1 + random.nextInt(layout.regularUsers(tenant)));
+            executor.submit(() -> scenario.runVirtualUser(username, ceo, random, deadline));
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 120L, TimeUnit.SECONDS);
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+
+        scenario.printReport(elapsedSeconds);
+        Path result = Path.of(options.get("result", "target/loadtest-result.json"));
+        scenario.writeResult(result, options, virtualUsers, elapsedSeconds);
+        System.out.println("결과 저장: " + result.toAbsolutePath());
+    }
+
+    /**
+     * 가상 사용자 한 명의 반복 (relogin-every 요청마다 다시 로그인)
+     */
+    private void runVirtualUser(String username, boolean ceo, Random random, long deadline) {
+        Session session = new Session();
+        int requests = 0;
+        while (System.nanoTime() < deadline) {
+            try {
+                if (session.token == null || requests % relogInEvery == 0) {
+                    if (!login(session, username)) {
+                        Thread.sleep(1000);
+                        continue;
+                    }
+                }
+                String action = ceo ? CEO_ACTIONS[pickWeighted(CEO_WEIGHTS, random)]
+                        : USER_ACTIONS[pickWeighted(USER_WEIGHTS, random)];
+                switch (action) {
+                    case "list" -> list(session, random);
+                    case "detail" -> detail(session, random);
+                    case "approve" -> approve(session, random);
+                    case "upload" -> upload(session, random);
+                    default -> export(session);
+                }
+                requests++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 연결 실패 등은 요청 단위로 이미 오류로 집계됨
+                requests++;
+            }
+        }
+    }
+
+    private boolean login(Session session, String username) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        JsonNode response = sendJson("login", request);
+        if (response == null) {
+            session.token = null;
+            return false;
+        }
+        session.token = response.path("data").path("token").asText();
+        session.userId = response.path("data").path("user").path("userId").asLong();
+        return true;
+    }
+
+    /**
+     * 목록 (70%는 첫 페이지, 나머지는 2~10페이지)
+     */
+    private void list(Session session, Random random) throws IOException, InterruptedException {
+        int page = random.nextInt(10) < 7 ? 1 : 2 + random.nextInt(9);
+        JsonNode response = sendJson("list", authorized(session, "/api/expenses?page=" + page + "&size=20").GET().build());
+        if (response != null) {
+            rememberReports(session, response);
+        }
+    }
+
+    private void detail(Session session, Random random) throws IOException, InterruptedException {
+        if (session.reportIds.isEmpty()) {
+            list(session, random);
+            if (session.reportIds.isEmpty()) {
+                return;
+            }
+        }
+        long reportId = session.reportIds.get(random.nextInt(session.reportIds.size()));
+        JsonNode response = sendJson("detail", authorized(session, "/api/expenses/" + reportId).GET().build());
+        if (response != null) {
+            for (JsonNode detail : response.path("data").path("details")) {
+                if (session.detailIds.size() >= 200) {
+                    session.detailIds.remove(0);
+                }
+                session.detailIds.add(new long[]{detail.path("expenseDetailId").asLong(), reportId});
+            }
+        }
+    }
+
+    /**
+     * WAIT 목록에서 아직 시도하지 않은 결의서를 골라 승인 (목록 조회는 list로 집계)
+     */
+    private void approve(Session session, Random random) throws IOException, InterruptedException {
+        int page = 1 + random.nextInt(5);
+        JsonNode response = sendJson("list",
+                authorized(session, "/api/expenses?status=WAIT&page=" + page + "&size=20").GET().build());
+        if (response == null) {
+            return;
+        }
+        Long target = null;
+        for (JsonNode report : response.path("data").path("content")) {
+            long reportId = report.path("expenseReportId").asLong();
+            if (attemptedApprovals.add(reportId)) {
+                target = reportId;
+                break;
+            }
+        }
+        if (target == null) {
+            return;
+        }
+        String body = objectMapper.writeValueAsString(Map.of("approverId", session.userId, "signatureData", signatureData));
+        sendJson("approve", authorized(session, "/api/expenses/" + target + "/approve")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+    }
+
+    private void upload(Session session, Random random) throws IOException, InterruptedException {
+        if (session.detailIds.isEmpty()) {
+            detail(session, random);
+            if (session.detailIds.isEmpty()) {
+                return;
+            }
+        }
+        long[] target = session.detailIds.get(random.nextInt(session.detailIds.size()));
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.write(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"expenseReportId\"\r\n\r\n"
+                + target[1] + "\r\n"
+                + "--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"receipt.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.write(receiptPdf);
+        body.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        sendJson("upload", authorized(session, "/api/expenses/details/" + target[0] + "/receipt")
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build());
+    }
+
+    private void export(Session session) throws IOException, InterruptedException {
+        LocalDate endDate = LocalDate.now();
+        HttpRequest request = authorized(session, "/api/expenses/export/excel?startDate="
+                + endDate.minusDays(exportDays) + "&endDate=" + endDate).GET().build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            stats.get("export").record(System.nanoTime() - start, response.statusCode(), response.statusCode() / 100 == 2);
+        } catch (IOException e) {
+            stats.get("export").record(System.nanoTime() - start, 0, false);
+            throw e;
+        }
+    }
+
+    /**
+     * 로그인 후 전체 회사 대시보드 집계 재생성 (SUPERADMIN)
+     */
+    private void rebuildRollups() throws IOException, InterruptedException {
+        Session session = new Session();
+        if (!login(session, layout.superAdmin())) {
+            throw new IllegalStateException("SUPERADMIN 로그인 실패: " + layout.superAdmin());
+        }
+        System.out.println("대시보드 집계 재생성 중...");
+        HttpRequest request = authorized(session, "/api/superadmin/rollups/rebuild")
+                .timeout(Duration.ofMinutes(30))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        System.out.println("대시보드 집계 재생성 응답: " + response.statusCode() + " " + response.body());
+        // 집계 재생성 로그인은 시나리오 결과에서 제외
+        stats.put("login", new ActionStats());
+    }
+
+    private HttpRequest.Builder authorized(Session session, String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(120))
+                .header("Authorization", "Bearer " + session.token);
+    }
+
+    /**
+     * 요청을 보내고 지연 시간을 기록 (2xx가 아니거나 success=false면 오류)
+     */
+    private JsonNode sendJson(String action, HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            stats.get(action).record(System.nanoTime() - start, 0, false);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        JsonNode body = null;
+        boolean ok = response.statusCode() / 100 == 2;
+        if (ok) {
+            body = objectMapper.readTree(response.body());
+            ok = body.path("success").asBoolean(false);
+        }
+        stats.get(action).record(elapsed, response.statusCode(), ok);
+        return ok ? body : null;
+    }
+
+    private void rememberReports(Session session, JsonNode response) {
+        for (JsonNode report : response.path("data").path("content")) {
+            if (session.reportIds.size() >= 200) {
+                session.reportIds.remove(0);
+            }
+            session.reportIds.add(report.path("expenseReportId").asLong());
+        }
+    }
+
+    private static int pickWeighted(double[] weights, Random random) {
+        double target = random.nextDouble() * Arrays.stream(weights).sum();
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private void printReport(double elapsedSeconds) {
+        System.out.printf("%n%-8s %8s %7s %6s %9s %9s %9s %9s %8s%n",
+                "action", "count", "errors", "429", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "req/s");
+        for (String action : ACTIONS) {
+            Map<String, Object> summary = stats.get(action).summary();
+            System.out.printf("%-8s %8d %7d %6d %9.1f %9.1f %9.1f %9.1f %8.1f%n", action,
+                    summary.get("count"), summary.get("errors"), summary.get("throttled"),
+                    summary.get("p50Ms"), summary.get("p95Ms"), summary.get("p99Ms"), summary.get("maxMs"),
+                    ((Number) summary.get("count")).longValue() / elapsedSeconds);
+        }
+    }
+
+    private void writeResult(Path path, LoadTestOptions options, int virtualUsers, double elapsedSeconds)
+            throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", baseUrl);
+        result.put("virtualUsers", virtualUsers);
+        result.put("elapsedSeconds", Math.round(elapsedSeconds * 10) / 10.0);
+        result.put("largeShare", options.getDouble("large-share", 0.5));
+        result.put("ceoShare", options.getDouble("ceo-share", 0.25));
+        Map<String, Object> actions = new LinkedHashMap<>();
+        for (String action : ACTIONS) {
+            actions.put(action, stats.get(action).summary());
+        }
+        result.put("actions", actions);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        objectMapper.writeValue(path.toFile(), result);
+    }
+
+    /**
+     * 서명 데이터용 PNG (승인 요청마다 같은 이미지를 보내므로 서명 저장소에서는 한 건으로 중복 제거됨)
+     */
+    private static byte[] signaturePng() throws IOException {
+        BufferedImage image = new BufferedImage(300, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.setStroke(new BasicStroke(3));
+        graphics.drawLine(20, 70, 90, 30);
+        graphics.drawLine(90, 30, 160, 75);
+        graphics.drawLine(160, 75, 280, 25);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static byte[] receiptPdf() throws IOException {
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 14);
+                content.newLineAtOffset(72, 700);
+                content.showText("LOAD TEST RECEIPT  12,000 KRW");
+                content.endText();
+            }
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            document.save(output);
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * 가상 사용자별 로그인 상태와 최근 조회한 결의서/상세 항목 ID
+     */
+    private static class Session {
+        String token;
+        Long userId;
+        final List<Long> reportIds = new ArrayList<>();
+        final List<long[]> detailIds = new ArrayList<>();
+    }
+
+    /**
+     * 동작별 지연 시간 (요청 수가 많지 않은 부하 테스트 규모라 모두 보관 후 정렬해 백분위 계산)
+     */
+    private static class ActionStats {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+        private long throttled;
+
+        synchronized void record(long elapsedNanos, int statusCode, boolean ok) {
+            latencies.add(elapsedNanos);
+            if (!ok) {
+                errors++;
+            }
+            if (statusCode == 429) {
+                throttled++;
+            }
+        }
+
+        synchronized Map<String, Object> summary() {
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", (long) sorted.length);
+            summary.put("errors", errors);
+            summary.put("throttled", throttled);
+            summary.put("p50Ms", percentile(sorted, 50));
+            summary.put("p95Ms", percentile(sorted, 95));
+            summary.put("p99Ms", percentile(sorted, 99));
+            summary.put("maxMs", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1]));
+            return summary;
+        }
+
+        /**
+         * nearest-rank 백분위
+         */
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return round(sorted[Math.max(0, rank - 1)]);
+        }
+
+        private static double round(long nanos) {
+            return Math.round(nanos / 100_000.0) / 10.0;
+        }
+    }
+}
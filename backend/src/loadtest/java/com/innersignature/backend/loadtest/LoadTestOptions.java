@@ -0,0 +1,41 @@
+package com.innersignature.backend.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 도구 실행 옵션 (--key=value)
+ */
+final class LoadTestOptions {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    LoadTestOptions(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+}
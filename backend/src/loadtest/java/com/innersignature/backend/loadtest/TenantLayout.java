@@ -0,0 +1,88 @@
+package com.innersignature.backend.loadtest;
+
+/**
+ * 합성 회사(테넌트) 구성과 계정 이름 규칙
+ * 데이터 생성기와 부하 시나리오가 같은 옵션으로 같은 계정을 찾을 수 있도록 한 곳에 둡니다.
+ *
+ * 회사 번호는 1부터 시작하며, 앞의 large-tenants개가 대형 회사이고 나머지 small-tenants개가 소형 회사입니다.
+ * 회사마다 CEO 1명, ACCOUNTANT 1명, ADMIN(결재자) 여러 명, 나머지는 USER입니다.
+ * - {prefix}{회사번호}_ceo, {prefix}{회사번호}_acct, {prefix}{회사번호}_admin{n}, {prefix}{회사번호}_user{n}
+ * - 집계 재생성과 SQL 통계 조회용 SUPERADMIN 계정: {prefix}_superadmin
+ */
+final class TenantLayout {
+
+    final String prefix;
+    final int largeTenants;
+    final int smallTenants;
+    final int largeTenantUsers;
+    final int smallTenantUsers;
+    final int largeTenantDetails;
+    final int smallTenantDetails;
+
+    TenantLayout(LoadTestOptions options) {
+        this.prefix = options.get("prefix", "lt");
+        this.largeTenants = options.getInt("large-tenants", 1);
+        this.smallTenants = options.getInt("small-tenants", 1000);
+        this.largeTenantUsers = Math.max(4, options.getInt("large-tenant-users", 300));
+        this.smallTenantUsers = Math.max(4, options.getInt("small-tenant-users", 5));
+        this.largeTenantDetails = options.getInt("large-tenant-details", 1_000_000);
+        this.smallTenantDetails = options.getInt("small-tenant-details", 100);
+        if (!prefix.matches("[a-z]{1,4}")) {
+            throw new IllegalArgumentException("prefix는 영문 소문자 1~4자여야 합니다 (회사 코드 10자 제한): " + prefix);
+        }
+    }
+
+    int tenantCount() {
+        return largeTenants + smallTenants;
+    }
+
+    boolean isLarge(int tenant) {
+        return tenant <= largeTenants;
+    }
+
+    int users(int tenant) {
+        return isLarge(tenant) ? largeTenantUsers : smallTenantUsers;
+    }
+
+    int details(int tenant) {
+        return isLarge(tenant) ? largeTenantDetails : smallTenantDetails;
+    }
+
+    /**
+     * 결재자(ADMIN) 수 (사용자 25명당 1명, 최소 1명)
+     */
+    int admins(int tenant) {
+        return Math.max(1, users(tenant) / 25);
+    }
+
+    /**
+     * 일반 사용자(USER) 수 (CEO, ACCOUNTANT, ADMIN 제외)
+     */
+    int regularUsers(int tenant) {
+        return users(tenant) - 2 - admins(tenant);
+    }
+
+    String companyCode(int tenant) {
+        return prefix.toUpperCase() + String.format("%06d", tenant);
+    }
+
+    String superAdmin() {
+        return prefix + "_superadmin";
+    }
+
+    String ceo(int tenant) {
+        return prefix + tenant + "_ceo";
+    }
+
+    String accountant(int tenant) {
+        return prefix + tenant + "_acct";
+    }
+
+    String admin(int tenant, int n) {
+        return prefix + tenant + "_admin" + n;
+    }
+
+    String user(int tenant, int n) {
+        return prefix + tenant + "_user" + n;
+    }
+}
@@ -1,7 +1,12 @@
 package com.innersignature.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -9,28 +14,163 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리 설정
  * SecurityContext를 비동기 스레드에 전파합니다.
+ * Java 21 이상에서 spring.threads.virtual.enabled=true이면 가상 스레드 실행기를 사용합니다.
+ * 가상 스레드 실행기의 동시 실행 수는 작업 안에서(가상 스레드가) 허가를 얻어 제한하므로,
+ * 제한에 걸려도 제출한 스레드(요청 스레드, afterCommit 등)는 기다리지 않습니다.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig implements AsyncConfigurer {
 
+    private final Environment environment;
+
+    // 가상 스레드는 개수 제한이 없으므로 DB 커넥션 풀 크기를 기준으로 동시 실행 수를 제한
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maxDbConnections;
+
+    // 백그라운드 작업(감사, 발송 대기열, 집계 등) 동시 실행 수 (0이면 커넥션 풀의 1/4)
+    @Value("${async.max-concurrency:0}")
+    private int asyncMaxConcurrency;
+
+    public AsyncConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * 기본 @Async 실행기
+     * 백그라운드 작업이 커넥션 풀을 모두 차지해 요청 스레드가 커넥션을 기다리지 않도록
+     * 동시 실행 수를 풀 크기의 일부(기본 1/4)로 제한합니다.
+     */
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        int limit = asyncMaxConcurrency > 0 ? asyncMaxConcurrency : Math.max(2, maxDbConnections / 4);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return boundedVirtualExecutor("async-", limit, securityContextTaskDecorator());
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
+        executor.setCorePoolSize(limit);
+        executor.setMaxPoolSize(limit);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("async-");
-        
-        // SecurityContext 전파를 위한 래퍼
+        executor.setTaskDecorator(securityContextTaskDecorator());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 영수증 파일 선읽기용 I/O 실행기
+     * 네트워크 볼륨에서 파일 열기 지연을 숨기기 위해 ZIP 작성 중 다음 파일들을 미리 읽습니다.
+     * 순수 파일 I/O만 수행하므로 SecurityContext 전파는 필요 없습니다.
+     */
+    @Bean(name = "receiptIoExecutor")
+    public Executor receiptIoExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 선읽기 창 크기가 요청당 동시 I/O를 제한하므로 스레드 풀 대신 가상 스레드 사용
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("receipt-io-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("receipt-io-");
+        // 풀이 포화되면 호출 스레드(ZIP 작성 스레드)에서 직접 읽음
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 상세 조회 병렬화용 실행기 (ConcurrentFetchService)
+     * 조회마다 DB 커넥션을 하나씩 사용하므로 커넥션 풀의 절반 이내로 동시 실행 수를 제한합니다.
+     * 매퍼 호출이 SecurityUtil(회사 ID 등)을 사용할 수 있으므로 SecurityContext를 전파합니다.
+     */
+    @Bean(name = "queryExecutor")
+    public Executor queryExecutor() {
+        int limit = Math.max(2, maxDbConnections / 2);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return boundedVirtualExecutor("query-", limit, securityContextTaskDecorator());
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(limit);
+        executor.setMaxPoolSize(limit);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("query-");
+        executor.setTaskDecorator(securityContextTaskDecorator());
+        // 대기열이 가득 차면 요청 스레드에서 직접 조회 (순차 실행으로 자연스럽게 감속)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이메일 발송 대기열 발송용 실행기 (EmailOutboxService)
+     * 발송 작업마다 SMTP 연결을 하나씩 열어 재사용하므로 동시 실행 수가 곧 SMTP 동시 연결 수입니다.
+     * 로그인 사용자와 무관한 백그라운드 작업이므로 SecurityContext 전파는 필요 없습니다.
+     */
+    @Bean(name = "mailExecutor")
+    public Executor mailExecutor(@Value("${email.outbox.parallelism:2}") int parallelism) {
+        int limit = Math.max(1, parallelism);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return boundedVirtualExecutor("mail-", limit, null);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(limit);
+        executor.setMaxPoolSize(limit);
+        executor.setQueueCapacity(limit);
+        executor.setThreadNamePrefix("mail-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 동시 실행 수를 제한하는 가상 스레드 실행기
+     * SimpleAsyncTaskExecutor.setConcurrencyLimit은 제한에 걸리면 제출한 스레드를 멈추므로 사용하지 않고,
+     * 작업마다 가상 스레드를 바로 띄운 뒤 그 안에서 허가(Semaphore)를 기다립니다.
+     * 대기 중인 작업은 가상 스레드만 차지하며 DB 커넥션 등은 허가를 얻은 뒤에 사용합니다.
+     */
+    static SimpleAsyncTaskExecutor boundedVirtualExecutor(String threadNamePrefix, int limit, TaskDecorator decorator) {
+        Semaphore permits = new Semaphore(limit);
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
         executor.setTaskDecorator(runnable -> {
+            // 제출 시점 정보(SecurityContext 등)는 제출한 스레드에서 먼저 캡처
+            Runnable task = decorator != null ? decorator.decorate(runnable) : runnable;
+            return () -> {
+                permits.acquireUninterruptibly();
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            };
+        });
+        return executor;
+    }
+
+    /**
+     * SecurityContext 전파를 위한 래퍼
+     * 제출 시점(요청 스레드)의 인증 정보를 실행 스레드에 복사합니다.
+     * ThreadLocal 기반이므로 플랫폼 스레드와 가상 스레드 모두 동일하게 동작합니다.
+     */
+    static TaskDecorator securityContextTaskDecorator() {
+        return runnable -> {
             SecurityContext context = SecurityContextHolder.getContext();
             return () -> {
+                // CallerRunsPolicy로 요청 스레드에서 실행되는 경우 기존 인증 정보를 되돌려 놓기 위해 보관
+                SecurityContext previousContext = SecurityContextHolder.getContext();
                 try {
                     // SecurityContext 복사본 생성 및 설정
                     SecurityContext copiedContext = SecurityContextHolder.createEmptyContext();
@@ -40,13 +180,13 @@ public class AsyncConfig implements AsyncConfigurer {
                     SecurityContextHolder.setContext(copiedContext);
                     runnable.run();
                 } finally {
-                    SecurityContextHolder.clearContext();
+                    if (previousContext.getAuthentication() != null) {
+                        SecurityContextHolder.setContext(previousContext);
+                    } else {
+                        SecurityContextHolder.clearContext();
+                    }
                 }
             };
-        });
-        
-        executor.initialize();
-        return executor;
+        };
     }
 }
-
@@ -0,0 +1,288 @@
+package com.innersignature.backend.config;
+
+import com.innersignature.backend.dto.StatementStatsDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 매퍼 문장별 실행 시간/조회 행 수 기록 (MyBatis 플러그인)
+ * - mybatis.statement 타이머: 매퍼/문장/결과(success, error) 태그, 고정 구간 히스토그램
+ * - mybatis.statement.rows: 조회 문장이 반환한 행 수 (한도 없는 전체 조회 탐지용)
+ * - 느린 문장 기준(metrics.mybatis.slow-threshold-ms)을 넘으면 SQL과 파라미터 형태(이름:타입, 값 제외)를 로그로 남김
+ * - 서버 기동 이후 문장별 누적 통계를 보관하여 총 실행 시간 상위 N개를 조회할 수 있음 (topStatements)
+ * Interceptor 빈은 mybatis-spring-boot-starter가 SqlSessionFactory에 자동으로 등록합니다.
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(MapperMetricsInterceptor.class);
+
+    static final String TIMER_NAME = "mybatis.statement";
+    static final String ROWS_NAME = "mybatis.statement.rows";
+
+    // 히스토그램 구간 (문장 수가 많으므로 백분위 히스토그램 대신 고정 구간만 사용)
+    private static final Duration[] LATENCY_BUCKETS = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofMillis(2500), Duration.ofSeconds(5)
+    };
+    private static final double[] ROW_BUCKETS = {1, 10, 100, 1_000, 10_000, 100_000};
+    private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final long largeResultRows;
+    // 문장 ID -> 누적 통계 및 미터
+    private final Map<String, StatementMeters> statements = new ConcurrentHashMap<>();
+
+    public MapperMetricsInterceptor(MeterRegistry meterRegistry,
+                                    @Value("${metrics.mybatis.slow-threshold-ms:500}") long slowThresholdMs,
+                                    @Value("${metrics.mybatis.large-result-rows:10000}") long largeResultRows) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, slowThresholdMs));
+        this.largeResultRows = Math.max(1, largeResultRows);
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement statement = (MappedStatement) args[0];
+        long startNanos = System.nanoTime();
+        boolean success = false;
+        Object result = null;
+        try {
+            result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            long rows = statement.getSqlCommandType() == SqlCommandType.SELECT && result instanceof List<?> list
+                    ? list.size() : -1;
+            StatementMeters meters = statements.computeIfAbsent(statement.getId(), this::register);
+            meters.record(elapsedNanos, success, rows);
+
+            boolean slow = elapsedNanos >= slowThresholdNanos;
+            if (slow) {
+                meters.slowCount.increment();
+            }
+            if (slow || rows >= largeResultRows) {
+                logStatement(statement, args, elapsedNanos, rows, slow);
+            }
+        }
+    }
+
+    /**
+     * 총 실행 시간 상위 문장 (서버 기동 이후 누적, 이 서버 기준)
+     */
+    public List<StatementStatsDto> topStatements(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(StatementStatsDto::getTotalMs).reversed())
+                .limit(Math.max(1, limit))
+                .toList();
+    }
+
+    private StatementMeters register(String statementId) {
+        // 문장 ID: com.innersignature.backend.mapper.ExpenseMapper.selectExpenseList
+        int methodStart = statementId.lastIndexOf('.');
+        int mapperStart = statementId.lastIndexOf('.', methodStart - 1);
+        String mapper = statementId.substring(mapperStart + 1, Math.max(methodStart, mapperStart + 1));
+        String method = statementId.substring(methodStart + 1);
+        return new StatementMeters(timer(mapper, method, "success"), timer(mapper, method, "error"),
+                DistributionSummary.builder(ROWS_NAME)
+                        .description("MyBatis 조회 문장 반환 행 수")
+                        .tag("mapper", mapper)
+                        .tag("statement", method)
+                        .serviceLevelObjectives(ROW_BUCKETS)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String mapper, String method, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("MyBatis 매퍼 문장 실행 시간")
+                .tag("mapper", mapper)
+                .tag("statement", method)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(LATENCY_BUCKETS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 느린 문장/대량 조회 로그 (바인딩 값은 남기지 않고 파라미터 이름과 타입만 기록)
+     */
+    private void logStatement(MappedStatement statement, Object[] args, long elapsedNanos, long rows, boolean slow) {
+        String sql;
+        String parameterShape;
+        try {
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : statement.getBoundSql(args[1]);
+            sql = compact(boundSql.getSql());
+            parameterShape = parameterShape(statement.getConfiguration(), boundSql, args[1]);
+        } catch (RuntimeException e) {
+            sql = "?";
+            parameterShape = "?";
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (slow) {
+            logger.warn("느린 SQL - {} {}ms, rows: {}, params: [{}], sql: {}",
+                    statement.getId(), elapsedMs, rows >= 0 ? rows : "-", parameterShape, sql);
+        } else {
+            logger.warn("대량 조회 SQL - {} rows: {} (기준 {}), {}ms, params: [{}], sql: {}",
+                    statement.getId(), rows, largeResultRows, elapsedMs, parameterShape, sql);
+        }
+    }
+
+    /**
+     * 파라미터 형태: "companyId:Long, startDate:LocalDate, id[25]:Long" (foreach 항목은 개수로 묶음)
+     */
+    static String parameterShape(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+        Map<String, String> types = new LinkedHashMap<>();
+        Map<String, Integer> foreachCounts = new LinkedHashMap<>();
+        for (ParameterMapping mapping : boundSql.getParameterMappings()) {
+            String property = mapping.getProperty();
+            String name = property;
+            if (property.startsWith("__frch_")) {
+                // foreach 항목: __frch_{item}_{index}[.필드]
+                String itemized = property.substring("__frch_".length());
+                int dot = itemized.indexOf('.');
+                String head = dot >= 0 ? itemized.substring(0, dot) : itemized;
+                int indexStart = head.lastIndexOf('_');
+                name = (indexStart > 0 ? head.substring(0, indexStart) : head) + (dot >= 0 ? itemized.substring(dot) : "");
+                foreachCounts.merge(name, 1, Integer::sum);
+            }
+            if (!types.containsKey(name)) {
+                types.put(name, typeName(parameterValue(configuration, boundSql, parameterObject, property)));
+            }
+        }
+        StringBuilder shape = new StringBuilder();
+        for (Map.Entry<String, String> entry : types.entrySet()) {
+            if (!shape.isEmpty()) {
+                shape.append(", ");
+            }
+            shape.append(entry.getKey());
+            Integer count = foreachCounts.get(entry.getKey());
+            if (count != null) {
+                shape.append('[').append(count).append(']');
+            }
+            shape.append(':').append(entry.getValue());
+        }
+        return shape.toString();
+    }
+
+    // DefaultParameterHandler와 같은 순서로 바인딩 값 확인 (타입 확인용)
+    private static Object parameterValue(Configuration configuration, BoundSql boundSql, Object parameterObject,
+                                         String property) {
+        try {
+            if (boundSql.hasAdditionalParameter(property)) {
+                return boundSql.getAdditionalParameter(property);
+            }
+            if (parameterObject == null) {
+                return null;
+            }
+            if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                return parameterObject;
+            }
+            return configuration.newMetaObject(parameterObject).getValue(property);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String typeName(Object value) {
+        return value == null ? "null" : value.getClass().getSimpleName();
+    }
+
+    private static String compact(String sql) {
+        String compacted = sql.replaceAll("\\s+", " ").trim();
+        return compacted.length() > MAX_LOGGED_SQL_LENGTH
+                ? compacted.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : compacted;
+    }
+
+    /**
+     * 문장별 미터와 누적 통계
+     */
+    private static class StatementMeters {
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final DistributionSummary rowsSummary;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errorCount = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder totalRows = new LongAdder();
+        private final AtomicLong maxRows = new AtomicLong();
+
+        private StatementMeters(Timer successTimer, Timer errorTimer, DistributionSummary rowsSummary) {
+            this.successTimer = successTimer;
+            this.errorTimer = errorTimer;
+            this.rowsSummary = rowsSummary;
+        }
+
+        private void record(long elapsedNanos, boolean success, long rows) {
+            (success ? successTimer : errorTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+            count.increment();
+            if (!success) {
+                errorCount.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            if (rows >= 0) {
+                rowsSummary.record(rows);
+                totalRows.add(rows);
+                maxRows.accumulateAndGet(rows, Math::max);
+            }
+        }
+
+        private StatementStatsDto toDto(String statementId) {
+            StatementStatsDto dto = new StatementStatsDto();
+            long executions = count.sum();
+            double totalMs = totalNanos.sum() / 1_000_000.0;
+            dto.setStatementId(statementId);
+            dto.setCount(executions);
+            dto.setErrorCount(errorCount.sum());
+            dto.setSlowCount(slowCount.sum());
+            dto.setTotalMs(totalMs);
+            dto.setAvgMs(executions > 0 ? totalMs / executions : 0);
+            dto.setMaxMs(maxNanos.get() / 1_000_000.0);
+            dto.setTotalRows(totalRows.sum());
+            dto.setMaxRows(maxRows.get());
+            return dto;
+        }
+    }
+}
@@ -4,16 +4,24 @@ import com.innersignature.backend.security.CustomAccessDeniedHandler;
 import com.innersignature.backend.security.JwtAuthenticationEntryPoint;
 import com.innersignature.backend.security.JwtAuthenticationFilter;
 import com.innersignature.backend.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
@@ -37,11 +45,53 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final Environment environment;
 
+    private static final String METRICS_ROLE = "METRICS";
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * Actuator 전용 SecurityFilterChain (/actuator/**)
+     * health는 공개하고, prometheus는 수집기 전용 계정(HTTP Basic)으로만 허용합니다.
+     * 수집 비밀번호(metrics.scrape.password)가 설정되지 않으면 prometheus 엔드포인트는 차단됩니다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        String scrapePassword = environment.getProperty("metrics.scrape.password", "");
+        boolean scrapeEnabled = !scrapePassword.isBlank();
+
+        http
+            .securityMatcher("/actuator/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session
+                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+            )
+            .authorizeHttpRequests(authz -> {
+                authz.requestMatchers("/actuator/health", "/actuator/health/**").permitAll();
+                if (scrapeEnabled) {
+                    authz.requestMatchers("/actuator/prometheus").hasRole(METRICS_ROLE);
+                }
+                authz.anyRequest().denyAll();
+            })
+            .httpBasic(Customizer.withDefaults());
+
+        if (scrapeEnabled) {
+            String scrapeUsername = environment.getProperty("metrics.scrape.username", "prometheus");
+            PasswordEncoder encoder = passwordEncoder();
+            UserDetails scraper = User.withUsername(scrapeUsername)
+                .password(encoder.encode(scrapePassword))
+                .roles(METRICS_ROLE)
+                .build();
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(scraper));
+            provider.setPasswordEncoder(encoder);
+            http.authenticationManager(new ProviderManager(provider));
+        }
+        return http.build();
+    }
+
     /**
      * SecurityFilterChain 설정
      * Swagger 경로는 필터에서 제외되므로 permitAll()만으로 충분
@@ -66,6 +116,8 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
             .authorizeHttpRequests(authz -> authz
+                // 스트리밍 응답(StreamingResponseBody)의 ASYNC 디스패치는 최초 요청에서 이미 인가됨
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // Swagger - 최소 필수 경로만 허용 (순서 중요)
                 .requestMatchers(
                     "/swagger-ui.html",
@@ -2,16 +2,19 @@ package com.innersignature.backend.controller;
 
 import com.innersignature.backend.dto.AuditRuleDto;
 import com.innersignature.backend.dto.ApiResponse;
+import com.innersignature.backend.service.AuditReauditService;
 import com.innersignature.backend.service.AuditRuleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -22,6 +25,7 @@ public class AuditRuleController {
     
     private static final Logger logger = LoggerFactory.getLogger(AuditRuleController.class);
     private final AuditRuleService auditRuleService;
+    private final AuditReauditService auditReauditService;
     
     @Operation(summary = "감사 규칙 생성", description = "새로운 감사 규칙을 생성합니다. (ADMIN/CEO)")
     @PostMapping("/create")
@@ -83,5 +87,23 @@ public class AuditRuleController {
                     .body(new ApiResponse<>(false, e.getMessage(), null));
         }
     }
+    
+    @Operation(summary = "감사 규칙 재실행 (재감사)", description = "기간 내 기존 결의서에 감사 규칙을 다시 적용하는 작업을 시작하고 jobId를 반환합니다. ruleType을 지정하면 해당 유형만 적용합니다. 진행률은 GET /api/expenses/progress/{jobId}로 조회합니다. (ADMIN/CEO)")
+    @PostMapping("/reaudit")
+    @PreAuthorize("hasAnyRole('ADMIN', 'CEO')")
+    public ResponseEntity<ApiResponse<String>> startReaudit(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String ruleType) {
+        try {
+            logger.info("재감사 요청 - {} ~ {}, ruleType: {}", startDate, endDate, ruleType);
+            String jobId = auditReauditService.startReaudit(startDate, endDate, ruleType);
+            logger.info("재감사 작업 시작 - jobId: {}", jobId);
+            return ResponseEntity.ok(new ApiResponse<>(true, "처리 중", jobId));
+        } catch (Exception e) {
+            logger.error("재감사 시작 실패", e);
+            return ResponseEntity.badRequest()
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
 }
-
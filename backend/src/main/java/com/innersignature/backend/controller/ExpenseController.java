@@ -2,9 +2,12 @@ package com.innersignature.backend.controller;
 
 import com.innersignature.backend.dto.ApiResponse;
 import com.innersignature.backend.dto.ApprovalLineDto;
+import com.innersignature.backend.dto.BulkApprovalRequest;
+import com.innersignature.backend.dto.BulkApprovalResultDto;
 import com.innersignature.backend.dto.CategoryRatioDto;
 import com.innersignature.backend.dto.CategorySummaryDto;
 import com.innersignature.backend.dto.DashboardStatsDto;
+import com.innersignature.backend.dto.ExpenseDashboardDto;
 import com.innersignature.backend.dto.ExpenseReportDto;
 import com.innersignature.backend.dto.MonthlyTaxSummaryDto;
 import com.innersignature.backend.dto.MonthlyTrendDto;
@@ -20,6 +23,7 @@ import com.innersignature.backend.service.ProgressService;
 import com.innersignature.backend.mapper.CompanyMapper;
 import com.innersignature.backend.util.SecurityUtil;
 import com.innersignature.backend.util.SecurityLogger;
+import com.innersignature.backend.util.ReceiptPathResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -35,6 +39,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -43,12 +48,12 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -56,6 +61,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Tag(name = "Expense", description = "지출결의서 관리 API")
@@ -264,6 +270,35 @@ public class ExpenseController {
             return new ApiResponse<Void>(true, "결제 반려 완료", null);
     }
 
+    /**
+     * 3-1-1. 일괄 승인 API
+     * POST /api/expenses/bulk-approve
+     * 설명: 여러 결의서를 저장된 서명/도장으로 한 번에 승인하고 결의서별 결과를 반환합니다.
+     */
+    @Operation(summary = "일괄 결재 승인", description = "여러 결의서를 저장된 서명/도장(미지정 시 기본 서명/도장)으로 한 번에 승인합니다. 결의서별 처리 결과를 반환합니다.")
+    @PostMapping("/bulk-approve")
+    public ApiResponse<List<BulkApprovalResultDto>> bulkApproveExpenses(@Valid @RequestBody BulkApprovalRequest request) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        logger.info("일괄 승인 요청 - approverId: {}, count: {}", currentUserId, request.getExpenseReportIds().size());
+        List<BulkApprovalResultDto> results = expenseService.bulkApproveExpenses(
+                request.getExpenseReportIds(), currentUserId, request.getSignatureId());
+        return new ApiResponse<>(true, "일괄 승인 처리 완료", results);
+    }
+
+    /**
+     * 3-1-2. 일괄 반려 API
+     * POST /api/expenses/bulk-reject
+     */
+    @Operation(summary = "일괄 결재 반려", description = "여러 결의서를 같은 반려 사유로 한 번에 반려합니다. 결의서별 처리 결과를 반환합니다.")
+    @PostMapping("/bulk-reject")
+    public ApiResponse<List<BulkApprovalResultDto>> bulkRejectExpenses(@Valid @RequestBody BulkApprovalRequest request) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        logger.info("일괄 반려 요청 - approverId: {}, count: {}", currentUserId, request.getExpenseReportIds().size());
+        List<BulkApprovalResultDto> results = expenseService.bulkRejectExpenses(
+                request.getExpenseReportIds(), currentUserId, request.getRejectionReason());
+        return new ApiResponse<>(true, "일괄 반려 처리 완료", results);
+    }
+
     /**
      * 3-2. 결재 취소 API
      * POST /api/expenses/{expenseId}/cancel-approval
@@ -548,8 +583,7 @@ public class ExpenseController {
                         .body(new ApiResponse<>(false, "영수증 파일 경로를 찾을 수 없습니다.", null));
             }
 
-            String projectRoot = System.getProperty("user.dir");
-            Path filePath = Paths.get(projectRoot, receipt.getFilePath());
+            Path filePath = ReceiptPathResolver.resolve(receipt.getFilePath());
             File file = filePath.toFile();
 
             if (!file.exists()) {
@@ -592,6 +626,39 @@ public class ExpenseController {
         }
     }
 
+    /**
+     * 11-1. 영수증 미리보기 API
+     * GET /api/expenses/receipts/{receiptId}/preview
+     * 설명: 영수증 첫 페이지를 작은 JPEG 이미지로 반환합니다. (결재 화면 미리보기용)
+     * 영수증 파일은 업로드 후 변경되지 않으므로 브라우저가 장기간 캐시하도록 합니다.
+     */
+    @Operation(summary = "영수증 미리보기", description = "영수증 첫 페이지 미리보기 이미지(JPEG)를 조회합니다.")
+    @GetMapping("/receipts/{receiptId}/preview")
+    public ResponseEntity<?> previewReceipt(@PathVariable Long receiptId) {
+        try {
+            Long currentUserId = SecurityUtil.getCurrentUserId();
+            Path previewPath = expenseService.getReceiptPreview(receiptId, currentUserId);
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.IMAGE_JPEG)
+                    .cacheControl(CacheControl.maxAge(30, TimeUnit.DAYS).cachePrivate().immutable())
+                    .body(new FileSystemResource(previewPath));
+        } catch (com.innersignature.backend.exception.BusinessException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (com.innersignature.backend.exception.ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (IOException e) {
+            logger.error("영수증 미리보기 생성 실패 - receiptId: {}", receiptId, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(new ApiResponse<>(false, "영수증 미리보기를 생성할 수 없습니다.", null));
+        }
+    }
+
     /**
      * 12. 영수증 삭제 API
      * DELETE /api/expenses/receipts/{receiptId}
@@ -677,18 +744,22 @@ public class ExpenseController {
                     .body(new ApiResponse<>(false, "다운로드할 영수증 ID가 필요합니다.", null));
             }
             
-            File zipFile = expenseService.createReceiptsZip(request.getReceiptIds(), currentUserId);
-            Resource resource = new FileSystemResource(zipFile);
-            
+            // 권한 확인과 대상 선별은 스트리밍 시작 전에 끝내서 실패 시 JSON 오류로 응답
+            List<ReceiptDto> receipts = expenseService.getDownloadableReceipts(request.getReceiptIds(), currentUserId);
+
             String filename = String.format("영수증_%s.zip", 
                 LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")));
-            
-            logger.info("영수증 일괄 다운로드 완료 - receiptIds: {}, userId: {}", request.getReceiptIds(), currentUserId);
-            
+
+            // 임시 파일 없이 응답 스트림으로 바로 ZIP 전송
+            StreamingResponseBody body = outputStream -> {
+                expenseService.writeReceiptsZip(receipts, outputStream);
+                logger.info("영수증 일괄 다운로드 완료 - receiptCount: {}, userId: {}", receipts.size(), currentUserId);
+            };
+
             return ResponseEntity.ok()
                 .contentType(MediaType.parseMediaType("application/zip"))
                 .header(HttpHeaders.CONTENT_DISPOSITION, createContentDispositionHeader(filename))
-                .body(resource);
+                .body(body);
         } catch (com.innersignature.backend.exception.BusinessException e) {
             logger.warn("영수증 일괄 다운로드 실패: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -797,6 +868,38 @@ public class ExpenseController {
         return new ApiResponse<>(true, "대시보드 통계 조회 성공", stats);
     }
 
+    /**
+     * 15-1. 대시보드 통합 API
+     * GET /api/expenses/dashboard?startDate=2024-01-01&endDate=2024-12-31
+     * 설명: 요약 통계, 월별 추이, 상태별/사용자별 통계, 카테고리별 비율을 한 번에 조회
+     *      CEO, ADMIN 또는 ACCOUNTANT 권한 사용자만 접근 가능
+     */
+    @PreAuthorize("hasAnyRole('CEO', 'ADMIN', 'ACCOUNTANT')")
+    @Operation(summary = "대시보드 통합 조회", description = "대시보드 위젯 전체 데이터를 한 번에 조회합니다. (CEO/ADMIN/ACCOUNTANT)")
+    @GetMapping("/dashboard")
+    public ApiResponse<ExpenseDashboardDto> getDashboard(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+
+        LocalDate startDateParsed = null;
+        LocalDate endDateParsed = null;
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+        try {
+            if (startDate != null && !startDate.isEmpty()) {
+                startDateParsed = LocalDate.parse(startDate, formatter);
+            }
+            if (endDate != null && !endDate.isEmpty()) {
+                endDateParsed = LocalDate.parse(endDate, formatter);
+            }
+        } catch (Exception e) {
+            return new ApiResponse<>(false, "날짜 형식이 올바르지 않습니다. (형식: YYYY-MM-DD)", null);
+        }
+
+        ExpenseDashboardDto dashboard = expenseService.getDashboard(startDateParsed, endDateParsed);
+        return new ApiResponse<>(true, "대시보드 조회 성공", dashboard);
+    }
+
     /**
      * 16. 월별 지출 추이 API
      * GET /api/expenses/dashboard/monthly-trend?startDate=2024-01-01&endDate=2024-12-31
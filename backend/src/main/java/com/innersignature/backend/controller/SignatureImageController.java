@@ -0,0 +1,51 @@
+package com.innersignature.backend.controller;
+
+import com.innersignature.backend.dto.SignatureImageDto;
+import com.innersignature.backend.service.SignatureImageService;
+import com.innersignature.backend.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/signatures")
+@RequiredArgsConstructor
+@Tag(name = "서명 이미지", description = "결재 서명 이미지 조회 API")
+public class SignatureImageController {
+
+    private final SignatureImageService signatureImageService;
+
+    /**
+     * 서명 이미지 조회 API
+     * GET /api/signatures/{signatureHash}
+     * 설명: 결재 라인의 signatureHash로 서명 이미지를 반환합니다.
+     * 해시가 곧 이미지 내용이므로 변경되지 않으며, 브라우저가 장기간 캐시하도록 합니다.
+     * 저장된 Content-Type 외의 형식으로 해석되지 않도록 nosniff를 응답에 직접 지정합니다.
+     */
+    @Operation(summary = "서명 이미지 조회", description = "결재 라인의 서명 해시로 서명 이미지를 조회합니다.")
+    @GetMapping("/{signatureHash}")
+    public ResponseEntity<byte[]> getSignatureImage(@PathVariable String signatureHash, WebRequest webRequest) {
+        String etag = "\"" + signatureHash + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        SignatureImageDto image = signatureImageService.getImage(companyId, signatureHash);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(image.getContentType()))
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                .eTag(etag)
+                .header("X-Content-Type-Options", "nosniff")
+                .body(image.getImageData());
+    }
+}
@@ -1,16 +1,22 @@
 package com.innersignature.backend.controller;
 
+import com.innersignature.backend.config.MapperMetricsInterceptor;
 import com.innersignature.backend.dto.ApiResponse;
 import com.innersignature.backend.dto.CompanyDto;
+import com.innersignature.backend.dto.CursorPageResponse;
 import com.innersignature.backend.dto.ExpenseReportDto;
 import com.innersignature.backend.dto.PagedResponse;
 import com.innersignature.backend.dto.PaymentDto;
+import com.innersignature.backend.dto.StatementStatsDto;
 import com.innersignature.backend.dto.SubscriptionDto;
+import com.innersignature.backend.dto.SubscriptionPlanDto;
 import com.innersignature.backend.dto.UserDto;
 import com.innersignature.backend.service.AdminReportService;
 import com.innersignature.backend.service.CompanyService;
+import com.innersignature.backend.service.ExpenseRollupService;
 import com.innersignature.backend.service.ExpenseService;
 import com.innersignature.backend.service.PaymentService;
+import com.innersignature.backend.service.SubscriptionPlanService;
 import com.innersignature.backend.service.SubscriptionService;
 import com.innersignature.backend.service.UserService;
 import com.innersignature.backend.util.SecurityUtil;
@@ -30,6 +36,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
@@ -52,9 +59,21 @@ public class SuperAdminController {
     private final UserService userService;
     private final CompanyService companyService;
     private final SubscriptionService subscriptionService;
+    private final SubscriptionPlanService subscriptionPlanService;
     private final PaymentService paymentService;
     private final AdminReportService adminReportService;
     private final ExpenseService expenseService;
+    private final ExpenseRollupService expenseRollupService;
+    private final MapperMetricsInterceptor mapperMetricsInterceptor;
+
+    private static final int MAX_STATEMENT_LIMIT = 200;
+
+    /**
+     * 목록 정렬 방향 (asc이면 오름차순, 그 외는 내림차순)
+     */
+    private boolean isAscending(String sort) {
+        return "asc".equalsIgnoreCase(sort);
+    }
 
     /**
      * 한글 파일명을 RFC 5987 형식으로 인코딩하여 Content-Disposition 헤더값을 생성합니다.
@@ -77,32 +96,109 @@ public class SuperAdminController {
     }
     
     /**
-     * 전체 사용자 목록 조회 (SUPERADMIN 전용)
+     * 사용자 목록 조회 (SUPERADMIN 전용, 커서 페이지)
+     * 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.
      */
-    @Operation(summary = "전체 사용자 목록 조회", description = "SUPERADMIN 전용 전체 사용자 목록 조회")
+    @Operation(summary = "사용자 목록 조회", description = "SUPERADMIN 전용 사용자 목록 조회 (커서 페이지, 검색/권한/활성/회사 필터, sort=asc|desc)")
     @PreAuthorize("hasRole('SUPERADMIN')")
     @GetMapping("/users")
-    public ApiResponse<List<UserDto>> getAllUsers() {
+    public ApiResponse<CursorPageResponse<UserDto>> getAllUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String sort) {
         Long currentUserId = SecurityUtil.getCurrentUserId();
-        logger.info("전체 사용자 목록 조회 요청 - userId: {}", currentUserId);
-        List<UserDto> users = userService.getAllUsers();
-        users.forEach(user -> user.setPassword(null));
-        logger.info("전체 사용자 목록 조회 완료 - count: {}", users.size());
-        return new ApiResponse<>(true, "전체 사용자 목록 조회 성공", users);
+        logger.info("사용자 목록 조회 요청 - userId: {}, cursor: {}, size: {}", currentUserId, cursor, size);
+        CursorPageResponse<UserDto> users = userService.getUsersPage(search, role, isActive, companyId, cursor, size, isAscending(sort));
+        users.getContent().forEach(user -> user.setPassword(null));
+        logger.info("사용자 목록 조회 완료 - count: {}, hasNext: {}", users.getContent().size(), users.isHasNext());
+        return new ApiResponse<>(true, "사용자 목록 조회 성공", users);
+    }
+
+    /**
+     * 사용자 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    @Operation(summary = "사용자 수 조회", description = "SUPERADMIN 전용 필터 조건별 사용자 수 조회")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/users/count")
+    public ApiResponse<Long> countUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Long companyId) {
+        long count = userService.countUsers(search, role, isActive, companyId);
+        return new ApiResponse<>(true, "사용자 수 조회 성공", count);
     }
     
     /**
-     * 전체 회사 목록 조회 (SUPERADMIN 전용)
+     * 사용자 목록 CSV 다운로드 (SUPERADMIN 전용, 목록과 같은 필터)
+     * 불러온 페이지와 관계없이 필터에 맞는 전체 사용자를 응답 스트림으로 바로 내보냅니다.
      */
-    @Operation(summary = "전체 회사 목록 조회", description = "SUPERADMIN 전용 전체 회사 목록 조회")
+    @Operation(summary = "사용자 목록 CSV 다운로드", description = "SUPERADMIN 전용 필터 조건별 전체 사용자 CSV 다운로드")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/users/export/csv")
+    public ResponseEntity<StreamingResponseBody> exportUsersCsv(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Long companyId) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        logger.info("사용자 목록 CSV 다운로드 요청 - userId: {}, search: {}, role: {}, isActive: {}, companyId: {}",
+                currentUserId, search, role, isActive, companyId);
+        String filename = String.format("사용자목록_%s.csv", LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE));
+        StreamingResponseBody body = outputStream ->
+                userService.writeUsersCsv(search, role, isActive, companyId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, createContentDispositionHeader(filename))
+                .body(body);
+    }
+    
+    /**
+     * 회사 목록 조회 (SUPERADMIN 전용, 커서 페이지)
+     */
+    @Operation(summary = "회사 목록 조회", description = "SUPERADMIN 전용 회사 목록 조회 (커서 페이지, 회사명/코드 검색, 활성 필터, sort=asc|desc)")
     @PreAuthorize("hasRole('SUPERADMIN')")
     @GetMapping("/companies")
-    public ApiResponse<List<CompanyDto>> getAllCompanies() {
+    public ApiResponse<CursorPageResponse<CompanyDto>> getAllCompanies(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String sort) {
         Long currentUserId = SecurityUtil.getCurrentUserId();
-        logger.info("전체 회사 목록 조회 요청 - userId: {}", currentUserId);
-        List<CompanyDto> companies = companyService.getAllCompanies();
-        logger.info("전체 회사 목록 조회 완료 - count: {}", companies.size());
-        return new ApiResponse<>(true, "전체 회사 목록 조회 성공", companies);
+        logger.info("회사 목록 조회 요청 - userId: {}, cursor: {}, size: {}", currentUserId, cursor, size);
+        CursorPageResponse<CompanyDto> companies = companyService.getCompaniesPage(search, isActive, cursor, size, isAscending(sort));
+        logger.info("회사 목록 조회 완료 - count: {}, hasNext: {}", companies.getContent().size(), companies.isHasNext());
+        return new ApiResponse<>(true, "회사 목록 조회 성공", companies);
+    }
+
+    /**
+     * 회사 선택 목록 조회 (SUPERADMIN 전용)
+     * 필터 선택 목록용으로 전체 회사를 ID, 코드, 회사명만 반환합니다. (페이지 목록과 별도)
+     */
+    @Operation(summary = "회사 선택 목록 조회", description = "SUPERADMIN 전용 필터 선택용 전체 회사 목록 (ID, 코드, 회사명)")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/companies/lookup")
+    public ApiResponse<List<CompanyDto>> getCompanyLookup() {
+        List<CompanyDto> companies = companyService.getCompanyLookup();
+        return new ApiResponse<>(true, "회사 선택 목록 조회 성공", companies);
+    }
+
+    /**
+     * 회사 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    @Operation(summary = "회사 수 조회", description = "SUPERADMIN 전용 필터 조건별 회사 수 조회")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/companies/count")
+    public ApiResponse<Long> countCompanies(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Boolean isActive) {
+        long count = companyService.countCompanies(search, isActive);
+        return new ApiResponse<>(true, "회사 수 조회 성공", count);
     }
     
     /**
@@ -124,31 +220,87 @@ public class SuperAdminController {
     }
     
     /**
-     * 전체 구독 목록 조회 (SUPERADMIN 전용)
+     * 구독 목록 조회 (SUPERADMIN 전용, 커서 페이지)
      */
-    @Operation(summary = "전체 구독 목록 조회", description = "SUPERADMIN 전용 전체 구독 목록 조회")
+    @Operation(summary = "구독 목록 조회", description = "SUPERADMIN 전용 구독 목록 조회 (커서 페이지, 회사/상태/플랜명 필터, sort=asc|desc)")
     @PreAuthorize("hasRole('SUPERADMIN')")
     @GetMapping("/subscriptions")
-    public ApiResponse<List<SubscriptionDto>> getAllSubscriptions() {
+    public ApiResponse<CursorPageResponse<SubscriptionDto>> getAllSubscriptions(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String planName,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String sort) {
         Long currentUserId = SecurityUtil.getCurrentUserId();
-        logger.info("전체 구독 목록 조회 요청 - userId: {}", currentUserId);
-        List<SubscriptionDto> subscriptions = subscriptionService.getAllSubscriptions();
-        logger.info("전체 구독 목록 조회 완료 - count: {}", subscriptions.size());
-        return new ApiResponse<>(true, "전체 구독 목록 조회 성공", subscriptions);
+        logger.info("구독 목록 조회 요청 - userId: {}, cursor: {}, size: {}", currentUserId, cursor, size);
+        CursorPageResponse<SubscriptionDto> subscriptions =
+                subscriptionService.getSubscriptionsPage(companyId, status, planName, cursor, size, isAscending(sort));
+        logger.info("구독 목록 조회 완료 - count: {}, hasNext: {}", subscriptions.getContent().size(), subscriptions.isHasNext());
+        return new ApiResponse<>(true, "구독 목록 조회 성공", subscriptions);
+    }
+
+    /**
+     * 구독 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    @Operation(summary = "구독 수 조회", description = "SUPERADMIN 전용 필터 조건별 구독 수 조회")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/subscriptions/count")
+    public ApiResponse<Long> countSubscriptions(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String planName) {
+        long count = subscriptionService.countSubscriptions(companyId, status, planName);
+        return new ApiResponse<>(true, "구독 수 조회 성공", count);
     }
     
     /**
-     * 전체 결제 내역 조회 (SUPERADMIN 전용)
+     * 플랜 목록 조회 (SUPERADMIN 전용, 비활성 플랜 포함)
+     * 구독 목록의 플랜 필터 선택 목록에 사용합니다.
      */
-    @Operation(summary = "전체 결제 내역 조회", description = "SUPERADMIN 전용 전체 결제 내역 조회")
+    @Operation(summary = "플랜 목록 조회", description = "SUPERADMIN 전용 비활성 플랜을 포함한 전체 플랜 목록")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/plans")
+    public ApiResponse<List<SubscriptionPlanDto>> getAllPlans() {
+        List<SubscriptionPlanDto> plans = subscriptionPlanService.findAll();
+        return new ApiResponse<>(true, "플랜 목록 조회 성공", plans);
+    }
+    
+    /**
+     * 결제 내역 조회 (SUPERADMIN 전용, 커서 페이지)
+     */
+    @Operation(summary = "결제 내역 조회", description = "SUPERADMIN 전용 결제 내역 조회 (커서 페이지, 회사/상태/기간 필터, sort=asc|desc)")
     @PreAuthorize("hasRole('SUPERADMIN')")
     @GetMapping("/payments")
-    public ApiResponse<List<PaymentDto>> getAllPayments() {
+    public ApiResponse<CursorPageResponse<PaymentDto>> getAllPayments(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) String paymentStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "desc") String sort) {
         Long currentUserId = SecurityUtil.getCurrentUserId();
-        logger.info("전체 결제 내역 조회 요청 - userId: {}", currentUserId);
-        List<PaymentDto> payments = paymentService.getAllPayments();
-        logger.info("전체 결제 내역 조회 완료 - count: {}", payments.size());
-        return new ApiResponse<>(true, "전체 결제 내역 조회 성공", payments);
+        logger.info("결제 내역 조회 요청 - userId: {}, cursor: {}, size: {}", currentUserId, cursor, size);
+        CursorPageResponse<PaymentDto> payments =
+                paymentService.getPaymentsPage(companyId, paymentStatus, from, to, cursor, size, isAscending(sort));
+        logger.info("결제 내역 조회 완료 - count: {}, hasNext: {}", payments.getContent().size(), payments.isHasNext());
+        return new ApiResponse<>(true, "결제 내역 조회 성공", payments);
+    }
+
+    /**
+     * 결제 내역 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    @Operation(summary = "결제 내역 수 조회", description = "SUPERADMIN 전용 필터 조건별 결제 내역 수 조회")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/payments/count")
+    public ApiResponse<Long> countPayments(
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(required = false) String paymentStatus,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        long count = paymentService.countPayments(companyId, paymentStatus, from, to);
+        return new ApiResponse<>(true, "결제 내역 수 조회 성공", count);
     }
     
     /**
@@ -336,6 +488,36 @@ public class SuperAdminController {
         }
     }
     
+    /**
+     * 일별 지출 집계 재생성 (SUPERADMIN 전용)
+     * companyId가 없으면 결의서가 있는 모든 회사를 회사별 트랜잭션으로 재생성합니다.
+     */
+    @Operation(summary = "일별 지출 집계 재생성", description = "SUPERADMIN 전용 대시보드 집계 테이블 재생성 (companyId 미지정 시 전체)")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @PostMapping("/rollups/rebuild")
+    public ApiResponse<Integer> rebuildExpenseRollups(@RequestParam(required = false) Long companyId) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        logger.info("일별 지출 집계 재생성 요청 - userId: {}, companyId: {}", currentUserId, companyId);
+        if (companyId != null) {
+            expenseRollupService.rebuildCompany(companyId);
+            return new ApiResponse<>(true, "지출 집계 재생성 완료", 1);
+        }
+        int rebuilt = expenseRollupService.rebuildAll();
+        return new ApiResponse<>(true, "지출 집계 재생성 완료", rebuilt);
+    }
+
+    /**
+     * 매퍼 문장 실행 통계 상위 N개 (SUPERADMIN 전용, 디버그용)
+     * 서버 기동 이후 이 서버에서 실행된 문장을 총 실행 시간 순으로 반환합니다.
+     */
+    @Operation(summary = "SQL 문장 실행 통계", description = "SUPERADMIN 전용 매퍼 문장별 총 실행 시간 상위 N개 (서버별, 기동 이후 누적)")
+    @PreAuthorize("hasRole('SUPERADMIN')")
+    @GetMapping("/debug/statements")
+    public ApiResponse<List<StatementStatsDto>> getTopStatements(@RequestParam(defaultValue = "20") int limit) {
+        List<StatementStatsDto> statements = mapperMetricsInterceptor.topStatements(Math.min(limit, MAX_STATEMENT_LIMIT));
+        return new ApiResponse<>(true, "SQL 문장 실행 통계 조회 성공", statements);
+    }
+
     @Data
     static class CompanyStatusRequest {
         private Boolean isActive;
@@ -7,7 +7,6 @@ import com.innersignature.backend.dto.UserSignatureDto;
 import com.innersignature.backend.exception.BusinessException;
 import com.innersignature.backend.security.JwtBlacklistService;
 import com.innersignature.backend.service.CompanyService;
-import com.innersignature.backend.service.EmailService;
 import com.innersignature.backend.service.PasswordResetService;
 import com.innersignature.backend.service.UserService;
 import com.innersignature.backend.service.UserSignatureService;
@@ -40,7 +39,6 @@ public class UserController {
     private final CompanyService companyService;
     private final JwtUtil jwtUtil;
     private final JwtBlacklistService jwtBlacklistService;
-    private final EmailService emailService;
     private final PasswordResetService passwordResetService;
     private final UserSignatureService userSignatureService;
 
@@ -703,11 +701,8 @@ public class UserController {
         try {
             UserDto user = userService.requestPasswordReset(request.getEmail());
             if (user != null) {
-                // 재설정 토큰 생성
-                String token = passwordResetService.generateResetToken(user.getUserId());
-                
-                // 이메일로 재설정 링크 발송
-                emailService.sendPasswordResetEmail(user.getEmail(), user.getKoreanName(), token);
+                // 재설정 토큰 생성 및 재설정 링크 메일 발송 요청 (발송은 백그라운드에서 처리)
+                passwordResetService.requestReset(user);
                 
                 Map<String, String> responseData = new HashMap<>();
                 responseData.put("message", "등록된 이메일로 비밀번호 재설정 링크를 발송했습니다.");
@@ -28,9 +28,15 @@ public class ApprovalLineDto {
     @Schema(description = "결재 일시", example = "2024-01-15T10:30:00")
     private LocalDateTime approvalDate; // 결재 일시
     
-    @Schema(description = "서명 데이터 (Base64)", example = "data:image/png;base64,iVBORw0KG...")
+    @Schema(description = "서명 데이터 (Base64, 승인 요청 시에만 사용)", example = "data:image/png;base64,iVBORw0KG...")
     @Size(max = 5000000, message = "서명 데이터는 5MB 이하여야 합니다.")
-    private String signatureData; // 서명 데이터 (Base64 Long Text)
+    private String signatureData; // 서명 데이터 (승인 요청용, 저장 시 서명 이미지 저장소로 이동)
+
+    @Schema(description = "서명 이미지 해시 (GET /api/signatures/{signatureHash}로 이미지 조회)", example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08")
+    private String signatureHash; // 서명 이미지 해시 (SHA-256)
+
+    @Schema(description = "서명 여부 (서명 이미지 저장소로 옮기지 않은 이전 서명 포함, 이 경우 signatureHash 없음)", example = "true")
+    private Boolean signed;       // 서명 여부
     
     @Schema(description = "반려 사유", example = "금액 확인 필요")
     @Size(max = 500, message = "반려 사유는 500자 이하여야 합니다.")
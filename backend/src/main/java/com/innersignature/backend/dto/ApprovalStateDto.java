@@ -0,0 +1,15 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+/**
+ * 결재 처리 전 상태 조회 결과 (결의서 상태/버전 + 현재 결재자의 결재 라인 상태)
+ */
+@Data
+public class ApprovalStateDto {
+    private Long expenseReportId;   // 지출결의서 ID
+    private String reportStatus;    // 결의서 상태
+    private Integer version;        // 결의서 버전 (낙관적 잠금)
+    private String lineStatus;      // 현재 결재자의 결재 라인 상태
+    private Integer pendingOthers;  // 다른 결재자의 미승인 결재 라인 수
+}
@@ -10,6 +10,7 @@ public class AuditLogDto {
     private Long ruleId;            // 규칙 ID
     private String severity;        // 심각도
     private String message;         // 감사 메시지
+    private String findingKey;      // 탐지 식별 키 (규칙 유형 + 대상, 저장 시 SHA-256으로 기록)
     private LocalDateTime detectedAt; // 탐지 일시
     private Boolean isResolved;     // 해결 여부
     private LocalDateTime resolvedAt; // 해결 일시
@@ -0,0 +1,26 @@
+package com.innersignature.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Schema(description = "일괄 결재(승인/반려) 요청")
+@Data
+public class BulkApprovalRequest {
+    public static final int MAX_SIZE = 500;
+
+    @Schema(description = "지출결의서 ID 목록", example = "[101, 102, 103]", required = true)
+    @NotEmpty(message = "결의서 ID 목록은 필수입니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 500건까지 처리할 수 있습니다.")
+    private List<Long> expenseReportIds;
+
+    @Schema(description = "승인 시 사용할 서명/도장 ID (미지정 시 기본 서명/도장)", example = "3")
+    private Long signatureId;
+
+    @Schema(description = "반려 사유 (반려 시)", example = "증빙 확인 필요")
+    @Size(max = 500, message = "반려 사유는 500자 이하여야 합니다.")
+    private String rejectionReason;
+}
@@ -0,0 +1,24 @@
+package com.innersignature.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "일괄 결재 결과 (결의서별)")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApprovalResultDto {
+    @Schema(description = "지출결의서 ID", example = "101")
+    private Long expenseReportId;
+
+    @Schema(description = "처리 성공 여부", example = "true")
+    private boolean success;
+
+    @Schema(description = "처리 후 결의서 상태 (실패 시 null)", example = "APPROVED")
+    private String reportStatus;
+
+    @Schema(description = "결과 메시지", example = "승인 완료")
+    private String message;
+}
@@ -0,0 +1,54 @@
+package com.innersignature.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * OFFSET 대신 마지막 항목의 ID 이후부터 조회하므로 뒤쪽 페이지도 조회 비용이 일정합니다.
+ */
+@Schema(description = "커서 기반 페이지 응답")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 500;
+
+    @Schema(description = "실제 데이터 리스트")
+    private List<T> content;        // 실제 데이터 리스트
+
+    @Schema(description = "페이지 크기", example = "50")
+    private int size;               // 페이지 크기
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 항목 ID, 다음 페이지가 없으면 null)", example = "1024")
+    private Long nextCursor;        // 다음 페이지 커서
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;        // 다음 페이지 존재 여부
+
+    /**
+     * 페이지 크기 보정 (미지정 시 기본값, 최대 MAX_SIZE)
+     */
+    public static int normalizeSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(size, MAX_SIZE);
+    }
+
+    /**
+     * size + 1건으로 조회한 결과로 페이지 응답 생성 (초과분 1건은 다음 페이지 존재 여부 판단용)
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, Long> idGetter) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? idGetter.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, size, nextCursor, hasNext);
+    }
+}
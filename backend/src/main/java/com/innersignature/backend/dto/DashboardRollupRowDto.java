@@ -0,0 +1,24 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+/**
+ * 대시보드 통합 조회 행 DTO (ExpenseRollupMapper.selectDashboardRows)
+ * kind에 따라 사용하는 컬럼이 다릅니다.
+ *  - REPORT: 월/상태/작성자별 결의서 집계 (yearMonth, status, userId, itemCount, totalAmount, maxAmount, minAmount)
+ *  - CATEGORY: 승인 건 카테고리별 금액 (category, totalAmount)
+ *  - USER: 회사 사용자 목록 (userId, userName)
+ */
+@Data
+public class DashboardRollupRowDto {
+    private String kind;           // 행 종류 (REPORT, CATEGORY, USER)
+    private String yearMonth;      // 년월 (예: "2024-01")
+    private String status;         // 결의서 상태
+    private Long userId;           // 작성자/사용자 ID
+    private String userName;       // 사용자 이름
+    private String category;       // 카테고리명
+    private Long itemCount;        // 건수
+    private Long totalAmount;      // 금액 합계
+    private Long maxAmount;        // 최대 금액
+    private Long minAmount;        // 최소 금액
+}
@@ -0,0 +1,27 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이메일 발송 대기열(outbox) 항목
+ * 업무 트랜잭션 안에서 저장하고, EmailOutboxService가 별도로 묶어서 발송합니다.
+ */
+@Data
+public class EmailOutboxDto {
+    private Long outboxId;              // PK
+    private String emailType;           // 이메일 종류 (SUBSCRIPTION_EXPIRING 등)
+    private String dedupKey;            // 중복 발송 방지 키 (같은 키는 한 번만 저장)
+    private Long companyId;             // 회사 ID (없으면 NULL)
+    private String recipient;           // 수신자 이메일
+    private String subject;             // 제목
+    private String body;                // 본문 (텍스트)
+    private Boolean isSensitive;        // 본문에 계정 정보 포함 여부 (발송 완료/최종 실패 시 본문 삭제)
+    private String status;              // PENDING, SENT, FAILED
+    private Integer attemptCount;       // 발송 시도 횟수
+    private LocalDateTime nextAttemptAt; // 다음 발송 가능 시간 (재시도 대기)
+    private String lastError;           // 마지막 발송 오류
+    private LocalDateTime createdAt;    // 생성 시간
+    private LocalDateTime sentAt;       // 발송 완료 시간
+}
@@ -0,0 +1,29 @@
+package com.innersignature.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 대시보드 통합 DTO
+ * 대시보드 위젯(요약, 월별 추이, 상태별, 사용자별, 카테고리별)을 한 번에 반환합니다.
+ */
+@Schema(description = "대시보드 통합 통계")
+@Data
+public class ExpenseDashboardDto {
+    @Schema(description = "전체 요약 통계")
+    private DashboardStatsDto stats;                  // 전체 요약 통계
+
+    @Schema(description = "월별 지출 추이")
+    private List<MonthlyTrendDto> monthlyTrend;       // 월별 지출 추이
+
+    @Schema(description = "상태별 통계")
+    private List<StatusStatsDto> statusStats;         // 상태별 통계
+
+    @Schema(description = "사용자별 지출 통계")
+    private List<UserExpenseStatsDto> userStats;      // 사용자별 지출 통계
+
+    @Schema(description = "카테고리별 비율")
+    private List<CategoryRatioDto> categoryRatio;     // 카테고리별 비율
+}
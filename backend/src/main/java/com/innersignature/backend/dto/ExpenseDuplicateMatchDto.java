@@ -0,0 +1,19 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 중복 결제 탐지 인덱스 조회 결과
+ */
+@Data
+public class ExpenseDuplicateMatchDto {
+    private Long expenseReportId;   // 지출결의서 ID
+    private Long expenseDetailId;   // 상세 항목 ID
+    private Long drafterId;         // 작성자 ID
+    private LocalDate expenseDate;  // 사용 일자 (작성 일자)
+    private String merchantKey;     // 정규화된 가맹점명
+    private Long amount;            // 금액
+    private String cardHash;        // 카드번호(암호문) SHA-256
+}
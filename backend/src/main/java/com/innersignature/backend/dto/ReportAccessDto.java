@@ -0,0 +1,20 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+/**
+ * 결의서 접근 권한 확인용 조회 결과
+ * 권한 판단에 필요한 값만 담으며, 실제 조회가 뒤따르는 권한 검사에서 전체 결의서/결재 라인 대신 사용합니다.
+ */
+@Data
+public class ReportAccessDto {
+    private Long expenseReportId;   // 지출결의서 ID
+    private Long drafterId;         // 작성자 ID
+    private String status;          // 결의서 상태
+    private boolean approver;       // 조회자가 결재 라인에 포함되어 있는지 여부
+    private boolean salary;         // 급여 카테고리 상세 항목 포함 여부
+
+    public boolean isDrafter(Long userId) {
+        return userId != null && userId.equals(drafterId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 실행 기록 (노드별 실행 단위 처리 건수/소요 시간)
+ */
+@Data
+public class SchedulerRunDto {
+    private Long runId;                 // PK
+    private String jobName;             // 작업 이름
+    private String nodeId;              // 실행 노드 (호스트명@PID)
+    private String claimOwner;          // 이번 실행의 선점 식별자
+    private Integer chunkCount;         // 처리한 묶음 수
+    private Integer claimedCount;       // 선점한 건수
+    private Integer succeededCount;     // 성공 건수
+    private Integer failedCount;        // 실패 건수
+    private Long durationMs;            // 소요 시간 (ms)
+    private LocalDateTime startedAt;    // 시작 시간
+    private LocalDateTime finishedAt;   // 종료 시간
+}
@@ -0,0 +1,15 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+/**
+ * 서명 이미지 저장소 항목 (이미지 바이트의 SHA-256으로 식별)
+ */
+@Data
+public class SignatureImageDto {
+    private Long companyId;         // 회사 ID
+    private String signatureHash;   // 이미지 SHA-256 (hex)
+    private String contentType;     // 이미지 MIME 타입
+    private byte[] imageData;       // 이미지 바이트
+    private Integer byteSize;       // 이미지 크기 (bytes)
+}
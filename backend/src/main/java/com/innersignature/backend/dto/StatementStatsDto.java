@@ -0,0 +1,19 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+/**
+ * 매퍼 문장별 누적 실행 통계 (서버 기동 이후, 서버별)
+ */
+@Data
+public class StatementStatsDto {
+    private String statementId;     // 문장 ID (매퍼 인터페이스.메서드)
+    private long count;             // 실행 횟수
+    private long errorCount;        // 실패 횟수
+    private long slowCount;         // 느린 문장 기준 초과 횟수
+    private double totalMs;         // 총 실행 시간
+    private double avgMs;           // 평균 실행 시간
+    private double maxMs;           // 최대 실행 시간
+    private long totalRows;         // 조회 행 수 합계 (조회 문장만)
+    private long maxRows;           // 1회 최대 조회 행 수
+}
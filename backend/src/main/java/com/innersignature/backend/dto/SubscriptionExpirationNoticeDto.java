@@ -0,0 +1,21 @@
+package com.innersignature.backend.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 구독 만료 예정 안내 대상 (구독 1건 × 회사 관리자 1명)
+ */
+@Data
+public class SubscriptionExpirationNoticeDto {
+    private Long subscriptionId;    // 구독 ID
+    private Long companyId;         // 회사 ID
+    private String companyName;     // 회사명
+    private String planName;        // 플랜 이름
+    private LocalDate endDate;      // 만료일
+    private Boolean autoRenew;      // 자동 갱신 여부
+    private Long userId;            // 수신자 사용자 ID
+    private String email;           // 수신자 이메일
+    private String koreanName;      // 수신자 이름
+}
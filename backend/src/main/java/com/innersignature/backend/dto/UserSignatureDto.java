@@ -1,5 +1,6 @@
 package com.innersignature.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
@@ -22,7 +23,16 @@ public class UserSignatureDto {
     
     @NotBlank(message = "서명/도장 데이터는 필수입니다.")
     @Size(max = 5000000, message = "서명 데이터는 5MB 이하여야 합니다.")
-    private String signatureData;    // Base64 이미지 데이터
+    private String signatureData;    // Base64 이미지 데이터 (요청: 업로드 이미지, 응답: 정규화된 이미지의 data URL)
+    
+    @JsonIgnore
+    private byte[] imageData;        // 정규화된 이미지 바이트 (저장용)
+    
+    @JsonIgnore
+    private String contentType;      // 저장된 이미지 MIME 타입
+    
+    @JsonIgnore
+    private byte[] originalData;     // 업로드 원본 이미지 (signature.image.keep-original 설정 시에만 저장)
     
     private Boolean isDefault;      // 기본 서명/도장 여부
     
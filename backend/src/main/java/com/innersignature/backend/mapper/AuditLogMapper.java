@@ -46,6 +46,11 @@ public interface AuditLogMapper {
      */
     int insert(AuditLogDto log);
     
+    /**
+     * 감사 로그 일괄 저장 (결의서/규칙/탐지 키가 같은 로그가 있으면 새로 기록하지 않고 메시지만 갱신)
+     */
+    int upsertBatch(@Param("logs") List<AuditLogDto> logs);
+    
     /**
      * 감사 로그 해결 처리
      */
@@ -43,5 +43,22 @@ public interface CompanyMapper {
     
     // 전체 회사 목록 조회 (SUPERADMIN 전용)
     List<CompanyDto> findAll();
+
+    // 회사 선택 목록 조회 (ID, 코드, 회사명만, SUPERADMIN 필터용)
+    List<CompanyDto> findLookup();
+
+    // 회사 목록 커서 페이지 조회 (SUPERADMIN 전용, limit은 페이지 크기 + 1)
+    List<CompanyDto> findPage(@Param("search") String search,
+                              @Param("isActive") Boolean isActive,
+                              @Param("cursor") Long cursor,
+                              @Param("sortAsc") boolean sortAsc,
+                              @Param("limit") int limit);
+
+    // 회사 목록 필터 조건별 개수 조회 (SUPERADMIN 전용)
+    long countForSuperAdmin(@Param("search") String search,
+                            @Param("isActive") Boolean isActive);
+
+    // 회사 수 조회 (isActive가 null이면 전체, SUPERADMIN 리포트용)
+    long countCompanies(@Param("isActive") Boolean isActive);
 }
 
@@ -0,0 +1,40 @@
+package com.innersignature.backend.mapper;
+
+import com.innersignature.backend.dto.EmailOutboxDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface EmailOutboxMapper {
+    // 발송 대기열 저장 (dedup_key가 이미 있으면 건너뜀, 새로 저장한 건수 반환)
+    int insertIgnoreDuplicates(@Param("emails") List<EmailOutboxDto> emails);
+
+    // 발송할 항목 선점 (발송 시간이 된 PENDING 중 다른 노드가 선점하지 않은 항목, 선점 건수 반환)
+    int claimBatch(@Param("claimOwner") String claimOwner,
+                   @Param("leaseSeconds") int leaseSeconds,
+                   @Param("limit") int limit);
+
+    // 선점한 항목 조회
+    List<EmailOutboxDto> findClaimed(@Param("claimOwner") String claimOwner);
+
+    // 발송 완료 처리
+    int markSent(@Param("outboxIds") List<Long> outboxIds, @Param("claimOwner") String claimOwner);
+
+    // 발송 실패 처리 (재시도 대기 또는 최종 실패)
+    int markAttemptFailed(@Param("outboxId") Long outboxId,
+                          @Param("claimOwner") String claimOwner,
+                          @Param("status") String status,
+                          @Param("delaySeconds") long delaySeconds,
+                          @Param("lastError") String lastError);
+
+    // SMTP 장애로 발송하지 못한 선점 항목을 시도 횟수 증가 없이 미룸
+    int deferClaimed(@Param("outboxIds") List<Long> outboxIds,
+                     @Param("claimOwner") String claimOwner,
+                     @Param("delaySeconds") long delaySeconds,
+                     @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 발송 완료/최종 실패 항목 삭제 (최대 limit건, 삭제 건수 반환)
+    int deleteFinishedBefore(@Param("retentionDays") int retentionDays, @Param("limit") int limit);
+}
@@ -0,0 +1,51 @@
+package com.innersignature.backend.mapper;
+
+import com.innersignature.backend.dto.ExpenseDuplicateMatchDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 타 결의서 중복 결제 탐지 인덱스 매퍼
+ * 조회 키 해시 계산은 매퍼 XML(matchHash)에서만 수행합니다.
+ */
+@Mapper
+public interface ExpenseDuplicateIndexMapper {
+    /**
+     * 결의서들의 인덱스 삭제
+     */
+    int deleteByReportIds(@Param("companyId") Long companyId,
+                          @Param("expenseReportIds") Collection<Long> expenseReportIds);
+
+    /**
+     * 결의서들의 인덱스 생성 (임시저장/반려 결의서, 가맹점명 없는 항목 제외)
+     */
+    int insertForReports(@Param("companyId") Long companyId,
+                         @Param("expenseReportIds") Collection<Long> expenseReportIds);
+
+    /**
+     * 기간 내 결의서 인덱스 삭제 (재생성용)
+     */
+    int deleteByDateRange(@Param("companyId") Long companyId,
+                          @Param("startDate") LocalDate startDate,
+                          @Param("endDate") LocalDate endDate);
+
+    /**
+     * 기간 내 결의서 인덱스 생성 (재생성용)
+     */
+    int insertForDateRange(@Param("companyId") Long companyId,
+                           @Param("startDate") LocalDate startDate,
+                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 조회 키로 이전 결의서의 인덱스 항목 조회
+     * @param probes 조회 키 목록 (merchantName, amount, bucket)
+     * @param expenseReportId 기준 결의서 ID (이보다 먼저 생성된 결의서만 조회)
+     */
+    List<ExpenseDuplicateMatchDto> selectMatches(@Param("companyId") Long companyId,
+                                                 @Param("probes") Collection<?> probes,
+                                                 @Param("expenseReportId") Long expenseReportId);
+}
@@ -1,6 +1,7 @@
 package com.innersignature.backend.mapper;
 
 import com.innersignature.backend.dto.ApprovalLineDto;
+import com.innersignature.backend.dto.ApprovalStateDto;
 import com.innersignature.backend.dto.CategoryRatioDto;
 import com.innersignature.backend.dto.DashboardStatsDto;
 import com.innersignature.backend.dto.ExpenseDetailDto;
@@ -9,14 +10,17 @@ import com.innersignature.backend.dto.MonthlyTaxSummaryDto;
 import com.innersignature.backend.dto.MonthlyTrendDto;
 import com.innersignature.backend.dto.PaymentMethodSummaryDto;
 import com.innersignature.backend.dto.ReceiptDto;
+import com.innersignature.backend.dto.ReportAccessDto;
 import com.innersignature.backend.dto.StatusStatsDto;
 import com.innersignature.backend.dto.TaxStatusDto;
 import com.innersignature.backend.dto.UserExpenseStatsDto;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper // 스프링이 "이건 DB 연결 파일이야"라고 인식하게 함
@@ -75,6 +79,11 @@ public interface ExpenseMapper {
     // 2. 상세 조회 (메인): 문서 1건의 기본 정보를 가져옵니다.
     ExpenseReportDto selectExpenseReportById(@Param("expenseReportId") Long expenseReportId, @Param("companyId") Long companyId);
 
+    // 2-1. 권한 확인용 조회: 작성자/상태와 조회자의 결재 라인 포함 여부, 급여 항목 포함 여부만 가져옵니다.
+    ReportAccessDto selectReportAccess(@Param("expenseReportId") Long expenseReportId,
+                                       @Param("userId") Long userId,
+                                       @Param("companyId") Long companyId);
+
     // 3. 상세 조회 (지출 내역): 문서에 딸린 지출 항목들을 가져옵니다.
     List<ExpenseDetailDto> selectExpenseDetails(@Param("expenseReportId") Long expenseReportId, @Param("companyId") Long companyId);
 
@@ -84,16 +93,57 @@ public interface ExpenseMapper {
     // 4. 상세 조회 (결재 라인): 문서에 딸린 결재/서명 정보를 가져옵니다.
     List<ApprovalLineDto> selectApprovalLines(@Param("expenseReportId") Long expenseReportId, @Param("companyId") Long companyId);
 
-    void updateApprovalLine(@Param("approvalLineDto") ApprovalLineDto approvalLineDto, @Param("companyId") Long companyId);
-
-    // 결재 반려 처리
-    void rejectApprovalLine(@Param("approvalLineDto") ApprovalLineDto approvalLineDto, @Param("companyId") Long companyId);
+    // 결재 처리 전 상태 조회 (결의서 상태/버전, 본인 결재 라인 상태, 다른 결재자의 미승인 라인 수)
+    ApprovalStateDto selectApprovalState(@Param("expenseReportId") Long expenseReportId,
+                                         @Param("approverId") Long approverId,
+                                         @Param("companyId") Long companyId);
+
+    // 결재 승인 처리: 본인 결재 라인 승인 + (남은 미승인 라인이 없으면) 결의서 APPROVED, 버전이 일치할 때만 반영
+    int approveLineAndReport(@Param("expenseReportId") Long expenseReportId,
+                             @Param("approverId") Long approverId,
+                             @Param("signatureHash") String signatureHash,
+                             @Param("version") Integer version,
+                             @Param("companyId") Long companyId);
+
+    // 결재 반려 처리: 본인 결재 라인 반려 + 결의서 REJECTED, 버전이 일치할 때만 반영
+    int rejectLineAndReport(@Param("expenseReportId") Long expenseReportId,
+                            @Param("approverId") Long approverId,
+                            @Param("rejectionReason") String rejectionReason,
+                            @Param("version") Integer version,
+                            @Param("companyId") Long companyId);
+
+    // 결재 처리 전 결의서 행 잠금 (결의서 ID 순서, 같은 결의서의 결재 처리 직렬화)
+    List<Long> lockExpenseReports(@Param("expenseReportIds") Collection<Long> expenseReportIds,
+                                  @Param("companyId") Long companyId);
+
+    // 일괄 결재용 상태 조회 (결의서별 1건, selectApprovalState와 같은 항목)
+    List<ApprovalStateDto> selectApprovalStates(@Param("expenseReportIds") Collection<Long> expenseReportIds,
+                                                @Param("approverId") Long approverId,
+                                                @Param("companyId") Long companyId);
+
+    // 일괄 승인: 조회 시점 버전이 그대로인 결의서만 approveLineAndReport와 같은 조건으로 한 번에 반영
+    int approveLinesAndReports(@Param("states") List<ApprovalStateDto> states,
+                               @Param("approverId") Long approverId,
+                               @Param("signatureHash") String signatureHash,
+                               @Param("companyId") Long companyId);
+
+    // 일괄 반려: 조회 시점 버전이 그대로인 결의서만 rejectLineAndReport와 같은 조건으로 한 번에 반영
+    int rejectLinesAndReports(@Param("states") List<ApprovalStateDto> states,
+                              @Param("approverId") Long approverId,
+                              @Param("rejectionReason") String rejectionReason,
+                              @Param("companyId") Long companyId);
 
-    // 결재 취소 처리 (APPROVED -> WAIT)
-    void cancelApprovalLine(@Param("approvalLineDto") ApprovalLineDto approvalLineDto, @Param("companyId") Long companyId);
+    // 결재 취소 처리: 본인 결재 라인 APPROVED -> WAIT + 결의서 WAIT, 버전이 일치하고 승인 완료 전일 때만 반영
+    int cancelApprovalLineAndReport(@Param("expenseReportId") Long expenseReportId,
+                                    @Param("approverId") Long approverId,
+                                    @Param("version") Integer version,
+                                    @Param("companyId") Long companyId);
 
-    // 반려 취소 처리 (REJECTED -> WAIT)
-    void cancelRejectionLine(@Param("approvalLineDto") ApprovalLineDto approvalLineDto, @Param("companyId") Long companyId);
+    // 반려 취소 처리: 본인 결재 라인 REJECTED -> WAIT + 결의서 WAIT, 조건은 결재 취소와 동일
+    int cancelRejectionLineAndReport(@Param("expenseReportId") Long expenseReportId,
+                                     @Param("approverId") Long approverId,
+                                     @Param("version") Integer version,
+                                     @Param("companyId") Long companyId);
 
     // 문서 상태 업데이트
     void updateExpenseReportStatus(@Param("expenseReportId") Long expenseReportId, @Param("status") String status, @Param("companyId") Long companyId);
@@ -193,6 +243,14 @@ public interface ExpenseMapper {
     // 영수증 조회 (단건)
     ReceiptDto selectReceiptById(@Param("receiptId") Long receiptId, @Param("companyId") Long companyId);
 
+    // 영수증 일괄 조회 (조회 권한이 있는 영수증만 반환)
+    // canViewAll=true(세무사/회계/관리자)이면 회사 내 전체, 아니면 작성자 또는 결재 라인 포함자만
+    List<ReceiptDto> selectViewableReceiptsByIds(
+            @Param("receiptIds") List<Long> receiptIds,
+            @Param("userId") Long userId,
+            @Param("canViewAll") boolean canViewAll,
+            @Param("companyId") Long companyId);
+
     // 영수증의 expense_detail_id 업데이트
     void updateReceiptDetailId(@Param("receiptId") Long receiptId, @Param("expenseDetailId") Long expenseDetailId, @Param("companyId") Long companyId);
 
@@ -221,6 +279,16 @@ public interface ExpenseMapper {
     // 상세 항목 ID로 지출결의서 ID 조회
     Long selectExpenseReportIdByDetailId(@Param("expenseDetailId") Long expenseDetailId, @Param("companyId") Long companyId);
 
+    // 기간 내 감사 대상 결의서 수 (재감사 진행률용, 임시저장/반려 제외)
+    long countReportsForAudit(@Param("companyId") Long companyId,
+                              @Param("startDate") LocalDate startDate,
+                              @Param("endDate") LocalDate endDate);
+
+    // 기간 내 감사 대상 결의서 + 상세 항목 스트리밍 조회 (재감사용, 결의서 ID 순, 트랜잭션 안에서 사용)
+    Cursor<ExpenseReportDto> streamReportsForAudit(@Param("companyId") Long companyId,
+                                                   @Param("startDate") LocalDate startDate,
+                                                   @Param("endDate") LocalDate endDate);
+
     // 대시보드 통계 조회
     DashboardStatsDto selectDashboardStats(
             @Param("startDate") LocalDate startDate,
@@ -0,0 +1,120 @@
+package com.innersignature.backend.mapper;
+
+import com.innersignature.backend.dto.CategoryRatioDto;
+import com.innersignature.backend.dto.DashboardRollupRowDto;
+import com.innersignature.backend.dto.DashboardStatsDto;
+import com.innersignature.backend.dto.MonthlyTrendDto;
+import com.innersignature.backend.dto.StatusStatsDto;
+import com.innersignature.backend.dto.UserExpenseStatsDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 일별 지출 집계(rollup) 매퍼
+ * reportDates가 null이면 회사 전체 기간을 대상으로 합니다. (재생성용)
+ */
+@Mapper
+public interface ExpenseRollupMapper {
+    /**
+     * 결의서들의 작성 일자 조회 (집계 갱신 대상 일자 수집용)
+     */
+    List<LocalDate> selectReportDates(@Param("companyId") Long companyId,
+                                      @Param("expenseReportIds") Collection<Long> expenseReportIds);
+
+    /**
+     * 집계 대상 회사 목록 조회 (전체 재생성용)
+     */
+    List<Long> selectCompanyIdsWithReports();
+
+    /**
+     * 회사의 결의서 작성 일자 전체 조회 (재생성용, 오름차순)
+     */
+    List<LocalDate> selectAllReportDates(@Param("companyId") Long companyId);
+
+    /**
+     * (회사, 일자) 단위 집계 갱신 잠금 (잠금 행이 없으면 만들고 배타 잠금, 트랜잭션 종료 시 해제)
+     * 교착 상태를 피하려면 reportDates를 오름차순으로 전달해야 합니다.
+     */
+    int lockRollupDays(@Param("companyId") Long companyId,
+                       @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * 결의서가 더 이상 없는 일자의 일별 결의서 집계 삭제 (재생성용)
+     */
+    int deleteOrphanDailyRollups(@Param("companyId") Long companyId);
+
+    /**
+     * 결의서가 더 이상 없는 일자의 일별 카테고리 집계 삭제 (재생성용)
+     */
+    int deleteOrphanCategoryRollups(@Param("companyId") Long companyId);
+
+    /**
+     * 일별 결의서 집계 삭제
+     */
+    int deleteDailyRollups(@Param("companyId") Long companyId,
+                           @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * 일별 결의서 집계 생성 (원본 테이블에서 다시 계산)
+     */
+    int insertDailyRollups(@Param("companyId") Long companyId,
+                           @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * 일별 카테고리 집계 삭제
+     */
+    int deleteCategoryRollups(@Param("companyId") Long companyId,
+                              @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * 일별 카테고리 집계 생성 (원본 테이블에서 다시 계산)
+     */
+    int insertCategoryRollups(@Param("companyId") Long companyId,
+                              @Param("reportDates") Collection<LocalDate> reportDates);
+
+    /**
+     * 대시보드 전체 요약 통계 조회
+     */
+    DashboardStatsDto selectDashboardStats(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate,
+                                           @Param("companyId") Long companyId);
+
+    /**
+     * 월별 지출 추이 조회
+     */
+    List<MonthlyTrendDto> selectMonthlyTrend(@Param("startDate") LocalDate startDate,
+                                             @Param("endDate") LocalDate endDate,
+                                             @Param("companyId") Long companyId);
+
+    /**
+     * 상태별 통계 조회
+     */
+    List<StatusStatsDto> selectStatusStats(@Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate,
+                                           @Param("companyId") Long companyId);
+
+    /**
+     * 사용자별 지출 합계 조회
+     */
+    List<UserExpenseStatsDto> selectUserExpenseStats(@Param("companyId") Long companyId,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * 카테고리별 금액 조회
+     */
+    List<CategoryRatioDto> selectCategoryRatio(@Param("startDate") LocalDate startDate,
+                                               @Param("endDate") LocalDate endDate,
+                                               @Param("companyId") Long companyId);
+
+    /**
+     * 대시보드 통합 조회 (결의서 집계, 카테고리 집계, 사용자 목록을 한 번에 조회)
+     */
+    List<DashboardRollupRowDto> selectDashboardRows(@Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate,
+                                                    @Param("companyId") Long companyId);
+}
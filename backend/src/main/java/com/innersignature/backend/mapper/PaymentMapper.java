@@ -1,9 +1,11 @@
 package com.innersignature.backend.mapper;
 
 import com.innersignature.backend.dto.PaymentDto;
+import com.innersignature.backend.service.AdminReportService;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Mapper
@@ -26,5 +28,28 @@ public interface PaymentMapper {
     
     // 전체 결제 내역 조회 (SUPERADMIN 전용)
     List<PaymentDto> findAll();
+
+    // 결제 내역 커서 페이지 조회 (SUPERADMIN 전용, limit은 페이지 크기 + 1)
+    List<PaymentDto> findPage(@Param("companyId") Long companyId,
+                              @Param("paymentStatus") String paymentStatus,
+                              @Param("fromDate") LocalDate fromDate,
+                              @Param("toDate") LocalDate toDate,
+                              @Param("cursor") Long cursor,
+                              @Param("sortAsc") boolean sortAsc,
+                              @Param("limit") int limit);
+
+    // 결제 내역 필터 조건별 개수 조회 (SUPERADMIN 전용)
+    long countForSuperAdmin(@Param("companyId") Long companyId,
+                            @Param("paymentStatus") String paymentStatus,
+                            @Param("fromDate") LocalDate fromDate,
+                            @Param("toDate") LocalDate toDate);
+
+    // 기간 내 완료된 결제 금액 합계 (toDate가 null이면 상한 없음, SUPERADMIN 리포트용)
+    long sumCompletedAmount(@Param("fromDate") LocalDate fromDate,
+                            @Param("toDate") LocalDate toDate);
+
+    // 날짜별 완료된 결제 금액 합계 (SUPERADMIN 리포트용)
+    List<AdminReportService.RevenueTrendDto> selectRevenueTrend(@Param("fromDate") LocalDate fromDate,
+                                                                @Param("toDate") LocalDate toDate);
 }
 
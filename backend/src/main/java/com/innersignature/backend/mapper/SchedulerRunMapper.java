@@ -0,0 +1,10 @@
+package com.innersignature.backend.mapper;
+
+import com.innersignature.backend.dto.SchedulerRunDto;
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface SchedulerRunMapper {
+    // 스케줄러 실행 기록 저장
+    int insert(SchedulerRunDto schedulerRun);
+}
@@ -0,0 +1,14 @@
+package com.innersignature.backend.mapper;
+
+import com.innersignature.backend.dto.SignatureImageDto;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SignatureImageMapper {
+    // 서명 이미지 저장 (같은 해시가 이미 있으면 그대로 둠)
+    int insertIfAbsent(SignatureImageDto signatureImage);
+
+    // 해시로 서명 이미지 조회
+    SignatureImageDto selectByHash(@Param("signatureHash") String signatureHash, @Param("companyId") Long companyId);
+}
@@ -1,6 +1,7 @@
 package com.innersignature.backend.mapper;
 
 import com.innersignature.backend.dto.SubscriptionDto;
+import com.innersignature.backend.dto.SubscriptionExpirationNoticeDto;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -36,10 +37,56 @@ public interface SubscriptionMapper {
     List<SubscriptionDto> findExpiringSoon(@Param("currentDate") LocalDate currentDate, 
                                           @Param("days") int days);
     
+    // 만료 예정 안내 대상 조회 (만료일이 기준일 + minDays ~ maxDays인 활성 구독 × 회사 관리자/CEO)
+    List<SubscriptionExpirationNoticeDto> findExpirationNoticeTargets(@Param("currentDate") LocalDate currentDate,
+                                                                      @Param("minDays") int minDays,
+                                                                      @Param("maxDays") int maxDays);
+    
     // 대기 중인 플랜 변경이 예정된 구독 조회 (스케줄러용)
     List<SubscriptionDto> findPendingPlanChanges(@Param("currentDate") LocalDate currentDate);
     
+    // 만료 처리 대상 구독 선점 (스케줄러용, 다른 노드가 선점 중인 구독은 제외, 선점 건수 반환)
+    int claimExpiredSubscriptions(@Param("currentDate") LocalDate currentDate,
+                                  @Param("claimOwner") String claimOwner,
+                                  @Param("leaseSeconds") int leaseSeconds,
+                                  @Param("limit") int limit);
+
+    // 플랜 변경 대상 구독 선점 (스케줄러용)
+    int claimPendingPlanChanges(@Param("currentDate") LocalDate currentDate,
+                                @Param("claimOwner") String claimOwner,
+                                @Param("leaseSeconds") int leaseSeconds,
+                                @Param("limit") int limit);
+
+    // 선점한 구독 ID 조회
+    List<Long> findClaimedSubscriptionIds(@Param("claimOwner") String claimOwner);
+
+    // 활성 구독만 만료 상태로 변경 (이미 처리된 구독이면 0 반환)
+    int expireIfActive(@Param("subscriptionId") Long subscriptionId,
+                       @Param("companyId") Long companyId);
+
+    // 예정된 플랜으로 전환 (예정 플랜이 그대로인 활성 구독만, 이미 전환되었으면 0 반환)
+    int applyPendingPlan(@Param("subscriptionId") Long subscriptionId,
+                         @Param("pendingPlanId") Long pendingPlanId,
+                         @Param("startDate") LocalDate startDate,
+                         @Param("endDate") LocalDate endDate);
+
     // 전체 구독 목록 조회 (SUPERADMIN 전용)
     List<SubscriptionDto> findAll();
+
+    // 구독 목록 커서 페이지 조회 (SUPERADMIN 전용, limit은 페이지 크기 + 1)
+    List<SubscriptionDto> findPage(@Param("companyId") Long companyId,
+                                   @Param("status") String status,
+                                   @Param("planName") String planName,
+                                   @Param("cursor") Long cursor,
+                                   @Param("sortAsc") boolean sortAsc,
+                                   @Param("limit") int limit);
+
+    // 구독 목록 필터 조건별 개수 조회 (SUPERADMIN 전용)
+    long countForSuperAdmin(@Param("companyId") Long companyId,
+                            @Param("status") String status,
+                            @Param("planName") String planName);
+
+    // 상태별 구독 수 조회 (SUPERADMIN 리포트용)
+    long countByStatus(@Param("status") String status);
 }
 
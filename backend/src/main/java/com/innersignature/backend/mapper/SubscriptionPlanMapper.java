@@ -10,6 +10,9 @@ import java.util.List;
 public interface SubscriptionPlanMapper {
     // 모든 활성 플랜 조회
     List<SubscriptionPlanDto> findAllActive();
+
+    // 비활성 플랜을 포함한 전체 플랜 조회 (SUPERADMIN 필터용)
+    List<SubscriptionPlanDto> findAll();
     
     // 플랜 ID로 조회
     SubscriptionPlanDto findById(@Param("planId") Long planId);
@@ -106,6 +106,24 @@ public interface UserMapper {
     // 회사별 사용자 수 조회
     int countUsersByCompanyId(@Param("companyId") Long companyId);
     
+    // 사용자 수 조회 (isActive가 null이면 전체, SUPERADMIN 리포트용)
+    long countUsers(@Param("isActive") Boolean isActive);
+    
+    // 사용자 목록 커서 페이지 조회 (SUPERADMIN 전용, limit은 페이지 크기 + 1)
+    List<UserDto> selectUsersPage(@Param("search") String search,
+                                  @Param("role") String role,
+                                  @Param("isActive") Boolean isActive,
+                                  @Param("companyId") Long companyId,
+                                  @Param("cursor") Long cursor,
+                                  @Param("sortAsc") boolean sortAsc,
+                                  @Param("limit") int limit);
+    
+    // 사용자 목록 필터 조건별 개수 조회 (SUPERADMIN 전용)
+    long countUsersForSuperAdmin(@Param("search") String search,
+                                 @Param("role") String role,
+                                 @Param("isActive") Boolean isActive,
+                                 @Param("companyId") Long companyId);
+    
     // 사용자 가입 추이 조회 (날짜별 집계)
     List<com.innersignature.backend.service.AdminReportService.UserSignupTrendDto> selectUserSignupTrend(
         @Param("fromDate") java.time.LocalDate fromDate, 
@@ -0,0 +1,40 @@
+package com.innersignature.backend.scheduler;
+
+import com.innersignature.backend.service.EmailOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이메일 발송 대기열 발송 스케줄러
+ * 이전 실행이 끝난 뒤 일정 간격으로 대기열을 확인합니다. (여러 서버에서 실행되어도 항목 단위로 나눠 발송)
+ * 매일 한 번 보관 기간이 지난 발송 완료/최종 실패 항목을 삭제합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxScheduler.class);
+    private final EmailOutboxService emailOutboxService;
+
+    @Scheduled(initialDelayString = "${email.outbox.initial-delay-ms:30000}",
+               fixedDelayString = "${email.outbox.poll-interval-ms:5000}")
+    public void dispatchOutbox() {
+        try {
+            emailOutboxService.dispatch();
+        } catch (Exception e) {
+            logger.error("이메일 발송 대기열 처리 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 30 3 * * ?}")
+    public void purgeOutbox() {
+        try {
+            emailOutboxService.purgeFinished();
+        } catch (Exception e) {
+            logger.error("이메일 발송 대기열 정리 중 오류 발생", e);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.innersignature.backend.security;
 
 import com.innersignature.backend.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -43,9 +46,29 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final JwtBlacklistService jwtBlacklistService;
 
-    public RateLimitFilter(JwtUtil jwtUtil, JwtBlacklistService jwtBlacklistService) {
+    // 제한 판정 결과 (ratelimit.decisions: key_type=user/ip, outcome=allowed/rejected)
+    private final Counter userAllowed;
+    private final Counter userRejected;
+    private final Counter ipAllowed;
+    private final Counter ipRejected;
+
+    public RateLimitFilter(JwtUtil jwtUtil, JwtBlacklistService jwtBlacklistService, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
         this.jwtBlacklistService = jwtBlacklistService;
+        this.userAllowed = decisionCounter(meterRegistry, "user", "allowed");
+        this.userRejected = decisionCounter(meterRegistry, "user", "rejected");
+        this.ipAllowed = decisionCounter(meterRegistry, "ip", "allowed");
+        this.ipRejected = decisionCounter(meterRegistry, "ip", "rejected");
+        Gauge.builder("ratelimit.tracked.keys", requestCounters, Map::size)
+                .description("요청 카운터를 보관 중인 IP/사용자 키 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String keyType, String outcome) {
+        return Counter.builder("ratelimit.decisions")
+                .tag("key_type", keyType)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     @Override
@@ -84,8 +107,10 @@ public class RateLimitFilter extends OncePerRequestFilter {
         response.setHeader("X-RateLimit-Reset", String.valueOf(resetSeconds));
 
         if (info.allowed()) {
+            (userId != null ? userAllowed : ipAllowed).increment();
             chain.doFilter(request, response);
         } else {
+            (userId != null ? userRejected : ipRejected).increment();
             logger.warn("Rate limit exceeded for key: {}, path: {}", key, path);
             SecurityLogger.rateLimitExceeded(key, path);
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -1,78 +1,95 @@
 package com.innersignature.backend.service;
 
-import com.innersignature.backend.dto.*;
 import com.innersignature.backend.mapper.CompanyMapper;
 import com.innersignature.backend.mapper.PaymentMapper;
 import com.innersignature.backend.mapper.SubscriptionMapper;
 import com.innersignature.backend.mapper.UserMapper;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * SUPERADMIN 전용 리포트 서비스
+ * 집계는 COUNT/SUM 쿼리로 DB에서 계산하며, 요약 통계는 주기적으로 갱신되는 스냅샷을 반환합니다.
  */
 @Service
 @RequiredArgsConstructor
 public class AdminReportService {
     
+    private static final Logger logger = LoggerFactory.getLogger(AdminReportService.class);
+
     private final UserMapper userMapper;
     private final CompanyMapper companyMapper;
     private final SubscriptionMapper subscriptionMapper;
     private final PaymentMapper paymentMapper;
+
+    // 요약 통계 스냅샷 (최초 조회 이후 스케줄러가 주기적으로 갱신)
+    private volatile DashboardSummaryDto summarySnapshot;
+
+    @Value("${admin.report.summary-refresh-ms:60000}")
+    private long summaryRefreshMs;
     
     /**
      * 대시보드 요약 통계 조회
+     * 스냅샷이 갱신 주기의 2배 이상 오래되었으면(스케줄러 지연 등) 직접 다시 계산합니다.
      */
     public DashboardSummaryDto getDashboardSummary() {
+        DashboardSummaryDto snapshot = summarySnapshot;
+        if (snapshot != null && snapshot.getRefreshedAt() != null
+                && snapshot.getRefreshedAt().isAfter(LocalDateTime.now().minus(Duration.ofMillis(summaryRefreshMs * 2)))) {
+            return snapshot;
+        }
+        return refreshDashboardSummary();
+    }
+
+    /**
+     * 요약 통계 스냅샷 주기적 갱신 (한 번도 조회되지 않았으면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${admin.report.summary-refresh-ms:60000}",
+               initialDelayString = "${admin.report.summary-refresh-ms:60000}")
+    public void refreshDashboardSummaryOnSchedule() {
+        if (summarySnapshot == null) {
+            return;
+        }
+        try {
+            refreshDashboardSummary();
+        } catch (Exception e) {
+            logger.error("대시보드 요약 통계 갱신 실패", e);
+        }
+    }
+
+    private DashboardSummaryDto refreshDashboardSummary() {
         DashboardSummaryDto summary = new DashboardSummaryDto();
         
-        // 전체 사용자 수
-        List<UserDto> allUsers = userMapper.selectAllUsers();
-        summary.setTotalUsers(allUsers.size());
-        summary.setActiveUsers((int) allUsers.stream()
-            .filter(u -> u.getIsActive() != null && u.getIsActive())
-            .count());
+        // 전체/활성 사용자 수
+        summary.setTotalUsers((int) userMapper.countUsers(null));
+        summary.setActiveUsers((int) userMapper.countUsers(true));
         
-        // 전체 회사 수
-        List<CompanyDto> allCompanies = companyMapper.findAll();
-        summary.setTotalCompanies(allCompanies.size());
-        summary.setActiveCompanies((int) allCompanies.stream()
-            .filter(c -> c.getIsActive() != null && c.getIsActive())
-            .count());
+        // 전체/활성 회사 수
+        summary.setTotalCompanies((int) companyMapper.countCompanies(null));
+        summary.setActiveCompanies((int) companyMapper.countCompanies(true));
         
         // 활성 구독 수
-        List<SubscriptionDto> allSubscriptions = subscriptionMapper.findAll();
-        summary.setActiveSubscriptions((int) allSubscriptions.stream()
-            .filter(s -> "ACTIVE".equals(s.getStatus()))
-            .count());
+        summary.setActiveSubscriptions((int) subscriptionMapper.countByStatus("ACTIVE"));
         
         // 오늘 결제 금액
-        List<PaymentDto> allPayments = paymentMapper.findAll();
         LocalDate today = LocalDate.now();
-        int todayRevenue = allPayments.stream()
-            .filter(p -> p.getPaymentDate() != null && 
-                        p.getPaymentDate().toLocalDate().equals(today) &&
-                        "COMPLETED".equals(p.getPaymentStatus()))
-            .mapToInt(PaymentDto::getAmount)
-            .sum();
-        summary.setTodayRevenue(todayRevenue);
+        summary.setTodayRevenue((int) paymentMapper.sumCompletedAmount(today, today));
         
         // 이번 달 결제 금액
-        LocalDate firstDayOfMonth = today.withDayOfMonth(1);
-        int monthRevenue = allPayments.stream()
-            .filter(p -> p.getPaymentDate() != null &&
-                        !p.getPaymentDate().toLocalDate().isBefore(firstDayOfMonth) &&
-                        "COMPLETED".equals(p.getPaymentStatus()))
-            .mapToInt(PaymentDto::getAmount)
-            .sum();
-        summary.setMonthRevenue(monthRevenue);
-        
+        summary.setMonthRevenue((int) paymentMapper.sumCompletedAmount(today.withDayOfMonth(1), null));
+
+        summary.setRefreshedAt(LocalDateTime.now());
+        summarySnapshot = summary;
         return summary;
     }
     
@@ -86,31 +103,10 @@ public class AdminReportService {
     
     /**
      * 매출 추이 조회
+     * payment_tb의 payment_date를 기준으로 날짜별 집계 (완료된 결제만)
      */
     public List<RevenueTrendDto> getRevenueTrend(LocalDate fromDate, LocalDate toDate) {
-        List<PaymentDto> allPayments = paymentMapper.findAll();
-        
-        // 날짜별 매출 집계
-        Map<LocalDate, Integer> revenueByDate = allPayments.stream()
-            .filter(p -> p.getPaymentDate() != null && "COMPLETED".equals(p.getPaymentStatus()))
-            .filter(p -> {
-                LocalDate paymentDate = p.getPaymentDate().toLocalDate();
-                return !paymentDate.isBefore(fromDate) && !paymentDate.isAfter(toDate);
-            })
-            .collect(Collectors.groupingBy(
-                p -> p.getPaymentDate().toLocalDate(),
-                Collectors.summingInt(PaymentDto::getAmount)
-            ));
-        
-        return revenueByDate.entrySet().stream()
-            .map(entry -> {
-                RevenueTrendDto dto = new RevenueTrendDto();
-                dto.setDate(entry.getKey());
-                dto.setAmount(entry.getValue());
-                return dto;
-            })
-            .sorted((a, b) -> a.getDate().compareTo(b.getDate()))
-            .collect(Collectors.toList());
+        return paymentMapper.selectRevenueTrend(fromDate, toDate);
     }
     
     @Data
@@ -122,6 +118,7 @@ public class AdminReportService {
         private int activeSubscriptions;
         private int todayRevenue;
         private int monthRevenue;
+        private LocalDateTime refreshedAt;
     }
     
     @Data
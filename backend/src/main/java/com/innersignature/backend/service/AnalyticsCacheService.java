@@ -0,0 +1,110 @@
+package com.innersignature.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드/통계 조회 결과 캐시 (메모리, 짧은 TTL)
+ * 회사 ID + 조회 종류 + 조회 조건(기간 등)으로 캐시하고, 회사별 세대(generation) 번호로 무효화합니다.
+ *
+ * 결의서가 변경되면 invalidate로 해당 회사의 세대 번호를 올리며, 이전 세대로 저장된 항목은 즉시 사용되지 않습니다.
+ * 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 올려, 커밋 전 데이터로 채워진 항목도 버려지게 합니다.
+ */
+@Service
+public class AnalyticsCacheService {
+
+    // 캐시 항목 수 상한 (초과 시 만료 항목 정리 후에도 가득 차 있으면 캐시하지 않음)
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<CacheKey, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    @Value("${analytics.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시 조회 (없거나 만료/무효화된 경우 loader로 조회 후 저장)
+     * @param companyId 회사 ID (무효화 단위)
+     * @param name 조회 종류 (예: "dashboardStats")
+     * @param params 조회 조건 (기간 등, null 허용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long companyId, String name, Supplier<T> loader, Object... params) {
+        if (companyId == null || ttlSeconds <= 0) {
+            return loader.get();
+        }
+
+        CacheKey key = new CacheKey(companyId, name, Arrays.asList(params));
+        // 조회 전에 세대 번호를 읽어 두어, 조회 도중 무효화되면 저장된 항목이 사용되지 않도록 함
+        long generation = currentGeneration(companyId);
+        long now = System.currentTimeMillis();
+
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.generation() == generation && entry.expiresAt() > now) {
+            return (T) entry.value();
+        }
+
+        T value = loader.get();
+        if (entries.size() >= MAX_ENTRIES) {
+            evictExpired();
+        }
+        if (entries.size() < MAX_ENTRIES) {
+            entries.put(key, new CacheEntry(generation, now + ttlSeconds * 1000, value));
+        }
+        return value;
+    }
+
+    /**
+     * 회사 캐시 무효화 (세대 번호 증가)
+     */
+    public void invalidate(Long companyId) {
+        if (companyId == null) {
+            return;
+        }
+        bumpGeneration(companyId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpGeneration(companyId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 만료되었거나 이전 세대인 항목 정리 (5분마다)
+     */
+    @Scheduled(fixedDelay = 300_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().expiresAt() <= now
+                || e.getValue().generation() != currentGeneration(e.getKey().companyId()));
+    }
+
+    private long currentGeneration(Long companyId) {
+        AtomicLong generation = generations.get(companyId);
+        return generation != null ? generation.get() : 0L;
+    }
+
+    private void bumpGeneration(Long companyId) {
+        generations.computeIfAbsent(companyId, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private record CacheKey(Long companyId, String name, List<Object> params) {
+    }
+
+    private record CacheEntry(long generation, long expiresAt, Object value) {
+    }
+}
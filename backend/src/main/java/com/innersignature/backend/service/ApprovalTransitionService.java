@@ -0,0 +1,269 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ApprovalStateDto;
+import com.innersignature.backend.dto.BulkApprovalResultDto;
+import com.innersignature.backend.exception.BusinessException;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 결재 승인/반려 상태 전이 서비스
+ * 결재 라인 변경과 결의서 상태 변경을 하나의 조건부 UPDATE로 처리합니다.
+ *
+ * 상태 조회 시 읽은 결의서 버전(version)이 그대로일 때만 갱신되고, 갱신 시 버전이 증가합니다.
+ * 두 결재자가 동시에 승인하면 한쪽은 버전 불일치로 0건이 되어 최신 상태로 다시 시도하므로,
+ * 서로의 승인을 보지 못해 결의서가 WAIT 상태로 남는 일이 없습니다.
+ * 충돌은 다른 결재 처리가 반영되어 버전이 올라갔다는 뜻이므로 횟수 제한 없이 다시 조회해 재시도하고,
+ * 다시 조회한 버전이 실패한 시도와 같을 때(진행 없음)만 충돌 오류로 처리합니다.
+ * 결재 취소/반려 취소도 같은 방식으로 결재 라인과 결의서 상태를 함께 되돌립니다.
+ * 처리 전에 결의서 행을 잠가(ID 순서) 같은 결의서의 결재 처리를 직렬화합니다. 미승인 건수를 읽는 파생 테이블의
+ * 잠금 방식(DB 버전/격리 수준마다 다름)에 기대지 않고, 같은 결의서의 동시 결재가 충돌 재시도 없이 차례로 반영됩니다.
+ * 잠금은 호출하는 쪽 트랜잭션이 끝날 때 풀립니다.
+ * 호출하는 쪽은 READ_COMMITTED 트랜잭션이어야 재시도 시 다른 트랜잭션이 커밋한 상태를 읽습니다.
+ * 일괄 결재(approveAll/rejectAll)는 같은 조건의 UPDATE를 여러 결의서에 한 번에 적용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalTransitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApprovalTransitionService.class);
+
+    private final ExpenseMapper expenseMapper;
+    private final ExpenseRollupService expenseRollupService;
+
+    /**
+     * 결재 승인
+     * @return 마지막 승인으로 결의서가 APPROVED가 되었으면 true
+     */
+    public boolean approve(Long companyId, Long expenseId, Long approverId, String signatureHash) {
+        ApprovalStateDto state = transition(companyId, expenseId, approverId, "결재 승인",
+                ApprovalTransitionService::waitingError,
+                current -> expenseMapper.approveLineAndReport(expenseId, approverId, signatureHash,
+                        current.getVersion(), companyId));
+        boolean completed = state.getPendingOthers() == null || state.getPendingOthers() == 0;
+        if (completed) {
+            expenseRollupService.trackReportChange(companyId, expenseId);
+        }
+        return completed;
+    }
+
+    /**
+     * 결재 반려 (결의서도 즉시 REJECTED)
+     */
+    public void reject(Long companyId, Long expenseId, Long approverId, String rejectionReason) {
+        transition(companyId, expenseId, approverId, "결재 반려", ApprovalTransitionService::waitingError,
+                current -> expenseMapper.rejectLineAndReport(expenseId, approverId, rejectionReason,
+                        current.getVersion(), companyId));
+        expenseRollupService.trackReportChange(companyId, expenseId);
+    }
+
+    /**
+     * 결재 취소 (본인의 승인 결재 라인을 WAIT로 되돌리고 결의서도 WAIT로 변경, 승인 완료된 결의서는 불가)
+     */
+    public void cancelApproval(Long companyId, Long expenseId, Long approverId) {
+        transition(companyId, expenseId, approverId, "결재 취소",
+                state -> cancelError(state, "APPROVED", "결재 완료된 결재 라인만 취소할 수 있습니다.",
+                        "승인 완료된 문서는 결재 취소할 수 없습니다."),
+                current -> expenseMapper.cancelApprovalLineAndReport(expenseId, approverId, current.getVersion(),
+                        companyId));
+        expenseRollupService.trackReportChange(companyId, expenseId);
+    }
+
+    /**
+     * 반려 취소 (본인의 반려 결재 라인을 WAIT로 되돌리고 결의서도 WAIT로 변경, 승인 완료된 결의서는 불가)
+     */
+    public void cancelRejection(Long companyId, Long expenseId, Long approverId) {
+        transition(companyId, expenseId, approverId, "반려 취소",
+                state -> cancelError(state, "REJECTED", "반려된 결재 라인만 취소할 수 있습니다.",
+                        "승인 완료된 문서는 반려 취소할 수 없습니다."),
+                current -> expenseMapper.cancelRejectionLineAndReport(expenseId, approverId, current.getVersion(),
+                        companyId));
+        expenseRollupService.trackReportChange(companyId, expenseId);
+    }
+
+    /**
+     * 상태 조회 → 조건 확인 → 버전 조건부 UPDATE (0건이면 다시 조회해 재시도)
+     * @param stateError 처리할 수 없는 상태면 오류 메시지 반환
+     * @param update 조회한 상태의 버전으로 UPDATE, 반영 행 수 반환
+     * @return 반영에 성공한 시점에 조회한 상태
+     */
+    private ApprovalStateDto transition(Long companyId, Long expenseId, Long approverId, String action,
+                                        Function<ApprovalStateDto, String> stateError,
+                                        ToIntFunction<ApprovalStateDto> update) {
+        expenseMapper.lockExpenseReports(List.of(expenseId), companyId);
+        Integer failedVersion = null;
+        while (true) {
+            ApprovalStateDto state = expenseMapper.selectApprovalState(expenseId, approverId, companyId);
+            String error = stateError.apply(state);
+            if (error != null) {
+                throw new BusinessException(error);
+            }
+            if (failedVersion != null && failedVersion.equals(state.getVersion())) {
+                throw conflict(expenseId, approverId);
+            }
+            if (update.applyAsInt(state) > 0) {
+                return state;
+            }
+            failedVersion = state.getVersion();
+            logger.debug("{} 버전 충돌 - expenseId: {}, approverId: {}, version: {}", action, expenseId, approverId,
+                    failedVersion);
+        }
+    }
+
+    /**
+     * 일괄 승인
+     * 상태 조회와 UPDATE를 각각 한 번에 처리하고, 그 사이 다른 결재로 버전이 바뀐 결의서만 건별로 다시 처리합니다.
+     * @return 결의서별 처리 결과 (요청 순서)
+     */
+    public List<BulkApprovalResultDto> approveAll(Long companyId, Long approverId, Collection<Long> expenseIds,
+                                                  String signatureHash) {
+        return applyAll(companyId, approverId, expenseIds, "APPROVED", "승인 완료",
+                states -> expenseMapper.approveLinesAndReports(states, approverId, signatureHash, companyId),
+                expenseId -> approve(companyId, expenseId, approverId, signatureHash) ? "APPROVED" : "WAIT");
+    }
+
+    /**
+     * 일괄 반려
+     * @return 결의서별 처리 결과 (요청 순서)
+     */
+    public List<BulkApprovalResultDto> rejectAll(Long companyId, Long approverId, Collection<Long> expenseIds,
+                                                 String rejectionReason) {
+        return applyAll(companyId, approverId, expenseIds, "REJECTED", "반려 완료",
+                states -> expenseMapper.rejectLinesAndReports(states, approverId, rejectionReason, companyId),
+                expenseId -> {
+                    reject(companyId, expenseId, approverId, rejectionReason);
+                    return "REJECTED";
+                });
+    }
+
+    /**
+     * 일괄 처리 공통 흐름
+     * @param lineStatus 처리 후 결재 라인 상태 (반영 여부 확인용)
+     * @param batchUpdate 처리 가능한 결의서 상태 목록을 받아 일괄 UPDATE
+     * @param singleTransition 일괄 UPDATE에서 빠진(버전 충돌) 결의서의 건별 처리, 처리 후 결의서 상태 반환
+     */
+    private List<BulkApprovalResultDto> applyAll(Long companyId, Long approverId, Collection<Long> expenseIds,
+                                                 String lineStatus, String successMessage,
+                                                 Function<List<ApprovalStateDto>, Integer> batchUpdate,
+                                                 Function<Long, String> singleTransition) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long expenseId : expenseIds) {
+            if (expenseId != null) {
+                ids.add(expenseId);
+            }
+        }
+        Map<Long, BulkApprovalResultDto> results = new HashMap<>();
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 1. 결의서 잠금 후 처리 가능 여부 일괄 확인
+        expenseMapper.lockExpenseReports(ids, companyId);
+        Map<Long, ApprovalStateDto> before = selectStates(companyId, approverId, ids);
+        List<ApprovalStateDto> waiting = new ArrayList<>();
+        for (Long expenseId : ids) {
+            ApprovalStateDto state = before.get(expenseId);
+            String error = waitingError(state);
+            if (error != null) {
+                results.put(expenseId, new BulkApprovalResultDto(expenseId, false, null, error));
+            } else {
+                waiting.add(state);
+            }
+        }
+
+        // 2. 일괄 반영 후 반영 여부 확인 (반영된 결의서는 버전이 1 증가하고 본인 결재 라인이 처리됨)
+        Set<Long> changed = new LinkedHashSet<>();
+        if (!waiting.isEmpty()) {
+            batchUpdate.apply(waiting);
+            Map<Long, ApprovalStateDto> after = selectStates(companyId, approverId,
+                    waiting.stream().map(ApprovalStateDto::getExpenseReportId).toList());
+            for (ApprovalStateDto state : waiting) {
+                Long expenseId = state.getExpenseReportId();
+                ApprovalStateDto updated = after.get(expenseId);
+                if (updated != null && lineStatus.equals(updated.getLineStatus())
+                        && updated.getVersion() == state.getVersion() + 1) {
+                    if (!"WAIT".equals(updated.getReportStatus())) {
+                        changed.add(expenseId);
+                    }
+                    results.put(expenseId, new BulkApprovalResultDto(expenseId, true, updated.getReportStatus(), successMessage));
+                    continue;
+                }
+                // 3. 버전 충돌 건은 건별 처리 (재시도 포함)
+                try {
+                    String reportStatus = singleTransition.apply(expenseId);
+                    results.put(expenseId, new BulkApprovalResultDto(expenseId, true, reportStatus, successMessage));
+                } catch (BusinessException e) {
+                    results.put(expenseId, new BulkApprovalResultDto(expenseId, false, null, e.getMessage()));
+                }
+            }
+        }
+        expenseRollupService.trackReportChanges(companyId, changed);
+
+        List<BulkApprovalResultDto> ordered = new ArrayList<>(ids.size());
+        for (Long expenseId : ids) {
+            ordered.add(results.get(expenseId));
+        }
+        logger.info("일괄 결재 처리 - approverId: {}, lineStatus: {}, 요청: {}, 성공: {}", approverId, lineStatus,
+                ids.size(), ordered.stream().filter(BulkApprovalResultDto::isSuccess).count());
+        return ordered;
+    }
+
+    private Map<Long, ApprovalStateDto> selectStates(Long companyId, Long approverId, Collection<Long> expenseIds) {
+        Map<Long, ApprovalStateDto> states = new HashMap<>();
+        for (ApprovalStateDto state : expenseMapper.selectApprovalStates(expenseIds, approverId, companyId)) {
+            // 같은 결재자가 여러 단계에 있으면 첫 단계 기준 (selectApprovalState와 동일)
+            states.putIfAbsent(state.getExpenseReportId(), state);
+        }
+        return states;
+    }
+
+    /**
+     * 결재 가능한 상태인지 확인 (결의서 WAIT, 본인 결재 라인 WAIT)
+     */
+    private static String waitingError(ApprovalStateDto state) {
+        if (state == null) {
+            return "해당 결재자가 결재 라인에 존재하지 않습니다.";
+        }
+        if (!"WAIT".equals(state.getReportStatus())) {
+            return "결재 대기 중인 문서만 승인 또는 반려할 수 있습니다.";
+        }
+        if (!"WAIT".equals(state.getLineStatus())) {
+            return "이미 처리된 결재입니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 취소 가능한 상태인지 확인 (본인 결재 라인이 lineStatus, 결의서는 승인 완료 전)
+     */
+    private static String cancelError(ApprovalStateDto state, String lineStatus, String lineError, String reportError) {
+        if (state == null) {
+            return "해당 결재자가 결재 라인에 존재하지 않습니다.";
+        }
+        if (!lineStatus.equals(state.getLineStatus())) {
+            return lineError;
+        }
+        if ("APPROVED".equals(state.getReportStatus())) {
+            return reportError;
+        }
+        return null;
+    }
+
+    private BusinessException conflict(Long expenseId, Long approverId) {
+        logger.warn("결재 처리 재시도 초과 - expenseId: {}, approverId: {}", expenseId, approverId);
+        return new BusinessException("다른 결재 처리와 동시에 요청되어 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,238 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.AuditLogDto;
+import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.exception.BusinessException;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import com.innersignature.backend.util.SecurityUtil;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 감사 규칙 재실행(재감사) 작업 서비스
+ * 규칙을 추가/변경한 뒤 기간 내 기존 결의서에 다시 적용합니다.
+ *
+ * 결의서/상세 항목은 커서로 스트리밍하여 일정 건수(chunk)씩 묶고, 묶음별 평가/저장은 queryExecutor에서 병렬로 수행합니다.
+ * 동시에 처리 중인 묶음 수를 제한하므로 기간이 길어도 메모리 사용량이 일정합니다.
+ * 감사 로그는 (결의서, 규칙, 탐지 키) 기준 upsert로 저장되어 같은 기간을 다시 실행해도 중복 기록되지 않습니다.
+ * 탐지 키(finding_hash)는 규칙 유형 + 대상(상세 항목, 가맹점, 날짜 등)이며 메시지가 아니므로, 문구나 금액 표기가 바뀌어도 같은 탐지로 갱신됩니다.
+ * 진행률은 ProgressService(GET /api/expenses/progress/{jobId})로 조회합니다.
+ */
+@Service
+public class AuditReauditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditReauditService.class);
+
+    // 묶음당 결의서 수
+    private static final int CHUNK_SIZE = 200;
+    // 재감사 기간 상한
+    private static final int MAX_RANGE_YEARS = 1;
+
+    private final ExpenseMapper expenseMapper;
+    private final AuditRuleEngine auditRuleEngine;
+    private final AuditService auditService;
+    private final ExpenseDuplicateIndexService expenseDuplicateIndexService;
+    private final ProgressService progressService;
+    private final Executor taskExecutor;
+    private final Executor queryExecutor;
+    private final TransactionTemplate streamTransaction;
+    private final TransactionTemplate chunkTransaction;
+    private final int parallelism;
+
+    // 회사별 실행 중인 작업 ID (회사당 하나만 실행)
+    private final Map<Long, String> runningJobs = new ConcurrentHashMap<>();
+
+    public AuditReauditService(ExpenseMapper expenseMapper, AuditRuleEngine auditRuleEngine, AuditService auditService,
+                               ExpenseDuplicateIndexService expenseDuplicateIndexService,
+                               ProgressService progressService,
+                               @Qualifier("taskExecutor") Executor taskExecutor,
+                               @Qualifier("queryExecutor") Executor queryExecutor,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${audit.reaudit.parallelism:2}") int parallelism) {
+        this.expenseMapper = expenseMapper;
+        this.auditRuleEngine = auditRuleEngine;
+        this.auditService = auditService;
+        this.expenseDuplicateIndexService = expenseDuplicateIndexService;
+        this.progressService = progressService;
+        this.taskExecutor = taskExecutor;
+        this.queryExecutor = queryExecutor;
+        // 커서는 트랜잭션(커넥션)이 열려 있는 동안만 읽을 수 있음
+        this.streamTransaction = new TransactionTemplate(transactionManager);
+        this.streamTransaction.setReadOnly(true);
+        this.streamTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        // 묶음 저장은 스트리밍 커넥션과 분리된 별도 트랜잭션 (호출 스레드에서 실행되더라도 동일)
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * 재감사 작업 시작
+     * @param ruleType 적용할 규칙 유형 (null이면 활성화된 전체 규칙)
+     * @return 작업 ID (진행률 조회용)
+     */
+    public String startReaudit(LocalDate startDate, LocalDate endDate, String ruleType) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new BusinessException("재감사 기간이 올바르지 않습니다.");
+        }
+        if (startDate.plusYears(MAX_RANGE_YEARS).isBefore(endDate)) {
+            throw new BusinessException("재감사 기간은 최대 " + MAX_RANGE_YEARS + "년입니다.");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        String runningJobId = runningJobs.putIfAbsent(companyId, jobId);
+        if (runningJobId != null) {
+            throw new BusinessException("이미 진행 중인 재감사 작업이 있습니다. (jobId: " + runningJobId + ")");
+        }
+
+        progressService.updateProgress(jobId, 0, "재감사 대기 중...");
+        try {
+            taskExecutor.execute(() -> run(companyId, startDate, endDate, ruleType, jobId));
+        } catch (RuntimeException e) {
+            runningJobs.remove(companyId, jobId);
+            progressService.failProgress(jobId, e.getMessage());
+            throw e;
+        }
+        logger.info("재감사 작업 시작 - companyId: {}, {} ~ {}, ruleType: {}, jobId: {}",
+                companyId, startDate, endDate, ruleType, jobId);
+        return jobId;
+    }
+
+    private void run(Long companyId, LocalDate startDate, LocalDate endDate, String ruleType, String jobId) {
+        try {
+            Set<String> ruleTypes = ruleType != null && !ruleType.isBlank() ? Set.of(ruleType) : null;
+
+            // 타 결의서 비교 규칙은 기간 앞뒤(최대 조회 창)의 인덱스가 최신이어야 함
+            if (ruleTypes == null || ruleTypes.contains(AuditRuleEngine.CROSS_REPORT_DUPLICATE)) {
+                progressService.updateProgress(jobId, 1, "중복 결제 인덱스를 갱신하는 중...");
+                int window = ExpenseDuplicateIndexService.MAX_WINDOW_DAYS;
+                expenseDuplicateIndexService.rebuildRange(companyId, startDate.minusDays(window), endDate.plusDays(window));
+            }
+
+            long total = expenseMapper.countReportsForAudit(companyId, startDate, endDate);
+            progressService.updateProgress(jobId, 2, String.format("결의서 %,d건 재감사 중...", total));
+
+            ChunkTracker tracker = new ChunkTracker(jobId, total);
+            streamTransaction.executeWithoutResult(status -> {
+                try (Cursor<ExpenseReportDto> cursor =
+                             expenseMapper.streamReportsForAudit(companyId, startDate, endDate)) {
+                    List<ExpenseReportDto> chunk = new ArrayList<>(CHUNK_SIZE);
+                    for (ExpenseReportDto report : cursor) {
+                        chunk.add(report);
+                        if (chunk.size() == CHUNK_SIZE) {
+                            tracker.submit(companyId, chunk, ruleTypes);
+                            chunk = new ArrayList<>(CHUNK_SIZE);
+                        }
+                    }
+                    if (!chunk.isEmpty()) {
+                        tracker.submit(companyId, chunk, ruleTypes);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            tracker.awaitAll();
+
+            String message = String.format("재감사 완료: 결의서 %,d건, 탐지 %,d건", tracker.processed.get(), tracker.findings.get());
+            progressService.completeProgress(jobId, null, message);
+            logger.info("재감사 작업 완료 - companyId: {}, jobId: {}, reports: {}, findings: {}",
+                    companyId, jobId, tracker.processed.get(), tracker.findings.get());
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.error("재감사 작업 실패 - companyId: {}, jobId: {}", companyId, jobId, cause);
+            progressService.failProgress(jobId, cause.getMessage());
+        } finally {
+            runningJobs.remove(companyId, jobId);
+        }
+    }
+
+    /**
+     * 묶음 평가/저장 (별도 트랜잭션)
+     */
+    private int processChunk(Long companyId, List<ExpenseReportDto> chunk, Set<String> ruleTypes) {
+        Integer saved = chunkTransaction.execute(status -> {
+            List<AuditLogDto> findings = new ArrayList<>();
+            for (ExpenseReportDto report : chunk) {
+                findings.addAll(auditRuleEngine.evaluate(companyId, report, report.getDetails(),
+                        report.getCreatedAt(), ruleTypes));
+            }
+            return auditService.saveFindings(findings);
+        });
+        return saved != null ? saved : 0;
+    }
+
+    /**
+     * 묶음 병렬 실행 및 진행률 집계
+     * 동시에 처리 중인 묶음 수를 parallelism(audit.reaudit.parallelism)으로 제한합니다.
+     * 묶음마다 DB 커넥션을 하나씩 사용하고 스트리밍에도 하나를 사용하므로 커넥션 풀 크기보다 충분히 작게 설정합니다.
+     */
+    private class ChunkTracker {
+        private final String jobId;
+        private final long total;
+        private final Semaphore permits = new Semaphore(parallelism);
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicInteger findings = new AtomicInteger();
+
+        private ChunkTracker(String jobId, long total) {
+            this.jobId = jobId;
+            this.total = total;
+        }
+
+        private void submit(Long companyId, List<ExpenseReportDto> chunk, Set<String> ruleTypes) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<Void> future;
+            try {
+                future = CompletableFuture
+                        .supplyAsync(() -> processChunk(companyId, chunk, ruleTypes), queryExecutor)
+                        .thenAccept(saved -> {
+                            findings.addAndGet(saved);
+                            long done = processed.addAndGet(chunk.size());
+                            int percentage = total > 0 ? (int) Math.min(99, 2 + done * 97 / total) : 99;
+                            progressService.updateProgress(jobId, percentage,
+                                    String.format("결의서 %,d / %,d건 재감사 중...", done, total));
+                        })
+                        .whenComplete((result, error) -> permits.release());
+            } catch (RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            futures.add(future);
+            // 앞선 묶음이 실패했으면 나머지를 읽지 않고 중단
+            futures.removeIf(f -> f.isDone() && !f.isCompletedExceptionally());
+            for (CompletableFuture<Void> f : futures) {
+                if (f.isCompletedExceptionally()) {
+                    f.join();
+                }
+            }
+        }
+
+        private void awaitAll() {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        }
+    }
+}
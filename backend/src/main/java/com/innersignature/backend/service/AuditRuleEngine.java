@@ -0,0 +1,379 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.AuditLogDto;
+import com.innersignature.backend.dto.AuditRuleDto;
+import com.innersignature.backend.dto.ExpenseDetailDto;
+import com.innersignature.backend.dto.ExpenseDuplicateMatchDto;
+import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.mapper.AuditRuleMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 감사 규칙 엔진
+ * 회사별 audit_rule_tb 설정을 규칙 객체로 한 번 컴파일해 캐시하고, 결의서/상세 내역(메모리 객체)에 대해 평가합니다.
+ * 설정 JSON 파싱과 규칙 유형 분기는 컴파일 시 한 번만 수행되며, 평가 중에는 DB를 조회하지 않습니다.
+ * (타 결의서 비교 규칙만 예외로 중복 결제 인덱스를 해시 키로 조회합니다.)
+ *
+ * 규칙 유형별 평가 시간(audit.rule.evaluation)과 탐지 건수(audit.rule.findings)를 기록합니다.
+ *
+ * 규칙이 생성/수정/삭제되면 AuditRuleService가 invalidate를 호출합니다.
+ * 다른 서버에서 변경된 규칙은 TTL(audit.rules.cache-ttl-seconds) 경과 후 반영됩니다.
+ */
+@Service
+public class AuditRuleEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRuleEngine.class);
+
+    // 타 결의서 중복 결제 규칙 유형 (설정: windowDays 기본 3일, sameCard 기본 false)
+    public static final String CROSS_REPORT_DUPLICATE = "CROSS_REPORT_DUPLICATE";
+
+    private final AuditRuleMapper auditRuleMapper;
+    private final ExpenseDuplicateIndexService expenseDuplicateIndexService;
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, CompiledRuleSet> ruleSets = new ConcurrentHashMap<>();
+
+    @Value("${audit.rules.cache-ttl-seconds:300}")
+    private long ttlSeconds;
+
+    public AuditRuleEngine(AuditRuleMapper auditRuleMapper, ExpenseDuplicateIndexService expenseDuplicateIndexService,
+                           MeterRegistry meterRegistry) {
+        this.auditRuleMapper = auditRuleMapper;
+        this.expenseDuplicateIndexService = expenseDuplicateIndexService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 결의서 평가
+     * @param report 결의서 (createdAt이 없으면 evaluatedAt을 상신 시각으로 사용)
+     * @param details 상세 내역
+     * @return 탐지 결과 (저장 전 감사 로그)
+     */
+    public List<AuditLogDto> evaluate(Long companyId, ExpenseReportDto report, List<ExpenseDetailDto> details,
+                                      LocalDateTime evaluatedAt) {
+        return evaluate(companyId, report, details, evaluatedAt, null);
+    }
+
+    /**
+     * 지정한 규칙 유형만 평가 (재감사용)
+     * @param ruleTypes 평가할 규칙 유형 (null이면 전체)
+     */
+    public List<AuditLogDto> evaluate(Long companyId, ExpenseReportDto report, List<ExpenseDetailDto> details,
+                                      LocalDateTime evaluatedAt, Set<String> ruleTypes) {
+        List<AuditLogDto> findings = new ArrayList<>();
+        if (companyId == null || report == null) {
+            return findings;
+        }
+        AuditContext context = new AuditContext(companyId, report, details != null ? details : List.of(),
+                report.getCreatedAt() != null ? report.getCreatedAt() : evaluatedAt);
+
+        for (CompiledRule rule : getRules(companyId)) {
+            if (ruleTypes != null && !ruleTypes.contains(rule.ruleType())) {
+                continue;
+            }
+            Timer.Sample sample = Timer.start(meterRegistry);
+            int before = findings.size();
+            String outcome = "success";
+            try {
+                rule.evaluate(context, findings);
+            } catch (Exception e) {
+                outcome = "error";
+                logger.error("감사 규칙 실행 실패 - ruleId: {}, error: {}", rule.ruleId(), e.getMessage());
+            }
+            sample.stop(meterRegistry.timer("audit.rule.evaluation", "rule_type", rule.ruleType(), "outcome", outcome));
+            if (findings.size() > before) {
+                meterRegistry.counter("audit.rule.findings", "rule_type", rule.ruleType()).increment(findings.size() - before);
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * 회사 규칙 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 후에 한 번 더 비워, 커밋 전 규칙으로 컴파일된 항목이 남지 않게 합니다.
+     */
+    public void invalidate(Long companyId) {
+        if (companyId == null) {
+            return;
+        }
+        ruleSets.remove(companyId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ruleSets.remove(companyId);
+                }
+            });
+        }
+    }
+
+    private List<CompiledRule> getRules(Long companyId) {
+        long now = System.currentTimeMillis();
+        CompiledRuleSet ruleSet = ruleSets.get(companyId);
+        if (ruleSet != null && ruleSet.expiresAt() > now) {
+            return ruleSet.rules();
+        }
+        // computeIfAbsent는 같은 회사의 컴파일과 invalidate(remove)를 직렬화하므로
+        // 컴파일 도중 규칙이 변경되어도 커밋 후 무효화가 컴파일 결과를 덮어씀
+        ruleSets.remove(companyId, ruleSet);
+        return ruleSets.computeIfAbsent(companyId, id -> new CompiledRuleSet(compile(id), now + ttlSeconds * 1000))
+                .rules();
+    }
+
+    private List<CompiledRule> compile(Long companyId) {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (AuditRuleDto rule : auditRuleMapper.findActiveByCompanyId(companyId)) {
+            CompiledRule compiled = compileRule(rule);
+            if (compiled != null) {
+                rules.add(compiled);
+            }
+        }
+        logger.debug("감사 규칙 컴파일 - companyId: {}, rules: {}", companyId, rules.size());
+        return List.copyOf(rules);
+    }
+
+    private CompiledRule compileRule(AuditRuleDto rule) {
+        Map<String, Object> config = rule.getRuleConfig();
+        try {
+            switch (rule.getRuleType() != null ? rule.getRuleType() : "") {
+                case "NIGHT_TIME":
+                    return new NightTimeRule(rule.getRuleId(),
+                            intConfig(config, "startHour", 22), intConfig(config, "endHour", 6));
+                case "WEEKEND":
+                    return new WeekendRule(rule.getRuleId());
+                case "DUPLICATE_MERCHANT":
+                    return new DuplicateMerchantRule(rule.getRuleId(), intConfig(config, "threshold", 2));
+                case "FORBIDDEN_CATEGORY":
+                    Set<String> categories = stringSetConfig(config, "categories");
+                    return categories.isEmpty() ? null : new ForbiddenCategoryRule(rule.getRuleId(), categories);
+                case CROSS_REPORT_DUPLICATE:
+                    return new CrossReportDuplicateRule(rule.getRuleId(), expenseDuplicateIndexService,
+                            intConfig(config, "windowDays", 3), booleanConfig(config, "sameCard"));
+                default:
+                    logger.warn("알 수 없는 감사 규칙 유형: {}", rule.getRuleType());
+                    return null;
+            }
+        } catch (RuntimeException e) {
+            logger.error("감사 규칙 컴파일 실패 - ruleId: {}, error: {}", rule.getRuleId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private static int intConfig(Map<String, Object> config, String key, int defaultValue) {
+        Object value = config != null ? config.get(key) : null;
+        return value instanceof Number number ? number.intValue() : defaultValue;
+    }
+
+    private static boolean booleanConfig(Map<String, Object> config, String key) {
+        Object value = config != null ? config.get(key) : null;
+        return value instanceof Boolean bool ? bool : Boolean.parseBoolean(String.valueOf(value));
+    }
+
+    private static Set<String> stringSetConfig(Map<String, Object> config, String key) {
+        Object value = config != null ? config.get(key) : null;
+        Set<String> result = new HashSet<>();
+        if (value instanceof Collection<?> values) {
+            for (Object item : values) {
+                if (item != null) {
+                    result.add(item.toString());
+                }
+            }
+        }
+        return Set.copyOf(result);
+    }
+
+    /**
+     * 탐지 결과 생성
+     * @param findingKey 탐지 식별 키 (규칙 유형 + 탐지 대상). 메시지 문구나 건수/금액이 바뀌어도 같은 대상이면 같은 키여야
+     *                   재감사 시 기존 로그(해결 상태 포함)를 그대로 갱신합니다.
+     */
+    private static AuditLogDto finding(Long expenseReportId, Long ruleId, String severity, String findingKey,
+                                       String message) {
+        AuditLogDto log = new AuditLogDto();
+        log.setExpenseReportId(expenseReportId);
+        log.setRuleId(ruleId);
+        log.setSeverity(severity);
+        log.setFindingKey(findingKey);
+        log.setMessage(message);
+        log.setIsResolved(false);
+        return log;
+    }
+
+    /**
+     * 평가 대상 (결의서, 상세 내역, 상신 시각)
+     */
+    private record AuditContext(Long companyId, ExpenseReportDto report, List<ExpenseDetailDto> details, LocalDateTime submittedAt) {
+    }
+
+    private record CompiledRuleSet(List<CompiledRule> rules, long expiresAt) {
+    }
+
+    /**
+     * 컴파일된 감사 규칙
+     */
+    private interface CompiledRule {
+        Long ruleId();
+
+        String ruleType();
+
+        void evaluate(AuditContext context, List<AuditLogDto> findings);
+    }
+
+    /**
+     * 심야 시간대 상신 체크 (기본 22시~06시)
+     * 상세 항목에는 거래 시각이 없으므로 결의서 상신 시각으로 판단하며, 결의서당 최대 1건만 기록합니다.
+     */
+    private record NightTimeRule(Long ruleId, int startHour, int endHour) implements CompiledRule {
+        @Override
+        public String ruleType() {
+            return "NIGHT_TIME";
+        }
+
+        @Override
+        public void evaluate(AuditContext context, List<AuditLogDto> findings) {
+            LocalDateTime submittedAt = context.submittedAt();
+            if (submittedAt == null) {
+                return;
+            }
+            int hour = submittedAt.getHour();
+            boolean night = startHour > endHour
+                    ? hour >= startHour || hour < endHour
+                    : hour >= startHour && hour < endHour;
+            if (night) {
+                ExpenseReportDto report = context.report();
+                findings.add(finding(report.getExpenseReportId(), ruleId, "MEDIUM", ruleType(),
+                        String.format("심야 시간대 상신: %s %d시, 금액: %,d원", submittedAt.toLocalDate(), hour,
+                                report.getTotalAmount() != null ? report.getTotalAmount() : 0L)));
+            }
+        }
+    }
+
+    /**
+     * 주말 사용 체크
+     */
+    private record WeekendRule(Long ruleId) implements CompiledRule {
+        @Override
+        public String ruleType() {
+            return "WEEKEND";
+        }
+
+        @Override
+        public void evaluate(AuditContext context, List<AuditLogDto> findings) {
+            LocalDate reportDate = context.report().getReportDate();
+            if (reportDate == null) {
+                return;
+            }
+            DayOfWeek dayOfWeek = reportDate.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+                findings.add(finding(context.report().getExpenseReportId(), ruleId, "MEDIUM",
+                        ruleType() + ":" + reportDate,
+                        String.format("주말 사용: %s", reportDate)));
+            }
+        }
+    }
+
+    /**
+     * 동일 가맹점 중복 결제 체크 (결의서 내, 상호명이 없으면 적요 기준)
+     */
+    private record DuplicateMerchantRule(Long ruleId, int threshold) implements CompiledRule {
+        @Override
+        public String ruleType() {
+            return "DUPLICATE_MERCHANT";
+        }
+
+        @Override
+        public void evaluate(AuditContext context, List<AuditLogDto> findings) {
+            Map<String, Integer> merchantCount = new LinkedHashMap<>();
+            for (ExpenseDetailDto detail : context.details()) {
+                String merchant = detail.getMerchantName() != null && !detail.getMerchantName().isBlank()
+                        ? detail.getMerchantName() : detail.getDescription();
+                if (merchant != null && !merchant.isEmpty()) {
+                    merchantCount.merge(merchant, 1, Integer::sum);
+                }
+            }
+            for (Map.Entry<String, Integer> entry : merchantCount.entrySet()) {
+                if (entry.getValue() >= threshold) {
+                    findings.add(finding(context.report().getExpenseReportId(), ruleId, "HIGH",
+                            ruleType() + ":" + entry.getKey(),
+                            String.format("동일 가맹점 중복 결제 의심: %s (%d건)", entry.getKey(), entry.getValue())));
+                }
+            }
+        }
+    }
+
+    /**
+     * 금지 업종 사용 체크
+     */
+    private record ForbiddenCategoryRule(Long ruleId, Set<String> categories) implements CompiledRule {
+        @Override
+        public String ruleType() {
+            return "FORBIDDEN_CATEGORY";
+        }
+
+        @Override
+        public void evaluate(AuditContext context, List<AuditLogDto> findings) {
+            for (ExpenseDetailDto detail : context.details()) {
+                if (detail.getCategory() != null && categories.contains(detail.getCategory())) {
+                    findings.add(finding(context.report().getExpenseReportId(), ruleId, "HIGH",
+                            ruleType() + ":" + detail.getExpenseDetailId(),
+                            String.format("금지 업종 사용: %s, 금액: %,d원", detail.getCategory(),
+                                    detail.getAmount() != null ? detail.getAmount() : 0L)));
+                }
+            }
+        }
+    }
+
+    /**
+     * 타 결의서 중복 결제 체크 (같은 가맹점/금액이 windowDays 이내에 이전 결의서에 있는 경우, 작성자 무관)
+     * sameCard이면 같은 카드로 결제한 경우만 탐지합니다.
+     */
+    private record CrossReportDuplicateRule(Long ruleId, ExpenseDuplicateIndexService index, int windowDays,
+                                            boolean sameCard) implements CompiledRule {
+        @Override
+        public String ruleType() {
+            return CROSS_REPORT_DUPLICATE;
+        }
+
+        @Override
+        public void evaluate(AuditContext context, List<AuditLogDto> findings) {
+            ExpenseReportDto report = context.report();
+            List<ExpenseDuplicateIndexService.DuplicateMatch> matches = index.findMatches(context.companyId(),
+                    report.getExpenseReportId(), report.getReportDate(), context.details(), windowDays, sameCard);
+            for (ExpenseDuplicateIndexService.DuplicateMatch match : matches) {
+                ExpenseDetailDto detail = match.detail();
+                Set<Long> reportIds = new TreeSet<>();
+                boolean otherDrafter = false;
+                for (ExpenseDuplicateMatchDto candidate : match.matches()) {
+                    reportIds.add(candidate.getExpenseReportId());
+                    otherDrafter |= !Objects.equals(candidate.getDrafterId(), report.getDrafterId());
+                }
+                findings.add(finding(report.getExpenseReportId(), ruleId, "HIGH",
+                        ruleType() + ":" + detail.getExpenseDetailId(),
+                        String.format("타 결의서 중복 결제 의심: %s, 금액: %,d원, %d일 이내 결의서 %s%s%s",
+                                detail.getMerchantName(), detail.getAmount(), windowDays, reportIds,
+                                sameCard ? " (동일 카드)" : "", otherDrafter ? " (다른 작성자 포함)" : "")));
+            }
+        }
+    }
+}
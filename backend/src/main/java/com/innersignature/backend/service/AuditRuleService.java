@@ -18,6 +18,7 @@ public class AuditRuleService {
     
     private static final Logger logger = LoggerFactory.getLogger(AuditRuleService.class);
     private final AuditRuleMapper auditRuleMapper;
+    private final AuditRuleEngine auditRuleEngine; // 컴파일된 규칙 캐시
     
     /**
      * 감사 규칙 생성
@@ -33,6 +34,7 @@ public class AuditRuleService {
         
         int result = auditRuleMapper.insert(rule);
         if (result > 0) {
+            auditRuleEngine.invalidate(companyId);
             logger.info("감사 규칙 생성 완료 - ruleId: {}, ruleName: {}", rule.getRuleId(), rule.getRuleName());
             return auditRuleMapper.findById(rule.getRuleId(), companyId);
         } else {
@@ -58,6 +60,7 @@ public class AuditRuleService {
         
         int result = auditRuleMapper.update(rule);
         if (result > 0) {
+            auditRuleEngine.invalidate(companyId);
             logger.info("감사 규칙 수정 완료 - ruleId: {}", ruleId);
             return auditRuleMapper.findById(ruleId, companyId);
         } else {
@@ -79,6 +82,7 @@ public class AuditRuleService {
         
         int result = auditRuleMapper.delete(ruleId, companyId);
         if (result > 0) {
+            auditRuleEngine.invalidate(companyId);
             logger.info("감사 규칙 삭제 완료 - ruleId: {}", ruleId);
         } else {
             throw new BusinessException("감사 규칙 삭제에 실패했습니다.");
@@ -1,6 +1,7 @@
 package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.CompanyDto;
+import com.innersignature.backend.dto.CursorPageResponse;
 import com.innersignature.backend.dto.CompanySearchResultDto;
 import com.innersignature.backend.exception.BusinessException;
 import com.innersignature.backend.mapper.CompanyMapper;
@@ -173,6 +174,33 @@ public class CompanyService {
     public List<CompanyDto> getAllCompanies() {
         return companyMapper.findAll();
     }
+
+    /**
+     * 회사 선택 목록 조회 (SUPERADMIN 전용, 필터 선택 목록용)
+     * 페이지 없이 전체 회사를 ID, 코드, 회사명만으로 반환합니다.
+     */
+    public List<CompanyDto> getCompanyLookup() {
+        return companyMapper.findLookup();
+    }
+
+    /**
+     * 회사 목록 커서 페이지 조회 (SUPERADMIN 전용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param sortAsc true면 company_id 오름차순, false면 내림차순 (최근 등록순)
+     */
+    public CursorPageResponse<CompanyDto> getCompaniesPage(String search, Boolean isActive,
+                                                           Long cursor, Integer size, boolean sortAsc) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<CompanyDto> rows = companyMapper.findPage(search, isActive, cursor, sortAsc, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, CompanyDto::getCompanyId);
+    }
+
+    /**
+     * 회사 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    public long countCompanies(String search, Boolean isActive) {
+        return companyMapper.countForSuperAdmin(search, isActive);
+    }
     
     /**
      * 회사 활성화 상태 변경 (SUPERADMIN 전용)
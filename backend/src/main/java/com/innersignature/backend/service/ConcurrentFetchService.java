@@ -0,0 +1,80 @@
+package com.innersignature.backend.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 독립적인 조회를 동시에 실행하는 서비스
+ * 상세 화면처럼 서로 의존하지 않는 여러 매퍼 호출을 제한된 실행기에서 병렬로 수행하여
+ * 응답 시간을 "조회 시간의 합"이 아니라 "가장 느린 조회" 수준으로 줄입니다.
+ *
+ * 쓰기 트랜잭션 안에서는 다른 스레드(다른 커넥션)가 아직 커밋되지 않은 변경을 볼 수 없으므로
+ * 호출 스레드에서 순차 실행합니다. 트랜잭션이 없거나 읽기 전용일 때만 병렬로 실행합니다.
+ */
+@Service
+public class ConcurrentFetchService {
+
+    private final Executor queryExecutor;
+
+    public ConcurrentFetchService(@Qualifier("queryExecutor") Executor queryExecutor) {
+        this.queryExecutor = queryExecutor;
+    }
+
+    /**
+     * 조회 시작
+     */
+    public <T> CompletableFuture<T> fork(Supplier<T> query) {
+        if (!canRunConcurrently()) {
+            try {
+                return CompletableFuture.completedFuture(query.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        return CompletableFuture.supplyAsync(query, queryExecutor);
+    }
+
+    /**
+     * 조회 결과 대기
+     * 조회 중 발생한 예외(권한, 리소스 없음 등)는 원래 타입 그대로 다시 던집니다.
+     */
+    public <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new IllegalStateException("조회가 취소되었습니다.", e);
+        }
+    }
+
+    /**
+     * 아직 끝나지 않은 조회 취소 (권한 거부 등으로 조기 종료할 때)
+     */
+    public void cancelAll(CompletableFuture<?>... futures) {
+        for (CompletableFuture<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private boolean canRunConcurrently() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
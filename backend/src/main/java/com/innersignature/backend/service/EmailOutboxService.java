@@ -0,0 +1,355 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.EmailOutboxDto;
+import com.innersignature.backend.mapper.EmailOutboxMapper;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 발송 대기열(outbox) 서비스
+ *
+ * 발송할 이메일은 업무 트랜잭션 안에서 email_outbox_tb에 저장만 하고(enqueue), 발송은 dispatch가 따로 처리합니다.
+ * - 같은 dedup_key는 한 번만 저장되어 같은 안내가 중복 발송되지 않음
+ * - 발송 대상을 묶음 단위로 선점하므로 여러 서버가 동시에 발송해도 같은 메일을 두 번 보내지 않음
+ * - 발송 작업 수(parallelism)만큼만 SMTP 연결을 열어 두고 재사용하며, 초당 발송 수를 제한함
+ * - 실패한 메일은 지수 백오프로 재시도하고, 최대 시도 횟수를 넘으면 FAILED로 남김
+ * - SMTP 서버에 연결할 수 없으면(장애) 시도 횟수에 넣지 않고 남은 메일을 기본 재시도 간격 뒤로 미룸
+ *   (장애 동안 대기열 전체가 FAILED로 소진되지 않음)
+ * - 계정 정보가 담긴 메일(isSensitive)은 발송 완료/최종 실패 시 본문을 지우고,
+ *   발송 완료/최종 실패 항목은 보관 기간(retention-days)이 지나면 삭제함
+ * SMTP 서버는 spring.mail.* 설정을 따르므로 로컬 SMTP 대체 서버(MailHog 등)로 바꿔 검증할 수 있습니다.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    // 한 번의 INSERT에 담는 최대 건수
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+    // 보관 기간 만료 항목을 한 번에 삭제하는 최대 건수 (잠금 시간을 짧게 유지)
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final EmailOutboxMapper emailOutboxMapper;
+    private final JavaMailSenderImpl mailSender;
+    private final String fromEmail;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final double ratePerSecond;
+    private final int maxAttempts;
+    private final long retryBaseDelaySeconds;
+    private final long retryMaxDelaySeconds;
+    private final int leaseSeconds;
+    private final int parallelism;
+    private final int retentionDays;
+    private final Executor mailExecutor;
+
+    public EmailOutboxService(EmailOutboxMapper emailOutboxMapper, JavaMailSenderImpl mailSender,
+                              @Qualifier("mailExecutor") Executor mailExecutor,
+                              @Value("${spring.mail.from:${spring.mail.username:noreply@innersignature.com}}") String fromEmail,
+                              @Value("${email.outbox.batch-size:50}") int batchSize,
+                              @Value("${email.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                              @Value("${email.outbox.rate-per-second:5}") double ratePerSecond,
+                              @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+                              @Value("${email.outbox.retry-base-delay-seconds:60}") long retryBaseDelaySeconds,
+                              @Value("${email.outbox.retry-max-delay-seconds:3600}") long retryMaxDelaySeconds,
+                              @Value("${email.outbox.lease-seconds:300}") int leaseSeconds,
+                              @Value("${email.outbox.parallelism:2}") int parallelism,
+                              @Value("${email.outbox.retention-days:30}") int retentionDays) {
+        this.emailOutboxMapper = emailOutboxMapper;
+        this.mailSender = mailSender;
+        this.fromEmail = fromEmail;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerRun = Math.max(1, maxBatchesPerRun);
+        this.ratePerSecond = ratePerSecond;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelaySeconds = Math.max(1, retryBaseDelaySeconds);
+        this.retryMaxDelaySeconds = Math.max(this.retryBaseDelaySeconds, retryMaxDelaySeconds);
+        this.leaseSeconds = Math.max(30, leaseSeconds);
+        this.mailExecutor = mailExecutor;
+        this.parallelism = Math.max(1, parallelism);
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 발송 대기열에 저장 (호출한 쪽의 트랜잭션에 참여하므로 업무 데이터와 함께 커밋/롤백됨)
+     * @return 새로 저장된 건수 (이미 있는 dedup_key는 제외)
+     */
+    @Transactional
+    public int enqueue(List<EmailOutboxDto> emails) {
+        if (emails == null || emails.isEmpty()) {
+            return 0;
+        }
+        int inserted = 0;
+        for (int from = 0; from < emails.size(); from += INSERT_CHUNK_SIZE) {
+            List<EmailOutboxDto> chunk = emails.subList(from, Math.min(from + INSERT_CHUNK_SIZE, emails.size()));
+            // 중복으로 무시된 행은 영향 행 수에 포함되지 않음
+            inserted += emailOutboxMapper.insertIgnoreDuplicates(chunk);
+        }
+        return inserted;
+    }
+
+    /**
+     * 단건 저장
+     */
+    @Transactional
+    public boolean enqueue(EmailOutboxDto email) {
+        return enqueue(List.of(email)) > 0;
+    }
+
+    /**
+     * 발송 대기열 처리
+     * parallelism개의 발송 작업이 각자 SMTP 연결 하나를 재사용하며 묶음을 선점해 발송합니다.
+     * 선점할 항목이 없거나 실행당 최대 묶음 수에 도달하면 종료하고, 초당 발송 수는 작업 전체 합계로 제한합니다.
+     * @return 발송 완료 건수
+     */
+    public int dispatch() {
+        DispatchRun run = new DispatchRun(UUID.randomUUID().toString(), new RateLimiter(ratePerSecond));
+        List<CompletableFuture<Void>> workers = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            try {
+                workers.add(CompletableFuture.runAsync(() -> drain(run), mailExecutor));
+            } catch (RuntimeException e) {
+                // 실행기가 포화되면 이미 시작한 작업만으로 처리
+                logger.warn("이메일 발송 작업 시작 실패: {}", e.getMessage());
+                break;
+            }
+        }
+        for (CompletableFuture<Void> worker : workers) {
+            try {
+                worker.join();
+            } catch (RuntimeException e) {
+                logger.error("이메일 발송 작업 실패", e);
+            }
+        }
+        int sent = run.sent.get();
+        int failed = run.failed.get();
+        int deferred = run.deferred.get();
+        if (sent > 0 || failed > 0 || deferred > 0) {
+            logger.info("이메일 발송 대기열 처리 - 묶음: {}, 발송: {}, 실패: {}, 연기: {}",
+                    Math.min(run.batches.get(), maxBatchesPerRun), sent, failed, deferred);
+        }
+        return sent;
+    }
+
+    /**
+     * 보관 기간이 지난 발송 완료/최종 실패 항목 삭제 (retention-days가 0 이하면 삭제하지 않음)
+     * @return 삭제 건수
+     */
+    public int purgeFinished() {
+        if (retentionDays <= 0) {
+            return 0;
+        }
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = emailOutboxMapper.deleteFinishedBefore(retentionDays, PURGE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk >= PURGE_CHUNK_SIZE);
+        if (deleted > 0) {
+            logger.info("이메일 발송 대기열 보관 기간 만료 항목 삭제 - {}건 ({}일 경과)", deleted, retentionDays);
+        }
+        return deleted;
+    }
+
+    /**
+     * 발송 작업 하나: 묶음 선점 → 발송 → 결과 기록을 반복 (작업 동안 같은 SMTP 연결 사용)
+     */
+    private void drain(DispatchRun run) {
+        Transport transport = null;
+        try {
+            while (!run.smtpUnavailable) {
+                int batch = run.batches.getAndIncrement();
+                if (batch >= maxBatchesPerRun) {
+                    break;
+                }
+                String claimOwner = run.owner + ":" + batch;
+                if (emailOutboxMapper.claimBatch(claimOwner, leaseSeconds, batchSize) == 0) {
+                    break;
+                }
+                List<EmailOutboxDto> emails = emailOutboxMapper.findClaimed(claimOwner);
+
+                List<Long> sentIds = new ArrayList<>();
+                for (int i = 0; i < emails.size(); i++) {
+                    EmailOutboxDto email = emails.get(i);
+                    try {
+                        transport = connected(transport);
+                    } catch (MessagingException e) {
+                        // SMTP 서버에 연결할 수 없으면 남은 항목은 미루고 모든 작업 종료
+                        defer(run, claimOwner, emails.subList(i, emails.size()), e);
+                        break;
+                    }
+                    run.rateLimiter.acquire();
+                    try {
+                        MimeMessage message = toMimeMessage(email);
+                        transport.sendMessage(message, message.getAllRecipients());
+                        sentIds.add(email.getOutboxId());
+                    } catch (MessagingException | RuntimeException e) {
+                        if (!transport.isConnected()) {
+                            // 발송 중 연결이 끊기면 메일 문제가 아니라 서버 장애로 보고 이 메일부터 미룸
+                            defer(run, claimOwner, emails.subList(i, emails.size()), e);
+                            break;
+                        }
+                        markFailed(claimOwner, email, e);
+                        run.failed.incrementAndGet();
+                    }
+                }
+                if (!sentIds.isEmpty()) {
+                    emailOutboxMapper.markSent(sentIds, claimOwner);
+                    run.sent.addAndGet(sentIds.size());
+                }
+            }
+        } finally {
+            close(transport);
+        }
+    }
+
+    /**
+     * 재시도 간격: 기본 간격 × 2^(시도 횟수 - 1), 최대 간격 이내
+     */
+    long retryDelaySeconds(int attempt) {
+        int shift = Math.min(Math.max(0, attempt - 1), 20);
+        return Math.min(retryBaseDelaySeconds << shift, retryMaxDelaySeconds);
+    }
+
+    /**
+     * SMTP 장애로 발송하지 못한 항목을 시도 횟수 증가 없이 기본 재시도 간격 뒤로 미루고, 실행 중인 모든 작업을 멈춤
+     */
+    private void defer(DispatchRun run, String claimOwner, List<EmailOutboxDto> remaining, Exception e) {
+        String error = errorMessage(e);
+        logger.warn("SMTP 연결 실패 - 남은 {}건 {}초 후 재시도 (시도 횟수 미포함): {}", remaining.size(),
+                retryBaseDelaySeconds, error);
+        emailOutboxMapper.deferClaimed(remaining.stream().map(EmailOutboxDto::getOutboxId).toList(), claimOwner,
+                retryBaseDelaySeconds, error);
+        run.deferred.addAndGet(remaining.size());
+        run.smtpUnavailable = true;
+    }
+
+    private void markFailed(String claimOwner, EmailOutboxDto email, Exception e) {
+        int attempt = (email.getAttemptCount() == null ? 0 : email.getAttemptCount()) + 1;
+        boolean exhausted = attempt >= maxAttempts;
+        String error = errorMessage(e);
+        emailOutboxMapper.markAttemptFailed(email.getOutboxId(), claimOwner, exhausted ? "FAILED" : "PENDING",
+                exhausted ? 0 : retryDelaySeconds(attempt), error);
+        if (exhausted) {
+            logger.error("이메일 발송 최종 실패 - outboxId: {}, type: {}, attempts: {}, error: {}",
+                    email.getOutboxId(), email.getEmailType(), attempt, error);
+        } else {
+            logger.warn("이메일 발송 실패 - outboxId: {}, type: {}, attempt: {}, error: {}",
+                    email.getOutboxId(), email.getEmailType(), attempt, error);
+        }
+    }
+
+    private static String errorMessage(Exception e) {
+        String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * SMTP 연결 (끊어진 경우에만 다시 연결하여 실행 중 같은 연결을 재사용)
+     */
+    private Transport connected(Transport transport) throws MessagingException {
+        if (transport != null && transport.isConnected()) {
+            return transport;
+        }
+        close(transport);
+        // protocol 미설정 시 JavaMailSenderImpl과 동일하게 smtp 사용
+        String protocol = mailSender.getProtocol() != null ? mailSender.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL;
+        Transport newTransport = mailSender.getSession().getTransport(protocol);
+        newTransport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        return newTransport;
+    }
+
+    private void close(Transport transport) {
+        if (transport == null) {
+            return;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            logger.debug("SMTP 연결 종료 실패", e);
+        }
+    }
+
+    private MimeMessage toMimeMessage(EmailOutboxDto email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setFrom(fromEmail);
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody());
+        message.setSentDate(new Date());
+        message.saveChanges();
+        return message;
+    }
+
+    /**
+     * 한 번의 dispatch 실행 상태 (발송 작업들이 공유)
+     */
+    private static class DispatchRun {
+        private final String owner;
+        private final RateLimiter rateLimiter;
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger deferred = new AtomicInteger();
+        private volatile boolean smtpUnavailable;
+
+        private DispatchRun(String owner, RateLimiter rateLimiter) {
+            this.owner = owner;
+            this.rateLimiter = rateLimiter;
+        }
+    }
+
+    /**
+     * 초당 발송 수 제한 (발송 간 최소 간격 유지, 0 이하면 제한 없음)
+     * 대기 시간 계산만 동기화하고 대기는 각 작업 스레드에서 합니다.
+     */
+    private static class RateLimiter {
+        private final long intervalNanos;
+        private long nextAt = System.nanoTime();
+
+        private RateLimiter(double permitsPerSecond) {
+            this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        }
+
+        private void acquire() {
+            if (intervalNanos == 0) {
+                return;
+            }
+            long waitNanos = reserve() - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        // 다음 발송 가능 시각을 예약하고 이번 발송 시각을 반환
+        private synchronized long reserve() {
+            long at = Math.max(nextAt, System.nanoTime());
+            nextAt = at + intervalNanos;
+            return at;
+        }
+    }
+}
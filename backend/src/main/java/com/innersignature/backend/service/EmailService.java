@@ -1,70 +1,63 @@
 package com.innersignature.backend.service;
 
+import com.innersignature.backend.dto.EmailOutboxDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
+/**
+ * 계정 안내 메일 서비스
+ * 메일은 요청 처리 중에 직접 보내지 않고 발송 대기열(EmailOutboxService)에 저장만 하므로,
+ * SMTP 서버 지연/장애가 API 응답 시간에 영향을 주지 않습니다. 발송은 EmailOutboxScheduler가 처리합니다.
+ * 본문에 아이디와 재설정 링크가 담기므로 민감 본문(isSensitive)으로 저장하여 발송 후 대기열에서 본문을 지웁니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
-    private final JavaMailSender mailSender;
 
-    @Value("${spring.mail.from:${spring.mail.username:noreply@innersignature.com}}")
-    private String fromEmail;
+    static final String ID_FIND_EMAIL_TYPE = "ID_FIND";
+    static final String PASSWORD_RESET_EMAIL_TYPE = "PASSWORD_RESET";
+
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.frontend.url:http://localhost:5173}")
     private String frontendUrl;
 
     /**
-     * 아이디 찾기 이메일 발송
+     * 아이디 찾기 이메일 발송 요청 (발송 대기열에 저장)
      * @param toEmail 수신자 이메일
      * @param koreanName 수신자 이름
      * @param username 찾은 아이디
      */
     public void sendIdFindEmail(String toEmail, String koreanName, String username) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("[InnerSignature] 아이디 찾기 결과");
-            message.setText(
+        enqueue(ID_FIND_EMAIL_TYPE, toEmail,
+                "[InnerSignature] 아이디 찾기 결과",
                 koreanName + "님 안녕하세요.\n\n" +
                 "요청하신 아이디 찾기 결과입니다.\n\n" +
                 "아이디: " + username + "\n\n" +
                 "본인이 요청한 것이 아니라면 고객센터로 문의해주세요.\n\n" +
                 "감사합니다.\n" +
-                "InnerSignature 팀"
-            );
-
-            mailSender.send(message);
-            logger.info("아이디 찾기 이메일 발송 완료 - to: {}", toEmail);
-        } catch (Exception e) {
-            logger.error("아이디 찾기 이메일 발송 실패 - to: {}, error: {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+                "InnerSignature 팀");
+        logger.info("아이디 찾기 이메일 발송 요청 완료 - to: {}", toEmail);
     }
 
     /**
-     * 비밀번호 재설정 이메일 발송
+     * 비밀번호 재설정 이메일 발송 요청 (발송 대기열에 저장)
+     * 토큰 생성과 같은 트랜잭션에서 호출하면 토큰 저장이 롤백될 때 메일도 발송되지 않습니다.
      * @param toEmail 수신자 이메일
      * @param koreanName 수신자 이름
      * @param resetToken 재설정 토큰
      */
     public void sendPasswordResetEmail(String toEmail, String koreanName, String resetToken) {
-        try {
-            String resetUrl = frontendUrl + "/reset-password/" + resetToken;
-
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(toEmail);
-            message.setSubject("[InnerSignature] 비밀번호 재설정 안내");
-            message.setText(
+        String resetUrl = frontendUrl + "/reset-password/" + resetToken;
+        enqueue(PASSWORD_RESET_EMAIL_TYPE, toEmail,
+                "[InnerSignature] 비밀번호 재설정 안내",
                 koreanName + "님 안녕하세요.\n\n" +
                 "비밀번호 재설정을 요청하셨습니다.\n\n" +
                 "아래 링크를 클릭하여 비밀번호를 재설정해주세요.\n" +
@@ -72,15 +65,19 @@ public class EmailService {
                 resetUrl + "\n\n" +
                 "본인이 요청한 것이 아니라면 이 이메일을 무시하시면 됩니다.\n\n" +
                 "감사합니다.\n" +
-                "InnerSignature 팀"
-            );
+                "InnerSignature 팀");
+        logger.info("비밀번호 재설정 이메일 발송 요청 완료 - to: {}", toEmail);
+    }
 
-            mailSender.send(message);
-            logger.info("비밀번호 재설정 이메일 발송 완료 - to: {}", toEmail);
-        } catch (Exception e) {
-            logger.error("비밀번호 재설정 이메일 발송 실패 - to: {}, error: {}", toEmail, e.getMessage());
-            throw new RuntimeException("이메일 발송에 실패했습니다.", e);
-        }
+    private void enqueue(String emailType, String toEmail, String subject, String body) {
+        EmailOutboxDto email = new EmailOutboxDto();
+        email.setEmailType(emailType);
+        // 요청마다 새로 보내는 메일이므로 요청 단위 키 사용
+        email.setDedupKey(emailType + ":" + UUID.randomUUID());
+        email.setRecipient(toEmail);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setIsSensitive(true);
+        emailOutboxService.enqueue(email);
     }
 }
-
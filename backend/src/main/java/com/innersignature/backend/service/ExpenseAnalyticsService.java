@@ -2,38 +2,41 @@ package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.*;
 import com.innersignature.backend.mapper.ExpenseMapper;
+import com.innersignature.backend.mapper.ExpenseRollupMapper;
 import com.innersignature.backend.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 결의서 분석 및 통계 서비스
  * 대시보드, 차트, 통계 데이터 제공
+ * 기간 통계는 일별 집계 테이블(ExpenseRollupService가 유지)에서 조회합니다.
+ * 조회 결과는 AnalyticsCacheService에 짧게 캐시되며, 결의서 변경 시 회사 단위로 무효화됩니다.
  */
 @Service
 @RequiredArgsConstructor
 public class ExpenseAnalyticsService {
 
     private final ExpenseMapper expenseMapper;
+    private final ExpenseRollupMapper expenseRollupMapper;
+    private final AnalyticsCacheService analyticsCacheService;
 
     /**
      * 대시보드 통계 조회
      */
     public DashboardStatsDto getDashboardStats(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-
-        DashboardStatsDto stats = new DashboardStatsDto();
-
-        // 기본 통계 계산
-        List<ExpenseReportDto> reports = expenseMapper.selectExpenseList(companyId);
-        stats.setTotalAmount(calculateTotalAmount(reports));
-        stats.setTotalCount((long) reports.size());
-        stats.setPendingCount(reports.stream().filter(r -> "WAIT".equals(r.getStatus())).count());
-
-        return stats;
+        return analyticsCacheService.get(companyId, "dashboardStats",
+                () -> expenseRollupMapper.selectDashboardStats(startDate, endDate, companyId), startDate, endDate);
     }
 
     /**
@@ -41,7 +44,8 @@ public class ExpenseAnalyticsService {
      */
     public List<MonthlyTrendDto> getMonthlyTrend(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectMonthlyTrend(startDate, endDate, companyId);
+        return analyticsCacheService.get(companyId, "monthlyTrend",
+                () -> expenseRollupMapper.selectMonthlyTrend(startDate, endDate, companyId), startDate, endDate);
     }
 
     /**
@@ -49,15 +53,141 @@ public class ExpenseAnalyticsService {
      */
     public List<StatusStatsDto> getStatusStats(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectStatusStats(startDate, endDate, companyId);
+        return analyticsCacheService.get(companyId, "statusStats",
+                () -> expenseRollupMapper.selectStatusStats(startDate, endDate, companyId), startDate, endDate);
     }
 
     /**
-     * 카테고리별 비율 조회
+     * 카테고리별 비율 조회 (비율 계산 포함)
      */
     public List<CategoryRatioDto> getCategoryRatio(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectCategoryRatio(startDate, endDate, companyId);
+        return analyticsCacheService.get(companyId, "categoryRatio", () -> {
+            List<CategoryRatioDto> ratios = expenseRollupMapper.selectCategoryRatio(startDate, endDate, companyId);
+            applyCategoryRatio(ratios);
+            return ratios;
+        }, startDate, endDate);
+    }
+
+    /**
+     * 대시보드 통합 조회
+     * 위젯별 API 5개가 각각 집계하던 내용을 한 번의 조회 결과로 한 번에 계산합니다.
+     * 각 위젯의 값과 정렬은 개별 API(getDashboardStats, getMonthlyTrend 등)와 동일합니다.
+     */
+    public ExpenseDashboardDto getDashboard(LocalDate startDate, LocalDate endDate) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        return analyticsCacheService.get(companyId, "dashboard",
+                () -> buildDashboard(startDate, endDate, companyId), startDate, endDate);
+    }
+
+    private ExpenseDashboardDto buildDashboard(LocalDate startDate, LocalDate endDate, Long companyId) {
+        List<DashboardRollupRowDto> rows = expenseRollupMapper.selectDashboardRows(startDate, endDate, companyId);
+
+        // 요약 통계 (승인 건 기준, 대기 건수는 WAIT)
+        long approvedAmount = 0L;
+        long approvedCount = 0L;
+        long maxAmount = Long.MIN_VALUE;
+        long minAmount = Long.MAX_VALUE;
+        long pendingCount = 0L;
+        // 년월 -> 승인 금액 (년월 오름차순)
+        Map<String, long[]> monthlyAmounts = new TreeMap<>();
+        // 상태 -> [건수, 금액]
+        Map<String, long[]> statusTotals = new LinkedHashMap<>();
+        // 작성자 -> [승인 금액, 승인 건수]
+        Map<Long, long[]> userTotals = new HashMap<>();
+        List<DashboardRollupRowDto> users = new ArrayList<>();
+        List<CategoryRatioDto> categoryRatio = new ArrayList<>();
+
+        for (DashboardRollupRowDto row : rows) {
+            switch (row.getKind()) {
+                case "REPORT" -> {
+                    long count = nullToZero(row.getItemCount());
+                    long amount = nullToZero(row.getTotalAmount());
+                    long[] status = statusTotals.computeIfAbsent(row.getStatus(), k -> new long[2]);
+                    status[0] += count;
+                    status[1] += amount;
+                    if ("WAIT".equals(row.getStatus())) {
+                        pendingCount += count;
+                    }
+                    if (!"APPROVED".equals(row.getStatus())) {
+                        continue;
+                    }
+                    approvedAmount += amount;
+                    approvedCount += count;
+                    if (row.getMaxAmount() != null) {
+                        maxAmount = Math.max(maxAmount, row.getMaxAmount());
+                    }
+                    if (row.getMinAmount() != null) {
+                        minAmount = Math.min(minAmount, row.getMinAmount());
+                    }
+                    monthlyAmounts.computeIfAbsent(row.getYearMonth(), k -> new long[1])[0] += amount;
+                    long[] user = userTotals.computeIfAbsent(row.getUserId(), k -> new long[2]);
+                    user[0] += amount;
+                    user[1] += count;
+                }
+                case "CATEGORY" -> {
+                    CategoryRatioDto ratio = new CategoryRatioDto();
+                    ratio.setCategory(row.getCategory());
+                    ratio.setAmount(nullToZero(row.getTotalAmount()));
+                    ratio.setRatio(0.0);
+                    categoryRatio.add(ratio);
+                }
+                case "USER" -> users.add(row);
+                default -> {
+                    // 알 수 없는 행 종류는 무시
+                }
+            }
+        }
+
+        DashboardStatsDto stats = new DashboardStatsDto();
+        stats.setTotalAmount(approvedAmount);
+        stats.setTotalCount(approvedCount);
+        stats.setAverageAmount(approvedCount > 0 ? approvedAmount / approvedCount : 0L);
+        stats.setMaxAmount(maxAmount == Long.MIN_VALUE ? 0L : maxAmount);
+        stats.setMinAmount(minAmount == Long.MAX_VALUE ? 0L : minAmount);
+        stats.setPendingCount(pendingCount);
+
+        List<MonthlyTrendDto> monthlyTrend = new ArrayList<>(monthlyAmounts.size());
+        monthlyAmounts.forEach((yearMonth, amount) -> {
+            MonthlyTrendDto trend = new MonthlyTrendDto();
+            trend.setYearMonth(yearMonth);
+            trend.setTotalAmount(amount[0]);
+            monthlyTrend.add(trend);
+        });
+
+        List<StatusStatsDto> statusStats = new ArrayList<>(statusTotals.size());
+        statusTotals.forEach((status, totals) -> {
+            StatusStatsDto dto = new StatusStatsDto();
+            dto.setStatus(status);
+            dto.setCount(totals[0]);
+            dto.setTotalAmount(totals[1]);
+            statusStats.add(dto);
+        });
+        statusStats.sort(Comparator.comparing(StatusStatsDto::getCount).reversed());
+
+        // 지출이 없는 사용자도 0원으로 포함 (개별 API의 LEFT JOIN과 동일)
+        List<UserExpenseStatsDto> userStats = new ArrayList<>(users.size());
+        for (DashboardRollupRowDto user : users) {
+            long[] totals = userTotals.getOrDefault(user.getUserId(), new long[2]);
+            UserExpenseStatsDto dto = new UserExpenseStatsDto();
+            dto.setUserId(user.getUserId());
+            dto.setUserName(user.getUserName());
+            dto.setTotalAmount(totals[0]);
+            dto.setItemCount(totals[1]);
+            userStats.add(dto);
+        }
+        userStats.sort(Comparator.comparing(UserExpenseStatsDto::getTotalAmount).reversed());
+
+        categoryRatio.sort(Comparator.comparing(CategoryRatioDto::getAmount).reversed());
+        applyCategoryRatio(categoryRatio);
+
+        ExpenseDashboardDto dashboard = new ExpenseDashboardDto();
+        dashboard.setStats(stats);
+        dashboard.setMonthlyTrend(monthlyTrend);
+        dashboard.setStatusStats(statusStats);
+        dashboard.setUserStats(userStats);
+        dashboard.setCategoryRatio(categoryRatio);
+        return dashboard;
     }
 
     /**
@@ -65,7 +195,11 @@ public class ExpenseAnalyticsService {
      */
     public ExpenseStatusCountDto getExpenseStatusCounts(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
+        return analyticsCacheService.get(companyId, "expenseStatusCounts",
+                () -> countExpensesByStatus(startDate, endDate, companyId), startDate, endDate);
+    }
 
+    private ExpenseStatusCountDto countExpensesByStatus(LocalDate startDate, LocalDate endDate, Long companyId) {
         ExpenseStatusCountDto counts = new ExpenseStatusCountDto();
         counts.setWaitCount(expenseMapper.countExpensesByStatus(companyId, "WAIT", startDate, endDate));
         counts.setApprovedCount(expenseMapper.countExpensesByStatus(companyId, "APPROVED", startDate, endDate));
@@ -81,7 +215,8 @@ public class ExpenseAnalyticsService {
      */
     public List<UserExpenseStatsDto> getUserExpenseStats(LocalDate startDate, LocalDate endDate) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectUserExpenseStats(companyId, startDate, endDate);
+        return analyticsCacheService.get(companyId, "userExpenseStats",
+                () -> expenseRollupMapper.selectUserExpenseStats(companyId, startDate, endDate), startDate, endDate);
     }
 
     /**
@@ -89,6 +224,11 @@ public class ExpenseAnalyticsService {
      */
     public List<ExpenseReportDto> getRecentActivities(int limit) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
+        return analyticsCacheService.get(companyId, "recentActivities",
+                () -> loadRecentActivities(limit, companyId), limit);
+    }
+
+    private List<ExpenseReportDto> loadRecentActivities(int limit, Long companyId) {
         List<ExpenseReportDto> reports = expenseMapper.selectRecentActivities(companyId, limit);
 
         // 요약 정보 생성
@@ -101,11 +241,24 @@ public class ExpenseAnalyticsService {
 
     // ===== Private Helper Methods =====
 
-    private long calculateTotalAmount(List<ExpenseReportDto> reports) {
-        return reports.stream()
-                .filter(r -> "APPROVED".equals(r.getStatus()) || "PAID".equals(r.getStatus()))
-                .mapToLong(r -> r.getTotalAmount() != null ? r.getTotalAmount() : 0L)
+    /**
+     * 카테고리별 비율 계산 (전체 금액 대비)
+     */
+    private void applyCategoryRatio(List<CategoryRatioDto> ratios) {
+        long totalAmount = ratios.stream()
+                .mapToLong(CategoryRatioDto::getAmount)
                 .sum();
+
+        if (totalAmount > 0) {
+            for (CategoryRatioDto ratio : ratios) {
+                double percentage = (double) ratio.getAmount() / totalAmount;
+                ratio.setRatio(percentage);
+            }
+        }
+    }
+
+    private long nullToZero(Long value) {
+        return value != null ? value : 0L;
     }
 
     private void generateSummaryDescription(ExpenseReportDto report) {
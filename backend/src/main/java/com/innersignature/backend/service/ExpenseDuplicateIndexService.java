@@ -0,0 +1,190 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ExpenseDetailDto;
+import com.innersignature.backend.dto.ExpenseDuplicateMatchDto;
+import com.innersignature.backend.mapper.ExpenseDuplicateIndexMapper;
+import com.innersignature.backend.mapper.ExpenseRollupMapper;
+import lombok.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 타 결의서 중복 결제 탐지 인덱스 서비스
+ * 상세 항목을 (회사, 가맹점, 금액, 7일 구간) 해시로 색인해 두고, 감사 시 해시 등치 조회로 후보를 찾습니다.
+ * 기간 범위 스캔 없이 조회 창(windowDays)이 걸치는 구간 수(보통 2~3개)만큼의 키만 조회합니다.
+ *
+ * 인덱스는 ExpenseRollupService가 결의서 변경을 커밋 직전에 반영할 때 함께 갱신됩니다.
+ */
+@Service
+public class ExpenseDuplicateIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseDuplicateIndexService.class);
+
+    // 일자 구간 크기 (ExpenseDuplicateIndexMapper.xml의 matchHash와 같아야 함)
+    static final int BUCKET_DAYS = 7;
+    // 조회 창 상한 (구간 키가 과도하게 늘어나지 않도록 제한)
+    static final int MAX_WINDOW_DAYS = 31;
+
+    private final ExpenseDuplicateIndexMapper expenseDuplicateIndexMapper;
+    private final ExpenseRollupMapper expenseRollupMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExpenseDuplicateIndexService(ExpenseDuplicateIndexMapper expenseDuplicateIndexMapper,
+                                        ExpenseRollupMapper expenseRollupMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.expenseDuplicateIndexMapper = expenseDuplicateIndexMapper;
+        this.expenseRollupMapper = expenseRollupMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 결의서들의 인덱스 재생성 (상태/상세 항목 변경 반영)
+     * 집계 갱신과 같은 (회사, 일자) 잠금 안에서 호출됩니다.
+     */
+    public void refreshReports(Long companyId, Collection<Long> expenseReportIds) {
+        if (companyId == null || expenseReportIds == null || expenseReportIds.isEmpty()) {
+            return;
+        }
+        expenseDuplicateIndexMapper.deleteByReportIds(companyId, expenseReportIds);
+        expenseDuplicateIndexMapper.insertForReports(companyId, expenseReportIds);
+    }
+
+    /**
+     * 기간 내 인덱스 재생성 (재감사 전 누락 보정용, 별도 트랜잭션)
+     * @return 생성된 인덱스 행 수
+     */
+    public int rebuildRange(Long companyId, LocalDate startDate, LocalDate endDate) {
+        Integer rows = transactionTemplate.execute(status -> {
+            // 결의서 변경 시의 인덱스 갱신과 겹치지 않도록 집계 갱신과 같은 (회사, 일자) 잠금 사용
+            List<LocalDate> days = startDate.datesUntil(endDate.plusDays(1)).toList();
+            if (!days.isEmpty()) {
+                expenseRollupMapper.lockRollupDays(companyId, days);
+            }
+            expenseDuplicateIndexMapper.deleteByDateRange(companyId, startDate, endDate);
+            return expenseDuplicateIndexMapper.insertForDateRange(companyId, startDate, endDate);
+        });
+        logger.info("중복 결제 인덱스 재생성 - companyId: {}, {} ~ {}, rows: {}", companyId, startDate, endDate, rows);
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * 기준 결의서보다 먼저 등록된 결의서 중 같은 가맹점/금액이 windowDays 이내인 항목 조회
+     * @param expenseDate 기준 결의서 사용 일자
+     * @param details 기준 결의서 상세 항목
+     * @param sameCard true이면 같은 카드(암호문 기준)로 결제한 항목만 반환
+     * @return 상세 항목별 중복 후보 (후보가 없는 항목은 제외)
+     */
+    public List<DuplicateMatch> findMatches(Long companyId, Long expenseReportId, LocalDate expenseDate,
+                                            List<ExpenseDetailDto> details, int windowDays, boolean sameCard) {
+        List<DuplicateMatch> result = new ArrayList<>();
+        if (companyId == null || expenseReportId == null || expenseDate == null || details == null) {
+            return result;
+        }
+        int window = Math.max(0, Math.min(windowDays, MAX_WINDOW_DAYS));
+        long firstBucket = bucketOf(expenseDate.minusDays(window));
+        long lastBucket = bucketOf(expenseDate.plusDays(window));
+
+        Set<ProbeKey> probes = new LinkedHashSet<>();
+        for (ExpenseDetailDto detail : details) {
+            if (!isIndexable(detail)) {
+                continue;
+            }
+            for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+                probes.add(new ProbeKey(detail.getMerchantName(), detail.getAmount(), bucket));
+            }
+        }
+        if (probes.isEmpty()) {
+            return result;
+        }
+
+        List<ExpenseDuplicateMatchDto> candidates =
+                expenseDuplicateIndexMapper.selectMatches(companyId, probes, expenseReportId);
+        if (candidates.isEmpty()) {
+            return result;
+        }
+
+        for (ExpenseDetailDto detail : details) {
+            if (!isIndexable(detail)) {
+                continue;
+            }
+            String merchantKey = normalizeMerchant(detail.getMerchantName());
+            String cardHash = sameCard ? cardHash(detail.getCardNumber()) : null;
+            if (sameCard && cardHash == null) {
+                continue;
+            }
+            List<ExpenseDuplicateMatchDto> matches = new ArrayList<>();
+            for (ExpenseDuplicateMatchDto candidate : candidates) {
+                if (detail.getAmount().equals(candidate.getAmount())
+                        && merchantKey.equalsIgnoreCase(candidate.getMerchantKey())
+                        && Math.abs(ChronoUnit.DAYS.between(expenseDate, candidate.getExpenseDate())) <= window
+                        && (!sameCard || cardHash.equals(candidate.getCardHash()))) {
+                    matches.add(candidate);
+                }
+            }
+            if (!matches.isEmpty()) {
+                result.add(new DuplicateMatch(detail, matches));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIndexable(ExpenseDetailDto detail) {
+        return detail.getMerchantName() != null && !detail.getMerchantName().isBlank()
+                && detail.getAmount() != null && detail.getAmount() > 0;
+    }
+
+    private static long bucketOf(LocalDate date) {
+        return Math.floorDiv(date.toEpochDay(), BUCKET_DAYS);
+    }
+
+    private static String normalizeMerchant(String merchantName) {
+        return merchantName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 카드번호 암호문의 SHA-256 (인덱스의 card_hash와 같은 값, 암호화가 결정적이므로 같은 카드면 같은 값)
+     */
+    private static String cardHash(String encryptedCardNumber) {
+        if (encryptedCardNumber == null || encryptedCardNumber.isEmpty()) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(encryptedCardNumber.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 인덱스 조회 키 (매퍼에서 matchHash로 해시 계산)
+     */
+    @Value
+    public static class ProbeKey {
+        String merchantName;
+        Long amount;
+        long bucket;
+    }
+
+    /**
+     * 상세 항목별 중복 후보
+     */
+    public record DuplicateMatch(ExpenseDetailDto detail, List<ExpenseDuplicateMatchDto> matches) {
+    }
+}
@@ -3,10 +3,16 @@ package com.innersignature.backend.service;
 import com.innersignature.backend.dto.ReceiptDto;
 import com.innersignature.backend.mapper.ExpenseMapper;
 import com.innersignature.backend.util.ReceiptCompressor;
+import com.innersignature.backend.util.ReceiptPathResolver;
+import com.innersignature.backend.util.ReceiptPreviewGenerator;
 import com.innersignature.backend.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -25,6 +31,8 @@ import java.util.UUID;
 @Transactional(readOnly = true)
 public class ExpenseReceiptService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseReceiptService.class);
+
     private final ExpenseMapper expenseMapper;
     private final ExpenseReportService expenseReportService;
 
@@ -41,11 +49,12 @@ public class ExpenseReceiptService {
 
     /**
      * 상세 내역별 영수증 업로드
+     * 미리보기는 영수증 행이 커밋된 뒤 생성하고, 트랜잭션이 롤백되면 저장한 파일을 지웁니다.
      */
     @Transactional
     public void uploadReceiptForDetail(Long expenseDetailId, Long expenseReportId, Long userId, MultipartFile file) throws IOException {
         // 결의서 접근 권한 검증
-        expenseReportService.getExpenseDetail(expenseReportId, userId);
+        expenseReportService.checkAccess(expenseReportId, userId);
 
         // 파일 검증
         validateReceiptFile(file);
@@ -61,6 +70,19 @@ public class ExpenseReceiptService {
             fileName = fileName + ".pdf";
         }
         String filePath = saveFile(file, fileName);
+        Path storedPath = ReceiptPathResolver.resolve(filePath);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        generatePreview(storedPath);
+                    } else {
+                        deleteStoredFile(storedPath);
+                    }
+                }
+            });
+        }
 
         // 데이터베이스 저장
         ReceiptDto receipt = new ReceiptDto();
@@ -79,6 +101,33 @@ public class ExpenseReceiptService {
         Long companyId = SecurityUtil.getCurrentCompanyId();
         receipt.setCompanyId(companyId);
         expenseMapper.insertReceipt(receipt);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generatePreview(storedPath);
+        }
+    }
+
+    /**
+     * 결재 화면용 첫 페이지 미리보기 생성 (실패해도 업로드는 진행, 조회 시 재생성)
+     */
+    private void generatePreview(Path filePath) {
+        try {
+            ReceiptPreviewGenerator.generatePreview(filePath);
+        } catch (Exception e) {
+            logger.warn("영수증 미리보기 생성 실패 - filePath: {}", filePath, e);
+        }
+    }
+
+    /**
+     * 영수증 행이 저장되지 않은 경우 업로드한 파일과 미리보기 삭제
+     */
+    private void deleteStoredFile(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+            ReceiptPreviewGenerator.deletePreview(filePath);
+        } catch (IOException e) {
+            logger.warn("롤백된 영수증 파일 삭제 실패 - filePath: {}", filePath, e);
+        }
     }
 
     /**
@@ -86,7 +135,7 @@ public class ExpenseReceiptService {
      */
     public List<ReceiptDto> getReceipts(Long expenseReportId, Long userId) {
         // 결의서 접근 권한 검증
-        expenseReportService.getExpenseDetail(expenseReportId, userId);
+        expenseReportService.checkAccess(expenseReportId, userId);
 
         Long companyId = SecurityUtil.getCurrentCompanyId();
         return expenseMapper.selectReceiptsByExpenseReportId(expenseReportId, companyId);
@@ -97,7 +146,7 @@ public class ExpenseReceiptService {
      */
     public List<ReceiptDto> getReceiptsByDetail(Long expenseDetailId, Long expenseReportId, Long userId) {
         // 결의서 접근 권한 검증
-        expenseReportService.getExpenseDetail(expenseReportId, userId);
+        expenseReportService.checkAccess(expenseReportId, userId);
 
         Long companyId = SecurityUtil.getCurrentCompanyId();
         return expenseMapper.selectReceiptsByExpenseDetailId(expenseDetailId, companyId);
@@ -114,7 +163,7 @@ public class ExpenseReceiptService {
         }
 
         // 결의서 접근 권한 검증
-        expenseReportService.getExpenseDetail(receipt.getExpenseReportId(), userId);
+        expenseReportService.checkAccess(receipt.getExpenseReportId(), userId);
 
         return receipt;
     }
@@ -128,8 +177,10 @@ public class ExpenseReceiptService {
 
         // 파일 시스템에서 삭제
         try {
-            Files.deleteIfExists(Paths.get(receipt.getFilePath()));
-        } catch (IOException e) {
+            Path filePath = ReceiptPathResolver.resolve(receipt.getFilePath());
+            Files.deleteIfExists(filePath);
+            ReceiptPreviewGenerator.deletePreview(filePath);
+        } catch (IOException | com.innersignature.backend.exception.BusinessException e) {
             // 파일 삭제 실패해도 데이터베이스에서는 삭제 진행
             System.err.println("영수증 파일 삭제 실패: " + e.getMessage());
         }
@@ -145,7 +196,7 @@ public class ExpenseReceiptService {
     public byte[] downloadReceipt(Long receiptId, Long userId) throws IOException {
         ReceiptDto receipt = getReceiptById(receiptId, userId);
 
-        Path filePath = Paths.get(receipt.getFilePath());
+        Path filePath = ReceiptPathResolver.resolve(receipt.getFilePath());
         if (!Files.exists(filePath)) {
             throw new RuntimeException("영수증 파일이 존재하지 않습니다.");
         }
@@ -153,6 +204,19 @@ public class ExpenseReceiptService {
         return Files.readAllBytes(filePath);
     }
 
+    /**
+     * 영수증 미리보기 이미지 경로 조회
+     * 미리보기가 아직 없으면(이전 업로드분 등) 이 시점에 생성합니다.
+     * 호출 전에 getReceiptById 등으로 권한 검증이 끝나 있어야 합니다.
+     */
+    public Path getOrCreatePreview(ReceiptDto receipt) throws IOException {
+        Path filePath = ReceiptPathResolver.resolve(receipt.getFilePath());
+        if (!Files.exists(filePath)) {
+            throw new com.innersignature.backend.exception.ResourceNotFoundException("영수증 파일을 찾을 수 없습니다.");
+        }
+        return ReceiptPreviewGenerator.getOrCreatePreview(filePath);
+    }
+
     // ===== Private Helper Methods =====
 
     private void validateReceiptFile(MultipartFile file) {
@@ -4,6 +4,7 @@ import com.innersignature.backend.dto.ApprovalLineDto;
 import com.innersignature.backend.dto.ExpenseDetailDto;
 import com.innersignature.backend.dto.ExpenseReportDto;
 import com.innersignature.backend.dto.PagedResponse;
+import com.innersignature.backend.dto.ReportAccessDto;
 import com.innersignature.backend.dto.UserDto;
 import com.innersignature.backend.mapper.ExpenseMapper;
 import com.innersignature.backend.util.SecurityUtil;
@@ -11,7 +12,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * 결의서 기본 CRUD 서비스
@@ -24,6 +28,7 @@ public class ExpenseReportService {
 
     private final ExpenseMapper expenseMapper;
     private final UserService userService;
+    private final ConcurrentFetchService concurrentFetchService;
 
     /**
      * 결의서 목록 조회 (페이지네이션 미적용)
@@ -70,38 +75,67 @@ public class ExpenseReportService {
 
     /**
      * 결의서 상세 조회
+     * 문서, 상세 항목, 결재선을 동시에 조회한 뒤 권한을 확인합니다.
      */
     public ExpenseReportDto getExpenseDetail(Long expenseReportId, Long userId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
 
-        // 기본 정보 조회
-        List<ExpenseReportDto> reports = expenseMapper.selectExpenseList(companyId);
-        ExpenseReportDto report = reports.stream()
-                .filter(r -> r.getExpenseReportId().equals(expenseReportId))
-                .findFirst()
-                .orElse(null);
+        CompletableFuture<ExpenseReportDto> reportFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectExpenseReportById(expenseReportId, companyId));
+        CompletableFuture<List<ApprovalLineDto>> approvalLinesFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectApprovalLines(expenseReportId, companyId));
+        CompletableFuture<List<ExpenseDetailDto>> detailsFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectExpenseDetails(expenseReportId, companyId));
+
+        try {
+            // 기본 정보 조회
+            ExpenseReportDto report = concurrentFetchService.join(reportFuture);
+            if (report == null) {
+                throw new RuntimeException("결의서를 찾을 수 없습니다.");
+            }
 
-        if (report == null) {
-            throw new RuntimeException("결의서를 찾을 수 없습니다.");
-        }
+            // 결재선 정보 조회
+            report.setApprovalLines(concurrentFetchService.join(approvalLinesFuture));
 
-        // 상세 정보 조회
-        List<ExpenseDetailDto> details = expenseMapper.selectExpenseDetails(expenseReportId, companyId);
-        report.setDetails(details);
+            // 권한 체크
+            if (!canAccessExpense(report, userId)) {
+                throw new RuntimeException("접근 권한이 없습니다.");
+            }
 
-        // 결재선 정보 조회
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseReportId, companyId);
-        report.setApprovalLines(approvalLines);
+            // 상세 정보 조회
+            List<ExpenseDetailDto> details = concurrentFetchService.join(detailsFuture);
+            report.setDetails(details);
 
-        // 권한 체크
-        if (!canAccessExpense(report, userId)) {
-            throw new RuntimeException("접근 권한이 없습니다.");
-        }
+            // 요약 정보 생성 (목록 쿼리의 firstDescription/descriptionCount를 상세 항목으로 계산)
+            applyDescriptionSummary(report, details);
+            generateSummaryDescription(report);
 
-        // 요약 정보 생성
-        generateSummaryDescription(report);
+            return report;
+        } catch (RuntimeException e) {
+            concurrentFetchService.cancelAll(reportFuture, approvalLinesFuture, detailsFuture);
+            throw e;
+        }
+    }
 
-        return report;
+    /**
+     * 결의서 접근 권한만 확인 (getExpenseDetail과 동일한 규칙)
+     * 권한 확인 뒤 별도 조회가 이어지는 경우 상세 조회 전체 대신 사용합니다.
+     */
+    public void checkAccess(Long expenseReportId, Long userId) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        ReportAccessDto access = expenseMapper.selectReportAccess(expenseReportId, userId, companyId);
+        if (access == null) {
+            throw new RuntimeException("결의서를 찾을 수 없습니다.");
+        }
+        if (userId == null) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
+        if (access.isDrafter(userId) || access.isApprover()) {
+            return;
+        }
+        if (!hasViewAllRole(userId)) {
+            throw new RuntimeException("접근 권한이 없습니다.");
+        }
     }
 
     /**
@@ -218,15 +252,16 @@ public class ExpenseReportService {
         }
         
         // ADMIN, CEO, ACCOUNTANT, TAX_ACCOUNTANT는 모든 문서 조회 가능
+        return hasViewAllRole(userId);
+    }
+
+    private boolean hasViewAllRole(Long userId) {
         UserDto user = userService.selectUserById(userId);
         if (user != null) {
             String role = user.getRole();
-            if ("ADMIN".equals(role) || "CEO".equals(role) || 
-                "ACCOUNTANT".equals(role) || "TAX_ACCOUNTANT".equals(role)) {
-                return true;
-            }
+            return "ADMIN".equals(role) || "CEO".equals(role) ||
+                "ACCOUNTANT".equals(role) || "TAX_ACCOUNTANT".equals(role);
         }
-        
         return false;
     }
 
@@ -264,6 +299,17 @@ public class ExpenseReportService {
         return allReports.size();
     }
 
+    private void applyDescriptionSummary(ExpenseReportDto report, List<ExpenseDetailDto> details) {
+        List<String> descriptions = details == null ? List.of() : details.stream()
+                .filter(d -> d.getDescription() != null && !d.getDescription().trim().isEmpty())
+                .sorted(Comparator.comparing(ExpenseDetailDto::getExpenseDetailId,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(ExpenseDetailDto::getDescription)
+                .collect(Collectors.toList());
+        report.setDescriptionCount(descriptions.size());
+        report.setFirstDescription(descriptions.isEmpty() ? null : descriptions.get(0));
+    }
+
     private void generateSummaryDescription(ExpenseReportDto report) {
         if (report == null) {
             return;
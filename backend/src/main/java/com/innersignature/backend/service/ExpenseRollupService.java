@@ -0,0 +1,191 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.mapper.ExpenseRollupMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 일별 지출 집계(rollup) 관리 서비스
+ * 대시보드 통계는 expense_report_tb를 매번 스캔하지 않고 일별 집계 테이블에서 조회합니다.
+ *
+ * 결의서가 생성/수정/결재/삭제되면 trackReportChange로 등록하고, 같은 트랜잭션의 커밋 직전에
+ * 변경 전/후 작성 일자의 집계를 원본 테이블에서 다시 계산합니다. (증분 합산이 아니라 일 단위 재계산이므로
+ * 누락이나 중복 반영이 누적되지 않음) 집계가 어긋난 경우 rebuild로 회사 단위 재생성이 가능합니다.
+ * 같은 시점에 타 결의서 중복 결제 탐지 인덱스(ExpenseDuplicateIndexService)도 결의서 단위로 갱신합니다.
+ *
+ * 동시 갱신은 (회사, 작성 일자) 잠금 행(expense_rollup_day_lock_tb)으로 직렬화하므로,
+ * 같은 회사라도 다른 일자의 결의서 변경끼리는 서로 기다리지 않습니다.
+ */
+@Service
+public class ExpenseRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpenseRollupService.class);
+
+    // 재생성 시 트랜잭션 하나에서 다시 계산할 일자 수
+    private static final int REBUILD_CHUNK_DAYS = 31;
+
+    private final ExpenseRollupMapper expenseRollupMapper;
+    private final AnalyticsCacheService analyticsCacheService;
+    private final ExpenseDuplicateIndexService expenseDuplicateIndexService;
+    private final TransactionTemplate transactionTemplate;
+
+    public ExpenseRollupService(ExpenseRollupMapper expenseRollupMapper, AnalyticsCacheService analyticsCacheService,
+                                ExpenseDuplicateIndexService expenseDuplicateIndexService,
+                                PlatformTransactionManager transactionManager) {
+        this.expenseRollupMapper = expenseRollupMapper;
+        this.analyticsCacheService = analyticsCacheService;
+        this.expenseDuplicateIndexService = expenseDuplicateIndexService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
+
+    /**
+     * 결의서 변경 등록
+     * 작성 일자가 바뀔 수 있는 수정/삭제는 변경 전에 호출해야 이전 일자의 집계도 갱신됩니다.
+     * 생성이나 상태 변경은 변경 후에 호출해도 됩니다.
+     * 해당 회사의 통계 캐시도 함께 무효화합니다.
+     */
+    public void trackReportChange(Long companyId, Long expenseReportId) {
+        if (expenseReportId == null) {
+            return;
+        }
+        trackReportChanges(companyId, List.of(expenseReportId));
+    }
+
+    /**
+     * 여러 결의서 변경 일괄 등록 (일괄 결재 등, 작성 일자 조회를 한 번에 처리)
+     */
+    public void trackReportChanges(Long companyId, Collection<Long> expenseReportIds) {
+        if (companyId == null || expenseReportIds == null || expenseReportIds.isEmpty()) {
+            return;
+        }
+        analyticsCacheService.invalidate(companyId);
+
+        List<LocalDate> currentDates = expenseRollupMapper.selectReportDates(companyId, expenseReportIds);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 트랜잭션 밖에서 호출된 경우 별도 트랜잭션에서 같은 잠금으로 갱신
+            transactionTemplate.executeWithoutResult(status -> {
+                refreshDays(companyId, new TreeSet<>(currentDates));
+                expenseDuplicateIndexService.refreshReports(companyId, expenseReportIds);
+            });
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            registerFlush(pending);
+        }
+        pending.reportIds.computeIfAbsent(companyId, k -> new LinkedHashSet<>()).addAll(expenseReportIds);
+        pending.dates.computeIfAbsent(companyId, k -> new TreeSet<>()).addAll(currentDates);
+    }
+
+    /**
+     * 회사 전체 집계 재생성
+     * 결의서 변경과 같은 일자 잠금을 쓰도록 REBUILD_CHUNK_DAYS일씩 별도 트랜잭션으로 다시 계산하고,
+     * 마지막으로 결의서가 없어진 일자의 집계를 지웁니다.
+     */
+    public void rebuildCompany(Long companyId) {
+        List<LocalDate> reportDates = expenseRollupMapper.selectAllReportDates(companyId);
+        for (int from = 0; from < reportDates.size(); from += REBUILD_CHUNK_DAYS) {
+            List<LocalDate> chunk = reportDates.subList(from, Math.min(from + REBUILD_CHUNK_DAYS, reportDates.size()));
+            transactionTemplate.executeWithoutResult(status -> refreshDays(companyId, chunk));
+        }
+        Integer orphanRows = transactionTemplate.execute(status ->
+                expenseRollupMapper.deleteOrphanDailyRollups(companyId)
+                        + expenseRollupMapper.deleteOrphanCategoryRollups(companyId));
+        logger.info("지출 집계 재생성 완료 - companyId: {}, days: {}, orphanRows: {}",
+                companyId, reportDates.size(), orphanRows);
+        analyticsCacheService.invalidate(companyId);
+    }
+
+    /**
+     * 모든 회사 집계 재생성 (회사별로 별도 트랜잭션)
+     * @return 재생성한 회사 수
+     */
+    public int rebuildAll() {
+        List<Long> companyIds = expenseRollupMapper.selectCompanyIdsWithReports();
+        int rebuilt = 0;
+        for (Long companyId : companyIds) {
+            try {
+                rebuildCompany(companyId);
+                rebuilt++;
+            } catch (Exception e) {
+                logger.error("지출 집계 재생성 실패 - companyId: {}", companyId, e);
+            }
+        }
+        logger.info("전체 지출 집계 재생성 완료 - 대상: {}, 성공: {}", companyIds.size(), rebuilt);
+        return rebuilt;
+    }
+
+    private void registerFlush(PendingChanges pending) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                refreshPending(pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ExpenseRollupService.this);
+            }
+        });
+    }
+
+    /**
+     * 커밋 직전: 변경 후 작성 일자를 추가로 수집하고 해당 일자 집계와 결의서 중복 결제 인덱스를 다시 계산
+     */
+    private void refreshPending(PendingChanges pending) {
+        for (Map.Entry<Long, Set<Long>> entry : pending.reportIds.entrySet()) {
+            Long companyId = entry.getKey();
+            Set<LocalDate> dates = pending.dates.computeIfAbsent(companyId, k -> new TreeSet<>());
+            dates.addAll(expenseRollupMapper.selectReportDates(companyId, entry.getValue()));
+            refreshDays(companyId, dates);
+            expenseDuplicateIndexService.refreshReports(companyId, entry.getValue());
+        }
+    }
+
+    /**
+     * 일자별 집계 재계산 (호출자의 트랜잭션 안에서 실행)
+     * 같은 일자의 동시 갱신이 서로의 삭제/재삽입을 놓쳐 중복 행이 생기지 않도록 (회사, 일자) 단위로 직렬화합니다.
+     * 잠금 순서를 맞춰 교착 상태를 피하도록 일자는 오름차순으로 잠급니다.
+     */
+    private void refreshDays(Long companyId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return;
+        }
+        List<LocalDate> reportDates = new ArrayList<>(new TreeSet<>(dates));
+        expenseRollupMapper.lockRollupDays(companyId, reportDates);
+        expenseRollupMapper.deleteDailyRollups(companyId, reportDates);
+        expenseRollupMapper.insertDailyRollups(companyId, reportDates);
+        expenseRollupMapper.deleteCategoryRollups(companyId, reportDates);
+        expenseRollupMapper.insertCategoryRollups(companyId, reportDates);
+        logger.debug("지출 집계 갱신 - companyId: {}, dates: {}", companyId, reportDates);
+    }
+
+    /**
+     * 트랜잭션 동안 누적된 갱신 대상 (회사별 결의서 ID, 변경 전 작성 일자)
+     */
+    private static class PendingChanges {
+        private final Map<Long, Set<Long>> reportIds = new HashMap<>();
+        private final Map<Long, Set<LocalDate>> dates = new HashMap<>();
+    }
+}
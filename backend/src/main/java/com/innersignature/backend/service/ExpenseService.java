@@ -1,26 +1,34 @@
 package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.ApprovalLineDto;
+import com.innersignature.backend.dto.BulkApprovalResultDto;
 import com.innersignature.backend.dto.CategoryRatioDto;
 import com.innersignature.backend.dto.CompanyCardDto;
 import com.innersignature.backend.dto.DashboardStatsDto;
 import com.innersignature.backend.dto.ExpenseDetailDto;
 import com.innersignature.backend.dto.ExpenseReportDto;
+import com.innersignature.backend.dto.ExpenseDashboardDto;
 import com.innersignature.backend.dto.UserCardDto;
 import com.innersignature.backend.dto.MonthlyTaxSummaryDto;
 import com.innersignature.backend.dto.MonthlyTrendDto;
 import com.innersignature.backend.dto.PagedResponse;
 import com.innersignature.backend.dto.PaymentMethodSummaryDto;
 import com.innersignature.backend.dto.ReceiptDto;
+import com.innersignature.backend.dto.ReportAccessDto;
 import com.innersignature.backend.dto.StatusStatsDto;
 import com.innersignature.backend.dto.TaxStatusDto;
 import com.innersignature.backend.dto.UserDto;
 import com.innersignature.backend.dto.UserExpenseStatsDto;
+import com.innersignature.backend.dto.UserSignatureDto;
 import com.innersignature.backend.mapper.ExpenseMapper;
 import com.innersignature.backend.util.PermissionUtil;
 import com.innersignature.backend.util.ReceiptCompressor;
+import com.innersignature.backend.util.ReceiptPathResolver;
+import com.innersignature.backend.util.ReceiptPreviewGenerator;
 import com.innersignature.backend.util.SecurityLogger;
 import com.innersignature.backend.util.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.apache.tika.Tika;
 import org.slf4j.Logger;
@@ -36,9 +44,9 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -48,10 +56,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
@@ -84,6 +91,13 @@ public class ExpenseService {
     private final ExpenseAnalyticsService expenseAnalyticsService;
     private final ExpenseTaxService expenseTaxService;
     private final com.innersignature.backend.service.ProgressService progressService;
+    private final ReceiptBundleWriter receiptBundleWriter; // 영수증 ZIP 작성
+    private final ConcurrentFetchService concurrentFetchService; // 독립 조회 병렬 실행
+    private final ExpenseRollupService expenseRollupService; // 일별 집계 갱신
+    private final ApprovalTransitionService approvalTransitionService; // 결재 승인/반려 상태 전이
+    private final UserSignatureService userSignatureService; // 일괄 승인 시 저장된 서명/도장 조회
+    private final SignatureImageService signatureImageService; // 결재 서명 이미지 저장소
+    private final MeterRegistry meterRegistry; // 엑셀 시트 생성 시간 기록
 
     // 세무 자료 다운로드 파일 저장 (jobId -> File)
     private final Map<String, File> taxReviewFiles = new ConcurrentHashMap<>();
@@ -245,155 +259,190 @@ public class ExpenseService {
 
     /**
      * 2. 지출결의서 상세 조회 (핵심 로직!)
-     * - DB 테이블 3군데서 데이터를 각각 가져와서
+     * - 문서, 상세 항목, 결재 라인, 영수증, 조회자 정보를 동시에 조회하고
+     * - 권한 검증에 실패하면 나머지 조회를 취소하고 즉시 예외 처리
      * - 하나의 DTO에 예쁘게 담아서 리턴함
-     * - 권한에 따라 세무처리 정보 필터링
      */
     public ExpenseReportDto getExpenseDetail(Long expenseReportId, Long userId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // (1) 메인 문서 정보 가져오기
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(expenseReportId, companyId);
 
-        // 만약 문서가 없으면 null 리턴 (혹은 에러 처리)
-        if (report == null) {
-            return null;
-        }
+        // (1) 서로 독립적인 조회를 동시에 시작
+        CompletableFuture<ExpenseReportDto> reportFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectExpenseReportById(expenseReportId, companyId));
+        CompletableFuture<List<ApprovalLineDto>> linesFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectApprovalLines(expenseReportId, companyId));
+        CompletableFuture<UserDto> userFuture = concurrentFetchService.fork(
+                () -> userId != null ? userService.selectUserById(userId) : null);
+        CompletableFuture<List<ExpenseDetailDto>> detailsFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectExpenseDetails(expenseReportId, companyId));
+        // 문서의 영수증 전체를 한 번에 조회 후 상세 내역별로 분배 (상세 내역마다 조회하지 않음)
+        CompletableFuture<List<ReceiptDto>> receiptsFuture = concurrentFetchService.fork(
+                () -> expenseMapper.selectReceiptsByExpenseReportId(expenseReportId, companyId));
 
-        // DRAFT 상태 문서는 작성자 본인만 조회 가능
-        if ("DRAFT".equals(report.getStatus()) && !report.getDrafterId().equals(userId)) {
-            throw new com.innersignature.backend.exception.BusinessException("임시 저장 문서에 대한 조회 권한이 없습니다.");
-        }
+        try {
+            ExpenseReportDto report = concurrentFetchService.join(reportFuture);
 
-        // (2) 상세 항목들(식대, 간식...) 가져오기
-        List<ExpenseDetailDto> details = expenseMapper.selectExpenseDetails(expenseReportId, companyId);
-        
-        // (2-0) 카드번호 마스킹 처리 및 영수증 조회 (마지막 4자리만 표시)
-        if (details != null) {
-            for (ExpenseDetailDto detail : details) {
-                if (detail.getCardNumber() != null && !detail.getCardNumber().trim().isEmpty()) {
-                    try {
-                        String decryptedCardNumber = encryptionUtil.decrypt(detail.getCardNumber());
-                        if (decryptedCardNumber != null && !decryptedCardNumber.isEmpty()) {
-                            // 마지막 4자리만 표시 (예: **** 1234)
-                            String maskedCardNumber = maskCardNumber(decryptedCardNumber);
-                            detail.setCardNumber(maskedCardNumber);
-                        }
-                    } catch (Exception e) {
-                        logger.debug("카드번호 복호화 실패 - detailId: {}", detail.getExpenseDetailId(), e);
-                        detail.setCardNumber(null); // 복호화 실패 시 null로 설정
-                    }
-                }
-                
-                // 각 상세 내역의 영수증 조회
-                if (detail.getExpenseDetailId() != null) {
-                    List<ReceiptDto> detailReceipts = expenseReceiptService.getReceiptsByDetail(
-                        detail.getExpenseDetailId(), expenseReportId, userId);
-                    detail.setReceipts(detailReceipts);
-                }
+            // 만약 문서가 없으면 null 리턴 (혹은 에러 처리)
+            if (report == null) {
+                concurrentFetchService.cancelAll(linesFuture, userFuture, detailsFuture, receiptsFuture);
+                return null;
             }
-        }
-        
-        // (2-1) 급여 카테고리 권한 체크
-        if (userId != null) {
-            boolean hasSalary = hasSalaryCategory(details);
-            
-            if (hasSalary) {
-                UserDto user = userService.selectUserById(userId);
+
+            // DRAFT 상태 문서는 작성자 본인만 조회 가능
+            if ("DRAFT".equals(report.getStatus()) && !report.getDrafterId().equals(userId)) {
+                throw new com.innersignature.backend.exception.BusinessException("임시 저장 문서에 대한 조회 권한이 없습니다.");
+            }
+
+            // (2) 문서 접근 권한: 작성자, 결재 라인 포함자, ADMIN/CEO/ACCOUNTANT/TAX_ACCOUNTANT
+            List<ApprovalLineDto> lines = concurrentFetchService.join(linesFuture);
+            UserDto user = concurrentFetchService.join(userFuture);
+            if (!canViewExpenseReport(report, lines, user, userId)) {
+                throw new com.innersignature.backend.exception.BusinessException("접근 권한이 없습니다.");
+            }
+
+            // (3) 상세 항목들(식대, 간식...) 및 영수증
+            List<ExpenseDetailDto> details = concurrentFetchService.join(detailsFuture);
+            List<ReceiptDto> receipts = concurrentFetchService.join(receiptsFuture);
+
+            // (4) 급여 카테고리 권한 체크
+            if (userId != null && hasSalaryCategory(details)) {
                 boolean isTaxAccountant = user != null && "TAX_ACCOUNTANT".equals(user.getRole());
                 boolean isCEO = user != null && "CEO".equals(user.getRole());
                 boolean isOwner = report.getDrafterId().equals(userId);
-                
+
                 // CEO는 같은 회사의 모든 급여 문서 조회 가능
                 if (isCEO) {
                     Long userCompanyId = user.getCompanyId();
-                    if (userCompanyId != null && userCompanyId.equals(companyId)) {
-                        // CEO는 같은 회사 급여 문서 조회 가능
-                    } else {
+                    if (userCompanyId == null || !userCompanyId.equals(companyId)) {
                         throw new com.innersignature.backend.exception.BusinessException("비밀 문서에 대한 조회 권한이 없습니다.");
                     }
                 } else if (!isTaxAccountant && !isOwner) {
                     throw new com.innersignature.backend.exception.BusinessException("비밀 문서에 대한 조회 권한이 없습니다.");
                 }
             }
-        }
-        
-        // (3) 결재 라인(담당->전무->대표) 가져오기
-        List<ApprovalLineDto> lines = expenseMapper.selectApprovalLines(expenseReportId, companyId);
 
-        // (4) 영수증 목록 가져오기
-        List<ReceiptDto> receipts = expenseMapper.selectReceiptsByExpenseReportId(expenseReportId, companyId);
+            // (5) 카드번호 마스킹 처리 (마지막 4자리만 표시) 및 상세 내역별 영수증 분배
+            if (details != null) {
+                Map<Long, List<ReceiptDto>> receiptsByDetail = receipts == null ? Collections.emptyMap()
+                        : receipts.stream()
+                            .filter(r -> r.getExpenseDetailId() != null)
+                            .collect(Collectors.groupingBy(ReceiptDto::getExpenseDetailId));
 
-        // (5) 가져온 부품들을 메인 DTO에 조립하기
-        report.setDetails(details);
-        report.setApprovalLines(lines);
-        report.setReceipts(receipts);
+                for (ExpenseDetailDto detail : details) {
+                    if (detail.getCardNumber() != null && !detail.getCardNumber().trim().isEmpty()) {
+                        try {
+                            String decryptedCardNumber = encryptionUtil.decrypt(detail.getCardNumber());
+                            if (decryptedCardNumber != null && !decryptedCardNumber.isEmpty()) {
+                                // 마지막 4자리만 표시 (예: **** 1234)
+                                String maskedCardNumber = maskCardNumber(decryptedCardNumber);
+                                detail.setCardNumber(maskedCardNumber);
+                            }
+                        } catch (Exception e) {
+                            logger.debug("카드번호 복호화 실패 - detailId: {}", detail.getExpenseDetailId(), e);
+                            detail.setCardNumber(null); // 복호화 실패 시 null로 설정
+                        }
+                    }
 
-        // (6) 권한에 따라 세무처리 정보 필터링
-        // 모든 사용자가 세무처리 정보를 볼 수 있도록 변경
-        // (기존: USER 역할은 세무처리 완료 상태를 볼 수 없었음)
-        // if (userId != null) {
-        //     UserDto user = userService.selectUserById(userId);
-        //     if (user != null && "USER".equals(user.getRole())) {
-        //         report.setTaxProcessed(null);
-        //         report.setTaxProcessedAt(null);
-        //     }
-        // }
+                    if (detail.getExpenseDetailId() != null) {
+                        detail.setReceipts(new ArrayList<>(
+                            receiptsByDetail.getOrDefault(detail.getExpenseDetailId(), Collections.emptyList())));
+                    }
+                }
+            }
 
-        // (7) 완성된 하나를 리턴
-        return report;
-    }
+            // (6) 가져온 부품들을 메인 DTO에 조립하기
+            report.setDetails(details);
+            report.setApprovalLines(lines);
+            report.setReceipts(receipts);
 
-    @Transactional(isolation = Isolation.READ_COMMITTED)
-    public void approveExpense(Long expenseId, Long approverId, String signatureData) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // 1. 해당 문서의 모든 결재 라인 조회
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
+            // (7) 완성된 하나를 리턴
+            return report;
+        } catch (RuntimeException e) {
+            // 권한 거부 등으로 조기 종료 시 남은 조회 취소
+            concurrentFetchService.cancelAll(reportFuture, linesFuture, userFuture, detailsFuture, receiptsFuture);
+            throw e;
+        }
+    }
 
-        // 2. 현재 결재자의 순서 찾기
-        ApprovalLineDto currentApproverLine = null;
+    /**
+     * 문서 조회 권한 확인
+     * 작성자, 결재 라인 포함자, ADMIN/CEO/ACCOUNTANT/TAX_ACCOUNTANT 역할만 조회 가능
+     */
+    private boolean canViewExpenseReport(ExpenseReportDto report, List<ApprovalLineDto> lines, UserDto user, Long userId) {
+        if (userId == null) {
+            return false;
+        }
+        if (report.getDrafterId().equals(userId)) {
+            return true;
+        }
+        if (lines != null && lines.stream().anyMatch(line -> userId.equals(line.getApproverId()))) {
+            return true;
+        }
+        return canViewByRole(user);
+    }
 
-        for (ApprovalLineDto line : approvalLines) {
-            if (line.getApproverId().equals(approverId)) {
-                currentApproverLine = line;
-                break;
-            }
+    /**
+     * 역할 기반 문서 조회 권한 (ADMIN/CEO/ACCOUNTANT/TAX_ACCOUNTANT)
+     */
+    private boolean canViewByRole(UserDto user) {
+        if (user == null) {
+            return false;
         }
+        String role = user.getRole();
+        return "ADMIN".equals(role) || "CEO".equals(role)
+                || "ACCOUNTANT".equals(role) || "TAX_ACCOUNTANT".equals(role);
+    }
 
-        if (currentApproverLine == null) {
-            throw new com.innersignature.backend.exception.BusinessException("해당 결재자가 결재 라인에 존재하지 않습니다.");
+    /**
+     * 문서 조회 권한만 확인 (상세 조회와 동일한 규칙)
+     * 권한 확인 뒤 별도 조회가 이어지는 경우 상세 조회 전체 대신 사용합니다.
+     */
+    private void checkReportViewAccess(Long expenseReportId, Long userId) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        ReportAccessDto access = expenseMapper.selectReportAccess(expenseReportId, userId, companyId);
+        if (access == null) {
+            throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 문서를 찾을 수 없습니다.");
         }
 
-        // 3. 현재 결재자 승인 처리
-        ApprovalLineDto lineDto = new ApprovalLineDto();
-        lineDto.setExpenseReportId(expenseId);
-        lineDto.setApproverId(approverId);
-        lineDto.setSignatureData(signatureData);
-        expenseMapper.updateApprovalLine(lineDto, companyId);
+        // DRAFT 상태 문서는 작성자 본인만 조회 가능
+        boolean isOwner = access.isDrafter(userId);
+        if ("DRAFT".equals(access.getStatus()) && !isOwner) {
+            throw new com.innersignature.backend.exception.BusinessException("임시 저장 문서에 대한 조회 권한이 없습니다.");
+        }
 
-        // 5. 승인 처리 후 최신 결재 라인 상태 조회
-        List<ApprovalLineDto> updatedApprovalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
+        // 작성자/결재 라인 포함자이고 급여 항목이 없으면 역할 조회가 필요 없음
+        if ((isOwner || access.isApprover()) && !access.isSalary()) {
+            return;
+        }
+        UserDto user = userId != null ? userService.selectUserById(userId) : null;
+        if (!isOwner && !access.isApprover() && !canViewByRole(user)) {
+            throw new com.innersignature.backend.exception.BusinessException("접근 권한이 없습니다.");
+        }
 
-        // 6. 모든 결재자가 승인되었는지 확인
-        boolean allApproved = true;
-        for (ApprovalLineDto line : updatedApprovalLines) {
-            if (!"APPROVED".equals(line.getStatus())) {
-                allApproved = false;
-                break;
+        // 급여 카테고리 권한 체크
+        if (access.isSalary()) {
+            boolean isTaxAccountant = user != null && "TAX_ACCOUNTANT".equals(user.getRole());
+            boolean isCEO = user != null && "CEO".equals(user.getRole());
+            if (isCEO) {
+                Long userCompanyId = user.getCompanyId();
+                if (userCompanyId == null || !userCompanyId.equals(companyId)) {
+                    throw new com.innersignature.backend.exception.BusinessException("비밀 문서에 대한 조회 권한이 없습니다.");
+                }
+            } else if (!isTaxAccountant && !isOwner) {
+                throw new com.innersignature.backend.exception.BusinessException("비밀 문서에 대한 조회 권한이 없습니다.");
             }
         }
+    }
 
-        // 7. 모든 결재자가 승인되었으면 문서 상태를 변경
-        if (allApproved) {
-            // 결의서 정보를 조회하여 가승인 여부에 따라 상태를 분기
-            ExpenseReportDto report = expenseMapper.selectExpenseReportById(expenseId, companyId);
-            
-            // 승인이 완료되면 APPROVED 상태로 설정 (지출로 간주)
-            String nextStatus = "APPROVED";
-            
-            expenseMapper.updateExpenseReportStatus(expenseId, nextStatus, companyId);
-        }
+    /**
+     * 결제 승인 처리
+     * 결재 라인 승인과 (마지막 승인인 경우) 결의서 상태 변경을 한 번에 처리합니다.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void approveExpense(Long expenseId, Long approverId, String signatureData) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        String signatureHash = signatureImageService.store(companyId, signatureData);
+        approvalTransitionService.approve(companyId, expenseId, approverId, signatureHash);
     }
 
     /**
@@ -402,140 +451,58 @@ public class ExpenseService {
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public void rejectExpense(Long expenseId, Long approverId, String rejectionReason) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // 1. 해당 문서의 모든 결재 라인 조회
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
-
-        // 2. 현재 결재자의 순서 찾기
-        ApprovalLineDto currentApproverLine = null;
-
-        for (ApprovalLineDto line : approvalLines) {
-            if (line.getApproverId().equals(approverId)) {
-                currentApproverLine = line;
-                break;
-            }
-        }
-
-        if (currentApproverLine == null) {
-            throw new com.innersignature.backend.exception.BusinessException("해당 결재자가 결재 라인에 존재하지 않습니다.");
-        }
+        approvalTransitionService.reject(companyId, expenseId, approverId, rejectionReason);
+    }
 
-        // 3. 현재 결재자 반려 처리
-        ApprovalLineDto lineDto = new ApprovalLineDto();
-        lineDto.setExpenseReportId(expenseId);
-        lineDto.setApproverId(approverId);
-        lineDto.setRejectionReason(rejectionReason);
-        expenseMapper.rejectApprovalLine(lineDto, companyId);
+    /**
+     * 일괄 승인 처리
+     * 서명 데이터는 요청마다 전송받지 않고 저장된 서명/도장(미지정 시 기본 서명/도장)을 한 번 조회해 사용합니다.
+     * @return 결의서별 처리 결과
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<BulkApprovalResultDto> bulkApproveExpenses(List<Long> expenseIds, Long approverId, Long signatureId) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        UserSignatureDto signature = signatureId != null
+                ? userSignatureService.getSignature(signatureId, approverId, companyId)
+                : userSignatureService.getDefaultSignature(approverId, companyId);
+        if (signature == null) {
+            throw new com.innersignature.backend.exception.BusinessException("기본 서명/도장이 없습니다. 서명/도장을 먼저 등록해주세요.");
+        }
+        // 정규화되어 바이너리로 저장된 서명은 Base64 변환 없이 그대로 저장소에 넣음
+        String signatureHash = signature.getImageData() != null
+                ? signatureImageService.store(companyId, signature.getImageData())
+                : signatureImageService.store(companyId, signature.getSignatureData());
+        return approvalTransitionService.approveAll(companyId, approverId, expenseIds, signatureHash);
+    }
 
-        // 4. 문서 상태를 REJECTED로 변경
-        expenseMapper.updateExpenseReportStatus(expenseId, "REJECTED", companyId);
+    /**
+     * 일괄 반려 처리
+     * @return 결의서별 처리 결과
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<BulkApprovalResultDto> bulkRejectExpenses(List<Long> expenseIds, Long approverId, String rejectionReason) {
+        Long companyId = SecurityUtil.getCurrentCompanyId();
+        return approvalTransitionService.rejectAll(companyId, approverId, expenseIds, rejectionReason);
     }
 
     /**
      * 결재 취소 처리
-     * 서명 완료된 결재 라인을 WAIT 상태로 되돌립니다.
+     * 서명 완료된 결재 라인과 결의서를 WAIT 상태로 되돌립니다. (버전 조건부, 동시 결재와 충돌 시 재시도)
      */
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public void cancelApproval(Long expenseId, Long approverId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // 1. 해당 문서의 모든 결재 라인 조회
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
-
-        // 2. 현재 결재자의 결재 라인 찾기
-        ApprovalLineDto currentApproverLine = null;
-        for (ApprovalLineDto line : approvalLines) {
-            if (line.getApproverId().equals(approverId)) {
-                currentApproverLine = line;
-                break;
-            }
-        }
-
-        if (currentApproverLine == null) {
-            throw new com.innersignature.backend.exception.BusinessException("해당 결재자가 결재 라인에 존재하지 않습니다.");
-        }
-
-        // 3. 현재 결재 라인이 APPROVED 상태인지 확인
-        if (!"APPROVED".equals(currentApproverLine.getStatus())) {
-            throw new com.innersignature.backend.exception.BusinessException("결재 완료된 결재 라인만 취소할 수 있습니다.");
-        }
-
-        // 4. APPROVED 상태인 문서는 취소 불가
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(expenseId, companyId);
-        if (report != null && "APPROVED".equals(report.getStatus())) {
-            throw new com.innersignature.backend.exception.BusinessException("승인 완료된 문서는 결재 취소할 수 없습니다.");
-        }
-
-        // 5. 결재 취소 처리 (APPROVED -> WAIT)
-        ApprovalLineDto lineDto = new ApprovalLineDto();
-        lineDto.setExpenseReportId(expenseId);
-        lineDto.setApproverId(approverId);
-        expenseMapper.cancelApprovalLine(lineDto, companyId);
-
-        // 6. 취소 후 최신 결재 라인 상태 조회
-        List<ApprovalLineDto> updatedApprovalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
-
-        // 7. 모든 결재 라인이 WAIT 상태인지 확인
-        boolean allWait = true;
-        for (ApprovalLineDto line : updatedApprovalLines) {
-            if (!"WAIT".equals(line.getStatus())) {
-                allWait = false;
-                break;
-            }
-        }
-
-        // 8. 모든 결재 라인이 WAIT 상태면 문서 상태를 WAIT로 변경
-        if (allWait) {
-            expenseMapper.updateExpenseReportStatus(expenseId, "WAIT", companyId);
-        } else {
-            // 일부만 취소된 경우 문서 상태를 WAIT로 변경 (다시 결재 진행 가능하도록)
-            expenseMapper.updateExpenseReportStatus(expenseId, "WAIT", companyId);
-        }
+        approvalTransitionService.cancelApproval(companyId, expenseId, approverId);
     }
 
     /**
      * 반려 취소 처리
-     * 반려된 결재 라인을 WAIT 상태로 되돌립니다.
+     * 반려된 결재 라인과 결의서를 WAIT 상태로 되돌립니다. (버전 조건부, 동시 결재와 충돌 시 재시도)
      */
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public void cancelRejection(Long expenseId, Long approverId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // 1. 해당 문서의 모든 결재 라인 조회
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseId, companyId);
-
-        // 2. 현재 결재자의 결재 라인 찾기
-        ApprovalLineDto currentApproverLine = null;
-        for (ApprovalLineDto line : approvalLines) {
-            if (line.getApproverId().equals(approverId)) {
-                currentApproverLine = line;
-                break;
-            }
-        }
-
-        if (currentApproverLine == null) {
-            throw new com.innersignature.backend.exception.BusinessException("해당 결재자가 결재 라인에 존재하지 않습니다.");
-        }
-
-        // 3. 현재 결재 라인이 REJECTED 상태인지 확인
-        if (!"REJECTED".equals(currentApproverLine.getStatus())) {
-            throw new com.innersignature.backend.exception.BusinessException("반려된 결재 라인만 취소할 수 있습니다.");
-        }
-
-        // 4. APPROVED 상태인 문서는 취소 불가
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(expenseId, companyId);
-        if (report != null && "APPROVED".equals(report.getStatus())) {
-            throw new com.innersignature.backend.exception.BusinessException("승인 완료된 문서는 반려 취소할 수 없습니다.");
-        }
-
-        // 5. 반려 취소 처리 (REJECTED -> WAIT)
-        ApprovalLineDto lineDto = new ApprovalLineDto();
-        lineDto.setExpenseReportId(expenseId);
-        lineDto.setApproverId(approverId);
-        expenseMapper.cancelRejectionLine(lineDto, companyId);
-
-        // 6. 문서 상태를 WAIT로 변경 (다시 결재 진행 가능하도록)
-        expenseMapper.updateExpenseReportStatus(expenseId, "WAIT", companyId);
+        approvalTransitionService.cancelRejection(companyId, expenseId, approverId);
     }
 
     /**
@@ -666,6 +633,8 @@ public class ExpenseService {
 
         // 방금 DB에 들어가면서 생성된 문서 번호(PK)를 꺼내옵니다.
         Long newId = request.getExpenseReportId();
+        // 상세 항목은 커밋 직전에 집계되므로 여기서 등록해도 함께 반영됨
+        expenseRollupService.trackReportChange(companyId, newId);
 
         // (2) 상세 항목들(식대, 교통비 등) 저장
         // 리스트로 들어왔으니 반복문(for)을 돌면서 하나씩 저장합니다.
@@ -709,13 +678,8 @@ public class ExpenseService {
         //    결재 라인은 프론트엔드에서 setApprovalLines API를 호출하여 별도로 설정합니다.
         logger.debug("결재 라인은 setApprovalLines API를 통해 별도로 설정됩니다.");
 
-        // (4) 자동 감사 실행
-        try {
-            auditService.auditExpenseReport(newId);
-        } catch (Exception e) {
-            logger.error("자동 감사 실행 실패 - expenseReportId: {}", newId, e);
-            // 감사 실패해도 문서 생성은 계속 진행
-        }
+        // (4) 자동 감사 예약 (커밋 후 비동기 실행, 감사 실패해도 문서 생성은 계속 진행)
+        auditService.auditSubmittedReport(companyId, request, details);
 
         // 생성된 문서 ID 반환
         logger.info("지출결의서 생성 완료 - expenseReportId: {}", newId);
@@ -752,6 +716,8 @@ public class ExpenseService {
 
         // 방금 DB에 들어가면서 생성된 문서 번호(PK)를 꺼내옵니다.
         Long newId = request.getExpenseReportId();
+        // 상세 항목은 커밋 직전에 집계되므로 여기서 등록해도 함께 반영됨
+        expenseRollupService.trackReportChange(companyId, newId);
 
         // (2) 상세 항목들 저장 (있다면)
         if (details != null && !details.isEmpty()) {
@@ -1046,6 +1012,9 @@ public class ExpenseService {
         request.setDrafterId(existingReport.getDrafterId()); // 작성자는 변경 불가
         request.setCompanyId(companyId);
         
+        // 작성 일자 변경 시 이전 일자 집계도 갱신되도록 수정 전에 등록
+        expenseRollupService.trackReportChange(companyId, expenseId);
+
         // updateExpenseReport는 status 컬럼을 업데이트하지 않으므로 별도로 상태 업데이트 필요
         expenseMapper.updateExpenseReport(request, companyId);
         
@@ -1225,7 +1194,8 @@ public class ExpenseService {
         request.setDrafterId(existingReport.getDrafterId());
         request.setStatus("DRAFT");
 
-        // 6. 메인 문서 UPDATE
+        // 6. 메인 문서 UPDATE (작성 일자 변경 시 이전 일자 집계도 갱신되도록 수정 전에 등록)
+        expenseRollupService.trackReportChange(companyId, expenseId);
         expenseMapper.updateExpenseReport(request, companyId);
 
         // 7. 상세 항목 재저장 (전체 삭제 후 다시 INSERT)
@@ -1294,7 +1264,7 @@ public class ExpenseService {
         
         // 3. 첫 결재자가 결재했는지 확인
         ApprovalLineDto firstLine = existingLines.get(0);
-        if (firstLine.getSignatureData() == null || firstLine.getSignatureData().trim().isEmpty()) {
+        if (!Boolean.TRUE.equals(firstLine.getSigned())) {
             throw new com.innersignature.backend.exception.BusinessException("첫 결재자가 아직 결재하지 않았습니다.");
         }
         
@@ -1328,6 +1298,7 @@ public class ExpenseService {
         // 7. 추가 결재자를 추가했으므로 문서 상태가 APPROVED인 경우 WAIT로 변경
         if ("APPROVED".equals(report.getStatus())) {
             expenseMapper.updateExpenseReportStatus(expenseReportId, "WAIT", companyId);
+            expenseRollupService.trackReportChange(companyId, expenseReportId);
             logger.info("추가 결재자 추가로 인해 문서 상태를 WAIT로 변경 - expenseReportId: {}", expenseReportId);
         }
         
@@ -1354,6 +1325,7 @@ public class ExpenseService {
 
         // 2-0. DRAFT 상태 문서는 언제든지 바로 삭제 가능 (마감/세무 수집 상관 없음)
         if ("DRAFT".equals(report.getStatus())) {
+            expenseRollupService.trackReportChange(companyId, expenseReportId);
             expenseMapper.deleteExpenseReport(expenseReportId, companyId);
             logger.info("DRAFT 상태 문서 삭제 완료 - expenseReportId: {}, userId: {}", expenseReportId, userId);
             return;
@@ -1376,7 +1348,8 @@ public class ExpenseService {
             }
         }
 
-        // 3. 문서 삭제 (CASCADE DELETE로 관련 데이터도 함께 삭제됨)
+        // 3. 문서 삭제 (CASCADE DELETE로 관련 데이터도 함께 삭제됨, 집계 대상 일자는 삭제 전에 등록)
+        expenseRollupService.trackReportChange(companyId, expenseReportId);
         expenseMapper.deleteExpenseReport(expenseReportId, companyId);
     }
 
@@ -1480,13 +1453,12 @@ public class ExpenseService {
     public List<ReceiptDto> getReceipts(Long expenseReportId, Long userId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
         
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(expenseReportId, companyId);
-        if (report == null) {
+        ReportAccessDto access = expenseMapper.selectReportAccess(expenseReportId, userId, companyId);
+        if (access == null) {
             throw new com.innersignature.backend.exception.BusinessException("해당 문서를 찾을 수 없습니다.");
         }
 
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(expenseReportId, companyId);
-        if (!hasReceiptViewAccess(report, approvalLines, userId)) {
+        if (!hasReceiptViewAccess(access, userId)) {
             throw new com.innersignature.backend.exception.BusinessException("영수증 조회 권한이 없습니다.");
         }
 
@@ -1511,7 +1483,7 @@ public class ExpenseService {
      */
     public void uploadReceiptForDetail(Long expenseDetailId, Long expenseReportId, Long userId, MultipartFile file) throws IOException {
         // 결의서 접근 권한 검증
-        getExpenseDetail(expenseReportId, userId);
+        checkReportViewAccess(expenseReportId, userId);
         
         // 상세 내역 존재 확인
         Long companyId = SecurityUtil.getCurrentCompanyId();
@@ -1531,7 +1503,7 @@ public class ExpenseService {
      */
     public List<ReceiptDto> getReceiptsByDetail(Long expenseDetailId, Long expenseReportId, Long userId) {
         // 결의서 접근 권한 검증
-        getExpenseDetail(expenseReportId, userId);
+        checkReportViewAccess(expenseReportId, userId);
         
         return expenseReceiptService.getReceiptsByDetail(expenseDetailId, expenseReportId, userId);
     }
@@ -1553,84 +1525,65 @@ public class ExpenseService {
     }
 
     /**
-     * 영수증 일괄 다운로드 (ZIP 파일 생성)
+     * 영수증 일괄 다운로드 대상 조회
+     * 요청한 영수증 전체의 권한을 한 번의 쿼리로 확인하고 요청 순서를 유지하여 반환합니다.
+     * ZIP 스트리밍을 시작하기 전에 호출하여, 내려받을 영수증이 없으면 예외로 응답할 수 있게 합니다.
      */
-    public File createReceiptsZip(List<Long> receiptIds, Long userId) throws IOException {
+    public List<ReceiptDto> getDownloadableReceipts(List<Long> receiptIds, Long userId) {
         if (receiptIds == null || receiptIds.isEmpty()) {
             throw new com.innersignature.backend.exception.BusinessException("다운로드할 영수증이 없습니다.");
         }
 
         Long companyId = SecurityUtil.getCurrentCompanyId();
-        
-        // 임시 ZIP 파일 생성
-        String tempDir = System.getProperty("java.io.tmpdir");
-        String zipFileName = "receipts_" + System.currentTimeMillis() + ".zip";
-        File zipFile = new File(tempDir, zipFileName);
-        
-        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(zipFile))) {
-            int successCount = 0;
-            int failCount = 0;
-            
-            for (Long receiptId : receiptIds) {
-                try {
-                    ReceiptDto receipt = getReceiptById(receiptId, userId);
-                    
-                    // 파일 경로 처리 (상대 경로 또는 절대 경로 모두 지원)
-                    Path filePath = Paths.get(receipt.getFilePath());
-                    if (!filePath.isAbsolute()) {
-                        // 상대 경로인 경우 프로젝트 루트 기준으로 변환
-                        String projectRoot = System.getProperty("user.dir");
-                        filePath = Paths.get(projectRoot, receipt.getFilePath());
-                    }
-                    
-                    if (!Files.exists(filePath)) {
-                        logger.warn("영수증 파일이 존재하지 않습니다 - receiptId: {}, filePath: {}", receiptId, filePath);
-                        failCount++;
-                        continue;
-                    }
-                    
-                    // ZIP 엔트리 생성 (파일명 중복 방지를 위해 receiptId 포함)
-                    String entryName = receipt.getOriginalFilename();
-                    if (entryName == null || entryName.isEmpty()) {
-                        entryName = "receipt_" + receiptId;
-                    } else {
-                        // 같은 이름의 파일이 있을 수 있으므로 receiptId를 포함
-                        int lastDotIndex = entryName.lastIndexOf('.');
-                        if (lastDotIndex > 0) {
-                            String baseName = entryName.substring(0, lastDotIndex);
-                            String extension = entryName.substring(lastDotIndex);
-                            entryName = baseName + "_" + receiptId + extension;
-                        } else {
-                            entryName = entryName + "_" + receiptId;
-                        }
-                    }
-                    
-                    ZipEntry entry = new ZipEntry(entryName);
-                    zos.putNextEntry(entry);
-                    Files.copy(filePath, zos);
-                    zos.closeEntry();
-                    successCount++;
-                    
-                    logger.debug("영수증 ZIP에 추가 완료 - receiptId: {}, filename: {}", receiptId, entryName);
-                } catch (Exception e) {
-                    logger.error("영수증 ZIP 추가 실패 - receiptId: {}", receiptId, e);
-                    failCount++;
-                }
-            }
-            
-            if (successCount == 0) {
-                zipFile.delete();
-                throw new com.innersignature.backend.exception.BusinessException("다운로드 가능한 영수증이 없습니다.");
+        List<Long> distinctIds = receiptIds.stream()
+                .filter(java.util.Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+        if (distinctIds.isEmpty()) {
+            throw new com.innersignature.backend.exception.BusinessException("다운로드할 영수증이 없습니다.");
+        }
+
+        // 역할 기반 권한은 요청당 한 번만 확인 (세무사, 회계, 관리자/CEO는 회사 내 전체 조회 가능)
+        boolean canViewAll = permissionUtil.isTaxAccountant(userId)
+                || permissionUtil.isAccountant(userId)
+                || permissionUtil.isAdminOrCEO(userId);
+
+        Map<Long, ReceiptDto> viewable = expenseMapper.selectViewableReceiptsByIds(distinctIds, userId, canViewAll, companyId)
+                .stream()
+                .collect(Collectors.toMap(ReceiptDto::getReceiptId, r -> r, (a, b) -> a));
+
+        List<ReceiptDto> receipts = new ArrayList<>();
+        int skipCount = 0;
+        for (Long receiptId : distinctIds) {
+            ReceiptDto receipt = viewable.get(receiptId);
+            if (receipt == null) {
+                logger.warn("영수증 조회 권한이 없거나 존재하지 않습니다 - receiptId: {}, userId: {}", receiptId, userId);
+                skipCount++;
+                continue;
             }
-            
-            if (failCount > 0) {
-                logger.warn("일부 영수증 다운로드 실패 - 성공: {}, 실패: {}", successCount, failCount);
+            if (!ReceiptPathResolver.exists(receipt.getFilePath())) {
+                logger.warn("영수증 파일이 존재하지 않습니다 - receiptId: {}, filePath: {}", receiptId, receipt.getFilePath());
+                skipCount++;
+                continue;
             }
-            
-            logger.info("영수증 ZIP 파일 생성 완료 - 총: {}, 성공: {}, 실패: {}", receiptIds.size(), successCount, failCount);
+            receipts.add(receipt);
         }
-        
-        return zipFile;
+
+        if (receipts.isEmpty()) {
+            throw new com.innersignature.backend.exception.BusinessException("다운로드 가능한 영수증이 없습니다.");
+        }
+        if (skipCount > 0) {
+            logger.warn("일부 영수증 제외 - 요청: {}, 대상: {}, 제외: {}", distinctIds.size(), receipts.size(), skipCount);
+        }
+        return receipts;
+    }
+
+    /**
+     * 영수증 ZIP 스트리밍
+     * 임시 파일 없이 응답 스트림에 바로 씁니다. 파일 선읽기와 엔트리 작성은 ReceiptBundleWriter가 담당합니다.
+     */
+    public void writeReceiptsZip(List<ReceiptDto> receipts, OutputStream outputStream) throws IOException {
+        receiptBundleWriter.writeZip(receipts, outputStream);
     }
 
     /**
@@ -1643,19 +1596,37 @@ public class ExpenseService {
             throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 영수증을 찾을 수 없습니다.");
         }
 
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(receipt.getExpenseReportId(), companyId);
-        if (report == null) {
-            throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 문서를 찾을 수 없습니다.");
-        }
-
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(report.getExpenseReportId(), companyId);
-        if (!hasReceiptViewAccess(report, approvalLines, userId)) {
+        ReportAccessDto access = selectReceiptReportAccess(receipt, userId, companyId);
+        if (!hasReceiptViewAccess(access, userId)) {
             throw new com.innersignature.backend.exception.BusinessException("영수증 조회 권한이 없습니다.");
         }
 
         return receipt;
     }
 
+    /**
+     * 영수증이 속한 문서의 권한 확인용 정보 조회
+     */
+    private ReportAccessDto selectReceiptReportAccess(ReceiptDto receipt, Long userId, Long companyId) {
+        ReportAccessDto access = expenseMapper.selectReportAccess(receipt.getExpenseReportId(), userId, companyId);
+        if (access == null) {
+            throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 문서를 찾을 수 없습니다.");
+        }
+        return access;
+    }
+
+    /**
+     * 영수증 미리보기 이미지 조회 (첫 페이지 JPEG)
+     * 권한 검증은 getReceiptById와 동일하며, 미리보기가 없으면 즉시 생성합니다.
+     */
+    public Path getReceiptPreview(Long receiptId, Long userId) throws IOException {
+        ReceiptDto receipt = getReceiptById(receiptId, userId);
+        if (receipt.getFilePath() == null || receipt.getFilePath().isEmpty()) {
+            throw new com.innersignature.backend.exception.ResourceNotFoundException("영수증 파일 경로를 찾을 수 없습니다.");
+        }
+        return expenseReceiptService.getOrCreatePreview(receipt);
+    }
+
     /**
      * 영수증 삭제
      * 작성자 또는 ACCOUNTANT만 영수증을 삭제할 수 있습니다.
@@ -1664,18 +1635,18 @@ public class ExpenseService {
     public void deleteReceipt(Long receiptId, Long userId) {
         Long companyId = SecurityUtil.getCurrentCompanyId();
         
-        // 1. 영수증 정보 및 권한 검증
-        ReceiptDto receipt = getReceiptById(receiptId, userId);
-
-        // 2. 문서 정보 조회
-        ExpenseReportDto report = expenseMapper.selectExpenseReportById(receipt.getExpenseReportId(), companyId);
-        if (report == null) {
-            throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 문서를 찾을 수 없습니다.");
+        // 1. 영수증 정보 조회
+        ReceiptDto receipt = expenseMapper.selectReceiptById(receiptId, companyId);
+        if (receipt == null) {
+            throw new com.innersignature.backend.exception.ResourceNotFoundException("해당 영수증을 찾을 수 없습니다.");
         }
 
-        // 3. 권한 체크: 작성자, ACCOUNTANT, ADMIN, 결재 라인 포함자
-        List<ApprovalLineDto> approvalLines = expenseMapper.selectApprovalLines(report.getExpenseReportId(), companyId);
-        if (!hasReceiptAccess(report, approvalLines, userId)) {
+        // 2. 권한 체크: 조회 권한이 없으면 조회 불가, 삭제는 작성자, ACCOUNTANT, ADMIN, 결재 라인 포함자만
+        ReportAccessDto access = selectReceiptReportAccess(receipt, userId, companyId);
+        if (!hasReceiptViewAccess(access, userId)) {
+            throw new com.innersignature.backend.exception.BusinessException("영수증 조회 권한이 없습니다.");
+        }
+        if (!hasReceiptAccess(access, userId)) {
             throw new com.innersignature.backend.exception.BusinessException("영수증 삭제 권한이 없습니다.");
         }
 
@@ -1688,8 +1659,7 @@ public class ExpenseService {
         // 5-3. 물리적 파일 삭제
         if (filePath != null && !filePath.isEmpty()) {
             try {
-                String projectRoot = System.getProperty("user.dir");
-                Path physicalPath = Paths.get(projectRoot, filePath);
+                Path physicalPath = ReceiptPathResolver.resolve(filePath);
                 File physicalFile = physicalPath.toFile();
                 
                 if (physicalFile.exists() && physicalFile.isFile()) {
@@ -1698,43 +1668,35 @@ public class ExpenseService {
                         logger.warn("파일 삭제 실패: {}", physicalPath.toAbsolutePath());
                     }
                 }
+                ReceiptPreviewGenerator.deletePreview(physicalPath);
             } catch (Exception e) {
                 logger.error("파일 삭제 중 오류 발생: {}", filePath, e);
                 // 파일 삭제 실패해도 DB 레코드는 삭제되었으므로 예외를 던지지 않음
             }
         }
 
-        SecurityLogger.fileAccess("DELETE", userId, report.getExpenseReportId(), "receiptId=" + receiptId);
+        SecurityLogger.fileAccess("DELETE", userId, access.getExpenseReportId(), "receiptId=" + receiptId);
     }
 
     /**
      * 영수증 접근 권한 확인
+     * 작성자/결재 라인 포함 여부는 조회 결과로 먼저 판단하고, 해당하지 않을 때만 역할을 조회합니다.
      */
-    private boolean hasReceiptAccess(ExpenseReportDto report, List<ApprovalLineDto> approvalLines, Long userId) {
-        if (report.getDrafterId().equals(userId)) {
+    private boolean hasReceiptAccess(ReportAccessDto access, Long userId) {
+        if (access.isDrafter(userId) || access.isApprover()) {
             return true;
         }
-        if (permissionUtil.isAccountant(userId) || permissionUtil.isAdminOrCEO(userId)) {
-            return true;
-        }
-        if (approvalLines != null) {
-            for (ApprovalLineDto line : approvalLines) {
-                if (userId.equals(line.getApproverId())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return permissionUtil.isAccountant(userId) || permissionUtil.isAdminOrCEO(userId);
     }
     
     /**
      * 영수증 조회/다운로드 접근 권한 확인
      */
-    private boolean hasReceiptViewAccess(ExpenseReportDto report, List<ApprovalLineDto> approvalLines, Long userId) {
-        if (permissionUtil.isTaxAccountant(userId)) {
+    private boolean hasReceiptViewAccess(ReportAccessDto access, Long userId) {
+        if (access.isDrafter(userId) || access.isApprover()) {
             return true;
         }
-        return hasReceiptAccess(report, approvalLines, userId);
+        return permissionUtil.isTaxAccountant(userId) || hasReceiptAccess(access, userId);
     }
     
     /**
@@ -1835,7 +1797,7 @@ public class ExpenseService {
      * ADMIN, USER는 본인이 작성한 급여 문서만 조회 가능
      * 최적화: N+1 쿼리 문제 해결을 위해 배치 조회 사용
      */
-    private void filterSalaryExpenses(List<ExpenseReportDto> reports, Long userId) {
+    void filterSalaryExpenses(List<ExpenseReportDto> reports, Long userId) {
         if (userId == null || reports == null || reports.isEmpty()) {
             return;
         }
@@ -2073,55 +2035,42 @@ public class ExpenseService {
      * 대시보드 전체 요약 통계 조회
      */
     public DashboardStatsDto getDashboardStats(LocalDate startDate, LocalDate endDate) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectDashboardStats(startDate, endDate, companyId);
+        return expenseAnalyticsService.getDashboardStats(startDate, endDate);
     }
 
     /**
      * 월별 지출 추이 조회
      */
     public List<MonthlyTrendDto> getMonthlyTrend(LocalDate startDate, LocalDate endDate) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectMonthlyTrend(startDate, endDate, companyId);
+        return expenseAnalyticsService.getMonthlyTrend(startDate, endDate);
     }
 
     /**
      * 상태별 통계 조회
      */
     public List<StatusStatsDto> getStatusStats(LocalDate startDate, LocalDate endDate) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectStatusStats(startDate, endDate, companyId);
+        return expenseAnalyticsService.getStatusStats(startDate, endDate);
     }
 
     /**
      * 사용자별 지출 통계 조회
      */
     public List<UserExpenseStatsDto> getUserExpenseStats(LocalDate startDate, LocalDate endDate) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        return expenseMapper.selectUserExpenseStats(companyId, startDate, endDate);
+        return expenseAnalyticsService.getUserExpenseStats(startDate, endDate);
     }
 
     /**
      * 카테고리별 비율 조회 (비율 계산 포함)
      */
     public List<CategoryRatioDto> getCategoryRatio(LocalDate startDate, LocalDate endDate) {
-        Long companyId = SecurityUtil.getCurrentCompanyId();
-        List<CategoryRatioDto> ratios = expenseMapper.selectCategoryRatio(startDate, endDate, companyId);
-        
-        // 전체 금액 계산
-        long totalAmount = ratios.stream()
-                .mapToLong(CategoryRatioDto::getAmount)
-                .sum();
-        
-        // 비율 계산
-        if (totalAmount > 0) {
-            for (CategoryRatioDto ratio : ratios) {
-                double percentage = (double) ratio.getAmount() / totalAmount;
-                ratio.setRatio(percentage);
-            }
-        }
-        
-        return ratios;
+        return expenseAnalyticsService.getCategoryRatio(startDate, endDate);
+    }
+
+    /**
+     * 대시보드 통합 조회 (요약, 월별 추이, 상태별, 사용자별, 카테고리별 비율)
+     */
+    public ExpenseDashboardDto getDashboard(LocalDate startDate, LocalDate endDate) {
+        return expenseAnalyticsService.getDashboard(startDate, endDate);
     }
 
     /**
@@ -2398,6 +2347,7 @@ public class ExpenseService {
                                           Long companyId) throws IOException {
         // 엑셀 파일 생성
         Workbook workbook = new XSSFWorkbook();
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         Sheet sheet = workbook.createSheet("지출내역");
 
         // 회사 정보 조회
@@ -2528,6 +2478,8 @@ public class ExpenseService {
         }
 
         // 임시 파일로 저장
+        recordSheet("expense_list", sheetTimer);
+
         File tempFile = File.createTempFile("expense_export_", ".xlsx");
         try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
             workbook.write(outputStream);
@@ -2539,6 +2491,13 @@ public class ExpenseService {
         return tempFile;
     }
 
+    /**
+     * 엑셀 시트 생성 시간 기록 (excel.sheet.build, 파일 쓰기 제외)
+     */
+    private void recordSheet(String sheet, Timer.Sample sample) {
+        sample.stop(meterRegistry.timer("excel.sheet.build", "sheet", sheet));
+    }
+
     /**
      * 세무 검토용 엑셀 워크북 생성 (5개 시트)
      */
@@ -2551,16 +2510,24 @@ public class ExpenseService {
         Workbook workbook = new XSSFWorkbook();
 
         // Sheet 1: 전체 증빙 내역
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         createFullDetailSheet(workbook, expenseReports, detailsMap, receiptsByDetailMap, projectRoot, companyId);
+        recordSheet("tax_review_full_detail", sheetTimer);
 
         // Sheet 2: 부가세 검토 항목
+        sheetTimer = Timer.start(meterRegistry);
         createVatReviewSheet(workbook, expenseReports, detailsMap);
+        recordSheet("tax_review_vat", sheetTimer);
 
         // Sheet 4: 카테고리별 집계
+        sheetTimer = Timer.start(meterRegistry);
         createCategorySummarySheet(workbook, expenseReports, detailsMap, companyId);
+        recordSheet("tax_review_category_summary", sheetTimer);
 
         // Sheet 5: 더존 Import 형식
+        sheetTimer = Timer.start(meterRegistry);
         createDaejonImportSheet(workbook, expenseReports, detailsMap);
+        recordSheet("tax_review_daejon_import", sheetTimer);
 
         // 임시 파일로 저장
         File tempFile = File.createTempFile("tax_review_", ".xlsx");
@@ -2612,6 +2579,7 @@ public class ExpenseService {
         
         // 엑셀 파일 생성
         Workbook workbook = new XSSFWorkbook();
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         Sheet sheet = workbook.createSheet("지출내역");
         
         // 헤더 스타일
@@ -2667,6 +2635,8 @@ public class ExpenseService {
         }
         
         // 임시 파일로 저장
+        recordSheet("expense_list_superadmin", sheetTimer);
+
         File tempFile = File.createTempFile("expense_export_superadmin_", ".xlsx");
         try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
             workbook.write(outputStream);
@@ -2919,6 +2889,7 @@ public class ExpenseService {
         
         // 엑셀 파일 생성
         Workbook workbook = new XSSFWorkbook();
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         Sheet sheet = workbook.createSheet("전표");
         
         // 헤더 스타일
@@ -3070,6 +3041,8 @@ public class ExpenseService {
         }
         
         // 임시 파일로 저장
+        recordSheet("journal_entry", sheetTimer);
+
         File tempFile = File.createTempFile("journal_entry_", ".xlsx");
         try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
             workbook.write(outputStream);
@@ -3153,6 +3126,7 @@ public class ExpenseService {
         
         // 엑셀 파일 생성
         Workbook workbook = new XSSFWorkbook();
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         Sheet sheet = workbook.createSheet("세무전표");
         
         
@@ -3283,6 +3257,8 @@ public class ExpenseService {
         }
         
         // 임시 파일로 저장
+        recordSheet("tax_journal_entry", sheetTimer);
+
         File tempFile = File.createTempFile("tax_journal_entry_", ".xlsx");
         try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
             workbook.write(outputStream);
@@ -3347,6 +3323,7 @@ public class ExpenseService {
 
         // 업데이트
         expenseMapper.updateExpenseDetail(expenseDetail);
+        expenseRollupService.trackReportChange(companyId, expenseReportId);
 
         logger.info("상세 항목 업데이트 완료 - expenseDetailId: {}", expenseDetail.getExpenseDetailId());
     }
@@ -3875,7 +3852,7 @@ public class ExpenseService {
     /**
      * Sheet 1: 전체 증빙 내역 생성
      */
-    private void createFullDetailSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
+    void createFullDetailSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
                                       Map<Long, List<ExpenseDetailDto>> detailsMap,
                                       Map<Long, List<ReceiptDto>> receiptsByDetailMap,
                                       String projectRoot,
@@ -4270,7 +4247,7 @@ public class ExpenseService {
     /**
      * Sheet 3: 부가세 검토 항목 생성
      */
-    private void createVatReviewSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
+    void createVatReviewSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
                                      Map<Long, List<ExpenseDetailDto>> detailsMap) {
         Sheet sheet = workbook.createSheet("부가세 검토");
         
@@ -4378,7 +4355,7 @@ public class ExpenseService {
     /**
      * Sheet 4: 카테고리별 집계 생성
      */
-    private void createCategorySummarySheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
+    void createCategorySummarySheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
                                            Map<Long, List<ExpenseDetailDto>> detailsMap,
                                            Long companyId) {
         Sheet sheet = workbook.createSheet("카테고리별 집계");
@@ -4573,7 +4550,7 @@ public class ExpenseService {
     /**
      * Sheet 5: 더존 Import 형식 생성
      */
-    private void createDaejonImportSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
+    void createDaejonImportSheet(Workbook workbook, List<ExpenseReportDto> expenseReports,
                                         Map<Long, List<ExpenseDetailDto>> detailsMap) {
         Sheet sheet = workbook.createSheet("더존 Import");
         
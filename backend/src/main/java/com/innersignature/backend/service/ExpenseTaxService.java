@@ -73,7 +73,7 @@ public class ExpenseTaxService {
     @Transactional
     public void completeTaxProcessing(Long expenseReportId, Long userId) {
         // 결의서 접근 권한 검증
-        expenseReportService.getExpenseDetail(expenseReportId, userId);
+        expenseReportService.checkAccess(expenseReportId, userId);
 
         if (!SecurityUtil.isTaxAccountant()) {
             throw new RuntimeException("세무 담당자만 세무 처리를 수행할 수 있습니다.");
@@ -98,7 +98,7 @@ public class ExpenseTaxService {
         for (Long expenseReportId : expenseReportIds) {
             try {
                 // 각 결의서에 대한 권한 검증
-                expenseReportService.getExpenseDetail(expenseReportId, userId);
+                expenseReportService.checkAccess(expenseReportId, userId);
 
                 // TODO: 세무 처리 상태 업데이트 기능 구현
                 expenseMapper.updateTaxProcessingStatus(expenseReportId, "COMPLETED", userId);
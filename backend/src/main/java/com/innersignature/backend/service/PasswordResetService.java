@@ -1,6 +1,7 @@
 package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.PasswordResetTokenDto;
+import com.innersignature.backend.dto.UserDto;
 import com.innersignature.backend.exception.BusinessException;
 import com.innersignature.backend.mapper.PasswordResetTokenMapper;
 import com.innersignature.backend.mapper.UserMapper;
@@ -51,6 +52,17 @@ public class PasswordResetService {
         return token;
     }
 
+    /**
+     * 비밀번호 재설정 요청 처리 (토큰 생성 + 재설정 메일 발송 대기열 저장)
+     * 같은 트랜잭션으로 처리하여 토큰이 저장된 경우에만 메일이 발송됩니다.
+     * @param user 재설정을 요청한 사용자
+     */
+    @Transactional
+    public void requestReset(UserDto user) {
+        String token = generateResetToken(user.getUserId());
+        emailService.sendPasswordResetEmail(user.getEmail(), user.getKoreanName(), token);
+    }
+
     /**
      * 토큰 유효성 검증
      * @param token 검증할 토큰
@@ -1,5 +1,6 @@
 package com.innersignature.backend.service;
 
+import com.innersignature.backend.dto.CursorPageResponse;
 import com.innersignature.backend.dto.PaymentDto;
 import com.innersignature.backend.dto.SubscriptionDto;
 import com.innersignature.backend.exception.BusinessException;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -138,5 +140,25 @@ public class PaymentService {
     public List<PaymentDto> getAllPayments() {
         return paymentMapper.findAll();
     }
+
+    /**
+     * 결제 내역 커서 페이지 조회 (SUPERADMIN 전용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param sortAsc true면 payment_id 오름차순, false면 내림차순 (최근 결제순)
+     */
+    public CursorPageResponse<PaymentDto> getPaymentsPage(Long companyId, String paymentStatus,
+                                                          LocalDate fromDate, LocalDate toDate,
+                                                          Long cursor, Integer size, boolean sortAsc) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<PaymentDto> rows = paymentMapper.findPage(companyId, paymentStatus, fromDate, toDate, cursor, sortAsc, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, PaymentDto::getPaymentId);
+    }
+
+    /**
+     * 결제 내역 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    public long countPayments(Long companyId, String paymentStatus, LocalDate fromDate, LocalDate toDate) {
+        return paymentMapper.countForSuperAdmin(companyId, paymentStatus, fromDate, toDate);
+    }
 }
 
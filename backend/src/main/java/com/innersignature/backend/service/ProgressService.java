@@ -1,7 +1,8 @@
 package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.ProgressDto;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -12,12 +13,32 @@ import java.util.concurrent.ConcurrentHashMap;
  * 메모리 기반으로 진행률을 저장하고 조회합니다.
  */
 @Service
-@RequiredArgsConstructor
 public class ProgressService {
 
     // 작업 ID -> 진행률 정보
     private final Map<String, ProgressDto> progressMap = new ConcurrentHashMap<>();
 
+    /**
+     * 상태별 보관 중인 작업 수 게이지 등록 (progress.jobs: state=running/completed/failed)
+     */
+    public ProgressService(MeterRegistry meterRegistry) {
+        Gauge.builder("progress.jobs", progressMap, map -> count(map, false, false))
+                .tag("state", "running")
+                .register(meterRegistry);
+        Gauge.builder("progress.jobs", progressMap, map -> count(map, true, false))
+                .tag("state", "completed")
+                .register(meterRegistry);
+        Gauge.builder("progress.jobs", progressMap, map -> map.values().stream().filter(ProgressDto::isFailed).count())
+                .tag("state", "failed")
+                .register(meterRegistry);
+    }
+
+    private static long count(Map<String, ProgressDto> map, boolean completed, boolean failed) {
+        return map.values().stream()
+                .filter(progress -> progress.isCompleted() == completed && progress.isFailed() == failed)
+                .count();
+    }
+
     /**
      * 진행률 업데이트
      */
@@ -41,9 +62,16 @@ public class ProgressService {
      * 작업 완료 처리
      */
     public void completeProgress(String jobId, Long expenseId) {
+        completeProgress(jobId, expenseId, "완료!");
+    }
+
+    /**
+     * 작업 완료 처리 (결과 메시지 지정)
+     */
+    public void completeProgress(String jobId, Long expenseId, String message) {
         ProgressDto progress = progressMap.getOrDefault(jobId, new ProgressDto());
         progress.setPercentage(100);
-        progress.setMessage("완료!");
+        progress.setMessage(message);
         progress.setCompleted(true);
         progress.setFailed(false);
         progress.setExpenseId(expenseId);
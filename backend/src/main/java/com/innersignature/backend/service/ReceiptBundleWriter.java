@@ -0,0 +1,137 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ReceiptDto;
+import com.innersignature.backend.util.ReceiptPathResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 영수증 묶음(ZIP) 작성 서비스
+ * I/O 실행기에서 다음 N개의 영수증 파일을 미리 읽고, 단일 ZIP 작성 스레드가 요청 순서대로 기록합니다.
+ * 선읽기 창 크기로 동시 I/O 수와 메모리 사용량(창 크기 x 최대 5MB)을 제한합니다.
+ */
+@Service
+public class ReceiptBundleWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReceiptBundleWriter.class);
+
+    // 동시에 미리 읽어 둘 영수증 파일 수
+    private static final int PREFETCH_WINDOW = 4;
+
+    private final Executor receiptIoExecutor;
+
+    public ReceiptBundleWriter(@Qualifier("receiptIoExecutor") Executor receiptIoExecutor) {
+        this.receiptIoExecutor = receiptIoExecutor;
+    }
+
+    /**
+     * 영수증 ZIP 작성
+     * 영수증은 이미 압축된 PDF이므로 STORED(무압축) 엔트리로 저장합니다.
+     * 개별 파일 실패는 건너뛰고 개수만 집계합니다.
+     */
+    public void writeZip(List<ReceiptDto> receipts, OutputStream outputStream) throws IOException {
+        int successCount = 0;
+        int failCount = 0;
+
+        ZipOutputStream zos = new ZipOutputStream(outputStream);
+        Deque<CompletableFuture<byte[]>> window = new ArrayDeque<>(PREFETCH_WINDOW);
+        int nextIndex = 0;
+        try {
+            while (nextIndex < receipts.size() && window.size() < PREFETCH_WINDOW) {
+                window.addLast(prefetch(receipts.get(nextIndex++)));
+            }
+
+            for (ReceiptDto receipt : receipts) {
+                CompletableFuture<byte[]> pending = window.removeFirst();
+                // 현재 파일을 기다리기 전에 창을 다시 채워 I/O가 계속 앞서 나가도록 함
+                if (nextIndex < receipts.size()) {
+                    window.addLast(prefetch(receipts.get(nextIndex++)));
+                }
+
+                byte[] content;
+                try {
+                    content = pending.join();
+                } catch (CompletionException e) {
+                    logger.error("영수증 파일 읽기 실패 - receiptId: {}", receipt.getReceiptId(), e.getCause());
+                    failCount++;
+                    continue;
+                }
+
+                String entryName = buildEntryName(receipt);
+                writeStoredEntry(zos, entryName, content);
+                successCount++;
+
+                logger.debug("영수증 ZIP에 추가 완료 - receiptId: {}, filename: {}", receipt.getReceiptId(), entryName);
+            }
+        } finally {
+            // 클라이언트 연결 종료 등으로 중단된 경우 남은 선읽기 취소
+            window.forEach(future -> future.cancel(true));
+        }
+        zos.finish();
+        zos.flush();
+
+        if (failCount > 0) {
+            logger.warn("일부 영수증 다운로드 실패 - 성공: {}, 실패: {}", successCount, failCount);
+        }
+        logger.info("영수증 ZIP 전송 완료 - 총: {}, 성공: {}, 실패: {}", receipts.size(), successCount, failCount);
+    }
+
+    private CompletableFuture<byte[]> prefetch(ReceiptDto receipt) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return Files.readAllBytes(ReceiptPathResolver.resolve(receipt.getFilePath()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, receiptIoExecutor);
+    }
+
+    private void writeStoredEntry(ZipOutputStream zos, String entryName, byte[] content) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(content.length);
+        entry.setCompressedSize(content.length);
+        entry.setCrc(crc.getValue());
+
+        zos.putNextEntry(entry);
+        zos.write(content);
+        zos.closeEntry();
+    }
+
+    /**
+     * ZIP 엔트리 파일명 생성 (파일명 중복 방지를 위해 receiptId 포함)
+     */
+    private String buildEntryName(ReceiptDto receipt) {
+        Long receiptId = receipt.getReceiptId();
+        String entryName = receipt.getOriginalFilename();
+        if (entryName == null || entryName.isEmpty()) {
+            return "receipt_" + receiptId;
+        }
+        // 같은 이름의 파일이 있을 수 있으므로 receiptId를 포함
+        int lastDotIndex = entryName.lastIndexOf('.');
+        if (lastDotIndex > 0) {
+            String baseName = entryName.substring(0, lastDotIndex);
+            String extension = entryName.substring(lastDotIndex);
+            return baseName + "_" + receiptId + extension;
+        }
+        return entryName + "_" + receiptId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.SignatureImageDto;
+import com.innersignature.backend.exception.BusinessException;
+import com.innersignature.backend.exception.ResourceNotFoundException;
+import com.innersignature.backend.mapper.SignatureImageMapper;
+import lombok.RequiredArgsConstructor;
+import org.apache.tika.Tika;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 서명 이미지 저장소 서비스
+ * 결재 서명 이미지를 결재 라인마다 Base64로 복사하지 않고, 이미지 바이트의 SHA-256 해시로 한 번만 저장합니다.
+ * 결재 라인에는 해시만 남고, 이미지는 GET /api/signatures/{signatureHash}로 따로 조회합니다.
+ * (같은 해시의 이미지는 바뀌지 않으므로 브라우저가 장기간 캐시할 수 있음)
+ */
+@Service
+@RequiredArgsConstructor
+public class SignatureImageService {
+
+    // 저장/응답을 허용하는 이미지 형식 (실제 바이트로 판별, SVG 등 스크립트가 포함될 수 있는 형식 제외)
+    private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    private final SignatureImageMapper signatureImageMapper;
+    private final Tika tika = new Tika();
+
+    /**
+     * 서명 데이터(data URL 또는 Base64) 저장
+     * @return 서명 해시 (서명 데이터가 없으면 null)
+     */
+    public String store(Long companyId, String signatureData) {
+        if (signatureData == null || signatureData.isBlank()) {
+            return null;
+        }
+        return store(companyId, decode(signatureData));
+    }
+
+    /**
+     * 서명 이미지 바이트 저장 (저장된 서명/도장의 이미지를 Base64 변환 없이 사용)
+     * @return 서명 해시
+     */
+    public String store(Long companyId, byte[] imageData) {
+        String contentType = detectContentType(imageData);
+
+        SignatureImageDto image = new SignatureImageDto();
+        image.setCompanyId(companyId);
+        image.setSignatureHash(sha256Hex(imageData));
+        image.setContentType(contentType);
+        image.setImageData(imageData);
+        image.setByteSize(imageData.length);
+        signatureImageMapper.insertIfAbsent(image);
+        return image.getSignatureHash();
+    }
+
+    /**
+     * 서명 이미지 조회 (같은 회사의 이미지만)
+     */
+    public SignatureImageDto getImage(Long companyId, String signatureHash) {
+        if (signatureHash == null || !HASH_PATTERN.matcher(signatureHash).matches()) {
+            throw new ResourceNotFoundException("서명 이미지를 찾을 수 없습니다.");
+        }
+        SignatureImageDto image = signatureImageMapper.selectByHash(signatureHash, companyId);
+        if (image == null) {
+            throw new ResourceNotFoundException("서명 이미지를 찾을 수 없습니다.");
+        }
+        return image;
+    }
+
+    /**
+     * 이미지 형식 판별 (실제 바이트 기준, 허용하지 않는 형식이면 예외)
+     */
+    public String detectContentType(byte[] imageData) {
+        String contentType = tika.detect(imageData);
+        if (!ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new BusinessException("지원하지 않는 서명 이미지 형식입니다.");
+        }
+        return contentType;
+    }
+
+    /**
+     * data URL 생성 (저장된 바이트를 기존 API 응답 형식으로 변환)
+     */
+    public static String toDataUrl(String contentType, byte[] imageData) {
+        return "data:" + contentType + ";base64," + Base64.getEncoder().encodeToString(imageData);
+    }
+
+    /**
+     * data URL("data:image/png;base64,...") 또는 Base64 문자열 디코딩
+     * (공백/줄바꿈은 무시, 마이그레이션의 FROM_BASE64와 같은 바이트)
+     */
+    public static byte[] decode(String signatureData) {
+        String base64 = signatureData.trim();
+        int comma = base64.indexOf(',');
+        if (base64.startsWith("data:") && comma > 0) {
+            base64 = base64.substring(comma + 1);
+        }
+        try {
+            byte[] imageData = Base64.getMimeDecoder().decode(base64);
+            if (imageData.length == 0) {
+                throw new BusinessException("서명 데이터 형식이 올바르지 않습니다.");
+            }
+            return imageData;
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("서명 데이터 형식이 올바르지 않습니다.", e);
+        }
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
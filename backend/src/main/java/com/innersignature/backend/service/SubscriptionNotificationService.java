@@ -0,0 +1,79 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.EmailOutboxDto;
+import com.innersignature.backend.dto.SubscriptionExpirationNoticeDto;
+import com.innersignature.backend.mapper.SubscriptionMapper;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구독 안내 메일 서비스
+ * 안내 메일은 직접 보내지 않고 발송 대기열(EmailOutboxService)에 저장하며, 발송은 대기열 발송기가 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubscriptionNotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionNotificationService.class);
+
+    static final String EXPIRING_EMAIL_TYPE = "SUBSCRIPTION_EXPIRING";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
+
+    private final SubscriptionMapper subscriptionMapper;
+    private final EmailOutboxService emailOutboxService;
+
+    /**
+     * 만료 예정 안내를 발송 대기열에 저장
+     * 만료일이 오늘 + minDays ~ maxDays인 구독의 관리자/CEO에게 "D-maxDays" 안내를 한 번씩 보냅니다.
+     * 범위로 조회하므로 스케줄러가 하루 실행되지 않아도 다음 실행에서 안내되고,
+     * (구독, 만료일, 안내 구분, 수신자) 기준 중복 방지 키로 같은 안내는 한 번만 저장됩니다.
+     * @return 새로 저장된 안내 건수
+     */
+    @Transactional
+    public int enqueueExpirationWarnings(int minDays, int maxDays) {
+        LocalDate today = LocalDate.now();
+        List<SubscriptionExpirationNoticeDto> targets = subscriptionMapper.findExpirationNoticeTargets(today, minDays, maxDays);
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<EmailOutboxDto> emails = new ArrayList<>(targets.size());
+        for (SubscriptionExpirationNoticeDto target : targets) {
+            EmailOutboxDto email = new EmailOutboxDto();
+            email.setEmailType(EXPIRING_EMAIL_TYPE);
+            email.setDedupKey(EXPIRING_EMAIL_TYPE + ":" + target.getSubscriptionId() + ":" + target.getEndDate()
+                    + ":D-" + maxDays + ":" + target.getUserId());
+            email.setCompanyId(target.getCompanyId());
+            email.setRecipient(target.getEmail());
+            email.setSubject("[InnerSignature] 구독 만료 예정 안내");
+            email.setBody(expirationBody(target, ChronoUnit.DAYS.between(today, target.getEndDate())));
+            emails.add(email);
+        }
+        int queued = emailOutboxService.enqueue(emails);
+        logger.info("구독 만료 예정 안내 저장 - D-{}, 대상: {}, 신규: {}", maxDays, targets.size(), queued);
+        return queued;
+    }
+
+    private String expirationBody(SubscriptionExpirationNoticeDto target, long daysLeft) {
+        String when = daysLeft <= 0 ? "오늘" : daysLeft + "일 후";
+        String renewal = Boolean.TRUE.equals(target.getAutoRenew())
+                ? "자동 갱신이 설정되어 있어 만료일에 같은 플랜으로 갱신됩니다.\n"
+                : "자동 갱신이 설정되어 있지 않아 만료 후 무료 플랜으로 전환되거나 서비스 이용이 제한될 수 있습니다.\n"
+                  + "계속 이용하시려면 만료일 전에 구독을 갱신해주세요.\n";
+        return target.getKoreanName() + "님 안녕하세요.\n\n" +
+                target.getCompanyName() + "의 " + target.getPlanName() + " 플랜 구독이 " + when + "(" +
+                target.getEndDate().format(DATE_FORMAT) + ") 만료됩니다.\n\n" +
+                renewal + "\n" +
+                "감사합니다.\n" +
+                "InnerSignature 팀";
+    }
+}
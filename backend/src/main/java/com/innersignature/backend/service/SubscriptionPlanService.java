@@ -21,6 +21,13 @@ public class SubscriptionPlanService {
         return subscriptionPlanMapper.findAllActive();
     }
     
+    /**
+     * 비활성 플랜을 포함한 전체 플랜 조회 (SUPERADMIN 필터용)
+     */
+    public List<SubscriptionPlanDto> findAll() {
+        return subscriptionPlanMapper.findAll();
+    }
+    
     /**
      * 플랜 ID로 조회
      */
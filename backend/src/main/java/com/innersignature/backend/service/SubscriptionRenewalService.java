@@ -0,0 +1,171 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.SchedulerRunDto;
+import com.innersignature.backend.mapper.SchedulerRunMapper;
+import com.innersignature.backend.mapper.SubscriptionMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 구독 만료/플랜 변경 일괄 처리 서비스 (스케줄러용)
+ *
+ * 처리 대상 구독을 일정 건수(chunk)씩 DB에서 선점(claim_owner, claim_until)한 뒤 묶음별로 queryExecutor에서 병렬 처리합니다.
+ * 선점은 한 문장의 UPDATE ... LIMIT이므로 여러 서버가 같은 cron으로 동시에 실행해도 서로 다른 묶음을 가져가 나눠 처리합니다.
+ * 선점은 claim_until까지만 유효하여, 처리 도중 서버가 종료되면 다음 실행에서 다른 서버가 이어받습니다.
+ * 구독 상태 변경은 조건부 UPDATE(SubscriptionService)로 이루어져 같은 구독을 다시 처리해도 결제가 중복되지 않습니다.
+ * 실행마다 처리 건수와 소요 시간을 scheduler_run_tb에 기록합니다.
+ */
+@Service
+public class SubscriptionRenewalService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionRenewalService.class);
+
+    static final String EXPIRE_JOB = "SUBSCRIPTION_EXPIRE";
+    static final String PENDING_PLAN_JOB = "SUBSCRIPTION_PENDING_PLAN";
+
+    private final SubscriptionMapper subscriptionMapper;
+    private final SubscriptionService subscriptionService;
+    private final SchedulerRunMapper schedulerRunMapper;
+    private final Executor queryExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int leaseSeconds;
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName();
+
+    public SubscriptionRenewalService(SubscriptionMapper subscriptionMapper, SubscriptionService subscriptionService,
+                                      SchedulerRunMapper schedulerRunMapper,
+                                      @Qualifier("queryExecutor") Executor queryExecutor,
+                                      @Value("${subscription.scheduler.chunk-size:100}") int chunkSize,
+                                      @Value("${subscription.scheduler.parallelism:2}") int parallelism,
+                                      @Value("${subscription.scheduler.lease-seconds:1800}") int leaseSeconds) {
+        this.subscriptionMapper = subscriptionMapper;
+        this.subscriptionService = subscriptionService;
+        this.schedulerRunMapper = schedulerRunMapper;
+        this.queryExecutor = queryExecutor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+        this.leaseSeconds = Math.max(60, leaseSeconds);
+    }
+
+    /**
+     * 만료된 구독 처리 (자동 갱신 / 예정 플랜 전환 / 무료 플랜 전환)
+     */
+    public SchedulerRunDto expireSubscriptions() {
+        LocalDate today = LocalDate.now();
+        return run(EXPIRE_JOB,
+                owner -> subscriptionMapper.claimExpiredSubscriptions(today, owner, leaseSeconds, chunkSize),
+                subscriptionService::expireSubscription);
+    }
+
+    /**
+     * 전환일이 된 예정 플랜 변경 처리 (다운그레이드)
+     */
+    public SchedulerRunDto processPendingPlanChanges() {
+        LocalDate today = LocalDate.now();
+        return run(PENDING_PLAN_JOB,
+                owner -> subscriptionMapper.claimPendingPlanChanges(today, owner, leaseSeconds, chunkSize),
+                subscriptionService::processPendingPlanChange);
+    }
+
+    /**
+     * 선점 → 묶음 병렬 처리 → 실행 기록
+     * 동시에 처리 중인 묶음 수를 parallelism으로 제한하고, 처리할 자리가 생긴 뒤에 다음 묶음을 선점합니다.
+     * (미리 선점해 대기열에 쌓아두면 그 사이 선점 시간이 소진되어 다른 서버가 가져갈 수 있음)
+     * 실패한 구독은 선점이 만료될 때까지 다시 선점되지 않으므로 같은 실행에서 반복 처리되지 않습니다.
+     */
+    private SchedulerRunDto run(String jobName, ToIntFunction<String> claim, Consumer<Long> processor) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        String runOwner = UUID.randomUUID().toString();
+
+        Semaphore permits = new Semaphore(parallelism);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int chunks = 0;
+        int claimed = 0;
+
+        while (true) {
+            permits.acquireUninterruptibly();
+            List<Long> subscriptionIds;
+            try {
+                String claimOwner = runOwner + ":" + chunks;
+                if (claim.applyAsInt(claimOwner) == 0) {
+                    permits.release();
+                    break;
+                }
+                subscriptionIds = subscriptionMapper.findClaimedSubscriptionIds(claimOwner);
+            } catch (RuntimeException e) {
+                permits.release();
+                logger.error("구독 처리 대상 선점 실패 - job: {}", jobName, e);
+                break;
+            }
+            chunks++;
+            claimed += subscriptionIds.size();
+
+            try {
+                futures.add(CompletableFuture
+                        .runAsync(() -> processChunk(jobName, subscriptionIds, processor, succeeded, failed), queryExecutor)
+                        .whenComplete((result, error) -> permits.release()));
+            } catch (RuntimeException e) {
+                permits.release();
+                logger.error("구독 처리 묶음 실행 실패 - job: {}", jobName, e);
+                failed.addAndGet(subscriptionIds.size());
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        SchedulerRunDto schedulerRun = new SchedulerRunDto();
+        schedulerRun.setJobName(jobName);
+        schedulerRun.setNodeId(nodeId);
+        schedulerRun.setClaimOwner(runOwner);
+        schedulerRun.setChunkCount(chunks);
+        schedulerRun.setClaimedCount(claimed);
+        schedulerRun.setSucceededCount(succeeded.get());
+        schedulerRun.setFailedCount(failed.get());
+        schedulerRun.setDurationMs((System.nanoTime() - startNanos) / 1_000_000);
+        schedulerRun.setStartedAt(startedAt);
+        schedulerRun.setFinishedAt(LocalDateTime.now());
+        try {
+            schedulerRunMapper.insert(schedulerRun);
+        } catch (RuntimeException e) {
+            logger.warn("스케줄러 실행 기록 저장 실패 - job: {}", jobName, e);
+        }
+
+        logger.info("구독 일괄 처리 완료 - job: {}, node: {}, 묶음: {}, 선점: {}, 성공: {}, 실패: {}, {}ms",
+                jobName, nodeId, chunks, claimed, succeeded.get(), failed.get(), schedulerRun.getDurationMs());
+        return schedulerRun;
+    }
+
+    /**
+     * 묶음 처리 (구독별 트랜잭션, 개별 실패는 기록만 하고 계속 진행)
+     */
+    private void processChunk(String jobName, List<Long> subscriptionIds, Consumer<Long> processor,
+                              AtomicInteger succeeded, AtomicInteger failed) {
+        for (Long subscriptionId : subscriptionIds) {
+            try {
+                processor.accept(subscriptionId);
+                succeeded.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.error("구독 처리 실패 - job: {}, subscriptionId: {}", jobName, subscriptionId, e);
+            }
+        }
+    }
+}
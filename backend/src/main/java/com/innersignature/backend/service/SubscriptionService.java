@@ -1,6 +1,7 @@
 package com.innersignature.backend.service;
 
 import com.innersignature.backend.dto.CompanyDto;
+import com.innersignature.backend.dto.CursorPageResponse;
 import com.innersignature.backend.dto.SubscriptionDto;
 import com.innersignature.backend.dto.SubscriptionPlanDto;
 import com.innersignature.backend.exception.BusinessException;
@@ -382,16 +383,10 @@ public class SubscriptionService {
             if (subscription.getPendingChangeDate().isBefore(today) || subscription.getPendingChangeDate().isEqual(today)) {
                 SubscriptionPlanDto pendingPlan = subscriptionPlanService.findById(subscription.getPendingPlanId());
                 if (pendingPlan != null && pendingPlan.getIsActive()) {
-                    // pending 플랜으로 전환
-                    subscription.setPlanId(pendingPlan.getPlanId());
-                    subscription.setPendingPlanId(null);
-                    subscription.setPendingChangeDate(null);
-                    subscription.setStartDate(today);
-                    subscription.setEndDate(today.plusMonths(1));
-                    subscription.setUpdatedAt(LocalDateTime.now());
-                    
-                    // subscription 업데이트를 먼저 커밋하여 외래키 잠금 문제 방지
-                    commitSubscriptionUpdate(subscription);
+                    // pending 플랜으로 전환 (다른 노드가 먼저 전환했으면 결제 없이 종료)
+                    if (!applyPendingPlan(subscription, today)) {
+                        return;
+                    }
                     logger.info("다운그레이드 플랜 전환 완료 - subscriptionId: {}, newPlan: {}", 
                         subscriptionId, pendingPlan.getPlanCode());
                     
@@ -402,8 +397,11 @@ public class SubscriptionService {
             }
         }
         
-        // 구독 상태를 EXPIRED로 변경
-        subscriptionMapper.updateStatus(subscriptionId, "EXPIRED", companyId);
+        // 구독 상태를 EXPIRED로 변경 (다른 노드가 먼저 만료 처리했으면 갱신/전환 없이 종료)
+        if (subscriptionMapper.expireIfActive(subscriptionId, companyId) == 0) {
+            logger.info("이미 처리된 구독 만료 - subscriptionId: {}", subscriptionId);
+            return;
+        }
         updateCompanySubscriptionId(companyId, null);
         
         // 자동 갱신이 켜져 있는 경우 다음 기간으로 연장 (결제 처리)
@@ -466,16 +464,10 @@ public class SubscriptionService {
         
         Long companyId = subscription.getCompanyId();
         
-        // pending 플랜으로 전환
-        subscription.setPlanId(pendingPlan.getPlanId());
-        subscription.setPendingPlanId(null);
-        subscription.setPendingChangeDate(null);
-        subscription.setStartDate(today);
-        subscription.setEndDate(today.plusMonths(1));
-        subscription.setUpdatedAt(LocalDateTime.now());
-        
-        // subscription 업데이트를 먼저 커밋하여 외래키 잠금 문제 방지
-        commitSubscriptionUpdate(subscription);
+        // pending 플랜으로 전환 (다른 노드가 먼저 전환했으면 결제 없이 종료)
+        if (!applyPendingPlan(subscription, today)) {
+            return;
+        }
         logger.info("대기 중인 플랜 전환 완료 - subscriptionId: {}, newPlan: {}", 
             subscriptionId, pendingPlan.getPlanCode());
         
@@ -483,6 +475,21 @@ public class SubscriptionService {
         processPaymentAfterPlanChange(subscriptionId, companyId, pendingPlan);
     }
     
+    /**
+     * 예정된 플랜으로 전환
+     * 예정 플랜이 그대로인 활성 구독일 때만 반영하므로 같은 구독을 두 번 처리해도 결제는 한 번만 일어납니다.
+     * @return 이번 호출로 전환되었으면 true
+     */
+    private boolean applyPendingPlan(SubscriptionDto subscription, LocalDate today) {
+        int updated = subscriptionMapper.applyPendingPlan(subscription.getSubscriptionId(),
+                subscription.getPendingPlanId(), today, today.plusMonths(1));
+        if (updated == 0) {
+            logger.info("이미 처리된 플랜 전환 - subscriptionId: {}", subscription.getSubscriptionId());
+            return false;
+        }
+        return true;
+    }
+    
     /**
      * 만료된 구독의 무료 플랜 전환 처리
      */
@@ -643,5 +650,24 @@ public class SubscriptionService {
     public List<SubscriptionDto> getAllSubscriptions() {
         return subscriptionMapper.findAll();
     }
+
+    /**
+     * 구독 목록 커서 페이지 조회 (SUPERADMIN 전용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param sortAsc true면 subscription_id 오름차순, false면 내림차순 (최근 생성순)
+     */
+    public CursorPageResponse<SubscriptionDto> getSubscriptionsPage(Long companyId, String status, String planName,
+                                                                    Long cursor, Integer size, boolean sortAsc) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<SubscriptionDto> rows = subscriptionMapper.findPage(companyId, status, planName, cursor, sortAsc, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, SubscriptionDto::getSubscriptionId);
+    }
+
+    /**
+     * 구독 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    public long countSubscriptions(Long companyId, String status, String planName) {
+        return subscriptionMapper.countForSuperAdmin(companyId, status, planName);
+    }
 }
 
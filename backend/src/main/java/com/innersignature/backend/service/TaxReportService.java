@@ -4,6 +4,8 @@ import com.innersignature.backend.dto.ExpenseDetailDto;
 import com.innersignature.backend.dto.ExpenseReportDto;
 import com.innersignature.backend.mapper.ExpenseMapper;
 import com.innersignature.backend.util.SecurityUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -26,6 +28,7 @@ public class TaxReportService {
     
     private static final Logger logger = LoggerFactory.getLogger(TaxReportService.class);
     private final ExpenseMapper expenseMapper;
+    private final MeterRegistry meterRegistry;
     
     /**
      * 부가세 신고 서식 생성 (신용카드 매출전표 등 수취명세서)
@@ -55,6 +58,7 @@ public class TaxReportService {
         
         // 엑셀 파일 생성
         Workbook workbook = new XSSFWorkbook();
+        Timer.Sample sheetTimer = Timer.start(meterRegistry);
         Sheet sheet = workbook.createSheet("신용카드매출전표수취명세서");
         
         // 헤더 스타일
@@ -122,6 +126,8 @@ public class TaxReportService {
             }
         }
         
+        sheetTimer.stop(meterRegistry.timer("excel.sheet.build", "sheet", "tax_report_card_receipt"));
+
         // 임시 파일로 저장
         File tempFile = File.createTempFile("tax_report_", ".xlsx");
         try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
@@ -1,5 +1,6 @@
 package com.innersignature.backend.service;
 
+import com.innersignature.backend.dto.CursorPageResponse;
 import com.innersignature.backend.dto.UserDto;
 import com.innersignature.backend.dto.UserCompanyDto;
 import com.innersignature.backend.exception.BusinessException;
@@ -9,12 +10,29 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
+    // 사용자 목록 CSV를 내보낼 때 한 번에 조회하는 건수
+    private static final int EXPORT_CHUNK_SIZE = 1000;
+    private static final Map<String, String> ROLE_LABELS = Map.of(
+            "USER", "일반 사용자",
+            "ADMIN", "관리자",
+            "ACCOUNTANT", "결제 담당자",
+            "TAX_ACCOUNTANT", "세무사",
+            "CEO", "대표",
+            "SUPERADMIN", "최고 관리자");
+
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final com.innersignature.backend.util.SubscriptionUtil subscriptionUtil;
@@ -119,6 +137,66 @@ public class UserService {
         return userMapper.selectAllUsers();
     }
 
+    /**
+     * 사용자 목록 커서 페이지 조회 (SUPERADMIN 전용)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param sortAsc true면 user_id 오름차순, false면 내림차순 (최근 가입순)
+     */
+    public CursorPageResponse<UserDto> getUsersPage(String search, String role, Boolean isActive, Long companyId,
+                                                    Long cursor, Integer size, boolean sortAsc) {
+        int pageSize = CursorPageResponse.normalizeSize(size);
+        List<UserDto> rows = userMapper.selectUsersPage(search, role, isActive, companyId, cursor, sortAsc, pageSize + 1);
+        return CursorPageResponse.of(rows, pageSize, UserDto::getUserId);
+    }
+
+    /**
+     * 사용자 목록 CSV 내보내기 (SUPERADMIN 전용, 목록과 같은 필터)
+     * 목록과 같은 커서 조회를 일정 건수씩 반복하여 응답 스트림에 바로 씁니다. (엑셀에서 열 수 있도록 UTF-8 BOM 포함)
+     */
+    public void writeUsersCsv(String search, String role, Boolean isActive, Long companyId,
+                              OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writeCsvRow(writer, "ID", "아이디", "이름", "이메일", "권한", "상태", "직급");
+        Long cursor = null;
+        List<UserDto> rows;
+        do {
+            rows = userMapper.selectUsersPage(search, role, isActive, companyId, cursor, false, EXPORT_CHUNK_SIZE);
+            for (UserDto user : rows) {
+                writeCsvRow(writer,
+                        String.valueOf(user.getUserId()),
+                        user.getUsername(),
+                        user.getKoreanName(),
+                        user.getEmail(),
+                        ROLE_LABELS.getOrDefault(user.getRole(), user.getRole()),
+                        Boolean.TRUE.equals(user.getIsActive()) ? "활성" : "비활성",
+                        user.getPosition());
+            }
+            if (!rows.isEmpty()) {
+                cursor = rows.get(rows.size() - 1).getUserId();
+            }
+        } while (rows.size() == EXPORT_CHUNK_SIZE);
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String field = fields[i] != null ? fields[i] : "";
+            writer.write('"' + field.replace("\"", "\"\"") + '"');
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * 사용자 수 조회 (SUPERADMIN 전용, 목록과 같은 필터)
+     */
+    public long countUsers(String search, String role, Boolean isActive, Long companyId) {
+        return userMapper.countUsersForSuperAdmin(search, role, isActive, companyId);
+    }
+
     /**
      * 회사별 사용자 목록 조회
      * @param companyId 회사 ID
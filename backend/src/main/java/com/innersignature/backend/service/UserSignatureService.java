@@ -4,20 +4,41 @@ import com.innersignature.backend.dto.UserSignatureDto;
 import com.innersignature.backend.exception.BusinessException;
 import com.innersignature.backend.exception.ResourceNotFoundException;
 import com.innersignature.backend.mapper.UserSignatureMapper;
+import com.innersignature.backend.util.SignatureImageNormalizer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.List;
 
+/**
+ * 사용자 서명/도장 서비스
+ * 업로드된 이미지는 정규화(투명 여백 제거, 최대 크기 축소, PNG 재인코딩)하여 바이너리로 저장하고,
+ * 조회 시에는 기존 API와 같은 data URL(signatureData)로 돌려줍니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class UserSignatureService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserSignatureService.class);
     private final UserSignatureMapper userSignatureMapper;
+    private final SignatureImageService signatureImageService;
+
+    @Value("${signature.image.max-width:600}")
+    private int maxWidth;
+
+    @Value("${signature.image.max-height:300}")
+    private int maxHeight;
+
+    @Value("${signature.image.keep-original:false}")
+    private boolean keepOriginal;
+
+    @Value("${signature.image.max-pixels:16000000}")
+    private long maxPixels;
     
     /**
      * 서명/도장 생성
@@ -53,12 +74,13 @@ public class UserSignatureService {
         if (signatureDto.getIsDefault() == null) {
             signatureDto.setIsDefault(false);
         }
+        ingestImage(signatureDto);
         
         int result = userSignatureMapper.insert(signatureDto);
         if (result > 0) {
             logger.info("서명/도장 생성 완료 - signatureId: {}, userId: {}, signatureName: {}", 
                 signatureDto.getSignatureId(), currentUserId, signatureDto.getSignatureName());
-            return userSignatureMapper.findById(signatureDto.getSignatureId(), companyId);
+            return toResponse(userSignatureMapper.findById(signatureDto.getSignatureId(), companyId));
         } else {
             throw new BusinessException("서명/도장 생성에 실패했습니다.");
         }
@@ -68,14 +90,16 @@ public class UserSignatureService {
      * 서명/도장 목록 조회
      */
     public List<UserSignatureDto> getSignatures(Long currentUserId, Long companyId) {
-        return userSignatureMapper.findByUserId(currentUserId, companyId);
+        List<UserSignatureDto> signatures = userSignatureMapper.findByUserId(currentUserId, companyId);
+        signatures.forEach(this::toResponse);
+        return signatures;
     }
     
     /**
      * 기본 서명/도장 조회
      */
     public UserSignatureDto getDefaultSignature(Long currentUserId, Long companyId) {
-        return userSignatureMapper.findDefaultByUserId(currentUserId, companyId);
+        return toResponse(userSignatureMapper.findDefaultByUserId(currentUserId, companyId));
     }
     
     /**
@@ -92,7 +116,7 @@ public class UserSignatureService {
             throw new BusinessException("권한이 없습니다.");
         }
         
-        return signature;
+        return toResponse(signature);
     }
     
     /**
@@ -134,8 +158,12 @@ public class UserSignatureService {
         if (signatureDto.getSignatureType() == null) {
             signatureDto.setSignatureType(existingSignature.getSignatureType());
         }
-        if (signatureDto.getSignatureData() == null) {
-            signatureDto.setSignatureData(existingSignature.getSignatureData());
+        // 이미지를 새로 보낸 경우에만 정규화하여 교체 (보내지 않으면 저장된 이미지 유지)
+        if (signatureDto.getSignatureData() != null && !signatureDto.getSignatureData().trim().isEmpty()) {
+            ingestImage(signatureDto);
+        } else {
+            signatureDto.setSignatureData(null);
+            signatureDto.setImageData(null);
         }
         if (signatureDto.getIsDefault() == null) {
             signatureDto.setIsDefault(existingSignature.getIsDefault());
@@ -144,7 +172,7 @@ public class UserSignatureService {
         int result = userSignatureMapper.update(signatureDto);
         if (result > 0) {
             logger.info("서명/도장 수정 완료 - signatureId: {}", signatureId);
-            return userSignatureMapper.findById(signatureId, companyId);
+            return toResponse(userSignatureMapper.findById(signatureId, companyId));
         } else {
             throw new BusinessException("서명/도장 수정에 실패했습니다.");
         }
@@ -199,15 +227,51 @@ public class UserSignatureService {
         updateDto.setCompanyId(companyId);
         updateDto.setSignatureName(signature.getSignatureName());
         updateDto.setSignatureType(signature.getSignatureType());
-        updateDto.setSignatureData(signature.getSignatureData());
         
         int result = userSignatureMapper.update(updateDto);
         if (result > 0) {
             logger.info("기본 서명/도장 설정 완료 - signatureId: {}", signatureId);
-            return userSignatureMapper.findById(signatureId, companyId);
+            return toResponse(userSignatureMapper.findById(signatureId, companyId));
         } else {
             throw new BusinessException("기본 서명/도장 설정에 실패했습니다.");
         }
     }
-}
+    
+    /**
+     * 업로드 이미지 정규화
+     * data URL을 디코딩해 투명 여백 제거, 최대 크기 축소 후 PNG로 다시 인코딩합니다.
+     * ImageIO로 읽을 수 없는 허용 형식(WebP 등)은 원본 바이트를 그대로 저장합니다.
+     * 가로 x 세로가 signature.image.max-pixels를 넘는 이미지는 디코딩하지 않고 거부합니다.
+     */
+    private void ingestImage(UserSignatureDto signatureDto) {
+        byte[] original = SignatureImageService.decode(signatureDto.getSignatureData());
+        String contentType = signatureImageService.detectContentType(original);
 
+        byte[] normalized;
+        try {
+            normalized = SignatureImageNormalizer.normalize(original, maxWidth, maxHeight, maxPixels);
+        } catch (IOException e) {
+            throw new BusinessException("서명/도장 이미지를 처리할 수 없습니다.", e);
+        }
+        if (normalized != null) {
+            signatureDto.setImageData(normalized);
+            signatureDto.setContentType(SignatureImageNormalizer.OUTPUT_CONTENT_TYPE);
+        } else {
+            signatureDto.setImageData(original);
+            signatureDto.setContentType(contentType);
+        }
+        signatureDto.setOriginalData(keepOriginal ? original : null);
+        signatureDto.setSignatureData(null);
+        logger.debug("서명/도장 이미지 정규화 - {} bytes -> {} bytes", original.length, signatureDto.getImageData().length);
+    }
+    
+    /**
+     * 응답 변환: 저장된 이미지 바이트를 data URL로 (이전 형식으로 저장된 행은 signature_data 그대로)
+     */
+    private UserSignatureDto toResponse(UserSignatureDto signature) {
+        if (signature != null && signature.getImageData() != null) {
+            signature.setSignatureData(SignatureImageService.toDataUrl(signature.getContentType(), signature.getImageData()));
+        }
+        return signature;
+    }
+}
@@ -1,5 +1,7 @@
 package com.innersignature.backend.util;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -20,6 +22,15 @@ public class EncryptionUtil {
     
     @Value("${app.encryption.secret-key:InnerSignatureSecretKey2024!@#$%^&*()}")
     private String secretKey;
+
+    // 암호화/복호화 처리 시간 (encryption.operation)
+    private final Timer encryptTimer;
+    private final Timer decryptTimer;
+
+    public EncryptionUtil(MeterRegistry meterRegistry) {
+        this.encryptTimer = meterRegistry.timer("encryption.operation", "operation", "encrypt");
+        this.decryptTimer = meterRegistry.timer("encryption.operation", "operation", "decrypt");
+    }
     
     /**
      * 키를 AES에 맞는 길이(32바이트)로 변환
@@ -44,7 +55,10 @@ public class EncryptionUtil {
         if (plainText == null || plainText.isEmpty()) {
             return null;
         }
-        
+        return encryptTimer.record(() -> doEncrypt(plainText));
+    }
+
+    private String doEncrypt(String plainText) {
         try {
             SecretKeySpec keySpec = getSecretKeySpec();
             
@@ -67,7 +81,10 @@ public class EncryptionUtil {
         if (encryptedText == null || encryptedText.isEmpty()) {
             return null;
         }
-        
+        return decryptTimer.record(() -> doDecrypt(encryptedText));
+    }
+
+    private String doDecrypt(String encryptedText) {
         try {
             SecretKeySpec keySpec = getSecretKeySpec();
             
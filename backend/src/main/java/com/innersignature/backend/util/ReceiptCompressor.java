@@ -1,5 +1,7 @@
 package com.innersignature.backend.util;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import net.coobird.thumbnailator.Thumbnails;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -24,6 +26,7 @@ public class ReceiptCompressor {
     private static final int MAX_WIDTH = 2000;
     private static final int MAX_HEIGHT = 2000;
     private static final float JPEG_QUALITY = 0.85f; // 85% 품질
+    private static final String TIMER_NAME = "receipt.compress";
 
     /**
      * 영수증 파일을 PDF로 변환하고 5MB 이하로 압축
@@ -35,16 +38,16 @@ public class ReceiptCompressor {
         
         // 원본이 5MB 이하면 바로 PDF로 변환 (압축 없이)
         if (file.getSize() <= MAX_FILE_SIZE) {
-            return convertToPdf(file);
+            return timed("convert", () -> convertToPdf(file));
         }
         
         // PDF 파일인 경우
         if (contentType != null && contentType.equals("application/pdf")) {
-            return compressPdf(file);
+            return timed("pdf_compress", () -> compressPdf(file));
         }
         
         // 이미지 파일인 경우: PDF로 변환 후 압축
-        return compressImageToPdf(file);
+        return timed("image_to_pdf", () -> compressImageToPdf(file));
     }
     
     /**
@@ -57,7 +60,7 @@ public class ReceiptCompressor {
         }
         
         // 이미지 리사이즈 (5MB 목표를 위해)
-        BufferedImage resizedImage = resizeImageIfNeeded(image);
+        BufferedImage resizedImage = timed("image_resize", () -> resizeImageIfNeeded(image));
         
         // PDF 생성
         try (PDDocument document = new PDDocument()) {
@@ -77,7 +80,7 @@ public class ReceiptCompressor {
             
             // 여전히 5MB 초과하면 추가 압축
             if (pdfBytes.length > MAX_FILE_SIZE) {
-                return compressPdfAdvanced(pdfBytes);
+                return timed("pdf_recompress", () -> compressPdfAdvanced(pdfBytes));
             }
             
             return pdfBytes;
@@ -186,6 +189,27 @@ public class ReceiptCompressor {
         }
     }
     
+    /**
+     * 단계별 처리 시간 기록 (receipt.compress, stage 태그)
+     * 정적 유틸리티이므로 Spring Boot가 등록한 레지스트리를 전역 레지스트리(Metrics)로 사용합니다.
+     */
+    private static <T> T timed(String stage, IOSupplier<T> work) throws IOException {
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        boolean success = false;
+        try {
+            T result = work.get();
+            success = true;
+            return result;
+        } finally {
+            sample.stop(Metrics.timer(TIMER_NAME, "stage", stage, "outcome", success ? "success" : "error"));
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOSupplier<T> {
+        T get() throws IOException;
+    }
+
     /**
      * 압축된 파일의 최종 크기 반환
      */
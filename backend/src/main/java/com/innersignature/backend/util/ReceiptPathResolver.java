@@ -0,0 +1,47 @@
+package com.innersignature.backend.util;
+
+import com.innersignature.backend.exception.BusinessException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 저장된 영수증 파일 경로를 실제 경로로 변환하는 유틸리티
+ * 영수증은 프로젝트 루트 기준 상대 경로("uploads/receipts/...")로 저장됩니다.
+ * 정규화한 결과가 업로드 디렉토리 밖을 가리키면(../ 등) 거부합니다.
+ */
+public final class ReceiptPathResolver {
+
+    private static final String UPLOAD_DIR = "uploads";
+
+    private ReceiptPathResolver() {
+    }
+
+    /**
+     * 저장 경로 → 실제 경로 (상대 경로는 프로젝트 루트 기준, 절대 경로도 업로드 디렉토리 안이어야 함)
+     */
+    public static Path resolve(String storedPath) {
+        if (storedPath == null || storedPath.isBlank()) {
+            throw new BusinessException("영수증 파일 경로가 없습니다.");
+        }
+        Path projectRoot = Paths.get(System.getProperty("user.dir")).toAbsolutePath().normalize();
+        Path path = Paths.get(storedPath);
+        Path resolved = (path.isAbsolute() ? path : projectRoot.resolve(path)).normalize();
+        if (!resolved.startsWith(projectRoot.resolve(UPLOAD_DIR))) {
+            throw new BusinessException("잘못된 영수증 파일 경로입니다.");
+        }
+        return resolved;
+    }
+
+    /**
+     * 경로가 유효하고 파일이 존재하는지 여부 (경로가 없거나 업로드 디렉토리 밖이면 false)
+     */
+    public static boolean exists(String storedPath) {
+        try {
+            return Files.exists(resolve(storedPath));
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+}
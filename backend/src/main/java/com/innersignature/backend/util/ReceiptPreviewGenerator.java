@@ -0,0 +1,87 @@
+package com.innersignature.backend.util;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 영수증 미리보기 생성 유틸리티
+ * 저장된 영수증 PDF의 첫 페이지를 작은 JPEG 이미지로 렌더링합니다.
+ * 미리보기 파일은 원본 PDF 옆에 "{파일명}.preview.jpg"로 저장됩니다.
+ */
+public class ReceiptPreviewGenerator {
+    private static final String PREVIEW_SUFFIX = ".preview.jpg";
+    private static final float RENDER_DPI = 96f;
+    private static final int PREVIEW_WIDTH = 480;
+    private static final int PREVIEW_HEIGHT = 680;
+    private static final float PREVIEW_QUALITY = 0.75f;
+
+    /**
+     * 원본 PDF 경로에 대응하는 미리보기 파일 경로
+     */
+    public static Path previewPathOf(Path pdfPath) {
+        return pdfPath.resolveSibling(pdfPath.getFileName().toString() + PREVIEW_SUFFIX);
+    }
+
+    /**
+     * 미리보기가 없으면 생성하고 경로를 반환
+     */
+    public static Path getOrCreatePreview(Path pdfPath) throws IOException {
+        Path previewPath = previewPathOf(pdfPath);
+        if (Files.exists(previewPath)) {
+            return previewPath;
+        }
+        return generatePreview(pdfPath);
+    }
+
+    /**
+     * PDF 첫 페이지를 JPEG 미리보기로 렌더링하여 저장
+     * 동시 요청 시 반쯤 쓰인 파일이 노출되지 않도록 임시 파일에 쓴 뒤 이동합니다.
+     */
+    public static Path generatePreview(Path pdfPath) throws IOException {
+        if (!Files.exists(pdfPath)) {
+            throw new IOException("영수증 파일이 존재하지 않습니다: " + pdfPath);
+        }
+
+        BufferedImage firstPage;
+        try (PDDocument document = Loader.loadPDF(pdfPath.toFile())) {
+            if (document.getNumberOfPages() == 0) {
+                throw new IOException("페이지가 없는 PDF입니다: " + pdfPath);
+            }
+            PDFRenderer renderer = new PDFRenderer(document);
+            firstPage = renderer.renderImageWithDPI(0, RENDER_DPI, ImageType.RGB);
+        }
+
+        Path previewPath = previewPathOf(pdfPath);
+        Path tempPath = Files.createTempFile(previewPath.getParent(), "preview_", ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempPath)) {
+                Thumbnails.of(firstPage)
+                        .size(PREVIEW_WIDTH, PREVIEW_HEIGHT)
+                        .outputFormat("jpg")
+                        .outputQuality(PREVIEW_QUALITY)
+                        .toOutputStream(out);
+            }
+            Files.move(tempPath, previewPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        return previewPath;
+    }
+
+    /**
+     * 미리보기 파일 삭제 (원본 삭제 시 함께 호출)
+     */
+    public static void deletePreview(Path pdfPath) throws IOException {
+        Files.deleteIfExists(previewPathOf(pdfPath));
+    }
+}
@@ -0,0 +1,108 @@
+package com.innersignature.backend.util;
+
+import com.innersignature.backend.exception.BusinessException;
+import net.coobird.thumbnailator.Thumbnails;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 서명/도장 이미지 정규화 유틸리티
+ * 캔버스/업로드 이미지의 투명 여백을 잘라내고, 최대 크기 이내로 축소한 뒤 PNG로 다시 인코딩합니다.
+ * 결재 화면과 PDF/Excel 출력에는 이 크기면 충분하므로 원본 해상도를 그대로 보관하지 않습니다.
+ * 작은 파일로도 디코딩 시 메모리를 크게 쓰는 이미지(압축 폭탄)를 막기 위해 헤더의 가로/세로로 픽셀 수를 먼저 확인합니다.
+ */
+public class SignatureImageNormalizer {
+    public static final String OUTPUT_CONTENT_TYPE = "image/png";
+
+    // 이 값 이하의 알파는 투명 여백으로 간주 (안티앨리어싱 잔여 픽셀 제외)
+    private static final int ALPHA_THRESHOLD = 8;
+
+    /**
+     * 이미지 정규화
+     * @param maxPixels 디코딩을 허용하는 최대 픽셀 수 (가로 x 세로, 초과 시 BusinessException)
+     * @return 정규화된 PNG 바이트 (ImageIO로 읽을 수 없는 형식이면 null)
+     */
+    public static byte[] normalize(byte[] imageData, int maxWidth, int maxHeight, long maxPixels) throws IOException {
+        BufferedImage image = read(imageData, maxPixels);
+        if (image == null) {
+            return null;
+        }
+
+        BufferedImage trimmed = trimTransparentBorder(image);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (trimmed.getWidth() > maxWidth || trimmed.getHeight() > maxHeight) {
+            Thumbnails.of(trimmed)
+                    .size(maxWidth, maxHeight)
+                    .keepAspectRatio(true)
+                    .outputFormat("png")
+                    .toOutputStream(out);
+        } else {
+            ImageIO.write(trimmed, "png", out);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 헤더의 가로/세로를 먼저 읽어 픽셀 수가 maxPixels 이하일 때만 디코딩
+     */
+    private static BufferedImage read(byte[] imageData, long maxPixels) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(imageData))) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new BusinessException(String.format("서명/도장 이미지 해상도가 너무 큽니다. (최대 %,d픽셀)", maxPixels));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 투명 여백 제거 (알파 채널이 없거나 전부 투명이면 그대로 반환)
+     */
+    static BufferedImage trimTransparentBorder(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int top = height;
+        int bottom = -1;
+        int left = width;
+        int right = -1;
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                if ((row[x] >>> 24) > ALPHA_THRESHOLD) {
+                    top = Math.min(top, y);
+                    bottom = y;
+                    left = Math.min(left, x);
+                    right = Math.max(right, x);
+                }
+            }
+        }
+        if (bottom < 0) {
+            return image;
+        }
+        if (left == 0 && top == 0 && right == width - 1 && bottom == height - 1) {
+            return image;
+        }
+        return image.getSubimage(left, top, right - left + 1, bottom - top + 1);
+    }
+}
@@ -0,0 +1,242 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.exception.BusinessException;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 결재 상태 전이 SQL을 실제 MySQL에서 검증
+ * (다중 테이블 UPDATE, MySQL 1093을 피하는 파생 테이블, 버전 조건)
+ *
+ * IT_DB_URL 환경변수가 있을 때만 실행합니다. 대상 스키마의 테이블을 모두 다시 만들므로 전용 스키마를 지정합니다.
+ * 예) docker compose -f docker-compose.loadtest.yml up -d 후
+ *     IT_DB_URL="jdbc:mysql://127.0.0.1:3307/approval_it?createDatabaseIfNotExist=true&useSSL=false&allowPublicKeyRetrieval=true" ./mvnw test
+ * 계정은 IT_DB_USERNAME / IT_DB_PASSWORD (기본 root / 1q2w3e4r!)
+ */
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(ApprovalTransitionService.class)
+@EnabledIfEnvironmentVariable(named = "IT_DB_URL", matches = ".+")
+class ApprovalTransitionMySqlTest {
+
+    private static final Long COMPANY_ID = 1L;
+    private static final int APPROVERS = 8;
+
+    @MockitoBean
+    private ExpenseRollupService expenseRollupService;
+
+    @Autowired
+    private ApprovalTransitionService service;
+
+    @Autowired
+    private ExpenseMapper expenseMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void dataSource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("IT_DB_URL"));
+        registry.add("spring.datasource.username", () -> Objects.requireNonNullElse(System.getenv("IT_DB_USERNAME"), "root"));
+        registry.add("spring.datasource.password", () -> Objects.requireNonNullElse(System.getenv("IT_DB_PASSWORD"), "1q2w3e4r!"));
+    }
+
+    @BeforeAll
+    static void createSchema(@Autowired DataSource dataSource) throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            // 스키마 스크립트가 모든 테이블을 DROP 하지는 않으므로 기존 테이블을 먼저 비움
+            List<String> tables = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT table_name FROM information_schema.tables "
+                         + "WHERE table_schema = DATABASE() AND table_type = 'BASE TABLE'")) {
+                while (rs.next()) {
+                    tables.add(rs.getString(1));
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                for (String table : tables) {
+                    statement.execute("DROP TABLE `" + table + "`");
+                }
+            }
+            ScriptUtils.executeSqlScript(connection,
+                    new FileSystemResource("../database/02_tables/create_all_tables.sql"));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+                statement.execute("INSERT INTO company_tb (company_id, company_code, company_name, business_reg_no, "
+                        + "representative_name) VALUES (1, 'IT0001', '결재 테스트', '000-00-00000', '대표')");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO user_tb (user_id, username, password, korean_name, role) VALUES (?, ?, 'x', ?, 'USER')")) {
+                for (long userId = 1; userId <= APPROVERS; userId++) {
+                    insert.setLong(1, userId);
+                    insert.setString(2, "it_user" + userId);
+                    insert.setString(3, "결재자" + userId);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @Test
+    void concurrentApprovalsShouldCompleteEveryReport() throws Exception {
+        // 결재자가 많아 한 요청이 여러 번 연속으로 충돌해도 재시도 끝에 반영되어야 함
+        List<Long> reportIds = new ArrayList<>();
+        List<long[]> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            long reportId = insertReport(APPROVERS);
+            reportIds.add(reportId);
+            for (long approverId = 1; approverId <= APPROVERS; approverId++) {
+                requests.add(new long[]{reportId, approverId});
+            }
+        }
+        Collections.shuffle(requests);
+
+        TransactionTemplate readCommitted = new TransactionTemplate(transactionManager);
+        readCommitted.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        ExecutorService pool = Executors.newFixedThreadPool(APPROVERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long[] request : requests) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return readCommitted.execute(tx -> service.approve(COMPANY_ID, request[0], request[1], "sig"));
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        for (Long reportId : reportIds) {
+            Map<String, Object> report = report(reportId);
+            assertEquals("APPROVED", report.get("status"));
+            assertEquals(APPROVERS, ((Number) report.get("version")).intValue());
+            assertEquals(APPROVERS, countLines(reportId, "APPROVED"));
+        }
+    }
+
+    @Test
+    void updatesShouldApplyOnlyWithCurrentVersion() {
+        long reportId = insertReport(2);
+
+        // 버전이 다르면 0건, 결재 라인도 그대로
+        assertEquals(0, expenseMapper.approveLineAndReport(reportId, 1L, "sig", 1, COMPANY_ID));
+        assertEquals(0, expenseMapper.rejectLineAndReport(reportId, 1L, "사유", 1, COMPANY_ID));
+        assertEquals(2, countLines(reportId, "WAIT"));
+
+        // 다른 결재 라인이 남아 있으면 결의서는 WAIT 유지, 버전만 증가
+        assertTrue(expenseMapper.approveLineAndReport(reportId, 1L, "sig", 0, COMPANY_ID) > 0);
+        assertEquals("WAIT", report(reportId).get("status"));
+        assertEquals(0, expenseMapper.approveLineAndReport(reportId, 2L, "sig", 0, COMPANY_ID));
+
+        // 마지막 승인이면 결의서도 APPROVED (파생 테이블의 미승인 건수 0)
+        assertTrue(expenseMapper.approveLineAndReport(reportId, 2L, "sig", 1, COMPANY_ID) > 0);
+        Map<String, Object> report = report(reportId);
+        assertEquals("APPROVED", report.get("status"));
+        assertEquals(2, ((Number) report.get("version")).intValue());
+        assertNotNull(jdbcTemplate.queryForObject("SELECT signature_hash FROM approval_line_tb "
+                + "WHERE expense_report_id = ? AND approver_id = 2", String.class, reportId));
+
+        // 승인 완료된 결의서는 결재 취소 불가
+        assertEquals(0, expenseMapper.cancelApprovalLineAndReport(reportId, 2L, 2, COMPANY_ID));
+    }
+
+    @Test
+    void cancelShouldRestoreWaitWithVersionGuard() {
+        long reportId = insertReport(2);
+        service.approve(COMPANY_ID, reportId, 1L, "sig");
+
+        // 이전 버전으로는 취소되지 않음
+        assertEquals(0, expenseMapper.cancelApprovalLineAndReport(reportId, 1L, 0, COMPANY_ID));
+
+        service.cancelApproval(COMPANY_ID, reportId, 1L);
+        Map<String, Object> report = report(reportId);
+        assertEquals("WAIT", report.get("status"));
+        assertEquals(2, ((Number) report.get("version")).intValue());
+        assertEquals(2, countLines(reportId, "WAIT"));
+        assertThrows(BusinessException.class, () -> service.cancelApproval(COMPANY_ID, reportId, 1L));
+
+        service.reject(COMPANY_ID, reportId, 2L, "금액 확인 필요");
+        assertEquals("REJECTED", report(reportId).get("status"));
+        service.cancelRejection(COMPANY_ID, reportId, 2L);
+        report = report(reportId);
+        assertEquals("WAIT", report.get("status"));
+        assertEquals(4, ((Number) report.get("version")).intValue());
+        assertEquals(2, countLines(reportId, "WAIT"));
+    }
+
+    private long insertReport(int approvers) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement insert = connection.prepareStatement("INSERT INTO expense_report_tb "
+                    + "(drafter_id, title, report_date, status, company_id) VALUES (1, '결재 테스트', CURDATE(), 'WAIT', ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            insert.setLong(1, COMPANY_ID);
+            return insert;
+        }, keyHolder);
+        long reportId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        for (int step = 1; step <= approvers; step++) {
+            jdbcTemplate.update("INSERT INTO approval_line_tb (expense_report_id, approver_id, step_order, status, company_id) "
+                    + "VALUES (?, ?, ?, 'WAIT', ?)", reportId, step, step, COMPANY_ID);
+        }
+        return reportId;
+    }
+
+    private Map<String, Object> report(long reportId) {
+        return jdbcTemplate.queryForMap("SELECT status, version FROM expense_report_tb WHERE expense_report_id = ?",
+                reportId);
+    }
+
+    private int countLines(long reportId, String status) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM approval_line_tb "
+                + "WHERE expense_report_id = ? AND status = ?", Integer.class, reportId, status);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.ApprovalStateDto;
+import com.innersignature.backend.dto.BulkApprovalResultDto;
+import com.innersignature.backend.exception.BusinessException;
+import com.innersignature.backend.mapper.ExpenseMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApprovalTransitionServiceTest {
+
+    private static final Long COMPANY_ID = 1L;
+
+    private FakeApprovalTable table;
+    private ExpenseRollupService expenseRollupService;
+    private ApprovalTransitionService service;
+
+    @BeforeEach
+    void setUp() {
+        table = new FakeApprovalTable();
+        ExpenseMapper expenseMapper = mock(ExpenseMapper.class);
+        when(expenseMapper.selectApprovalState(anyLong(), anyLong(), anyLong()))
+                .thenAnswer(inv -> table.selectState(inv.getArgument(0), inv.getArgument(1)));
+        when(expenseMapper.approveLineAndReport(anyLong(), anyLong(), any(), any(), anyLong()))
+                .thenAnswer(inv -> table.approve(inv.getArgument(0), inv.getArgument(1), inv.getArgument(3)));
+        when(expenseMapper.rejectLineAndReport(anyLong(), anyLong(), any(), any(), anyLong()))
+                .thenAnswer(inv -> table.reject(inv.getArgument(0), inv.getArgument(1), inv.getArgument(3)));
+        when(expenseMapper.selectApprovalStates(any(), anyLong(), anyLong()))
+                .thenAnswer(inv -> table.selectStates(inv.getArgument(0), inv.getArgument(1)));
+        when(expenseMapper.approveLinesAndReports(any(), anyLong(), any(), anyLong()))
+                .thenAnswer(inv -> table.approveAll(inv.getArgument(0), inv.getArgument(1)));
+        expenseRollupService = mock(ExpenseRollupService.class);
+        service = new ApprovalTransitionService(expenseMapper, expenseRollupService);
+    }
+
+    @Test
+    void concurrentApprovalsShouldAlwaysCompleteReport() throws Exception {
+        // 결재자가 많을수록 한 요청이 연속으로 충돌할 수 있으므로 재시도 횟수에 상한이 있으면 실패함
+        int reports = 100;
+        int approversPerReport = 12;
+        List<long[]> requests = new ArrayList<>();
+        for (long reportId = 1; reportId <= reports; reportId++) {
+            table.addReport(reportId, approversPerReport);
+            for (long approverId = 1; approverId <= approversPerReport; approverId++) {
+                requests.add(new long[]{reportId, approverId});
+            }
+        }
+        Collections.shuffle(requests);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (long[] request : requests) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return service.approve(COMPANY_ID, request[0], request[1], "sig");
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        for (long reportId = 1; reportId <= reports; reportId++) {
+            // 동시 승인 중 누구도 서로의 승인을 놓치지 않아 WAIT로 남는 결의서가 없어야 함
+            assertEquals("APPROVED", table.reportStatus(reportId));
+            assertEquals(approversPerReport, table.version(reportId));
+            verify(expenseRollupService, times(1)).trackReportChange(COMPANY_ID, reportId);
+        }
+        assertTrue(table.conflicts() > 0, "충돌 없이 끝나면 재시도 경로가 검증되지 않음");
+    }
+
+    @Test
+    void processedLineShouldNotBeApprovedAgain() {
+        table.addReport(1L, 2);
+        service.approve(COMPANY_ID, 1L, 1L, "sig");
+
+        assertThrows(BusinessException.class, () -> service.approve(COMPANY_ID, 1L, 1L, "sig"));
+        assertEquals("WAIT", table.reportStatus(1L));
+
+        service.reject(COMPANY_ID, 1L, 2L, "금액 확인 필요");
+        assertEquals("REJECTED", table.reportStatus(1L));
+        assertThrows(BusinessException.class, () -> service.approve(COMPANY_ID, 1L, 2L, "sig"));
+    }
+
+    @Test
+    void bulkApprovalShouldReportPerItemAndRetryConflicts() {
+        table.addReport(1L, 1);
+        table.addReport(2L, 2);
+        table.addReport(3L, 2);
+        service.approve(COMPANY_ID, 2L, 1L, "sig");
+        // 상태 조회 후 일괄 UPDATE 전에 다른 결재자가 3번 결의서를 승인 (버전 충돌 → 건별 재처리)
+        table.beforeBatch(() -> table.approve(3L, 2L, table.version(3L)));
+
+        List<BulkApprovalResultDto> results = service.approveAll(COMPANY_ID, 1L, List.of(1L, 2L, 3L, 4L), "sig");
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), results.stream().map(BulkApprovalResultDto::getExpenseReportId).toList());
+        assertEquals(List.of(true, false, true, false), results.stream().map(BulkApprovalResultDto::isSuccess).toList());
+        assertEquals("APPROVED", results.get(0).getReportStatus());
+        assertEquals("APPROVED", results.get(2).getReportStatus());
+        assertEquals("APPROVED", table.reportStatus(3L));
+        verify(expenseRollupService).trackReportChanges(COMPANY_ID, Set.of(1L));
+        verify(expenseRollupService).trackReportChange(COMPANY_ID, 3L);
+    }
+
+    /**
+     * approveLineAndReport / rejectLineAndReport의 조건부 UPDATE를 메모리에서 재현하는 결재 테이블
+     */
+    private static class FakeApprovalTable {
+        private final Map<Long, Report> reports = new HashMap<>();
+        private int conflicts;
+        private Runnable beforeBatch;
+
+        synchronized void beforeBatch(Runnable hook) {
+            this.beforeBatch = hook;
+        }
+
+        synchronized void addReport(Long reportId, int approvers) {
+            Report report = new Report();
+            for (long approverId = 1; approverId <= approvers; approverId++) {
+                report.lines.put(approverId, "WAIT");
+            }
+            reports.put(reportId, report);
+        }
+
+        ApprovalStateDto selectState(Long reportId, Long approverId) {
+            ApprovalStateDto state;
+            synchronized (this) {
+                Report report = reports.get(reportId);
+                if (report == null || !report.lines.containsKey(approverId)) {
+                    return null;
+                }
+                state = new ApprovalStateDto();
+                state.setReportStatus(report.status);
+                state.setVersion(report.version);
+                state.setLineStatus(report.lines.get(approverId));
+                state.setPendingOthers((int) report.lines.entrySet().stream()
+                        .filter(e -> !e.getKey().equals(approverId) && !"APPROVED".equals(e.getValue()))
+                        .count());
+            }
+            // 조회와 갱신 사이에 다른 결재자가 끼어들 여지를 넓힘
+            Thread.yield();
+            return state;
+        }
+
+        List<ApprovalStateDto> selectStates(Collection<Long> reportIds, Long approverId) {
+            List<ApprovalStateDto> states = new ArrayList<>();
+            for (Long reportId : reportIds) {
+                ApprovalStateDto state = selectState(reportId, approverId);
+                if (state != null) {
+                    state.setExpenseReportId(reportId);
+                    states.add(state);
+                }
+            }
+            return states;
+        }
+
+        synchronized int approveAll(List<ApprovalStateDto> states, Long approverId) {
+            if (beforeBatch != null) {
+                beforeBatch.run();
+                beforeBatch = null;
+            }
+            int updated = 0;
+            for (ApprovalStateDto state : states) {
+                updated += approve(state.getExpenseReportId(), approverId, state.getVersion());
+            }
+            return updated;
+        }
+
+        synchronized int approve(Long reportId, Long approverId, Integer version) {
+            Report report = reports.get(reportId);
+            if (!matches(report, approverId, version)) {
+                return 0;
+            }
+            report.lines.put(approverId, "APPROVED");
+            if (report.lines.values().stream().allMatch("APPROVED"::equals)) {
+                report.status = "APPROVED";
+            }
+            report.version++;
+            return 2;
+        }
+
+        synchronized int reject(Long reportId, Long approverId, Integer version) {
+            Report report = reports.get(reportId);
+            if (!matches(report, approverId, version)) {
+                return 0;
+            }
+            report.lines.put(approverId, "REJECTED");
+            report.status = "REJECTED";
+            report.version++;
+            return 2;
+        }
+
+        private boolean matches(Report report, Long approverId, Integer version) {
+            boolean matches = "WAIT".equals(report.status) && report.version == version
+                    && "WAIT".equals(report.lines.get(approverId));
+            if (!matches) {
+                conflicts++;
+            }
+            return matches;
+        }
+
+        synchronized String reportStatus(Long reportId) {
+            return reports.get(reportId).status;
+        }
+
+        synchronized int version(Long reportId) {
+            return reports.get(reportId).version;
+        }
+
+        synchronized int conflicts() {
+            return conflicts;
+        }
+    }
+
+    private static class Report {
+        private String status = "WAIT";
+        private int version;
+        private final Map<Long, String> lines = new HashMap<>();
+    }
+}
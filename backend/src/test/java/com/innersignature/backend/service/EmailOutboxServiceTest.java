@@ -0,0 +1,186 @@
+package com.innersignature.backend.service;
+
+import com.innersignature.backend.dto.EmailOutboxDto;
+import com.innersignature.backend.mapper.EmailOutboxMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailOutboxServiceTest {
+
+    private FakeSmtpServer smtpServer;
+    private EmailOutboxMapper emailOutboxMapper;
+    private EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        smtpServer = new FakeSmtpServer();
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtpServer.port());
+        emailOutboxMapper = mock(EmailOutboxMapper.class);
+        service = new EmailOutboxService(emailOutboxMapper, mailSender, Runnable::run, "noreply@innersignature.com",
+                50, 20, 0, 5, 60, 3600, 300, 1, 30);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    void dispatchShouldSendClaimedBatchesOverOneConnection() {
+        when(emailOutboxMapper.claimBatch(anyString(), anyInt(), anyInt())).thenReturn(3, 2, 0);
+        when(emailOutboxMapper.findClaimed(anyString())).thenReturn(emails(1, 2, 3)).thenReturn(emails(4, 5));
+
+        int sent = service.dispatch();
+
+        assertEquals(5, sent);
+        assertEquals(5, smtpServer.messages());
+        // 실행 중에는 SMTP 연결을 다시 맺지 않음
+        assertEquals(1, smtpServer.connections());
+        verify(emailOutboxMapper).markSent(eq(List.of(1L, 2L, 3L)), anyString());
+        verify(emailOutboxMapper).markSent(eq(List.of(4L, 5L)), anyString());
+        verify(emailOutboxMapper, never()).markAttemptFailed(any(), anyString(),
+                anyString(), anyLong(), any());
+    }
+
+    @Test
+    void smtpOutageShouldDeferWithoutCountingAttempts() throws IOException {
+        smtpServer.close();
+        when(emailOutboxMapper.claimBatch(anyString(), anyInt(), anyInt())).thenReturn(2, 0);
+        when(emailOutboxMapper.findClaimed(anyString())).thenReturn(emails(1, 2));
+
+        int sent = service.dispatch();
+
+        assertEquals(0, sent);
+        // 연결 실패는 메일별 실패가 아니므로 시도 횟수를 늘리지 않고 기본 재시도 간격 뒤로 미룸
+        verify(emailOutboxMapper).deferClaimed(eq(List.of(1L, 2L)), anyString(), eq(60L), anyString());
+        verify(emailOutboxMapper, never()).markAttemptFailed(any(), anyString(),
+                anyString(), anyLong(), any());
+        // 장애가 확인되면 다음 묶음을 선점하지 않음
+        verify(emailOutboxMapper, times(1)).claimBatch(anyString(), anyInt(), anyInt());
+    }
+
+    @Test
+    void retryDelayShouldGrowExponentiallyUpToMax() {
+        assertEquals(60, service.retryDelaySeconds(1));
+        assertEquals(120, service.retryDelaySeconds(2));
+        assertEquals(480, service.retryDelaySeconds(4));
+        assertEquals(3600, service.retryDelaySeconds(10));
+    }
+
+    private static List<EmailOutboxDto> emails(long... ids) {
+        List<EmailOutboxDto> emails = new ArrayList<>();
+        for (long id : ids) {
+            EmailOutboxDto email = new EmailOutboxDto();
+            email.setOutboxId(id);
+            email.setEmailType("SUBSCRIPTION_EXPIRING");
+            email.setRecipient("user" + id + "@example.com");
+            email.setSubject("[InnerSignature] 구독 만료 예정 안내");
+            email.setBody("구독이 곧 만료됩니다.");
+            email.setAttemptCount(0);
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    /**
+     * 로컬 SMTP 대체 서버 (인증/TLS 없이 메일을 받기만 하고 연결 수와 수신 건수를 집계)
+     */
+    private static class FakeSmtpServer {
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+        private final AtomicInteger messages = new AtomicInteger();
+
+        FakeSmtpServer() throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread acceptor = new Thread(this::acceptLoop, "fake-smtp");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        int messages() {
+            return messages.get();
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try (Socket socket = serverSocket.accept()) {
+                    connections.incrementAndGet();
+                    handle(socket);
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) throws IOException {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            reply(out, "220 localhost ESMTP");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 localhost");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !".".equals(line)) {
+                            // 본문은 버림
+                        }
+                        messages.incrementAndGet();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        }
+
+        private static void reply(PrintWriter out, String response) {
+            out.print(response + "\r\n");
+            out.flush();
+        }
+    }
+}
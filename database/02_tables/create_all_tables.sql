@@ -54,7 +54,9 @@ CREATE TABLE `user_tb` (
   UNIQUE KEY `username_UNIQUE` (`username`),
   UNIQUE KEY `idx_email` (`email`),
   KEY `idx_user_korean_name` (`korean_name`),
-  KEY `idx_user_role` (`role`)
+  KEY `idx_user_role` (`role`),
+  KEY `idx_user_active` (`is_active`),
+  KEY `idx_user_created_at` (`created_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사원 정보 테이블';
 
 -- 회사 테이블
@@ -74,7 +76,8 @@ CREATE TABLE `company_tb` (
   UNIQUE KEY `idx_company_code` (`company_code`),
   UNIQUE KEY `uk_business_reg_no` (`business_reg_no`),
   KEY `idx_created_by` (`created_by`),
-  KEY `idx_subscription_id` (`subscription_id`)
+  KEY `idx_subscription_id` (`subscription_id`),
+  KEY `idx_company_active` (`is_active`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='회사 정보 테이블';
 
 -- =====================================================
@@ -104,6 +107,7 @@ CREATE TABLE `expense_report_tb` (
   `is_secret` tinyint(1) DEFAULT '0' COMMENT '비밀글 여부 (0: 일반, 1: 비밀글)',
   `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
   `company_id` bigint(20) NOT NULL,
+  `version` int(11) NOT NULL DEFAULT '0' COMMENT '버전 (상태 변경 시 증가, 결재 동시 처리 충돌 감지용)',
   PRIMARY KEY (`expense_report_id`),
   KEY `drafter_id` (`drafter_id`),
   KEY `idx_expense_report_company_status_date` (`company_id`,`status`,`report_date`),
@@ -152,15 +156,29 @@ CREATE TABLE `approval_line_tb` (
   `step_order` int(11) NOT NULL COMMENT '결재 순서 (1, 2, 3)',
   `status` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT 'WAIT' COMMENT '결재 상태',
   `approval_date` datetime DEFAULT NULL COMMENT '결재한 시간',
-  `signature_data` mediumtext COLLATE utf8mb4_unicode_ci COMMENT '서명 데이터 (Base64)',
+  `signature_data` mediumtext COLLATE utf8mb4_unicode_ci COMMENT '서명 데이터 (Base64, 미사용 - signature_hash로 대체)',
+  `signature_hash` char(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 이미지 해시 (signature_image_tb)',
   `rejection_reason` varchar(255) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '반려 사유',
   `company_id` bigint(20) NOT NULL,
   PRIMARY KEY (`approval_line_id`),
   KEY `expense_report_id` (`expense_report_id`),
   KEY `approver_id` (`approver_id`),
-  KEY `idx_approval_line_status_date` (`status`,`approval_date`)
+  KEY `idx_approval_line_status_date` (`status`,`approval_date`),
+  KEY `idx_approval_line_report_approver` (`expense_report_id`,`approver_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='결재 진행 및 서명 정보';
 
+-- 서명 이미지 저장소 (이미지 바이트의 SHA-256 기준으로 한 번만 저장)
+DROP TABLE IF EXISTS `signature_image_tb`;
+CREATE TABLE `signature_image_tb` (
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `signature_hash` char(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이미지 SHA-256 (hex)',
+  `content_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이미지 MIME 타입',
+  `image_data` mediumblob NOT NULL COMMENT '이미지 바이트',
+  `byte_size` int(11) NOT NULL COMMENT '이미지 크기 (bytes)',
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  PRIMARY KEY (`company_id`,`signature_hash`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='결재 서명 이미지 저장소';
+
 -- 영수증 테이블
 DROP TABLE IF EXISTS `receipt_tb`;
 CREATE TABLE `receipt_tb` (
@@ -193,12 +211,15 @@ CREATE TABLE `subscription_tb` (
   `is_active` tinyint(1) DEFAULT '1' COMMENT '활성 상태',
   `auto_renewal` tinyint(1) DEFAULT '1' COMMENT '자동 갱신 여부',
   `payment_method` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결제 수단',
+  `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '스케줄러 선점 식별자',
+  `claim_until` datetime DEFAULT NULL COMMENT '스케줄러 선점 만료 시간',
   `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
   `updated_at` datetime DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시간',
   PRIMARY KEY (`subscription_id`),
   KEY `company_id` (`company_id`),
   KEY `plan_id` (`plan_id`),
-  KEY `idx_subscription_active` (`is_active`,`end_date`)
+  KEY `idx_subscription_active` (`is_active`,`end_date`),
+  KEY `idx_subscription_claim_owner` (`claim_owner`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='회사 구독 정보';
 
 -- 계정 과목 매핑 테이블
@@ -246,11 +267,13 @@ CREATE TABLE `audit_log_tb` (
   `rule_id` bigint(20) NOT NULL COMMENT '규칙 ID (audit_rule_tb FK)',
   `severity` varchar(20) NOT NULL DEFAULT 'MEDIUM' COMMENT '심각도 (LOW, MEDIUM, HIGH)',
   `message` varchar(500) NOT NULL COMMENT '감사 메시지',
+  `finding_hash` char(64) NOT NULL COMMENT '탐지 키 SHA-256 (규칙 유형 + 대상, 재감사 시 중복 기록 방지)',
   `detected_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '탐지 일시',
   `is_resolved` tinyint(1) DEFAULT '0' COMMENT '해결 여부 (1: 해결, 0: 미해결)',
   `resolved_at` datetime DEFAULT NULL COMMENT '해결 일시',
   `resolved_by` bigint(20) DEFAULT NULL COMMENT '해결한 사용자 ID (user_tb FK)',
   PRIMARY KEY (`audit_log_id`),
+  UNIQUE KEY `uk_audit_log_finding` (`expense_report_id`,`rule_id`,`finding_hash`),
   KEY `idx_expense_report_id` (`expense_report_id`),
   KEY `idx_rule_id` (`rule_id`),
   KEY `idx_severity` (`severity`),
@@ -365,7 +388,10 @@ DROP TABLE IF EXISTS `user_signature_tb`;
 CREATE TABLE `user_signature_tb` (
   `signature_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '서명 ID',
   `user_id` bigint(20) NOT NULL COMMENT '사용자 ID',
-  `signature_data` mediumtext COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '서명 데이터 (Base64)',
+  `signature_data` mediumtext COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 데이터 (Base64, 이전 형식 - image_data로 이전됨)',
+  `image_data` mediumblob DEFAULT NULL COMMENT '정규화된 서명 이미지 (PNG)',
+  `content_type` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 이미지 MIME 타입',
+  `original_data` mediumblob DEFAULT NULL COMMENT '업로드 원본 이미지 (설정 시에만 보관)',
   `signature_type` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT 'DIGITAL' COMMENT '서명 유형 (DIGITAL, IMAGE)',
   `is_default` tinyint(1) DEFAULT '1' COMMENT '기본 서명 여부',
   `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
@@ -426,6 +452,128 @@ CREATE TABLE `credit_tb` (
   KEY `idx_expires_at` (`expires_at`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='크레딧 관리 테이블';
 
+-- 일별 지출 집계 테이블 (회사/일자/상태/작성자 단위, 대시보드 조회용)
+DROP TABLE IF EXISTS `expense_daily_rollup_tb`;
+CREATE TABLE `expense_daily_rollup_tb` (
+  `rollup_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '집계 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결의서 상태',
+  `drafter_id` bigint(20) NOT NULL COMMENT '작성자 ID',
+  `report_count` int(11) NOT NULL DEFAULT '0' COMMENT '결의서 건수',
+  `total_amount` decimal(17,0) NOT NULL DEFAULT '0' COMMENT '금액 합계 (실지급액 우선)',
+  `max_amount` decimal(15,0) DEFAULT NULL COMMENT '최대 금액',
+  `min_amount` decimal(15,0) DEFAULT NULL COMMENT '최소 금액',
+  `updated_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '집계 시간',
+  PRIMARY KEY (`rollup_id`),
+  KEY `idx_expense_daily_rollup_company_date` (`company_id`,`report_date`,`status`),
+  KEY `idx_expense_daily_rollup_drafter` (`company_id`,`drafter_id`,`report_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 지출결의서 집계 (재생성 가능)';
+
+-- 일별 카테고리 집계 테이블 (회사/일자/상태/카테고리/결제수단 단위)
+DROP TABLE IF EXISTS `expense_daily_category_rollup_tb`;
+CREATE TABLE `expense_daily_category_rollup_tb` (
+  `rollup_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '집계 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결의서 상태',
+  `category` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '지출 항목',
+  `payment_method` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결제수단',
+  `detail_count` int(11) NOT NULL DEFAULT '0' COMMENT '상세 항목 건수',
+  `total_amount` decimal(17,0) NOT NULL DEFAULT '0' COMMENT '금액 합계 (실지급액 우선)',
+  `updated_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '집계 시간',
+  PRIMARY KEY (`rollup_id`),
+  KEY `idx_expense_daily_category_rollup_company_date` (`company_id`,`report_date`,`status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 카테고리/결제수단 지출 집계 (재생성 가능)';
+
+-- 일별 집계 갱신 잠금 (회사/일자 단위, 행은 갱신 시 필요할 때 생성)
+DROP TABLE IF EXISTS `expense_rollup_day_lock_tb`;
+CREATE TABLE `expense_rollup_day_lock_tb` (
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  PRIMARY KEY (`company_id`,`report_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 집계 갱신 잠금 (회사/일자 단위)';
+
+-- 타 결의서 중복 결제 탐지 인덱스 (회사/가맹점/금액/7일 구간 해시, 감사 규칙 CROSS_REPORT_DUPLICATE용)
+DROP TABLE IF EXISTS `expense_duplicate_index_tb`;
+CREATE TABLE `expense_duplicate_index_tb` (
+  `index_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '인덱스 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `match_hash` bigint(20) unsigned NOT NULL COMMENT '조회 키 해시 (회사|가맹점|금액|일자 구간)',
+  `expense_report_id` bigint(20) NOT NULL COMMENT '지출결의서 ID',
+  `expense_detail_id` bigint(20) NOT NULL COMMENT '상세 항목 ID',
+  `drafter_id` bigint(20) NOT NULL COMMENT '작성자 ID',
+  `expense_date` date NOT NULL COMMENT '사용 일자 (작성 일자)',
+  `merchant_key` varchar(200) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '정규화된 가맹점명',
+  `amount` decimal(15,0) NOT NULL COMMENT '금액',
+  `card_hash` char(64) DEFAULT NULL COMMENT '카드번호(암호문) SHA-256',
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  PRIMARY KEY (`index_id`),
+  UNIQUE KEY `uk_expense_duplicate_index_detail` (`expense_detail_id`),
+  KEY `idx_expense_duplicate_index_probe` (`company_id`,`match_hash`),
+  KEY `idx_expense_duplicate_index_report` (`expense_report_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='타 결의서 중복 결제 탐지 인덱스 (재생성 가능)';
+
+-- 스케줄러 실행 기록 (노드별 실행 단위 처리 건수/소요 시간)
+DROP TABLE IF EXISTS `scheduler_run_tb`;
+CREATE TABLE `scheduler_run_tb` (
+  `run_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '실행 ID',
+  `job_name` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '작업 이름',
+  `node_id` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '실행 노드 (PID@호스트명)',
+  `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '실행 선점 식별자',
+  `chunk_count` int(11) NOT NULL DEFAULT '0' COMMENT '처리 묶음 수',
+  `claimed_count` int(11) NOT NULL DEFAULT '0' COMMENT '선점 건수',
+  `succeeded_count` int(11) NOT NULL DEFAULT '0' COMMENT '성공 건수',
+  `failed_count` int(11) NOT NULL DEFAULT '0' COMMENT '실패 건수',
+  `duration_ms` bigint(20) NOT NULL DEFAULT '0' COMMENT '소요 시간 (ms)',
+  `started_at` datetime NOT NULL COMMENT '시작 시간',
+  `finished_at` datetime NOT NULL COMMENT '종료 시간',
+  PRIMARY KEY (`run_id`),
+  KEY `idx_scheduler_run_job` (`job_name`,`started_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='스케줄러 실행 기록';
+
+-- 이메일 발송 대기열
+DROP TABLE IF EXISTS `email_outbox_tb`;
+CREATE TABLE `email_outbox_tb` (
+  `outbox_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '발송 대기 ID',
+  `email_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '메일 종류',
+  `dedup_key` varchar(191) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '중복 발송 방지 키',
+  `company_id` bigint(20) DEFAULT NULL COMMENT '회사 ID',
+  `recipient` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '수신자 이메일',
+  `subject` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '제목',
+  `body` text COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '본문',
+  `is_sensitive` tinyint(1) NOT NULL DEFAULT '0' COMMENT '본문에 계정 정보 포함 (발송 완료/최종 실패 시 본문 삭제)',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, FAILED)',
+  `attempt_count` int(11) NOT NULL DEFAULT '0' COMMENT '발송 시도 횟수',
+  `next_attempt_at` datetime NOT NULL COMMENT '다음 발송 시도 시간',
+  `last_error` varchar(500) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '마지막 오류',
+  `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '발송 선점 식별자',
+  `claim_until` datetime DEFAULT NULL COMMENT '발송 선점 만료 시간',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  `sent_at` datetime DEFAULT NULL COMMENT '발송 시간',
+  PRIMARY KEY (`outbox_id`),
+  UNIQUE KEY `uk_email_outbox_dedup` (`dedup_key`),
+  KEY `idx_email_outbox_pending` (`status`,`next_attempt_at`),
+  KEY `idx_email_outbox_claim_owner` (`claim_owner`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='이메일 발송 대기열';
+
+CREATE TABLE `user_company_tb` (
+  `user_company_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '사용자-회사 소속 ID',
+  `user_id` bigint(20) NOT NULL COMMENT '사용자 ID (user_tb FK)',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID (company_tb FK)',
+  `role` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'USER' COMMENT '해당 회사에서의 역할',
+  `position` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '해당 회사에서의 직급',
+  `is_active` tinyint(1) NOT NULL DEFAULT '1' COMMENT '활성화 상태',
+  `is_primary` tinyint(1) NOT NULL DEFAULT '0' COMMENT '기본 회사 여부',
+  `is_approver` tinyint(1) NOT NULL DEFAULT '0' COMMENT '결재자 지정 여부',
+  `approval_status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '소속 승인 상태 (PENDING, APPROVED, REJECTED)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시간',
+  PRIMARY KEY (`user_company_id`),
+  UNIQUE KEY `uk_user_company` (`user_id`,`company_id`),
+  KEY `idx_user_company_company_status` (`company_id`,`approval_status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자-회사 소속 (회사별 역할/결재자 여부)';
+
 -- =====================================================
 -- 4. 외래키 제약조건 추가
 -- =====================================================
@@ -433,6 +581,10 @@ CREATE TABLE `credit_tb` (
 -- 사용자-회사 관계 외래키
 ALTER TABLE `user_tb` ADD CONSTRAINT `fk_user_company` FOREIGN KEY (`company_id`) REFERENCES `company_tb` (`company_id`);
 
+-- 사용자-회사 소속 외래키들
+ALTER TABLE `user_company_tb` ADD CONSTRAINT `fk_user_company_tb_user` FOREIGN KEY (`user_id`) REFERENCES `user_tb` (`user_id`) ON DELETE CASCADE;
+ALTER TABLE `user_company_tb` ADD CONSTRAINT `fk_user_company_tb_company` FOREIGN KEY (`company_id`) REFERENCES `company_tb` (`company_id`) ON DELETE CASCADE;
+
 -- 회사 외래키들
 ALTER TABLE `company_tb` ADD CONSTRAINT `fk_company_created_by` FOREIGN KEY (`created_by`) REFERENCES `user_tb` (`user_id`) ON DELETE SET NULL;
 ALTER TABLE `company_tb` ADD CONSTRAINT `fk_company_subscription` FOREIGN KEY (`subscription_id`) REFERENCES `subscription_tb` (`subscription_id`) ON DELETE SET NULL;
@@ -466,6 +618,7 @@ ALTER TABLE `expense_category_tb` ADD CONSTRAINT `fk_expense_category_created_by
 ALTER TABLE `audit_log_tb` ADD CONSTRAINT `fk_audit_log_expense` FOREIGN KEY (`expense_report_id`) REFERENCES `expense_report_tb` (`expense_report_id`) ON DELETE CASCADE;
 ALTER TABLE `audit_log_tb` ADD CONSTRAINT `fk_audit_log_rule` FOREIGN KEY (`rule_id`) REFERENCES `audit_rule_tb` (`rule_id`) ON DELETE CASCADE;
 ALTER TABLE `audit_log_tb` ADD CONSTRAINT `fk_audit_log_user` FOREIGN KEY (`resolved_by`) REFERENCES `user_tb` (`user_id`) ON DELETE SET NULL;
+ALTER TABLE `expense_duplicate_index_tb` ADD CONSTRAINT `fk_expense_duplicate_index_report` FOREIGN KEY (`expense_report_id`) REFERENCES `expense_report_tb` (`expense_report_id`) ON DELETE CASCADE;
 
 -- 예산 외래키
 ALTER TABLE `budget_tb` ADD CONSTRAINT `fk_budget_company` FOREIGN KEY (`company_id`) REFERENCES `company_tb` (`company_id`) ON DELETE CASCADE;
@@ -0,0 +1,72 @@
+-- =====================================================
+-- Migration: Add expense daily rollup tables (2026-10-19)
+-- 대시보드 통계를 일별 집계 테이블에서 조회하기 위한 스키마 추가
+-- 집계는 결의서 생성/수정/결재/삭제 시 같은 트랜잭션에서 갱신되며,
+-- 아래 3번 또는 POST /api/superadmin/rollups/rebuild 로 언제든 재생성할 수 있습니다.
+-- =====================================================
+
+-- 1. 일별 지출 집계 테이블 (회사/일자/상태/작성자 단위, 대시보드 조회용)
+CREATE TABLE IF NOT EXISTS `expense_daily_rollup_tb` (
+  `rollup_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '집계 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결의서 상태',
+  `drafter_id` bigint(20) NOT NULL COMMENT '작성자 ID',
+  `report_count` int(11) NOT NULL DEFAULT '0' COMMENT '결의서 건수',
+  `total_amount` decimal(17,0) NOT NULL DEFAULT '0' COMMENT '금액 합계 (실지급액 우선)',
+  `max_amount` decimal(15,0) DEFAULT NULL COMMENT '최대 금액',
+  `min_amount` decimal(15,0) DEFAULT NULL COMMENT '최소 금액',
+  `updated_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '집계 시간',
+  PRIMARY KEY (`rollup_id`),
+  KEY `idx_expense_daily_rollup_company_date` (`company_id`,`report_date`,`status`),
+  KEY `idx_expense_daily_rollup_drafter` (`company_id`,`drafter_id`,`report_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 지출결의서 집계 (재생성 가능)';
+
+-- 2. 일별 카테고리 집계 테이블 (회사/일자/상태/카테고리/결제수단 단위)
+CREATE TABLE IF NOT EXISTS `expense_daily_category_rollup_tb` (
+  `rollup_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '집계 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결의서 상태',
+  `category` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '지출 항목',
+  `payment_method` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '결제수단',
+  `detail_count` int(11) NOT NULL DEFAULT '0' COMMENT '상세 항목 건수',
+  `total_amount` decimal(17,0) NOT NULL DEFAULT '0' COMMENT '금액 합계 (실지급액 우선)',
+  `updated_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '집계 시간',
+  PRIMARY KEY (`rollup_id`),
+  KEY `idx_expense_daily_category_rollup_company_date` (`company_id`,`report_date`,`status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 카테고리/결제수단 지출 집계 (재생성 가능)';
+
+-- 3. 기존 데이터로 집계 초기화
+INSERT INTO `expense_daily_rollup_tb`
+    (company_id, report_date, status, drafter_id, report_count, total_amount, max_amount, min_amount)
+SELECT
+    r.company_id,
+    r.report_date,
+    r.status,
+    r.drafter_id,
+    COUNT(*),
+    COALESCE(SUM(COALESCE(r.actual_paid_amount, r.total_amount)), 0),
+    MAX(COALESCE(r.actual_paid_amount, r.total_amount)),
+    MIN(COALESCE(r.actual_paid_amount, r.total_amount))
+FROM expense_report_tb r
+GROUP BY r.company_id, r.report_date, r.status, r.drafter_id;
+
+INSERT INTO `expense_daily_category_rollup_tb`
+    (company_id, report_date, status, category, payment_method, detail_count, total_amount)
+SELECT
+    r.company_id,
+    r.report_date,
+    r.status,
+    d.category,
+    d.payment_method,
+    COUNT(*),
+    COALESCE(SUM(COALESCE(d.actual_paid_amount, d.amount)), 0)
+FROM expense_detail_tb d
+JOIN expense_report_tb r ON d.expense_report_id = r.expense_report_id
+GROUP BY r.company_id, r.report_date, r.status, d.category, d.payment_method;
+
+-- 4. 변경사항 확인을 위한 로그
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM expense_daily_rollup_tb) as daily_rollup_rows,
+       (SELECT COUNT(*) FROM expense_daily_category_rollup_tb) as category_rollup_rows;
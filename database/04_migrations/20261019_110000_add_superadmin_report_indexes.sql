@@ -0,0 +1,30 @@
+-- =====================================================
+-- Migration: Add SUPERADMIN report indexes (2026-10-19)
+-- SUPERADMIN 대시보드 요약/추이 리포트를 전체 테이블 로드 대신 COUNT/SUM 쿼리로 계산하기 위한 인덱스
+-- 컬럼명은 애플리케이션 매퍼(SubscriptionMapper.xml, PaymentMapper.xml)가 사용하는 운영 스키마 기준입니다.
+-- =====================================================
+
+-- 1. 사용자 수 / 가입 추이 (countUsers, selectUserSignupTrend)
+ALTER TABLE `user_tb`
+  ADD KEY `idx_user_active` (`is_active`),
+  ADD KEY `idx_user_created_at` (`created_at`);
+
+-- 2. 회사 수 (countCompanies)
+ALTER TABLE `company_tb`
+  ADD KEY `idx_company_active` (`is_active`);
+
+-- 3. 활성 구독 수 (countByStatus)
+ALTER TABLE `subscription_tb`
+  ADD KEY `idx_subscription_status` (`status`);
+
+-- 4. 결제 금액 합계 / 매출 추이 (sumCompletedAmount, selectRevenueTrend)
+--    상태 + 결제일 범위 조건을 인덱스만으로 처리하도록 금액까지 포함 (커버링 인덱스)
+ALTER TABLE `payment_tb`
+  ADD KEY `idx_payment_status_date_amount` (`payment_status`, `payment_date`, `amount`);
+
+-- 5. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE()
+        AND INDEX_NAME IN ('idx_user_active', 'idx_user_created_at', 'idx_company_active',
+                           'idx_subscription_status', 'idx_payment_status_date_amount')) as added_index_columns;
@@ -0,0 +1,56 @@
+-- =====================================================
+-- Migration: Add expense duplicate index table (2026-10-19)
+-- 여러 결의서/사용자에 걸친 중복 결제(같은 가맹점, 같은 금액, N일 이내)를 탐지하는 감사 규칙
+-- CROSS_REPORT_DUPLICATE용 해시 인덱스 테이블 추가
+-- 조회 키는 (회사, 정규화된 가맹점명, 금액, 7일 구간)의 SHA-256 앞 64비트이며,
+-- 계산식은 ExpenseDuplicateIndexMapper.xml의 matchHash와 같아야 합니다.
+-- 인덱스는 결의서 생성/수정/결재 시 같은 트랜잭션에서 갱신되며(임시저장/반려 결의서 제외),
+-- POST /api/audit-rules/reaudit (재감사 작업)이 대상 기간의 인덱스를 재생성합니다.
+-- =====================================================
+
+-- 1. 중복 결제 탐지 인덱스 테이블
+CREATE TABLE IF NOT EXISTS `expense_duplicate_index_tb` (
+  `index_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '인덱스 ID',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `match_hash` bigint(20) unsigned NOT NULL COMMENT '조회 키 해시 (회사|가맹점|금액|일자 구간)',
+  `expense_report_id` bigint(20) NOT NULL COMMENT '지출결의서 ID',
+  `expense_detail_id` bigint(20) NOT NULL COMMENT '상세 항목 ID',
+  `drafter_id` bigint(20) NOT NULL COMMENT '작성자 ID',
+  `expense_date` date NOT NULL COMMENT '사용 일자 (작성 일자)',
+  `merchant_key` varchar(200) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '정규화된 가맹점명',
+  `amount` decimal(15,0) NOT NULL COMMENT '금액',
+  `card_hash` char(64) DEFAULT NULL COMMENT '카드번호(암호문) SHA-256',
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  PRIMARY KEY (`index_id`),
+  UNIQUE KEY `uk_expense_duplicate_index_detail` (`expense_detail_id`),
+  KEY `idx_expense_duplicate_index_probe` (`company_id`,`match_hash`),
+  KEY `idx_expense_duplicate_index_report` (`expense_report_id`),
+  CONSTRAINT `fk_expense_duplicate_index_report` FOREIGN KEY (`expense_report_id`)
+    REFERENCES `expense_report_tb` (`expense_report_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='타 결의서 중복 결제 탐지 인덱스 (재생성 가능)';
+
+-- 2. 기존 데이터로 인덱스 초기화
+INSERT IGNORE INTO `expense_duplicate_index_tb`
+    (company_id, match_hash, expense_report_id, expense_detail_id, drafter_id,
+     expense_date, merchant_key, amount, card_hash)
+SELECT
+    r.company_id,
+    CAST(CONV(LEFT(SHA2(CONCAT_WS('|', r.company_id, LOWER(TRIM(d.merchant_name)), d.amount,
+        (TO_DAYS(r.report_date) - 719528) DIV 7), 256), 16), 16, 10) AS UNSIGNED),
+    r.expense_report_id,
+    d.expense_detail_id,
+    r.drafter_id,
+    r.report_date,
+    LOWER(TRIM(d.merchant_name)),
+    d.amount,
+    IF(d.card_number IS NULL OR d.card_number = '', NULL, SHA2(d.card_number, 256))
+FROM expense_report_tb r
+JOIN expense_detail_tb d ON d.expense_report_id = r.expense_report_id
+WHERE r.status NOT IN ('DRAFT', 'REJECTED')
+  AND r.report_date IS NOT NULL
+  AND d.merchant_name IS NOT NULL AND TRIM(d.merchant_name) <> ''
+  AND d.amount > 0;
+
+-- 3. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM `expense_duplicate_index_tb`) as indexed_details;
@@ -0,0 +1,63 @@
+-- =====================================================
+-- Migration: Add audit log finding key (2026-10-19)
+-- 감사 재실행(POST /api/audit-rules/reaudit)이 같은 탐지 결과를 중복 기록하지 않도록
+-- (결의서, 규칙, 탐지 키 해시) 유니크 키를 추가합니다. 감사 로그 저장은 이 키로 upsert 합니다.
+-- 탐지 키는 메시지 문구가 아니라 규칙 유형과 탐지 대상으로 만듭니다. (AuditRuleEngine과 같은 규칙)
+--   NIGHT_TIME                      : 결의서당 1건
+--   WEEKEND:{작성일}
+--   DUPLICATE_MERCHANT:{가맹점}
+--   FORBIDDEN_CATEGORY:{상세 ID}, CROSS_REPORT_DUPLICATE:{상세 ID}
+-- 해결 처리(is_resolved) 상태는 재감사 후에도 유지되며, 메시지는 재감사 시 새 문구로 갱신됩니다.
+-- =====================================================
+
+-- 1. 탐지 키 해시 컬럼 추가 및 기존 데이터 채우기
+ALTER TABLE `audit_log_tb`
+  ADD COLUMN `finding_hash` char(64) DEFAULT NULL COMMENT '탐지 키 SHA-256 (규칙 유형 + 대상, 재감사 시 중복 기록 방지)' AFTER `message`;
+
+-- 1-1. 기존 메시지에서 탐지 대상 복원
+--      금지 업종 메시지에는 상세 ID가 없으므로 같은 결의서의 카테고리/금액이 일치하는 상세 항목으로 찾습니다.
+UPDATE `audit_log_tb` al
+JOIN `audit_rule_tb` r ON r.rule_id = al.rule_id
+SET al.finding_hash = SHA2(CASE
+      WHEN r.rule_type = 'NIGHT_TIME' THEN 'NIGHT_TIME'
+      WHEN r.rule_type = 'WEEKEND' AND al.message LIKE '주말 사용: %'
+        THEN CONCAT('WEEKEND:', SUBSTRING_INDEX(al.message, ': ', -1))
+      WHEN r.rule_type = 'DUPLICATE_MERCHANT' AND al.message LIKE '동일 가맹점 중복 결제 의심: % (%건)'
+        THEN CONCAT('DUPLICATE_MERCHANT:', SUBSTRING(al.message, CHAR_LENGTH('동일 가맹점 중복 결제 의심: ') + 1,
+             CHAR_LENGTH(al.message) - CHAR_LENGTH('동일 가맹점 중복 결제 의심: ')
+             - CHAR_LENGTH(SUBSTRING_INDEX(al.message, ' (', -1)) - 2))
+      WHEN r.rule_type = 'FORBIDDEN_CATEGORY' AND al.message LIKE '금지 업종 사용: %, 금액: %원'
+           AND REPLACE(SUBSTRING_INDEX(al.message, ', 금액: ', -1), ',', '') REGEXP '^-?[0-9]+원$'
+        THEN CONCAT('FORBIDDEN_CATEGORY:', (
+             SELECT MIN(d.expense_detail_id)
+             FROM `expense_detail_tb` d
+             WHERE d.expense_report_id = al.expense_report_id
+               AND d.category = SUBSTRING_INDEX(SUBSTRING(al.message, CHAR_LENGTH('금지 업종 사용: ') + 1), ', 금액: ', 1)
+               AND d.amount = CAST(REPLACE(REPLACE(SUBSTRING_INDEX(al.message, ', 금액: ', -1), '원', ''), ',', '') AS DECIMAL(15,0))))
+    END, 256);
+
+-- 1-2. 대상을 복원할 수 없는 로그(상세 항목 삭제 등)는 메시지 기준 키로 보존
+UPDATE `audit_log_tb`
+SET `finding_hash` = SHA2(CONCAT('LEGACY:', `message`), 256)
+WHERE `finding_hash` IS NULL;
+
+-- 2. 기존 중복 로그 정리 (같은 결의서/규칙/탐지 키 중 해결된 로그 우선, 그다음 가장 먼저 기록된 로그만 유지)
+DELETE al FROM `audit_log_tb` al
+JOIN `audit_log_tb` keep
+  ON keep.expense_report_id = al.expense_report_id
+ AND keep.rule_id = al.rule_id
+ AND keep.finding_hash = al.finding_hash
+ AND (keep.is_resolved > al.is_resolved
+      OR (keep.is_resolved = al.is_resolved AND keep.audit_log_id < al.audit_log_id));
+
+-- 3. NOT NULL 및 유니크 키 추가
+ALTER TABLE `audit_log_tb`
+  MODIFY COLUMN `finding_hash` char(64) NOT NULL COMMENT '탐지 키 SHA-256 (규칙 유형 + 대상, 재감사 시 중복 기록 방지)',
+  ADD UNIQUE KEY `uk_audit_log_finding` (`expense_report_id`, `rule_id`, `finding_hash`);
+
+-- 4. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE()
+        AND TABLE_NAME = 'audit_log_tb'
+        AND INDEX_NAME = 'uk_audit_log_finding') as added_index_columns;
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration: Add expense_report_tb.version (2026-10-19)
+-- 결재 승인/반려를 결의서 버전 조건부 UPDATE 한 문장으로 처리하기 위한 버전 컬럼
+-- 결의서 상태/내용 변경 시마다 1씩 증가하며, 동시에 결재한 요청 중 늦은 쪽은 버전 불일치로 재시도합니다.
+-- =====================================================
+
+-- 1. 버전 컬럼 추가 (기존 행은 0)
+ALTER TABLE `expense_report_tb`
+  ADD COLUMN `version` int(11) NOT NULL DEFAULT '0' COMMENT '버전 (상태 변경 시 증가, 결재 동시 처리 충돌 감지용)';
+
+-- 2. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS
+        WHERE TABLE_SCHEMA = DATABASE()
+        AND TABLE_NAME = 'expense_report_tb'
+        AND COLUMN_NAME = 'version') as added_columns;
@@ -0,0 +1,64 @@
+-- =====================================================
+-- Migration: Add signature image store (2026-10-19)
+-- 결재 라인마다 Base64로 복사하던 서명 이미지를 이미지 바이트의 SHA-256 기준으로 한 번만 저장하고,
+-- approval_line_tb에는 해시(signature_hash)만 남깁니다.
+-- 이미지는 GET /api/signatures/{signatureHash}로 조회합니다.
+-- 해시는 애플리케이션(SignatureImageService)과 같은 값: SHA2(FROM_BASE64(data URL의 ',' 뒤), 256)
+-- =====================================================
+
+-- 1. 서명 이미지 저장소
+CREATE TABLE IF NOT EXISTS `signature_image_tb` (
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `signature_hash` char(64) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이미지 SHA-256 (hex)',
+  `content_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이미지 MIME 타입',
+  `image_data` mediumblob NOT NULL COMMENT '이미지 바이트',
+  `byte_size` int(11) NOT NULL COMMENT '이미지 크기 (bytes)',
+  `created_at` datetime DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  PRIMARY KEY (`company_id`,`signature_hash`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='결재 서명 이미지 저장소';
+
+-- 2. 결재 라인 서명 해시 컬럼
+ALTER TABLE `approval_line_tb`
+  ADD COLUMN `signature_hash` char(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 이미지 해시 (signature_image_tb)' AFTER `signature_data`;
+
+-- 3. 기존 서명 이미지를 저장소로 이동 (같은 이미지는 한 번만 저장)
+--    data URL의 MIME 타입을 그대로 응답 Content-Type으로 쓰므로 PNG/JPEG만 옮깁니다.
+--    그 밖의 타입(image/svg+xml, text/html 등)은 옮기지 않고 signature_data에 남겨 확인 대상으로 둡니다. (5의 unconverted_lines)
+--    접두사 없는 Base64는 기존 화면과 같이 PNG로 간주합니다.
+INSERT INTO `signature_image_tb` (company_id, signature_hash, content_type, image_data, byte_size, created_at)
+SELECT s.company_id, SHA2(s.image_data, 256), s.content_type, s.image_data, LENGTH(s.image_data), NOW()
+FROM (
+    SELECT DISTINCT
+        company_id,
+        FROM_BASE64(SUBSTRING_INDEX(signature_data, ',', -1)) AS image_data,
+        IF(signature_data LIKE 'data:%;base64,%',
+           LOWER(SUBSTRING_INDEX(SUBSTRING(signature_data, 6), ';', 1)),
+           'image/png') AS content_type
+    FROM approval_line_tb
+    WHERE signature_data IS NOT NULL
+      AND signature_data <> ''
+) s
+WHERE s.image_data IS NOT NULL
+  AND LENGTH(s.image_data) > 0
+  AND s.content_type IN ('image/png', 'image/jpeg')
+ON DUPLICATE KEY UPDATE signature_hash = signature_image_tb.signature_hash;
+
+UPDATE approval_line_tb
+SET signature_hash = SHA2(FROM_BASE64(SUBSTRING_INDEX(signature_data, ',', -1)), 256)
+WHERE signature_data IS NOT NULL
+  AND signature_data <> ''
+  AND LENGTH(FROM_BASE64(SUBSTRING_INDEX(signature_data, ',', -1))) > 0
+  AND IF(signature_data LIKE 'data:%;base64,%',
+         LOWER(SUBSTRING_INDEX(SUBSTRING(signature_data, 6), ';', 1)),
+         'image/png') IN ('image/png', 'image/jpeg');
+
+-- 4. 이동한 결재 라인의 Base64 사본 제거 (해독하지 못했거나 허용하지 않는 타입의 행은 확인을 위해 남겨둠)
+UPDATE approval_line_tb
+SET signature_data = NULL
+WHERE signature_hash IS NOT NULL;
+
+-- 5. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM signature_image_tb) as stored_images,
+       (SELECT COUNT(*) FROM approval_line_tb WHERE signature_hash IS NOT NULL) as referenced_lines,
+       (SELECT COUNT(*) FROM approval_line_tb WHERE signature_data IS NOT NULL) as unconverted_lines;
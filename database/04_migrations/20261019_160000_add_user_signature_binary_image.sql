@@ -0,0 +1,42 @@
+-- =====================================================
+-- Migration: Store user signatures as binary images (2026-10-19)
+-- 사용자 서명/도장을 Base64 텍스트(signature_data) 대신 바이너리(image_data)로 저장합니다.
+-- 새로 등록/수정하는 이미지는 애플리케이션(UserSignatureService)에서 투명 여백 제거, 최대 크기 축소 후
+-- PNG로 다시 인코딩하여 저장합니다. (signature.image.max-width / max-height / keep-original)
+-- 기존 행은 SQL로 정규화할 수 없으므로 디코딩만 하여 옮기고, 다음 수정 시 정규화됩니다.
+-- API 응답은 계속 data URL(signatureData)이므로 프론트엔드 변경은 없습니다.
+-- =====================================================
+
+-- 1. 바이너리 이미지 컬럼 추가 (signature_data는 이전 형식 확인용으로 NULL 허용)
+ALTER TABLE `user_signature_tb`
+  MODIFY COLUMN `signature_data` mediumtext COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 데이터 (Base64, 이전 형식 - image_data로 이전됨)',
+  ADD COLUMN `image_data` mediumblob DEFAULT NULL COMMENT '정규화된 서명 이미지 (PNG)' AFTER `signature_data`,
+  ADD COLUMN `content_type` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '서명 이미지 MIME 타입' AFTER `image_data`,
+  ADD COLUMN `original_data` mediumblob DEFAULT NULL COMMENT '업로드 원본 이미지 (설정 시에만 보관)' AFTER `content_type`;
+
+-- 2. 기존 Base64 데이터를 바이너리로 이전
+--    data URL의 MIME 타입을 그대로 content_type으로 쓰므로 PNG/JPEG만 옮깁니다.
+--    그 밖의 타입(image/svg+xml 등)은 옮기지 않고 signature_data에 남겨 확인 대상으로 둡니다. (4의 unconverted_signatures)
+--    접두사 없는 Base64는 기존 화면과 같이 PNG로 간주합니다.
+UPDATE user_signature_tb
+SET image_data = FROM_BASE64(SUBSTRING_INDEX(signature_data, ',', -1)),
+    content_type = IF(signature_data LIKE 'data:%;base64,%',
+                      LOWER(SUBSTRING_INDEX(SUBSTRING(signature_data, 6), ';', 1)),
+                      'image/png')
+WHERE signature_data IS NOT NULL
+  AND signature_data <> ''
+  AND LENGTH(FROM_BASE64(SUBSTRING_INDEX(signature_data, ',', -1))) > 0
+  AND IF(signature_data LIKE 'data:%;base64,%',
+         LOWER(SUBSTRING_INDEX(SUBSTRING(signature_data, 6), ';', 1)),
+         'image/png') IN ('image/png', 'image/jpeg');
+
+-- 3. 이전한 행의 Base64 사본 제거 (해독하지 못했거나 허용하지 않는 타입의 행은 확인을 위해 남겨둠)
+UPDATE user_signature_tb
+SET signature_data = NULL
+WHERE image_data IS NOT NULL;
+
+-- 4. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM user_signature_tb WHERE image_data IS NOT NULL) as binary_signatures,
+       (SELECT COALESCE(SUM(LENGTH(image_data)), 0) FROM user_signature_tb) as binary_bytes,
+       (SELECT COUNT(*) FROM user_signature_tb WHERE signature_data IS NOT NULL) as unconverted_signatures;
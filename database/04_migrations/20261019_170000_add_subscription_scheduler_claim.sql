@@ -0,0 +1,37 @@
+-- =====================================================
+-- Migration: Chunked subscription scheduler claims (2026-10-19)
+-- 구독 만료/플랜 변경 스케줄러가 처리 대상을 묶음 단위로 선점(claim_owner, claim_until)하여
+-- 여러 서버가 같은 cron으로 실행되어도 서로 다른 구독을 나눠 처리합니다. (SubscriptionRenewalService)
+-- MySQL 5.7에는 SELECT ... FOR UPDATE SKIP LOCKED가 없으므로 UPDATE ... LIMIT 선점으로 대신합니다.
+-- 실행마다 처리 건수/소요 시간을 scheduler_run_tb에 기록합니다.
+-- =====================================================
+
+-- 1. 구독 선점 컬럼
+ALTER TABLE `subscription_tb`
+  ADD COLUMN `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '스케줄러 선점 식별자',
+  ADD COLUMN `claim_until` datetime DEFAULT NULL COMMENT '스케줄러 선점 만료 시간',
+  ADD KEY `idx_subscription_claim_owner` (`claim_owner`);
+
+-- 2. 스케줄러 실행 기록
+CREATE TABLE IF NOT EXISTS `scheduler_run_tb` (
+  `run_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '실행 ID',
+  `job_name` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '작업 이름',
+  `node_id` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '실행 노드 (PID@호스트명)',
+  `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '실행 선점 식별자',
+  `chunk_count` int(11) NOT NULL DEFAULT '0' COMMENT '처리 묶음 수',
+  `claimed_count` int(11) NOT NULL DEFAULT '0' COMMENT '선점 건수',
+  `succeeded_count` int(11) NOT NULL DEFAULT '0' COMMENT '성공 건수',
+  `failed_count` int(11) NOT NULL DEFAULT '0' COMMENT '실패 건수',
+  `duration_ms` bigint(20) NOT NULL DEFAULT '0' COMMENT '소요 시간 (ms)',
+  `started_at` datetime NOT NULL COMMENT '시작 시간',
+  `finished_at` datetime NOT NULL COMMENT '종료 시간',
+  PRIMARY KEY (`run_id`),
+  KEY `idx_scheduler_run_job` (`job_name`,`started_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='스케줄러 실행 기록';
+
+-- 3. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM information_schema.COLUMNS
+         WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'subscription_tb'
+           AND COLUMN_NAME IN ('claim_owner', 'claim_until')) as claim_columns,
+       (SELECT COUNT(*) FROM scheduler_run_tb) as scheduler_runs;
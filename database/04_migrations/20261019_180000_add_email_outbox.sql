@@ -0,0 +1,33 @@
+-- =====================================================
+-- Migration: Email outbox (2026-10-19)
+-- 구독 만료 안내 등 발송할 메일을 업무 트랜잭션 안에서 email_outbox_tb에 저장하고,
+-- EmailOutboxScheduler가 묶음 단위로 선점하여 발송합니다. (EmailOutboxService)
+-- dedup_key 유니크 키로 같은 안내는 한 번만 저장되며, 실패한 메일은 next_attempt_at 이후 재시도됩니다.
+-- =====================================================
+
+-- 1. 이메일 발송 대기열
+CREATE TABLE IF NOT EXISTS `email_outbox_tb` (
+  `outbox_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '발송 대기 ID',
+  `email_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '메일 종류',
+  `dedup_key` varchar(191) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '중복 발송 방지 키',
+  `company_id` bigint(20) DEFAULT NULL COMMENT '회사 ID',
+  `recipient` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '수신자 이메일',
+  `subject` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '제목',
+  `body` text COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '본문',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '상태 (PENDING, SENT, FAILED)',
+  `attempt_count` int(11) NOT NULL DEFAULT '0' COMMENT '발송 시도 횟수',
+  `next_attempt_at` datetime NOT NULL COMMENT '다음 발송 시도 시간',
+  `last_error` varchar(500) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '마지막 오류',
+  `claim_owner` varchar(64) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '발송 선점 식별자',
+  `claim_until` datetime DEFAULT NULL COMMENT '발송 선점 만료 시간',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  `sent_at` datetime DEFAULT NULL COMMENT '발송 시간',
+  PRIMARY KEY (`outbox_id`),
+  UNIQUE KEY `uk_email_outbox_dedup` (`dedup_key`),
+  KEY `idx_email_outbox_pending` (`status`,`next_attempt_at`),
+  KEY `idx_email_outbox_claim_owner` (`claim_owner`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='이메일 발송 대기열';
+
+-- 2. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM email_outbox_tb) as outbox_rows;
@@ -0,0 +1,30 @@
+-- =====================================================
+-- Migration: user_company_tb (2026-10-19)
+-- 사용자의 회사별 소속/역할/결재자 여부 테이블 (UserMapper, UserApproverMapper 등에서 사용)
+-- 기존 create_all_tables.sql에 누락되어 새로 만든 DB(부하 테스트용 컨테이너 등)에서 로그인/결재자 조회가 실패하던 문제 보완
+-- 이미 테이블이 있는 DB에서는 변경 없음
+-- =====================================================
+
+-- 1. 사용자-회사 소속
+CREATE TABLE IF NOT EXISTS `user_company_tb` (
+  `user_company_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '사용자-회사 소속 ID',
+  `user_id` bigint(20) NOT NULL COMMENT '사용자 ID (user_tb FK)',
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID (company_tb FK)',
+  `role` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'USER' COMMENT '해당 회사에서의 역할',
+  `position` varchar(50) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '해당 회사에서의 직급',
+  `is_active` tinyint(1) NOT NULL DEFAULT '1' COMMENT '활성화 상태',
+  `is_primary` tinyint(1) NOT NULL DEFAULT '0' COMMENT '기본 회사 여부',
+  `is_approver` tinyint(1) NOT NULL DEFAULT '0' COMMENT '결재자 지정 여부',
+  `approval_status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL DEFAULT 'PENDING' COMMENT '소속 승인 상태 (PENDING, APPROVED, REJECTED)',
+  `created_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성 시간',
+  `updated_at` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정 시간',
+  PRIMARY KEY (`user_company_id`),
+  UNIQUE KEY `uk_user_company` (`user_id`,`company_id`),
+  KEY `idx_user_company_company_status` (`company_id`,`approval_status`),
+  CONSTRAINT `fk_user_company_tb_user` FOREIGN KEY (`user_id`) REFERENCES `user_tb` (`user_id`) ON DELETE CASCADE,
+  CONSTRAINT `fk_user_company_tb_company` FOREIGN KEY (`company_id`) REFERENCES `company_tb` (`company_id`) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자-회사 소속 (회사별 역할/결재자 여부)';
+
+-- 2. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM user_company_tb) as user_company_rows;
@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration: Add expense rollup day lock table (2026-10-19)
+-- 일별 집계 갱신을 회사 전체(company_tb 행)가 아니라 (회사, 작성 일자) 단위로 직렬화하기 위한 잠금 행 테이블
+-- 행은 갱신 시 INSERT ... ON DUPLICATE KEY UPDATE로 필요할 때 만들어지며, 데이터는 담지 않습니다.
+-- =====================================================
+
+CREATE TABLE IF NOT EXISTS `expense_rollup_day_lock_tb` (
+  `company_id` bigint(20) NOT NULL COMMENT '회사 ID',
+  `report_date` date NOT NULL COMMENT '작성 일자',
+  PRIMARY KEY (`company_id`,`report_date`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='일별 집계 갱신 잠금 (회사/일자 단위)';
+
+-- 변경사항 확인을 위한 로그
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM information_schema.tables
+        WHERE table_schema = DATABASE() AND table_name = 'expense_rollup_day_lock_tb') as lock_table_exists;
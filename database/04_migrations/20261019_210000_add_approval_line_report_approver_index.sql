@@ -0,0 +1,16 @@
+-- =====================================================
+-- Migration: Add approval line (report, approver) index (2026-10-19)
+-- 결재 승인/반려 UPDATE가 결재 라인을 (결의서, 결재자)로 바로 찾도록 복합 인덱스를 추가합니다.
+-- 단일 컬럼 인덱스 두 개만 있으면 index_merge(intersect)로 같은 결재자의 다른 결의서 결재 라인까지 훑으며 잠가
+-- 서로 다른 결의서를 동시에 결재할 때 교착(deadlock)이 발생합니다.
+-- =====================================================
+
+ALTER TABLE `approval_line_tb`
+  ADD KEY `idx_approval_line_report_approver` (`expense_report_id`, `approver_id`);
+
+-- 변경사항 확인을 위한 로그
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM INFORMATION_SCHEMA.STATISTICS
+        WHERE TABLE_SCHEMA = DATABASE()
+        AND TABLE_NAME = 'approval_line_tb'
+        AND INDEX_NAME = 'idx_approval_line_report_approver') as added_index_columns;
@@ -0,0 +1,24 @@
+-- =====================================================
+-- Migration: Email outbox sensitive body flag (2026-10-19)
+-- 아이디 찾기/비밀번호 재설정 메일은 본문에 아이디와 재설정 링크가 담기므로,
+-- 발송 완료 또는 최종 실패 시 본문을 지웁니다. (is_sensitive = 1)
+-- 발송 완료/최종 실패 항목은 보관 기간(email.outbox.retention-days) 후 EmailOutboxScheduler가 삭제합니다.
+-- =====================================================
+
+-- 1. 민감 본문 여부 컬럼 추가
+ALTER TABLE `email_outbox_tb`
+  ADD COLUMN `is_sensitive` tinyint(1) NOT NULL DEFAULT '0' COMMENT '본문에 계정 정보 포함 (발송 완료/최종 실패 시 본문 삭제)' AFTER `body`;
+
+-- 2. 이미 저장된 계정 안내 메일 표시 및 처리 끝난 본문 삭제
+UPDATE `email_outbox_tb`
+SET `is_sensitive` = 1
+WHERE `email_type` IN ('ID_FIND', 'PASSWORD_RESET');
+
+UPDATE `email_outbox_tb`
+SET `body` = '(발송 후 삭제됨)'
+WHERE `is_sensitive` = 1
+  AND `status` IN ('SENT', 'FAILED');
+
+-- 3. 변경사항 확인
+SELECT 'Migration completed successfully' as status,
+       (SELECT COUNT(*) FROM email_outbox_tb WHERE is_sensitive = 1) as sensitive_rows;
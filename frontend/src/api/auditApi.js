@@ -48,6 +48,30 @@ export const getAuditRuleList = async () => {
   }
 };
 
+// 감사 규칙 재실행 (기간 내 기존 결의서 재감사, jobId 반환)
+export const startReaudit = async (startDate, endDate, ruleType) => {
+  try {
+    const params = { startDate, endDate };
+    if (ruleType) params.ruleType = ruleType;
+    const response = await axiosInstance.post(`${RULE_BASE_URL}/reaudit`, null, { params });
+    return response.data;
+  } catch (error) {
+    console.error("재감사 시작 실패:", error);
+    throw error;
+  }
+};
+
+// 재감사 진행률 조회 (공통 작업 진행률 API)
+export const getReauditProgress = async (jobId) => {
+  try {
+    const response = await axiosInstance.get(`${API_CONFIG.BASE_URL}/expenses/progress/${jobId}`);
+    return response.data;
+  } catch (error) {
+    console.error("재감사 진행률 조회 실패:", error);
+    throw error;
+  }
+};
+
 // 감사 로그 목록 조회
 export const getAuditLogList = async (filters = {}, page = 1, size = 10) => {
   try {
@@ -265,6 +265,28 @@ export const rejectExpense = async (expenseId, data) => {
     }
   };
 
+// 5-0. 일괄 승인 (저장된 서명/도장 사용, signatureId 미지정 시 기본 서명/도장)
+export const bulkApproveExpenses = async (expenseReportIds, signatureId = null) => {
+    try {
+      const response = await axiosInstance.post(`${BASE_URL}/bulk-approve`, { expenseReportIds, signatureId });
+      return response.data; // data: [{ expenseReportId, success, reportStatus, message }, ...]
+    } catch (error) {
+      console.error("일괄 승인 실패:", error);
+      throw error;
+    }
+  };
+
+// 5-0-1. 일괄 반려
+export const bulkRejectExpenses = async (expenseReportIds, rejectionReason) => {
+    try {
+      const response = await axiosInstance.post(`${BASE_URL}/bulk-reject`, { expenseReportIds, rejectionReason });
+      return response.data;
+    } catch (error) {
+      console.error("일괄 반려 실패:", error);
+      throw error;
+    }
+  };
+
 // 5-1. 결재 취소
 export const cancelApproval = async (expenseId) => {
     try {
@@ -668,6 +690,20 @@ export const fetchDashboardStats = async (startDate = null, endDate = null) => {
   }
 };
 
+// 15-1. 대시보드 통합 조회 (요약/월별 추이/상태별/사용자별/카테고리별 비율을 한 번에 조회)
+export const fetchDashboard = async (startDate = null, endDate = null) => {
+  try {
+    const params = {};
+    if (startDate) params.startDate = startDate;
+    if (endDate) params.endDate = endDate;
+    const response = await axiosInstance.get(`${BASE_URL}/dashboard`, { params });
+    return response.data;
+  } catch (error) {
+    console.error("대시보드 통합 조회 실패:", error);
+    throw error;
+  }
+};
+
 // 16. 월별 지출 추이 조회 (ADMIN/ACCOUNTANT 전용)
 export const fetchMonthlyTrend = async (startDate = null, endDate = null) => {
   try {
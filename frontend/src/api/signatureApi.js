@@ -58,3 +58,21 @@ export const setDefaultSignature = async (signatureId) => {
   }
 };
 
+
+// 결재 서명 이미지 조회 (서명 해시 기준, 내용이 바뀌지 않으므로 해시별로 한 번만 받아 재사용)
+const signatureImageUrls = new Map();
+
+export const getSignatureImageUrl = async (signatureHash) => {
+  if (!signatureImageUrls.has(signatureHash)) {
+    const request = axiosInstance
+      .get(`${API_CONFIG.BASE_URL}/signatures/${signatureHash}`, { responseType: 'blob' })
+      .then((response) => window.URL.createObjectURL(response.data))
+      .catch((error) => {
+        signatureImageUrls.delete(signatureHash);
+        console.error("서명 이미지 조회 실패:", error);
+        throw error;
+      });
+    signatureImageUrls.set(signatureHash, request);
+  }
+  return signatureImageUrls.get(signatureHash);
+};
@@ -4,9 +4,10 @@ import { API_CONFIG } from '../config/api';
 const BASE_URL = `${API_CONFIG.BASE_URL}/superadmin`;
 
 // 전체 사용자 목록 조회
-export const getAllUsersForSuperAdmin = async () => {
+// params: { cursor, size, sort, ...필터 } - 응답 data는 { content, size, nextCursor, hasNext }
+export const getAllUsersForSuperAdmin = async (params = {}) => {
   try {
-    const response = await axiosInstance.get(`${BASE_URL}/users`);
+    const response = await axiosInstance.get(`${BASE_URL}/users`, { params });
     return response.data;
   } catch (error) {
     console.error("전체 사용자 목록 조회 실패:", error);
@@ -15,9 +16,10 @@ export const getAllUsersForSuperAdmin = async () => {
 };
 
 // 전체 회사 목록 조회
-export const getAllCompanies = async () => {
+// params: { cursor, size, sort, ...필터 } - 응답 data는 { content, size, nextCursor, hasNext }
+export const getAllCompanies = async (params = {}) => {
   try {
-    const response = await axiosInstance.get(`${BASE_URL}/companies`);
+    const response = await axiosInstance.get(`${BASE_URL}/companies`, { params });
     return response.data;
   } catch (error) {
     console.error("전체 회사 목록 조회 실패:", error);
@@ -25,6 +27,63 @@ export const getAllCompanies = async () => {
   }
 };
 
+// 회사 선택 목록 조회 (필터 선택용, 전체 회사의 ID/코드/회사명)
+export const getCompanyLookup = async () => {
+  try {
+    const response = await axiosInstance.get(`${BASE_URL}/companies/lookup`);
+    return response.data;
+  } catch (error) {
+    console.error("회사 선택 목록 조회 실패:", error);
+    throw error;
+  }
+};
+
+// 전체 플랜 목록 조회 (비활성 플랜 포함, 구독 플랜 필터용)
+export const getAllPlansForSuperAdmin = async () => {
+  try {
+    const response = await axiosInstance.get(`${BASE_URL}/plans`);
+    return response.data;
+  } catch (error) {
+    console.error("플랜 목록 조회 실패:", error);
+    throw error;
+  }
+};
+
+// 사용자 목록 CSV 다운로드 (params: 사용자 목록과 같은 필터, 서버에서 필터에 맞는 전체 사용자를 내보냄)
+export const downloadUsersCsvForSuperAdmin = async (params = {}) => {
+  try {
+    const response = await axiosInstance.get(`${BASE_URL}/users/export/csv`, {
+      params,
+      responseType: 'blob',
+    });
+
+    const url = window.URL.createObjectURL(new Blob([response.data], { type: 'text/csv;charset=utf-8;' }));
+    const link = document.createElement('a');
+    link.href = url;
+    link.setAttribute('download', `사용자목록_${new Date().toISOString().split('T')[0]}.csv`);
+    document.body.appendChild(link);
+    link.click();
+    link.remove();
+    window.URL.revokeObjectURL(url);
+
+    return { success: true };
+  } catch (error) {
+    console.error("사용자 목록 다운로드 실패:", error);
+    throw error;
+  }
+};
+
+// 목록 개수 조회 (type: users | companies | subscriptions | payments, params: 목록과 같은 필터)
+export const getSuperAdminListCount = async (type, params = {}) => {
+  try {
+    const response = await axiosInstance.get(`${BASE_URL}/${type}/count`, { params });
+    return response.data;
+  } catch (error) {
+    console.error("목록 개수 조회 실패:", error);
+    throw error;
+  }
+};
+
 // 회사 상태 변경
 export const updateCompanyStatus = async (companyId, isActive) => {
   try {
@@ -37,9 +96,10 @@ export const updateCompanyStatus = async (companyId, isActive) => {
 };
 
 // 전체 구독 목록 조회
-export const getAllSubscriptions = async () => {
+// params: { cursor, size, sort, ...필터 } - 응답 data는 { content, size, nextCursor, hasNext }
+export const getAllSubscriptions = async (params = {}) => {
   try {
-    const response = await axiosInstance.get(`${BASE_URL}/subscriptions`);
+    const response = await axiosInstance.get(`${BASE_URL}/subscriptions`, { params });
     return response.data;
   } catch (error) {
     console.error("전체 구독 목록 조회 실패:", error);
@@ -48,9 +108,10 @@ export const getAllSubscriptions = async () => {
 };
 
 // 전체 결제 내역 조회
-export const getAllPayments = async () => {
+// params: { cursor, size, sort, ...필터 } - 응답 data는 { content, size, nextCursor, hasNext }
+export const getAllPayments = async (params = {}) => {
   try {
-    const response = await axiosInstance.get(`${BASE_URL}/payments`);
+    const response = await axiosInstance.get(`${BASE_URL}/payments`, { params });
     return response.data;
   } catch (error) {
     console.error("전체 결제 내역 조회 실패:", error);
@@ -0,0 +1,38 @@
+import { useEffect, useState } from 'react';
+import { getSignatureImageUrl } from '../../api/signatureApi';
+
+/**
+ * 결재 서명 이미지
+ * 결재 라인에는 서명 해시만 내려오므로, 이미지는 해시로 따로 받아 표시합니다.
+ * 이미지를 받지 못하면 fallback을 표시합니다.
+ */
+const SignatureImage = ({ signatureHash, alt = '서명', fallback = null }) => {
+  const [src, setSrc] = useState(null);
+  const [failed, setFailed] = useState(false);
+
+  useEffect(() => {
+    let active = true;
+    setSrc(null);
+    setFailed(false);
+    if (!signatureHash) {
+      return undefined;
+    }
+    getSignatureImageUrl(signatureHash)
+      .then((url) => {
+        if (active) setSrc(url);
+      })
+      .catch(() => {
+        if (active) setFailed(true);
+      });
+    return () => {
+      active = false;
+    };
+  }, [signatureHash]);
+
+  if (failed) {
+    return fallback;
+  }
+  return src ? <img src={src} alt={alt} /> : null;
+};
+
+export default SignatureImage;
@@ -1,6 +1,6 @@
 import { useState, useEffect, useCallback } from 'react';
 import { useNavigate } from 'react-router-dom';
-import { fetchUserExpenseStats, fetchDashboardStats } from '../../api/expenseApi';
+import { fetchDashboard } from '../../api/expenseApi';
 import { useAuth } from '../../contexts/AuthContext';
 import { getPendingUsers } from '../../api/userApi';
 import * as S from './style';
@@ -19,17 +19,14 @@ const MobileCEODashboard = () => {
 
     try {
       setLoading(true);
-      const [statsRes, userStatsRes, usersRes] = await Promise.all([
-        fetchDashboardStats(),
-        fetchUserExpenseStats(),
+      const [dashboardRes, usersRes] = await Promise.all([
+        fetchDashboard(),
         getPendingUsers().catch(() => ({ success: false, data: [] }))
       ]);
 
-      if (statsRes.success) {
-        setDashboardStats(statsRes.data || {});
-      }
-      if (userStatsRes.success) {
-        setUserExpenseStats(userStatsRes.data || []);
+      if (dashboardRes.success) {
+        setDashboardStats(dashboardRes.data?.stats || {});
+        setUserExpenseStats(dashboardRes.data?.userStats || []);
       }
       if (usersRes.success) {
         setPendingUsers(usersRes.data || []);
@@ -1,7 +1,7 @@
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../../contexts/AuthContext';
-import { getAuditRuleList, createAuditRule, updateAuditRule, deleteAuditRule, getAuditLogList, resolveAuditLog } from '../../api/auditApi';
+import { getAuditRuleList, createAuditRule, updateAuditRule, deleteAuditRule, getAuditLogList, resolveAuditLog, startReaudit, getReauditProgress } from '../../api/auditApi';
 import { EXPENSE_CATEGORIES } from '../../constants/categories';
 import { getMergedCategories } from '../../api/expenseCategoryApi';
 import * as S from './style';
@@ -34,12 +34,16 @@ const AuditRuleManagementPage = () => {
     endDate: ''
   });
   const pageSize = 10;
+  const [reaudit, setReaudit] = useState({ startDate: '', endDate: '', ruleType: '' });
+  const [reauditProgress, setReauditProgress] = useState(null);
+  const reauditTimerRef = useRef(null);
 
   const ruleTypes = [
     { value: 'NIGHT_TIME', label: '심야 시간대 사용' },
     { value: 'WEEKEND', label: '주말/공휴일 사용' },
     { value: 'DUPLICATE_MERCHANT', label: '동일 가맹점 중복 결제' },
-    { value: 'FORBIDDEN_CATEGORY', label: '금지 업종 사용' }
+    { value: 'FORBIDDEN_CATEGORY', label: '금지 업종 사용' },
+    { value: 'CROSS_REPORT_DUPLICATE', label: '타 결의서 중복 결제' }
   ];
 
   // 카테고리 목록 불러오기
@@ -119,6 +123,8 @@ const AuditRuleManagementPage = () => {
       defaultConfig = { threshold: 2 };
     } else if (ruleType === 'FORBIDDEN_CATEGORY') {
       defaultConfig = { categories: [] };
+    } else if (ruleType === 'CROSS_REPORT_DUPLICATE') {
+      defaultConfig = { windowDays: 3, sameCard: false };
     }
     setFormData(prev => ({
       ...prev,
@@ -140,6 +146,41 @@ const AuditRuleManagementPage = () => {
     }));
   };
 
+  // 재감사 진행률 폴링 정리
+  useEffect(() => () => clearInterval(reauditTimerRef.current), []);
+
+  // 기간 내 기존 결의서에 감사 규칙 재적용
+  const handleStartReaudit = async () => {
+    if (!reaudit.startDate || !reaudit.endDate) {
+      alert('재감사 기간을 선택해주세요.');
+      return;
+    }
+    try {
+      const response = await startReaudit(reaudit.startDate, reaudit.endDate, reaudit.ruleType);
+      if (!response.success) {
+        alert(response.message || '재감사 시작에 실패했습니다.');
+        return;
+      }
+      const jobId = response.data;
+      setReauditProgress({ percentage: 0, message: '재감사 대기 중...' });
+      clearInterval(reauditTimerRef.current);
+      reauditTimerRef.current = setInterval(async () => {
+        try {
+          const progressResponse = await getReauditProgress(jobId);
+          const progress = progressResponse.data;
+          setReauditProgress(progress);
+          if (progress.completed || progress.failed) {
+            clearInterval(reauditTimerRef.current);
+          }
+        } catch (error) {
+          clearInterval(reauditTimerRef.current);
+        }
+      }, 1000);
+    } catch (error) {
+      alert(error?.response?.data?.message || '재감사 시작 중 오류가 발생했습니다.');
+    }
+  };
+
   const handleCloseModal = () => {
     setIsModalOpen(false);
     setEditingRule(null);
@@ -320,6 +361,58 @@ const AuditRuleManagementPage = () => {
         </div>
       )}
 
+      {/* 재감사 (규칙 추가/변경 후 기존 결의서에 적용) */}
+      {activeTab === 'rules' && canEdit && (
+        <S.FilterSection>
+          <S.FilterGrid>
+            <S.FilterGroup>
+              <S.Label>재감사 시작일</S.Label>
+              <S.Input
+                type="date"
+                value={reaudit.startDate}
+                onChange={(e) => setReaudit(prev => ({ ...prev, startDate: e.target.value }))}
+              />
+            </S.FilterGroup>
+            <S.FilterGroup>
+              <S.Label>재감사 종료일</S.Label>
+              <S.Input
+                type="date"
+                value={reaudit.endDate}
+                onChange={(e) => setReaudit(prev => ({ ...prev, endDate: e.target.value }))}
+              />
+            </S.FilterGroup>
+            <S.FilterGroup>
+              <S.Label>적용 규칙</S.Label>
+              <S.Select
+                value={reaudit.ruleType}
+                onChange={(e) => setReaudit(prev => ({ ...prev, ruleType: e.target.value }))}
+              >
+                <option value="">활성화된 전체 규칙</option>
+                {ruleTypes.map(type => (
+                  <option key={type.value} value={type.value}>{type.label}</option>
+                ))}
+              </S.Select>
+            </S.FilterGroup>
+            <S.FilterGroup>
+              <S.Label>&nbsp;</S.Label>
+              <S.Button
+                onClick={handleStartReaudit}
+                disabled={reauditProgress && !reauditProgress.completed && !reauditProgress.failed}
+              >
+                재감사 실행
+              </S.Button>
+            </S.FilterGroup>
+          </S.FilterGrid>
+          {reauditProgress && (
+            <S.HelpText>
+              {reauditProgress.failed
+                ? `재감사 실패: ${reauditProgress.errorMessage || ''}`
+                : `${reauditProgress.percentage}% - ${reauditProgress.message}`}
+            </S.HelpText>
+          )}
+        </S.FilterSection>
+      )}
+
       {/* 감사 규칙 탭 */}
       {activeTab === 'rules' && (
         <S.RuleList>
@@ -362,6 +455,11 @@ const AuditRuleManagementPage = () => {
                     {rule.ruleType === 'FORBIDDEN_CATEGORY' && ruleConfig.categories && (
                       <S.ConfigValue>금지 업종: {ruleConfig.categories.length > 0 ? ruleConfig.categories.join(', ') : '없음'}</S.ConfigValue>
                     )}
+                    {rule.ruleType === 'CROSS_REPORT_DUPLICATE' && (
+                      <S.ConfigValue>
+                        기간: {ruleConfig.windowDays || 3}일 이내{ruleConfig.sameCard ? ', 동일 카드만' : ''}
+                      </S.ConfigValue>
+                    )}
                     {(rule.ruleType === 'NIGHT_TIME' || rule.ruleType === 'WEEKEND') && (
                       <S.ConfigValue>추가 설정 없음</S.ConfigValue>
                     )}
@@ -572,13 +670,46 @@ const AuditRuleManagementPage = () => {
                   </S.FormGroup>
                 )}
 
+                {formData.ruleType === 'CROSS_REPORT_DUPLICATE' && (
+                  <>
+                    <S.FormGroup>
+                      <S.Label>비교 기간 (일)</S.Label>
+                      <S.Input
+                        type="number"
+                        min="0"
+                        max="31"
+                        value={formData.ruleConfig?.windowDays ?? 3}
+                        onChange={(e) => setFormData(prev => ({
+                          ...prev,
+                          ruleConfig: { ...prev.ruleConfig, windowDays: Math.min(31, Math.max(0, parseInt(e.target.value) || 0)) }
+                        }))}
+                        placeholder="예: 3"
+                      />
+                      <S.HelpText>다른 결의서(다른 작성자 포함)에 같은 가맹점·같은 금액의 결제가 이 기간 안에 있으면 감사합니다. (최대 31일)</S.HelpText>
+                    </S.FormGroup>
+                    <S.FormGroup>
+                      <S.CheckboxLabel>
+                        <input
+                          type="checkbox"
+                          checked={!!formData.ruleConfig?.sameCard}
+                          onChange={(e) => setFormData(prev => ({
+                            ...prev,
+                            ruleConfig: { ...prev.ruleConfig, sameCard: e.target.checked }
+                          }))}
+                        />
+                        같은 카드로 결제한 경우만 감사
+                      </S.CheckboxLabel>
+                    </S.FormGroup>
+                  </>
+                )}
+
                 {(formData.ruleType === 'NIGHT_TIME' || formData.ruleType === 'WEEKEND') && (
                   <S.FormGroup>
                     <S.InfoBox>
                       <S.InfoIcon>ℹ️</S.InfoIcon>
                       <S.InfoText>
                         {formData.ruleType === 'NIGHT_TIME' 
-                          ? '심야 시간대(22시~06시) 사용 내역을 자동으로 감사합니다. 추가 설정이 필요하지 않습니다.'
+                          ? '심야 시간대(22시~06시)에 상신된 결의서를 자동으로 감사합니다. 추가 설정이 필요하지 않습니다.'
                           : '주말 및 공휴일 사용 내역을 자동으로 감사합니다. 추가 설정이 필요하지 않습니다.'}
                       </S.InfoText>
                     </S.InfoBox>
@@ -11,6 +11,7 @@ import { STATUS_KOREAN } from '../../constants/status';
 import LoadingOverlay from '../../components/LoadingOverlay/LoadingOverlay';
 import PageHeader from '../../components/PageHeader/PageHeader';
 import Button from '../../components/common/Button/Button';
+import SignatureImage from '../../components/SignatureImage/SignatureImage';
 
 // Lazy load 모달 컴포넌트
 const SignatureModal = lazy(() => import('../../components/SignatureModal/SignatureModal'));
@@ -248,7 +249,7 @@ const ExpenseDetailPage = () => {
   // 결재자 서명 여부 확인 (하나라도 서명이 있으면 true)
   const hasAnyApprovalSignature = () => {
     if (!detail?.approvalLines) return false;
-    return detail.approvalLines.some(line => line.signatureData != null && line.signatureData.trim() !== '');
+    return detail.approvalLines.some(line => line.signed);
   };
 
   // 수정/삭제 가능 여부 확인
@@ -308,7 +309,7 @@ const ExpenseDetailPage = () => {
 
     // 첫 결재자가 결재했는지 확인
     const firstLine = detail.approvalLines[0];
-    const hasFirstApproverSigned = firstLine.signatureData != null && firstLine.signatureData.trim() !== '';
+    const hasFirstApproverSigned = !!firstLine.signed;
 
     // 현재 사용자가 결재 라인에 있는지 확인
     const isCurrentUserInApprovalLine = detail.approvalLines.some(line => line.approverId === user.userId);
@@ -984,8 +985,14 @@ const ExpenseDetailPage = () => {
                 <S.StampBox key={line.approvalLineId}>
                   <S.StampPosition>{line.approverPosition}</S.StampPosition>
                   <S.StampContent>
-                    {line.signatureData ? (
-                      <img src={line.signatureData} alt="서명" />
+                    {line.signatureHash ? (
+                      <SignatureImage
+                        signatureHash={line.signatureHash}
+                        fallback={<span>{line.approverName}<br />({STATUS_KOREAN[line.status] || line.status})</span>}
+                      />
+                    ) : line.signed ? (
+                      // 서명 이미지 저장소로 옮기지 않은 이전 서명은 이미지 없이 결재자와 상태로 표시
+                      <span>{line.approverName}<br />({STATUS_KOREAN[line.status] || line.status})</span>
                     ) : line.status === 'REJECTED' ? (
                       <span>
                         {line.approverName}<br />
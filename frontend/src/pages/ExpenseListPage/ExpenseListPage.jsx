@@ -68,7 +68,7 @@ const ExpenseListPage = () => {
 
     // 결재자 서명이 있으면 반려인 경우만 삭제 가능
     const hasAnyApprovalSignature = expense.approvalLines && expense.approvalLines.some(
-      line => line.signatureData != null && line.signatureData.trim() !== ''
+      line => line.signed
     );
     if (hasAnyApprovalSignature && expense.status !== 'REJECTED') return false;
 
@@ -1,4 +1,4 @@
-import { useEffect, useState } from 'react';
+import { useEffect, useRef, useState } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { useAuth } from '../../contexts/AuthContext';
 import { 
@@ -7,6 +7,10 @@ import {
   getAllCompanies, 
   getAllSubscriptions, 
   getAllPayments,
+  getSuperAdminListCount,
+  getCompanyLookup,
+  getAllPlansForSuperAdmin,
+  downloadUsersCsvForSuperAdmin,
   updateCompanyStatus,
   getExpenseListForSuperAdmin,
   getExpenseDetailForSuperAdmin,
@@ -32,12 +36,31 @@ import {
 import { getUserSignupTrend, getRevenueTrend } from '../../api/superAdminApi';
 import * as S from './style';
 
+const LIST_TYPES = ['users', 'companies', 'subscriptions', 'payments'];
+const LIST_FETCHERS = {
+  users: getAllUsersForSuperAdmin,
+  companies: getAllCompanies,
+  subscriptions: getAllSubscriptions,
+  payments: getAllPayments
+};
+// 필터 입력 후 목록을 다시 조회하기까지 대기 시간 (ms)
+const FILTER_DEBOUNCE_MS = 300;
+
 const SuperAdminDashboardPage = () => {
   const [summary, setSummary] = useState(null);
   const [users, setUsers] = useState([]);
   const [companies, setCompanies] = useState([]);
   const [subscriptions, setSubscriptions] = useState([]);
   const [payments, setPayments] = useState([]);
+  // 커서 페이지 목록의 다음 커서와 전체 개수
+  const [listCursors, setListCursors] = useState({ users: null, companies: null, subscriptions: null, payments: null });
+  const [listTotals, setListTotals] = useState({ users: 0, companies: 0, subscriptions: 0, payments: 0 });
+  const [loadingMore, setLoadingMore] = useState(null);
+  // 목록별 조회 순번 (필터가 바뀐 뒤 도착한 이전 조회 결과는 버림)
+  const listRequestSeq = useRef({ users: 0, companies: 0, subscriptions: 0, payments: 0 });
+  // 필터 선택 목록 (페이지 목록과 별도로 전체 회사/플랜 조회)
+  const [companyOptions, setCompanyOptions] = useState([]);
+  const [planOptions, setPlanOptions] = useState([]);
   const [expenses, setExpenses] = useState([]);
   const [expensePage, setExpensePage] = useState(1);
   const [expenseTotalPages, setExpenseTotalPages] = useState(1);
@@ -97,34 +120,59 @@ const SuperAdminDashboardPage = () => {
     }
   }, [activeTab, expensePage, selectedCompanyId, expenseFilters, reportDateRange]);
 
+  const listSetters = {
+    users: setUsers,
+    companies: setCompanies,
+    subscriptions: setSubscriptions,
+    payments: setPayments
+  };
+
+  // 목록 조회 필터 (목록, 개수, 내보내기에 같은 조건을 보냄, 빈 값은 제외)
+  const listParams = (type) => {
+    const filters = type === 'users' ? userFilters : type === 'subscriptions' ? subscriptionFilters : {};
+    return Object.fromEntries(
+      Object.entries(filters)
+        .map(([key, value]) => [key, typeof value === 'string' ? value.trim() : value])
+        .filter(([, value]) => value !== '')
+    );
+  };
+
   const loadDashboardData = async () => {
     try {
       setLoading(true);
-      const [summaryRes, usersRes, companiesRes, subscriptionsRes, paymentsRes, expensesRes] = await Promise.allSettled([
+      LIST_TYPES.forEach((type) => { listRequestSeq.current[type] += 1; });
+      const [summaryRes, companyLookupRes, plansRes, expensesRes, ...listRes] = await Promise.allSettled([
         getDashboardSummary(),
-        getAllUsersForSuperAdmin(),
-        getAllCompanies(),
-        getAllSubscriptions(),
-        getAllPayments(),
+        getCompanyLookup(),
+        getAllPlansForSuperAdmin(),
         // 초기 로드 시 지출결의서 총 개수만 조회 (page=1, size=1로 최소한의 데이터만 가져옴)
-        getExpenseListForSuperAdmin({ page: 1, size: 1 })
+        getExpenseListForSuperAdmin({ page: 1, size: 1 }),
+        ...LIST_TYPES.map((type) => LIST_FETCHERS[type](listParams(type))),
+        ...LIST_TYPES.map((type) => getSuperAdminListCount(type, listParams(type)))
       ]);
 
       // 각 응답 처리 (에러가 발생해도 다른 데이터는 로드)
+      const totals = {};
+      const cursors = {};
+      LIST_TYPES.forEach((type, index) => {
+        const pageRes = listRes[index];
+        const countRes = listRes[LIST_TYPES.length + index];
+        const page = pageRes.status === 'fulfilled' && pageRes.value.success ? pageRes.value.data : null;
+        listSetters[type](page?.content || []);
+        cursors[type] = page?.nextCursor ?? null;
+        totals[type] = countRes.status === 'fulfilled' && countRes.value.success ? countRes.value.data : 0;
+      });
+      setListCursors(cursors);
+      setListTotals(totals);
+
       if (summaryRes.status === 'fulfilled' && summaryRes.value.success) {
         setSummary(summaryRes.value.data);
       }
-      if (usersRes.status === 'fulfilled' && usersRes.value.success) {
-        setUsers(usersRes.value.data || []);
-      }
-      if (companiesRes.status === 'fulfilled' && companiesRes.value.success) {
-        setCompanies(companiesRes.value.data || []);
+      if (companyLookupRes.status === 'fulfilled' && companyLookupRes.value.success) {
+        setCompanyOptions(companyLookupRes.value.data || []);
       }
-      if (subscriptionsRes.status === 'fulfilled' && subscriptionsRes.value.success) {
-        setSubscriptions(subscriptionsRes.value.data || []);
-      }
-      if (paymentsRes.status === 'fulfilled' && paymentsRes.value.success) {
-        setPayments(paymentsRes.value.data || []);
+      if (plansRes.status === 'fulfilled' && plansRes.value.success) {
+        setPlanOptions(plansRes.value.data || []);
       }
       // 지출결의서 총 개수 설정
       if (expensesRes.status === 'fulfilled' && expensesRes.value.success && expensesRes.value.data) {
@@ -142,6 +190,82 @@ const SuperAdminDashboardPage = () => {
     }
   };
 
+  // 필터가 바뀌면 커서를 버리고 같은 필터로 첫 페이지와 개수를 다시 조회
+  const reloadList = async (type) => {
+    const seq = ++listRequestSeq.current[type];
+    const params = listParams(type);
+    try {
+      const [pageRes, countRes] = await Promise.all([
+        LIST_FETCHERS[type](params),
+        getSuperAdminListCount(type, params)
+      ]);
+      if (seq !== listRequestSeq.current[type]) return;
+      if (pageRes.success) {
+        listSetters[type](pageRes.data?.content || []);
+        setListCursors((prev) => ({ ...prev, [type]: pageRes.data?.nextCursor ?? null }));
+      }
+      if (countRes.success) {
+        setListTotals((prev) => ({ ...prev, [type]: countRes.data }));
+      }
+    } catch (error) {
+      alert(error?.response?.data?.message || '목록 조회 중 오류가 발생했습니다.');
+    }
+  };
+
+  // 커서 페이지 목록 다음 페이지 조회 (현재 필터 유지)
+  const loadMoreList = async (type) => {
+    const seq = listRequestSeq.current[type];
+    try {
+      setLoadingMore(type);
+      const response = await LIST_FETCHERS[type]({ ...listParams(type), cursor: listCursors[type] });
+      if (seq !== listRequestSeq.current[type]) return;
+      if (response.success) {
+        listSetters[type]((prev) => [...prev, ...(response.data?.content || [])]);
+        setListCursors((prev) => ({ ...prev, [type]: response.data?.nextCursor ?? null }));
+      }
+    } catch (error) {
+      alert(error?.response?.data?.message || '목록 조회 중 오류가 발생했습니다.');
+    } finally {
+      setLoadingMore(null);
+    }
+  };
+
+  // 이전 필터의 커서로 다음 페이지를 붙이지 않도록 커서를 비우고 진행 중인 조회 결과를 버림
+  const resetListCursor = (type) => {
+    listRequestSeq.current[type] += 1;
+    setListCursors((prev) => ({ ...prev, [type]: null }));
+  };
+
+  // 필터 변경 시 서버에서 다시 조회 (첫 렌더링은 loadDashboardData가 조회)
+  const skipFilterReload = useRef({ users: true, subscriptions: true });
+  useEffect(() => {
+    if (skipFilterReload.current.users) {
+      skipFilterReload.current.users = false;
+      return undefined;
+    }
+    resetListCursor('users');
+    const timer = setTimeout(() => reloadList('users'), FILTER_DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [userFilters]);
+
+  useEffect(() => {
+    if (skipFilterReload.current.subscriptions) {
+      skipFilterReload.current.subscriptions = false;
+      return undefined;
+    }
+    resetListCursor('subscriptions');
+    const timer = setTimeout(() => reloadList('subscriptions'), FILTER_DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [subscriptionFilters]);
+
+  const renderLoadMore = (type) => listCursors[type] && (
+    <div style={{ textAlign: 'center', padding: '16px' }}>
+      <S.Button onClick={() => loadMoreList(type)} disabled={loadingMore === type}>
+        {loadingMore === type ? '불러오는 중...' : '더 보기'}
+      </S.Button>
+    </div>
+  );
+
   const loadExpenses = async () => {
     try {
       setLoadingExpenses(true);
@@ -265,7 +389,7 @@ const SuperAdminDashboardPage = () => {
   };
 
   const getCompanyDisplay = (companyId) => {
-    const company = companies.find((c) => c.companyId === companyId);
+    const company = companyOptions.find((c) => c.companyId === companyId);
     if (!company) return companyId || '-';
     return `${company.companyName} (${company.companyCode || '코드 없음'})`;
   };
@@ -353,70 +477,20 @@ const SuperAdminDashboardPage = () => {
     }
   };
 
-  const handleUsersExcelDownload = () => {
-    // CSV 형식으로 다운로드
-    const csvContent = [
-      ['ID', '아이디', '이름', '이메일', '권한', '상태', '직급'].join(','),
-      ...filteredUsers.map(u => [
-        u.userId,
-        u.username || '',
-        u.koreanName || '',
-        u.email || '',
-        u.role === 'USER' ? '일반 사용자' :
-        u.role === 'ADMIN' ? '관리자' :
-        u.role === 'ACCOUNTANT' ? '결제 담당자' :
-        u.role === 'TAX_ACCOUNTANT' ? '세무사' :
-        u.role === 'CEO' ? '대표' :
-        u.role === 'SUPERADMIN' ? '최고 관리자' : u.role,
-        u.isActive ? '활성' : '비활성',
-        u.position || ''
-      ].map(field => `"${String(field).replace(/"/g, '""')}"`).join(','))
-    ].join('\n');
-
-    const blob = new Blob(['\uFEFF' + csvContent], { type: 'text/csv;charset=utf-8;' });
-    const link = document.createElement('a');
-    const url = URL.createObjectURL(blob);
-    link.setAttribute('href', url);
-    link.setAttribute('download', `사용자목록_${new Date().toISOString().split('T')[0]}.csv`);
-    link.style.visibility = 'hidden';
-    document.body.appendChild(link);
-    link.click();
-    document.body.removeChild(link);
-    alert('사용자 목록 다운로드가 시작됩니다.');
-  };
-
-  // 사용자 필터링
-  const filteredUsers = users.filter((u) => {
-    if (userFilters.search) {
-      const searchLower = userFilters.search.toLowerCase();
-      const matchesSearch = 
-        u.username?.toLowerCase().includes(searchLower) ||
-        u.koreanName?.toLowerCase().includes(searchLower) ||
-        u.email?.toLowerCase().includes(searchLower);
-      if (!matchesSearch) return false;
-    }
-    if (userFilters.role && u.role !== userFilters.role) return false;
-    if (userFilters.isActive !== '' && u.isActive !== (userFilters.isActive === 'true')) return false;
-    return true;
-  });
-
-  const filteredSubscriptions = subscriptions.filter((s) => {
-    if (subscriptionFilters.companyId && s.companyId !== Number(subscriptionFilters.companyId)) {
-      return false;
-    }
-    if (subscriptionFilters.status && s.status !== subscriptionFilters.status) {
-      return false;
-    }
-    if (subscriptionFilters.planName && s.plan?.planName !== subscriptionFilters.planName) {
-      return false;
+  // 불러온 페이지가 아닌 현재 필터에 맞는 전체 사용자를 서버에서 내보냄
+  const handleUsersExcelDownload = async () => {
+    try {
+      await downloadUsersCsvForSuperAdmin(listParams('users'));
+      alert('사용자 목록 다운로드가 시작됩니다.');
+    } catch (error) {
+      alert(error?.response?.data?.message || '사용자 목록 다운로드 중 오류가 발생했습니다.');
     }
-    return true;
-  });
+  };
 
   const subscriptionPlanNames = Array.from(
     new Set(
-      subscriptions
-        .map((s) => s.plan?.planName)
+      planOptions
+        .map((plan) => plan.planName)
         .filter((name) => !!name)
     )
   );
@@ -451,16 +525,16 @@ const SuperAdminDashboardPage = () => {
           <FaTags /> 카테고리
         </S.Tab>
         <S.Tab active={activeTab === 'users'} onClick={() => setActiveTab('users')}>
-          <FaUsers /> 사용자 ({users.length})
+          <FaUsers /> 사용자 ({listTotals.users})
         </S.Tab>
         <S.Tab active={activeTab === 'companies'} onClick={() => setActiveTab('companies')}>
-          <FaBuilding /> 회사 ({companies.length})
+          <FaBuilding /> 회사 ({listTotals.companies})
         </S.Tab>
         <S.Tab active={activeTab === 'subscriptions'} onClick={() => setActiveTab('subscriptions')}>
-          <FaCreditCard /> 구독 ({subscriptions.length})
+          <FaCreditCard /> 구독 ({listTotals.subscriptions})
         </S.Tab>
         <S.Tab active={activeTab === 'payments'} onClick={() => setActiveTab('payments')}>
-          <FaCreditCard /> 결제 ({payments.length})
+          <FaCreditCard /> 결제 ({listTotals.payments})
         </S.Tab>
         <S.Tab active={activeTab === 'expenses'} onClick={() => setActiveTab('expenses')}>
           <FaFileInvoice /> 지출결의서 ({expenseTotalElements})
@@ -581,7 +655,7 @@ const SuperAdminDashboardPage = () => {
               </tr>
             </thead>
             <tbody>
-              {filteredUsers.map((u) => (
+              {users.map((u) => (
                 <tr key={u.userId}>
                   <td data-label="ID">{u.userId}</td>
                   <td data-label="아이디">{u.username}</td>
@@ -657,48 +731,52 @@ const SuperAdminDashboardPage = () => {
               ))}
             </tbody>
           </S.Table>
-          {filteredUsers.length === 0 && (
+          {users.length === 0 && (
             <div style={{ textAlign: 'center', padding: '40px', color: '#666' }}>
               검색 결과가 없습니다.
             </div>
           )}
+          {renderLoadMore('users')}
         </>
       )}
 
       {activeTab === 'companies' && (
-        <S.Table>
-          <thead>
-            <tr>
-              <th>ID</th>
-              <th>회사명</th>
-              <th>회사 코드</th>
-              <th>상태</th>
-              <th>작업</th>
-            </tr>
-          </thead>
-          <tbody>
-            {companies.map((c) => (
-              <tr key={c.companyId}>
-                <td data-label="ID">{c.companyId}</td>
-                <td data-label="회사명">{c.companyName}</td>
-                <td data-label="회사 코드">{c.companyCode}</td>
-                <td data-label="상태">
-                  <S.StatusBadge active={c.isActive}>
-                    {c.isActive ? '활성' : '비활성'}
-                  </S.StatusBadge>
-                </td>
-                <td data-label="작업">
-                  <S.Button
-                    onClick={() => handleCompanyStatusToggle(c.companyId, c.isActive)}
-                    disabled={updatingCompanyId === c.companyId}
-                  >
-                    {c.isActive ? '비활성화' : '활성화'}
-                  </S.Button>
-                </td>
+        <>
+          <S.Table>
+            <thead>
+              <tr>
+                <th>ID</th>
+                <th>회사명</th>
+                <th>회사 코드</th>
+                <th>상태</th>
+                <th>작업</th>
               </tr>
-            ))}
-          </tbody>
-        </S.Table>
+            </thead>
+            <tbody>
+              {companies.map((c) => (
+                <tr key={c.companyId}>
+                  <td data-label="ID">{c.companyId}</td>
+                  <td data-label="회사명">{c.companyName}</td>
+                  <td data-label="회사 코드">{c.companyCode}</td>
+                  <td data-label="상태">
+                    <S.StatusBadge active={c.isActive}>
+                      {c.isActive ? '활성' : '비활성'}
+                    </S.StatusBadge>
+                  </td>
+                  <td data-label="작업">
+                    <S.Button
+                      onClick={() => handleCompanyStatusToggle(c.companyId, c.isActive)}
+                      disabled={updatingCompanyId === c.companyId}
+                    >
+                      {c.isActive ? '비활성화' : '활성화'}
+                    </S.Button>
+                  </td>
+                </tr>
+              ))}
+            </tbody>
+          </S.Table>
+          {renderLoadMore('companies')}
+        </>
       )}
 
       {activeTab === 'subscriptions' && (
@@ -717,7 +795,7 @@ const SuperAdminDashboardPage = () => {
                   }
                 >
                   <option value="">전체</option>
-                  {companies.map((c) => (
+                  {companyOptions.map((c) => (
                     <option key={c.companyId} value={c.companyId}>
                       {c.companyName} ({c.companyCode || '코드 없음'})
                     </option>
@@ -792,7 +870,7 @@ const SuperAdminDashboardPage = () => {
               </tr>
             </thead>
             <tbody>
-              {filteredSubscriptions.map((s) => (
+              {subscriptions.map((s) => (
                 <tr key={s.subscriptionId}>
                   <td data-label="ID">{s.subscriptionId}</td>
                   <td data-label="회사">{getCompanyDisplay(s.companyId)}</td>
@@ -808,38 +886,42 @@ const SuperAdminDashboardPage = () => {
               ))}
             </tbody>
           </S.Table>
+          {renderLoadMore('subscriptions')}
         </>
       )}
 
       {activeTab === 'payments' && (
-        <S.Table>
-          <thead>
-            <tr>
-              <th>ID</th>
-              <th>구독 ID</th>
-              <th>금액</th>
-              <th>결제 방법</th>
-              <th>상태</th>
-              <th>결제일</th>
-            </tr>
-          </thead>
-          <tbody>
-            {payments.map((p) => (
-              <tr key={p.paymentId}>
-                <td data-label="ID">{p.paymentId}</td>
-                <td data-label="구독 ID">{p.subscriptionId}</td>
-                <td data-label="금액">{formatCurrency(p.amount)}</td>
-                <td data-label="결제 방법">{p.paymentMethod || '-'}</td>
-                <td data-label="상태">
-                  <S.StatusBadge active={p.paymentStatus === 'COMPLETED'}>
-                    {p.paymentStatus}
-                  </S.StatusBadge>
-                </td>
-                <td data-label="결제일">{p.paymentDate ? new Date(p.paymentDate).toLocaleString() : '-'}</td>
+        <>
+          <S.Table>
+            <thead>
+              <tr>
+                <th>ID</th>
+                <th>구독 ID</th>
+                <th>금액</th>
+                <th>결제 방법</th>
+                <th>상태</th>
+                <th>결제일</th>
               </tr>
-            ))}
-          </tbody>
-        </S.Table>
+            </thead>
+            <tbody>
+              {payments.map((p) => (
+                <tr key={p.paymentId}>
+                  <td data-label="ID">{p.paymentId}</td>
+                  <td data-label="구독 ID">{p.subscriptionId}</td>
+                  <td data-label="금액">{formatCurrency(p.amount)}</td>
+                  <td data-label="결제 방법">{p.paymentMethod || '-'}</td>
+                  <td data-label="상태">
+                    <S.StatusBadge active={p.paymentStatus === 'COMPLETED'}>
+                      {p.paymentStatus}
+                    </S.StatusBadge>
+                  </td>
+                  <td data-label="결제일">{p.paymentDate ? new Date(p.paymentDate).toLocaleString() : '-'}</td>
+                </tr>
+              ))}
+            </tbody>
+          </S.Table>
+          {renderLoadMore('payments')}
+        </>
       )}
 
       {activeTab === 'expenses' && (
@@ -857,7 +939,7 @@ const SuperAdminDashboardPage = () => {
                   }}
                 >
                   <option value="">전체 회사</option>
-                  {companies.map((c) => (
+                  {companyOptions.map((c) => (
                     <option key={c.companyId} value={c.companyId}>
                       {c.companyName}
                     </option>